@@ -0,0 +1,30 @@
+package com.cursorpos.admin.config;
+
+import com.cursorpos.admin.event.SaleCompletedMessage;
+import com.cursorpos.shared.event.serde.EventSchemaRegistrar;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Event schema configuration.
+ * 
+ * <p>
+ * Binds the {@code transaction.created} events this service consumes to
+ * {@link SaleCompletedMessage}.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Configuration
+public class EventSchemaConfig {
+
+    @Bean
+    public EventSchemaRegistrar loyaltyEventSchemas() {
+        return registry -> {
+            registry.registerProjection(SaleCompletedMessage.CREATED_EVENT_TYPE, SaleCompletedMessage.class);
+            registry.registerProjection(SaleCompletedMessage.CANCELLED_EVENT_TYPE, SaleCompletedMessage.class);
+        };
+    }
+}
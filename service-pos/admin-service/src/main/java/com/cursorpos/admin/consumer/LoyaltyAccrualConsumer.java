@@ -0,0 +1,120 @@
+package com.cursorpos.admin.consumer;
+
+import com.cursorpos.admin.event.SaleCompletedMessage;
+import com.cursorpos.admin.service.LoyaltyAccrualService;
+import com.cursorpos.shared.event.EventTopics;
+import com.cursorpos.shared.event.KeyedBatchDispatcher;
+import com.cursorpos.shared.outbox.KafkaOutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Consumes {@code transaction.created} in micro-batches and awards loyalty
+ * points, taking them back for returns and cancelled transactions.
+ * 
+ * <p>
+ * The broker holds each fetch until {@code loyalty.accrual.window} has passed
+ * or enough data is available, so sales arriving close together are credited
+ * in one batch. The batch is split by customer with
+ * {@link KeyedBatchDispatcher}, so a customer's sales, returns and
+ * cancellations stay in order and are still netted into one balance update,
+ * while different customers are applied in parallel. Offsets are acknowledged
+ * only after every customer's transaction has committed.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.kafka.enabled", havingValue = "true", matchIfMissing = true)
+public class LoyaltyAccrualConsumer {
+
+    private final LoyaltyAccrualService loyaltyAccrualService;
+    private final ObjectMapper objectMapper;
+    private final KeyedBatchDispatcher keyedBatchDispatcher;
+
+    @KafkaListener(topics = EventTopics.TRANSACTION_CREATED, containerFactory = "batchKafkaListenerContainerFactory",
+            properties = {
+                    "fetch.min.bytes=${loyalty.accrual.fetch-min-bytes:65536}",
+                    "fetch.max.wait.ms=${loyalty.accrual.window-ms:500}"
+            })
+    public void onSales(List<ConsumerRecord<String, Object>> records, Acknowledgment acknowledgment) {
+        Map<ConsumerRecord<String, Object>, SaleCompletedMessage> messages = new IdentityHashMap<>(records.size());
+        for (ConsumerRecord<String, Object> consumerRecord : records) {
+            SaleCompletedMessage message = toMessage(consumerRecord);
+            if (message != null) {
+                messages.put(consumerRecord, message);
+            }
+        }
+        AtomicInteger updated = new AtomicInteger();
+        keyedBatchDispatcher.dispatchGroups(records, consumerRecord -> {
+            SaleCompletedMessage message = messages.get(consumerRecord);
+            return message != null ? Arrays.asList(message.getTenantId(), message.getCustomerId()) : null;
+        }, group -> {
+            List<SaleCompletedMessage> customerMessages = group.stream()
+                    .map(messages::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            if (!customerMessages.isEmpty()) {
+                updated.addAndGet(loyaltyAccrualService.accrue(customerMessages));
+            }
+        });
+        acknowledgment.acknowledge();
+        log.debug("Loyalty batch of {} records applied ({} customers updated)", records.size(), updated.get());
+    }
+
+    private SaleCompletedMessage toMessage(ConsumerRecord<String, Object> consumerRecord) {
+        try {
+            // Already bound by the binary deserializer, or a map from the JSON path
+            SaleCompletedMessage message = consumerRecord.value() instanceof SaleCompletedMessage bound
+                    ? bound
+                    : objectMapper.convertValue(consumerRecord.value(), SaleCompletedMessage.class);
+            if (message.getEventId() == null) {
+                message.setEventId(header(consumerRecord, KafkaOutboxSink.EVENT_ID_HEADER));
+            }
+            if (message.getEventId() == null) {
+                log.warn("Skipping transaction.created record without event id at offset {}",
+                        consumerRecord.offset());
+                return null;
+            }
+            // The topic carries creations and cancellations; the type header says which
+            String eventType = header(consumerRecord, KafkaOutboxSink.EVENT_TYPE_HEADER);
+            if (eventType != null) {
+                message.setEventType(eventType);
+            }
+            if (!SaleCompletedMessage.CREATED_EVENT_TYPE.equals(message.getEventType())
+                    && !SaleCompletedMessage.CANCELLED_EVENT_TYPE.equals(message.getEventType())) {
+                log.debug("Skipping {} record at offset {}", message.getEventType(), consumerRecord.offset());
+                return null;
+            }
+            return message;
+        } catch (IllegalArgumentException e) {
+            log.error("Skipping malformed transaction.created record at offset {}: {}",
+                    consumerRecord.offset(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static String header(ConsumerRecord<String, Object> consumerRecord, String name) {
+        Header header = consumerRecord.headers().lastHeader(name);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+}
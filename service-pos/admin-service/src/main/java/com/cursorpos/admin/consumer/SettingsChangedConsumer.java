@@ -0,0 +1,44 @@
+package com.cursorpos.admin.consumer;
+
+import com.cursorpos.admin.service.SettingsCache;
+import com.cursorpos.shared.event.EventTopics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumes {@code settings.changed} and reloads the tenant's cached settings.
+ * 
+ * <p>
+ * Every node must see every change, so each node listens in its own consumer
+ * group, starting from the latest offset. The record key is the tenant ID.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.kafka.enabled", havingValue = "true", matchIfMissing = true)
+public class SettingsChangedConsumer {
+
+    private final SettingsCache settingsCache;
+
+    @KafkaListener(topics = EventTopics.SETTINGS_CHANGED,
+            groupId = "${spring.application.name}-settings-${random.uuid}",
+            properties = "auto.offset.reset=latest")
+    public void onSettingsChanged(ConsumerRecord<String, Object> consumerRecord, Acknowledgment acknowledgment) {
+        String tenantId = consumerRecord.key();
+        if (tenantId != null) {
+            settingsCache.refresh(tenantId);
+            log.debug("Reloaded settings of tenant {} after a change", tenantId);
+        }
+        acknowledgment.acknowledge();
+    }
+}
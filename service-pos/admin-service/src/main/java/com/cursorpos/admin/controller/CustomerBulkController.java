@@ -0,0 +1,80 @@
+package com.cursorpos.admin.controller;
+
+import com.cursorpos.admin.dto.CustomerImportJobResponse;
+import com.cursorpos.admin.service.CustomerBulkService;
+import com.cursorpos.admin.service.CustomerFileFormat;
+import com.cursorpos.shared.dto.ApiResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * REST controller for bulk customer import and export.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@RestController
+@RequestMapping("/customers")
+@RequiredArgsConstructor
+public class CustomerBulkController {
+
+    private final CustomerBulkService customerBulkService;
+
+    /**
+     * Accepts a CSV or NDJSON file as the raw request body and imports it in
+     * the background. Poll the returned Location for progress.
+     */
+    @PostMapping("/import")
+    @PreAuthorize("hasAuthority('CUSTOMER_CREATE')")
+    public ResponseEntity<ApiResponse<CustomerImportJobResponse>> importCustomers(
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) {
+        CustomerImportJobResponse response = customerBulkService.startImport(body,
+                CustomerFileFormat.fromContentType(contentType));
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/customers/import-jobs/{jobId}")
+                .buildAndExpand(response.getId())
+                .toUri();
+        return ResponseEntity.accepted()
+                .location(location)
+                .body(ApiResponse.success(response, "Customer import started"));
+    }
+
+    @GetMapping("/import-jobs/{jobId}")
+    @PreAuthorize("hasAuthority('CUSTOMER_READ')")
+    public ResponseEntity<ApiResponse<CustomerImportJobResponse>> getImportJob(@PathVariable UUID jobId) {
+        CustomerImportJobResponse response = customerBulkService.getImportJob(jobId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * Streams all customers as {@code format} (csv or ndjson).
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasAuthority('CUSTOMER_READ')")
+    public void exportCustomers(@RequestParam(defaultValue = "csv") String format, HttpServletResponse response)
+            throws IOException {
+        CustomerFileFormat fileFormat = CustomerFileFormat.fromName(format);
+        response.setContentType(fileFormat.getMediaType().toString());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("customers." + fileFormat.name().toLowerCase(Locale.ROOT))
+                .build()
+                .toString());
+        customerBulkService.exportCustomers(fileFormat, response.getOutputStream());
+    }
+}
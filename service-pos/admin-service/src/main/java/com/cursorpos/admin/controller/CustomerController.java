@@ -1,6 +1,7 @@
 package com.cursorpos.admin.controller;
 
 import com.cursorpos.admin.dto.CreateCustomerRequest;
+import com.cursorpos.admin.dto.CustomerLookupResponse;
 import com.cursorpos.admin.dto.CustomerResponse;
 import com.cursorpos.admin.service.CustomerService;
 import com.cursorpos.shared.dto.ApiResponse;
@@ -13,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -38,6 +40,15 @@ public class CustomerController {
                 .body(ApiResponse.success(response, "Customer created successfully"));
     }
 
+    @GetMapping("/lookup")
+    @PreAuthorize("hasAuthority('CUSTOMER_READ')")
+    public ResponseEntity<ApiResponse<List<CustomerLookupResponse>>> lookupCustomers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<CustomerLookupResponse> response = customerService.lookupCustomers(q, limit);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAuthority('CUSTOMER_READ')")
     public ResponseEntity<ApiResponse<CustomerResponse>> getCustomerById(@PathVariable UUID id) {
@@ -0,0 +1,86 @@
+package com.cursorpos.admin.controller;
+
+import com.cursorpos.admin.dto.RateLimitProfileResponse;
+import com.cursorpos.admin.service.RateLimitProfileService;
+import com.cursorpos.shared.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Internal REST controller exposing tenant rate limit profiles to the API
+ * gateway.
+ * 
+ * <p>
+ * Not routed through the gateway and only served to callers presenting the
+ * service token (see {@code ServiceTokenAuthenticationFilter}). Supports
+ * conditional GETs so periodic refreshes are cheap when no plan or tenant
+ * changed.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@RestController
+@RequestMapping("/internal/rate-limit-profiles")
+@RequiredArgsConstructor
+public class RateLimitProfileController {
+
+    private final RateLimitProfileService rateLimitProfileService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('INTERNAL_SERVICE')")
+    public ResponseEntity<ApiResponse<List<RateLimitProfileResponse>>> getProfiles(WebRequest webRequest) {
+        List<RateLimitProfileResponse> profiles = rateLimitProfileService.getActiveProfiles();
+        String etag = "\"" + digest(profiles) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(profiles));
+    }
+
+    /**
+     * SHA-256 of the profiles' content, truncated to 128 bits, so an
+     * unchanged list keeps its ETag across nodes and restarts and a changed
+     * one practically never collides with it.
+     */
+    private static String digest(List<RateLimitProfileResponse> profiles) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            for (RateLimitProfileResponse profile : profiles) {
+                update(md, profile.getTenantId());
+                update(md, profile.getPlanCode());
+                update(md, tier(profile.getRead()));
+                update(md, tier(profile.getWrite()));
+            }
+            return HexFormat.of().formatHex(md.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String tier(RateLimitProfileResponse.LimitTier tier) {
+        return tier == null ? null : tier.getReplenishRate() + "/" + tier.getBurstCapacity();
+    }
+
+    private static void update(MessageDigest md, String value) {
+        if (value != null) {
+            md.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        // Separator so ("ab", "c") and ("a", "bc") differ; null differs from ""
+        md.update(value != null ? (byte) 0 : (byte) 1);
+    }
+}
@@ -2,12 +2,14 @@ package com.cursorpos.admin.controller;
 
 import com.cursorpos.admin.dto.SettingsRequest;
 import com.cursorpos.admin.dto.SettingsResponse;
+import com.cursorpos.admin.dto.SettingsSnapshotResponse;
 import com.cursorpos.admin.service.SettingsService;
 import com.cursorpos.shared.dto.ApiResponse;
 import com.cursorpos.shared.dto.PagedResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -53,6 +55,22 @@ public class SettingsController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * All settings of the tenant, tagged with their version as an ETag.
+     * Clients send it back in {@code If-None-Match} and get a 304 while
+     * nothing has changed (Spring compares it for {@link ResponseEntity}
+     * return values).
+     */
+    @GetMapping("/snapshot")
+    @PreAuthorize("hasAuthority('SETTINGS_READ')")
+    public ResponseEntity<ApiResponse<SettingsSnapshotResponse>> getSettingsSnapshot() {
+        SettingsSnapshotResponse response = settingsService.getSettingsSnapshot();
+        return ResponseEntity.ok()
+                .eTag(etag(response.getVersion()))
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(response));
+    }
+
     @GetMapping
     @PreAuthorize("hasAuthority('SETTINGS_READ')")
     public ResponseEntity<ApiResponse<PagedResponse<SettingsResponse>>> getAllSettings(Pageable pageable) {
@@ -66,4 +84,8 @@ public class SettingsController {
         settingsService.deleteSetting(id);
         return ResponseEntity.ok(ApiResponse.success("Setting deleted successfully"));
     }
+
+    private static String etag(String version) {
+        return "\"" + version + "\"";
+    }
 }
@@ -0,0 +1,50 @@
+package com.cursorpos.admin.controller;
+
+import com.cursorpos.admin.service.TenantDescriptor;
+import com.cursorpos.admin.service.TenantService;
+import com.cursorpos.shared.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Internal REST controller resolving tenant descriptors for other services.
+ *
+ * <p>
+ * Not routed through the gateway and only served to other services presenting
+ * the service token (see {@code ServiceTokenAuthenticationFilter}); user
+ * tokens are not accepted. Served from the descriptor cache; the ETag
+ * is the tenant's row version, so callers revalidating a cached descriptor
+ * get a 304 until the tenant changes.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@RestController
+@RequestMapping("/internal/tenant-descriptors")
+@RequiredArgsConstructor
+public class TenantDescriptorController {
+
+    private final TenantService tenantService;
+
+    @GetMapping("/{tenantId}")
+    @PreAuthorize("hasRole('INTERNAL_SERVICE')")
+    public ResponseEntity<ApiResponse<TenantDescriptor>> getDescriptor(@PathVariable String tenantId,
+            WebRequest webRequest) {
+        TenantDescriptor descriptor = tenantService.getTenantDescriptor(tenantId);
+        String etag = "\"" + descriptor.version() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success(descriptor));
+    }
+}
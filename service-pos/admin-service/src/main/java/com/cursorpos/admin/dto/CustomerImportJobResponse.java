@@ -0,0 +1,54 @@
+package com.cursorpos.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for the status of a bulk customer import.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerImportJobResponse {
+
+    private UUID id;
+    private String format;
+    private Status status;
+    private int rowsRead;
+    private int imported;
+    private int duplicates;
+    private int failed;
+    private List<RowError> errors;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    /**
+     * A rejected row.
+     *
+     * @param row     1-based data row in the file
+     * @param code    customer code, if it could be read
+     * @param message why the row was rejected
+     */
+    public record RowError(long row, String code, String message) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.cursorpos.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * DTO for a customer lookup match: enough to pick the right customer at the
+ * till, which is then loaded in full by ID.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerLookupResponse {
+
+    private UUID id;
+    private String code;
+    private String firstName;
+    private String lastName;
+    private String phone;
+    private String email;
+    private Boolean isActive;
+}
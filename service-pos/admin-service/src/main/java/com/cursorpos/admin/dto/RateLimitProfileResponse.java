@@ -0,0 +1,38 @@
+package com.cursorpos.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a tenant's API rate limit profile, derived from its subscription
+ * plan features.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitProfileResponse {
+
+    private String tenantId;
+    private String planCode;
+    private LimitTier read;
+    private LimitTier write;
+
+    /**
+     * Token bucket limits for one route class.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LimitTier {
+        private int replenishRate;
+        private int burstCapacity;
+    }
+}
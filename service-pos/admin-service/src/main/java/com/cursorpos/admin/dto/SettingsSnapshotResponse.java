@@ -0,0 +1,25 @@
+package com.cursorpos.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a tenant's complete settings at one version.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettingsSnapshotResponse {
+
+    private String version;
+    private List<SettingsResponse> settings;
+}
@@ -46,6 +46,14 @@ public class Customer extends BaseEntity {
     @Column(name = "phone", length = 20)
     private String phone;
 
+    /** Lowercased {@link #email}, maintained by CustomerLookupKeys. */
+    @Column(name = "email_normalized", length = 255)
+    private String emailNormalized;
+
+    /** E.164 form of {@link #phone}, maintained by CustomerLookupKeys. */
+    @Column(name = "phone_normalized", length = 20)
+    private String phoneNormalized;
+
     @Column(name = "address", length = 500)
     private String address;
 
@@ -0,0 +1,71 @@
+package com.cursorpos.admin.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Fields of the {@code transaction.created} events that affect loyalty points.
+ * 
+ * <p>
+ * Mirrors the relevant part of transaction-service's TransactionCreatedEvent
+ * and TransactionCancelledEvent; unknown fields (line items, payments) are
+ * ignored.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SaleCompletedMessage {
+
+    public static final String CREATED_EVENT_TYPE = "TransactionCreated";
+    public static final String CANCELLED_EVENT_TYPE = "TransactionCancelled";
+
+    private String eventId;
+    private String eventType;
+    private String originalEventId;
+    private String tenantId;
+    private UUID transactionId;
+    private String transactionNumber;
+    private UUID customerId;
+    private String status;
+    private String type;
+    private BigDecimal totalAmount;
+
+    /**
+     * Whether this event earns points: a completed sale to a known customer.
+     */
+    public boolean isAccruable() {
+        return isCompletedWithAmount() && "SALE".equals(type);
+    }
+
+    /**
+     * Whether this event takes points back: a completed return by a known
+     * customer.
+     */
+    public boolean isReturn() {
+        return isCompletedWithAmount() && "RETURN".equals(type);
+    }
+
+    /**
+     * Whether this event reverses the points of an earlier event.
+     */
+    public boolean isCancellation() {
+        return CANCELLED_EVENT_TYPE.equals(eventType) && originalEventId != null;
+    }
+
+    private boolean isCompletedWithAmount() {
+        return "COMPLETED".equals(status) && customerId != null && totalAmount != null && totalAmount.signum() > 0;
+    }
+}
@@ -0,0 +1,40 @@
+package com.cursorpos.admin.event;
+
+import com.cursorpos.shared.event.BaseEvent;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Published to {@code settings.changed}, keyed by tenant, when a tenant's
+ * settings are written, so every admin-service node reloads its cached
+ * snapshot instead of waiting for the TTL.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class SettingsChangedEvent extends BaseEvent {
+
+    public static final String EVENT_TYPE = "SettingsChanged";
+
+    /**
+     * Builds the event for a write to a tenant's settings.
+     *
+     * @param tenantId the tenant whose settings changed
+     * @param userId   the user who changed them
+     * @return the event
+     */
+    public static SettingsChangedEvent of(String tenantId, String userId) {
+        return SettingsChangedEvent.builder()
+                .eventType(EVENT_TYPE)
+                .tenantId(tenantId)
+                .userId(userId)
+                .build();
+    }
+}
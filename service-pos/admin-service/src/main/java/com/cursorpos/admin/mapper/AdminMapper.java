@@ -2,6 +2,7 @@ package com.cursorpos.admin.mapper;
 
 import com.cursorpos.admin.dto.*;
 import com.cursorpos.admin.entity.*;
+import com.cursorpos.admin.service.SettingsSnapshot;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -55,6 +56,12 @@ public interface AdminMapper {
 
     SettingsResponse toSettingsResponse(Settings settings);
 
+    @Mapping(target = "settingKey", source = "key")
+    @Mapping(target = "settingValue", source = "rawValue")
+    @Mapping(target = "isSystem", source = "system")
+    @Mapping(target = "isEncrypted", source = "encrypted")
+    SettingsResponse toSettingsResponse(SettingsSnapshot.Setting setting);
+
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateSettingsFromRequest(SettingsRequest request, @MappingTarget Settings settings);
 
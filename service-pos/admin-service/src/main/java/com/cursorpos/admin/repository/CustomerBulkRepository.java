@@ -0,0 +1,178 @@
+package com.cursorpos.admin.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Set-based customer reads and writes for bulk import and export.
+ *
+ * <p>
+ * An import chunk costs one query to find codes that already exist and one
+ * multi-row INSERT, instead of an existence check and a save per customer.
+ * Exports read through a server-side cursor so the tenant's customers are
+ * never all in memory.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Repository
+@RequiredArgsConstructor
+public class CustomerBulkRepository {
+
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    // Soft-deleted customers keep their code (uk_customers_tenant_code)
+    private static final String FIND_EXISTING_CODES_SQL = """
+            SELECT code FROM customers WHERE tenant_id = ? AND code = ANY(?)
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO customers (tenant_id, code, first_name, last_name, email, phone, email_normalized,
+                phone_normalized, address, city, state, country, postal_code, date_of_birth, notes,
+                loyalty_tier_id, created_by, version)
+            SELECT ?, r.code, r.first_name, r.last_name, r.email, r.phone, r.email_normalized,
+                r.phone_normalized, r.address, r.city, r.state, r.country, r.postal_code, r.date_of_birth, r.notes,
+                ?::uuid, ?, 0
+            FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[],
+                ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::date[],
+                ?::text[])
+                AS r(code, first_name, last_name, email, phone, email_normalized, phone_normalized, address,
+                    city, state, country, postal_code, date_of_birth, notes)
+            ON CONFLICT ON CONSTRAINT uk_customers_tenant_code DO NOTHING
+            RETURNING code
+            """;
+
+    private static final String EXPORT_SQL = """
+            SELECT id, code, first_name, last_name, email, phone, address, city, state, country, postal_code,
+                date_of_birth, notes, is_active, loyalty_tier_id, total_points, available_points, lifetime_points
+            FROM customers
+            WHERE tenant_id = ? AND deleted_at IS NULL
+            ORDER BY code
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param tenantId tenant
+     * @param codes    candidate codes
+     * @return the codes already taken in the tenant
+     */
+    public Set<String> findExistingCodes(String tenantId, Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(FIND_EXISTING_CODES_SQL);
+            ps.setString(1, tenantId);
+            ps.setArray(2, connection.createArrayOf("varchar", codes.toArray()));
+            return ps;
+        }, (rs, rowNum) -> rs.getString(1)));
+    }
+
+    /**
+     * Inserts customers in one statement. Codes taken concurrently since
+     * {@link #findExistingCodes} are skipped, not failed.
+     *
+     * @param tenantId      tenant
+     * @param customers     customers to insert, with distinct codes
+     * @param loyaltyTierId initial tier, may be null
+     * @param createdBy     importing user
+     * @return codes of the inserted customers
+     */
+    public Set<String> insert(String tenantId, List<NewCustomer> customers, UUID loyaltyTierId, String createdBy) {
+        if (customers.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(INSERT_SQL);
+            ps.setString(1, tenantId);
+            ps.setObject(2, loyaltyTierId);
+            ps.setString(3, createdBy);
+            ps.setArray(4, connection.createArrayOf("varchar", column(customers, NewCustomer::code)));
+            ps.setArray(5, connection.createArrayOf("varchar", column(customers, NewCustomer::firstName)));
+            ps.setArray(6, connection.createArrayOf("varchar", column(customers, NewCustomer::lastName)));
+            ps.setArray(7, connection.createArrayOf("varchar", column(customers, NewCustomer::email)));
+            ps.setArray(8, connection.createArrayOf("varchar", column(customers, NewCustomer::phone)));
+            ps.setArray(9, connection.createArrayOf("varchar", column(customers, NewCustomer::emailNormalized)));
+            ps.setArray(10, connection.createArrayOf("varchar", column(customers, NewCustomer::phoneNormalized)));
+            ps.setArray(11, connection.createArrayOf("varchar", column(customers, NewCustomer::address)));
+            ps.setArray(12, connection.createArrayOf("varchar", column(customers, NewCustomer::city)));
+            ps.setArray(13, connection.createArrayOf("varchar", column(customers, NewCustomer::state)));
+            ps.setArray(14, connection.createArrayOf("varchar", column(customers, NewCustomer::country)));
+            ps.setArray(15, connection.createArrayOf("varchar", column(customers, NewCustomer::postalCode)));
+            ps.setArray(16, connection.createArrayOf("date", column(customers,
+                    customer -> customer.dateOfBirth() == null ? null : customer.dateOfBirth().toString())));
+            ps.setArray(17, connection.createArrayOf("text", column(customers, NewCustomer::notes)));
+            return ps;
+        }, (rs, rowNum) -> rs.getString(1)));
+    }
+
+    /**
+     * Streams the tenant's customers ordered by code. Must run inside a
+     * transaction for the cursor to be used.
+     *
+     * @param tenantId tenant
+     * @param consumer receives each customer
+     */
+    public void streamCustomers(String tenantId, Consumer<ExportRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(EXPORT_SQL);
+            ps.setFetchSize(EXPORT_FETCH_SIZE);
+            ps.setString(1, tenantId);
+            return ps;
+        }, rs -> {
+            consumer.accept(new ExportRow(
+                    rs.getObject("id", UUID.class),
+                    rs.getString("code"),
+                    rs.getString("first_name"),
+                    rs.getString("last_name"),
+                    rs.getString("email"),
+                    rs.getString("phone"),
+                    rs.getString("address"),
+                    rs.getString("city"),
+                    rs.getString("state"),
+                    rs.getString("country"),
+                    rs.getString("postal_code"),
+                    rs.getObject("date_of_birth", LocalDate.class),
+                    rs.getString("notes"),
+                    rs.getBoolean("is_active"),
+                    rs.getObject("loyalty_tier_id", UUID.class),
+                    rs.getInt("total_points"),
+                    rs.getInt("available_points"),
+                    rs.getInt("lifetime_points")));
+        });
+    }
+
+    private static String[] column(List<NewCustomer> customers, Function<NewCustomer, String> getter) {
+        return customers.stream().map(getter).toArray(String[]::new);
+    }
+
+    /**
+     * Validated customer to insert.
+     */
+    public record NewCustomer(String code, String firstName, String lastName, String email, String phone,
+            String emailNormalized, String phoneNormalized, String address, String city, String state,
+            String country, String postalCode, LocalDate dateOfBirth, String notes) {
+    }
+
+    /**
+     * Exported customer. Field names are the NDJSON keys.
+     */
+    public record ExportRow(UUID id, String code, String firstName, String lastName, String email, String phone,
+            String address, String city, String state, String country, String postalCode, LocalDate dateOfBirth,
+            String notes, boolean isActive, UUID loyaltyTierId, int totalPoints, int availablePoints,
+            int lifetimePoints) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.cursorpos.admin.repository;
+
+import com.cursorpos.admin.dto.CustomerImportJobResponse;
+import com.cursorpos.admin.dto.CustomerImportJobResponse.RowError;
+import com.cursorpos.admin.dto.CustomerImportJobResponse.Status;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Status rows of bulk customer imports (V8).
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Repository
+@RequiredArgsConstructor
+public class CustomerImportJobRepository {
+
+    private static final String CREATE_SQL = """
+            INSERT INTO customer_import_jobs (tenant_id, format, status, created_by)
+            VALUES (?, ?, 'QUEUED', ?)
+            RETURNING id
+            """;
+
+    private static final String START_SQL = """
+            UPDATE customer_import_jobs SET status = 'RUNNING', started_at = CURRENT_TIMESTAMP WHERE id = ?
+            """;
+
+    private static final String PROGRESS_SQL = """
+            UPDATE customer_import_jobs
+            SET rows_read = ?, imported = ?, duplicates = ?, failed = ?, errors = errors || ?::jsonb
+            WHERE id = ?
+            """;
+
+    private static final String FINISH_SQL = """
+            UPDATE customer_import_jobs SET status = ?, message = ?, finished_at = CURRENT_TIMESTAMP WHERE id = ?
+            """;
+
+    private static final String FIND_SQL = """
+            SELECT id, format, status, rows_read, imported, duplicates, failed, errors, message,
+                created_at, started_at, finished_at
+            FROM customer_import_jobs
+            WHERE id = ? AND tenant_id = ?
+            """;
+
+    private static final TypeReference<List<RowError>> ROW_ERRORS = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return the new job's ID, queued
+     */
+    public UUID create(String tenantId, String format, String createdBy) {
+        return jdbcTemplate.queryForObject(CREATE_SQL, UUID.class, tenantId, format, createdBy);
+    }
+
+    public void markRunning(UUID jobId) {
+        jdbcTemplate.update(START_SQL, jobId);
+    }
+
+    /**
+     * Stores running totals after a chunk.
+     *
+     * @param jobId     job
+     * @param progress  totals so far
+     * @param newErrors errors to append
+     */
+    public void recordProgress(UUID jobId, Progress progress, List<RowError> newErrors) {
+        jdbcTemplate.update(PROGRESS_SQL, progress.rowsRead(), progress.imported(), progress.duplicates(),
+                progress.failed(), toJson(newErrors), jobId);
+    }
+
+    public void finish(UUID jobId, Status status, String message) {
+        jdbcTemplate.update(FINISH_SQL, status.name(), message, jobId);
+    }
+
+    public Optional<CustomerImportJobResponse> find(String tenantId, UUID jobId) {
+        return jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> CustomerImportJobResponse.builder()
+                .id(rs.getObject("id", UUID.class))
+                .format(rs.getString("format"))
+                .status(Status.valueOf(rs.getString("status")))
+                .rowsRead(rs.getInt("rows_read"))
+                .imported(rs.getInt("imported"))
+                .duplicates(rs.getInt("duplicates"))
+                .failed(rs.getInt("failed"))
+                .errors(fromJson(rs.getString("errors")))
+                .message(rs.getString("message"))
+                .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                .startedAt(toLocalDateTime(rs.getTimestamp("started_at")))
+                .finishedAt(toLocalDateTime(rs.getTimestamp("finished_at")))
+                .build(), jobId, tenantId)
+                .stream()
+                .findFirst();
+    }
+
+    private String toJson(List<RowError> errors) {
+        try {
+            return objectMapper.writeValueAsString(errors);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize import errors", e);
+        }
+    }
+
+    private List<RowError> fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, ROW_ERRORS);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read import errors", e);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    /**
+     * Running totals of an import.
+     *
+     * @param rowsRead   data rows read so far
+     * @param imported   customers inserted
+     * @param duplicates rows skipped because the code exists
+     * @param failed     rows rejected as invalid
+     */
+    public record Progress(int rowsRead, int imported, int duplicates, int failed) {
+    }
+}
@@ -0,0 +1,83 @@
+package com.cursorpos.admin.repository;
+
+import com.cursorpos.admin.dto.CustomerLookupResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Prefix search over customer code, phone and email.
+ *
+ * <p>
+ * Each branch of the union is a range scan on its own covering index
+ * (see V11), in the index's {@code COLLATE "C"} order and limited before
+ * the union, so a common prefix never reads more than {@code limit} rows
+ * per identifier.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Repository
+@RequiredArgsConstructor
+public class CustomerLookupRepository {
+
+    private static final String LOOKUP_SQL = """
+            SELECT id, code, first_name, last_name, phone, email, is_active FROM (
+                (SELECT id, code, first_name, last_name, phone, email, is_active FROM customers
+                 WHERE tenant_id = ? AND deleted_at IS NULL AND lower(code) COLLATE "C" LIKE ?
+                 ORDER BY lower(code) COLLATE "C" LIMIT ?)
+                UNION
+                (SELECT id, code, first_name, last_name, phone, email, is_active FROM customers
+                 WHERE tenant_id = ? AND deleted_at IS NULL AND phone_normalized COLLATE "C" LIKE ?
+                 ORDER BY phone_normalized COLLATE "C" LIMIT ?)
+                UNION
+                (SELECT id, code, first_name, last_name, phone, email, is_active FROM customers
+                 WHERE tenant_id = ? AND deleted_at IS NULL AND email_normalized COLLATE "C" LIKE ?
+                 ORDER BY email_normalized COLLATE "C" LIMIT ?)
+            ) matches
+            ORDER BY code
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Customers whose code, phone or email starts with the given prefixes.
+     * A null prefix skips that identifier.
+     *
+     * @param tenantId    tenant
+     * @param codePrefix  lowercased code prefix
+     * @param phonePrefix E.164 phone prefix
+     * @param emailPrefix lowercased email prefix
+     * @param limit       maximum number of matches
+     * @return matches ordered by code
+     */
+    public List<CustomerLookupResponse> findByPrefix(String tenantId, String codePrefix, String phonePrefix,
+            String emailPrefix, int limit) {
+        return jdbcTemplate.query(LOOKUP_SQL, (rs, rowNum) -> CustomerLookupResponse.builder()
+                .id(rs.getObject("id", UUID.class))
+                .code(rs.getString("code"))
+                .firstName(rs.getString("first_name"))
+                .lastName(rs.getString("last_name"))
+                .phone(rs.getString("phone"))
+                .email(rs.getString("email"))
+                .isActive(rs.getBoolean("is_active"))
+                .build(),
+                tenantId, likePrefix(codePrefix), limit,
+                tenantId, likePrefix(phonePrefix), limit,
+                tenantId, likePrefix(emailPrefix), limit,
+                limit);
+    }
+
+    private static String likePrefix(String prefix) {
+        if (prefix == null) {
+            return null;
+        }
+        return prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
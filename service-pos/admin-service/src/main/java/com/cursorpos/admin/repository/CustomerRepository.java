@@ -37,6 +37,12 @@ public interface CustomerRepository extends JpaRepository<Customer, UUID> {
 
     Optional<Customer> findByTenantIdAndPhoneAndDeletedAtIsNull(String tenantId, String phone);
 
+    Optional<Customer> findFirstByTenantIdAndEmailNormalizedAndDeletedAtIsNull(String tenantId,
+            String emailNormalized);
+
+    Optional<Customer> findFirstByTenantIdAndPhoneNormalizedAndDeletedAtIsNull(String tenantId,
+            String phoneNormalized);
+
     // Loyalty-related queries
     Page<Customer> findByTenantIdAndLoyaltyTierIdAndDeletedAtIsNull(String tenantId, UUID loyaltyTierId,
             Pageable pageable);
@@ -0,0 +1,289 @@
+package com.cursorpos.admin.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Set-based loyalty updates for the accrual consumer, including reversals.
+ * 
+ * <p>
+ * Balances of all customers in a batch are updated with a single statement,
+ * and ledger rows are written in one JDBC batch, instead of loading and saving
+ * each customer through JPA.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Repository
+@RequiredArgsConstructor
+public class LoyaltyAccrualRepository {
+
+    private static final String CLAIM_EVENTS_SQL = """
+            INSERT INTO processed_events (consumer, event_id)
+            SELECT ?, event_id FROM unnest(?::varchar[]) AS event_id
+            ON CONFLICT DO NOTHING
+            RETURNING event_id
+            """;
+
+    private static final String FIND_TIERS_SQL = """
+            SELECT id, loyalty_tier_id FROM customers
+            WHERE tenant_id = ? AND id = ANY(?) AND deleted_at IS NULL
+            """;
+
+    private static final String ADD_POINTS_SQL = """
+            UPDATE customers c
+            SET total_points = c.total_points + d.points,
+                available_points = c.available_points + d.points,
+                lifetime_points = c.lifetime_points + d.points,
+                updated_at = CURRENT_TIMESTAMP,
+                version = c.version + 1
+            FROM unnest(?::uuid[], ?::int[]) AS d(customer_id, points)
+            WHERE c.id = d.customer_id AND c.tenant_id = ? AND c.deleted_at IS NULL
+            RETURNING c.id, c.total_points, c.available_points
+            """;
+
+    /**
+     * Points already spent cannot be taken back, so balances stop at zero.
+     */
+    private static final String DEDUCT_POINTS_SQL = """
+            UPDATE customers c
+            SET total_points = GREATEST(c.total_points - d.points, 0),
+                available_points = GREATEST(c.available_points - d.points, 0),
+                lifetime_points = GREATEST(c.lifetime_points - d.points, 0),
+                updated_at = CURRENT_TIMESTAMP,
+                version = c.version + 1
+            FROM unnest(?::uuid[], ?::int[]) AS d(customer_id, points)
+            WHERE c.id = d.customer_id AND c.tenant_id = ? AND c.deleted_at IS NULL
+            RETURNING c.id, c.total_points, c.available_points
+            """;
+
+    private static final String RECORD_ACCRUAL_SQL = """
+            INSERT INTO loyalty_accruals (event_id, tenant_id, customer_id, points)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String TAKE_ACCRUALS_SQL = """
+            DELETE FROM loyalty_accruals
+            WHERE tenant_id = ? AND event_id = ANY(?)
+            RETURNING event_id, customer_id, points
+            """;
+
+    private static final String UPDATE_TIER_SQL = """
+            UPDATE customers SET loyalty_tier_id = ?
+            WHERE id = ? AND tenant_id = ?
+            """;
+
+    private static final String INSERT_LEDGER_SQL = """
+            INSERT INTO loyalty_transactions (tenant_id, customer_id, transaction_type, points, balance_after,
+                reference_id, reference_type, description, created_at, created_by, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, ?, 0)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Records event IDs as processed by a consumer.
+     * 
+     * @param consumer consumer name
+     * @param eventIds candidate event IDs
+     * @return the IDs that had not been processed before
+     */
+    public Set<String> claimEvents(String consumer, List<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(CLAIM_EVENTS_SQL);
+            Array ids = connection.createArrayOf("varchar", eventIds.toArray());
+            ps.setString(1, consumer);
+            ps.setArray(2, ids);
+            return ps;
+        }, (rs, rowNum) -> rs.getString(1)));
+    }
+
+    /**
+     * Current tier of each existing customer.
+     * 
+     * @param tenantId    tenant
+     * @param customerIds customers to look up
+     * @return tier ID per customer (null value if the customer has no tier);
+     *         missing or deleted customers are absent
+     */
+    public Map<UUID, UUID> findTierIds(String tenantId, Collection<UUID> customerIds) {
+        Map<UUID, UUID> tiers = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(FIND_TIERS_SQL);
+            ps.setString(1, tenantId);
+            ps.setArray(2, connection.createArrayOf("uuid", customerIds.toArray()));
+            return ps;
+        }, rs -> {
+            tiers.put(rs.getObject(1, UUID.class), rs.getObject(2, UUID.class));
+        });
+        return tiers;
+    }
+
+    /**
+     * Adds earned points to many customers in one statement.
+     * 
+     * @param tenantId tenant
+     * @param points   points to add per customer
+     * @return new balances of the updated customers
+     */
+    public List<Balance> addPoints(String tenantId, Map<UUID, Integer> points) {
+        return updateBalances(ADD_POINTS_SQL, tenantId, points);
+    }
+
+    /**
+     * Takes points back from many customers in one statement.
+     * 
+     * @param tenantId tenant
+     * @param points   points to deduct per customer
+     * @return new balances of the updated customers
+     */
+    public List<Balance> deductPoints(String tenantId, Map<UUID, Integer> points) {
+        return updateBalances(DEDUCT_POINTS_SQL, tenantId, points);
+    }
+
+    private List<Balance> updateBalances(String sql, String tenantId, Map<UUID, Integer> points) {
+        if (points.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = new ArrayList<>(points.keySet());
+        Integer[] amounts = ids.stream().map(points::get).toArray(Integer[]::new);
+        return jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(sql);
+            ps.setArray(1, connection.createArrayOf("uuid", ids.toArray()));
+            ps.setArray(2, connection.createArrayOf("int4", amounts));
+            ps.setString(3, tenantId);
+            return ps;
+        }, (rs, rowNum) -> new Balance(rs.getObject(1, UUID.class), rs.getInt(2), rs.getInt(3)));
+    }
+
+    /**
+     * Records the points moved by individual events so they can be reversed.
+     * 
+     * @param accruals one entry per event
+     */
+    public void recordAccruals(List<Accrual> accruals) {
+        if (accruals.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(RECORD_ACCRUAL_SQL, accruals, accruals.size(), (ps, accrual) -> {
+            ps.setString(1, accrual.eventId());
+            ps.setString(2, accrual.tenantId());
+            ps.setObject(3, accrual.customerId());
+            ps.setInt(4, accrual.points());
+        });
+    }
+
+    /**
+     * Removes and returns the recorded accruals of events, so each is reversed
+     * at most once.
+     * 
+     * @param tenantId tenant
+     * @param eventIds IDs of the events to reverse
+     * @return the accruals that were still recorded
+     */
+    public List<Accrual> takeAccruals(String tenantId, Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(TAKE_ACCRUALS_SQL);
+            ps.setString(1, tenantId);
+            ps.setArray(2, connection.createArrayOf("varchar", eventIds.toArray()));
+            return ps;
+        }, (rs, rowNum) -> new Accrual(rs.getString(1), tenantId, rs.getObject(2, UUID.class), rs.getInt(3)));
+    }
+
+    /**
+     * Moves customers to new tiers.
+     * 
+     * @param tenantId tenant
+     * @param tiers    new tier ID per customer (null clears the tier)
+     */
+    public void updateTiers(String tenantId, Map<UUID, UUID> tiers) {
+        if (tiers.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_TIER_SQL, new ArrayList<>(tiers.entrySet()), tiers.size(), (ps, entry) -> {
+            ps.setObject(1, entry.getValue());
+            ps.setObject(2, entry.getKey());
+            ps.setString(3, tenantId);
+        });
+    }
+
+    /**
+     * Inserts ledger rows in one JDBC batch.
+     * 
+     * @param entries ledger rows
+     */
+    public void insertLedger(List<LedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_LEDGER_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setString(1, entry.tenantId());
+            ps.setObject(2, entry.customerId());
+            ps.setString(3, entry.transactionType());
+            ps.setInt(4, entry.points());
+            ps.setInt(5, entry.balanceAfter());
+            ps.setObject(6, entry.referenceId());
+            ps.setString(7, entry.referenceType());
+            ps.setString(8, entry.description());
+            ps.setString(9, entry.createdBy());
+        });
+    }
+
+    /**
+     * Customer balance after an update.
+     * 
+     * @param customerId      customer
+     * @param totalPoints     total points (drives the tier)
+     * @param availablePoints spendable points
+     */
+    public record Balance(UUID customerId, int totalPoints, int availablePoints) {
+    }
+
+    /**
+     * Points moved by one event.
+     * 
+     * @param eventId    the event
+     * @param tenantId   tenant
+     * @param customerId customer
+     * @param points     points credited (negative if deducted)
+     */
+    public record Accrual(String eventId, String tenantId, UUID customerId, int points) {
+    }
+
+    /**
+     * Loyalty ledger row to insert.
+     * 
+     * @param tenantId        tenant
+     * @param customerId      customer
+     * @param transactionType EARN for credits, REFUND for deductions
+     * @param points          points earned (negative if deducted)
+     * @param balanceAfter    available points after this entry
+     * @param referenceId     source transaction, if there is exactly one
+     * @param referenceType   type of the reference
+     * @param description     human-readable description
+     * @param createdBy       author of the entry
+     */
+    public record LedgerEntry(String tenantId, UUID customerId, String transactionType, int points,
+            int balanceAfter, UUID referenceId, String referenceType, String description, String createdBy) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.cursorpos.admin.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Atomic changes to a single customer's loyalty balance.
+ *
+ * <p>
+ * The new balance is computed by the database in one conditional UPDATE, so
+ * concurrent changes to the same customer serialize on the row lock instead
+ * of racing on a value read into Java. A redemption can never take the
+ * balance below zero.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Repository
+@RequiredArgsConstructor
+public class LoyaltyBalanceRepository {
+
+    /*
+     * Right-hand sides see the row before the update, so the tier is chosen
+     * for the new total. With no matching tier the current one is kept.
+     */
+    private static final String APPLY_POINTS_SQL = """
+            UPDATE customers
+            SET available_points = available_points + ?,
+                total_points = total_points + GREATEST(?, 0),
+                lifetime_points = lifetime_points + GREATEST(?, 0),
+                loyalty_tier_id = COALESCE((
+                    SELECT t.id FROM unnest(?::uuid[], ?::int[]) AS t(id, min_points)
+                    WHERE t.min_points <= total_points + GREATEST(?, 0)
+                    ORDER BY t.min_points DESC
+                    LIMIT 1), loyalty_tier_id),
+                updated_at = CURRENT_TIMESTAMP,
+                version = version + 1
+            WHERE id = ? AND tenant_id = ? AND deleted_at IS NULL
+              AND available_points + ? >= 0
+            RETURNING total_points, available_points, loyalty_tier_id
+            """;
+
+    private static final String FIND_AVAILABLE_POINTS_SQL = """
+            SELECT available_points FROM customers
+            WHERE id = ? AND tenant_id = ? AND deleted_at IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds (or, if negative, deducts) points and moves the customer to the
+     * tier for the new total.
+     *
+     * @param tenantId       tenant
+     * @param customerId     customer
+     * @param pointsChange   points to add; negative to redeem
+     * @param tierIds        the tenant's active tiers
+     * @param tierMinPoints  minimum total points of each tier in
+     *                       {@code tierIds}
+     * @return the balance after the change, or empty if the customer does not
+     *         exist or has too few available points
+     */
+    public Optional<Balance> applyPointsChange(String tenantId, UUID customerId, int pointsChange,
+            UUID[] tierIds, int[] tierMinPoints) {
+        Integer[] minPoints = new Integer[tierMinPoints.length];
+        for (int i = 0; i < minPoints.length; i++) {
+            minPoints[i] = tierMinPoints[i];
+        }
+        List<Balance> balances = jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(APPLY_POINTS_SQL);
+            ps.setInt(1, pointsChange);
+            ps.setInt(2, pointsChange);
+            ps.setInt(3, pointsChange);
+            ps.setArray(4, connection.createArrayOf("uuid", tierIds));
+            ps.setArray(5, connection.createArrayOf("int4", minPoints));
+            ps.setInt(6, pointsChange);
+            ps.setObject(7, customerId);
+            ps.setString(8, tenantId);
+            ps.setInt(9, pointsChange);
+            return ps;
+        }, (rs, rowNum) -> new Balance(rs.getInt(1), rs.getInt(2), rs.getObject(3, UUID.class)));
+        return balances.stream().findFirst();
+    }
+
+    /**
+     * Current available points, used to explain a rejected change.
+     *
+     * @param tenantId   tenant
+     * @param customerId customer
+     * @return available points, or empty if the customer does not exist
+     */
+    public Optional<Integer> findAvailablePoints(String tenantId, UUID customerId) {
+        return jdbcTemplate.query(FIND_AVAILABLE_POINTS_SQL, (rs, rowNum) -> rs.getInt(1), customerId, tenantId)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Customer balance after a change.
+     *
+     * @param totalPoints     total points (drives the tier)
+     * @param availablePoints spendable points
+     * @param loyaltyTierId   tier after the change, may be null
+     */
+    public record Balance(int totalPoints, int availablePoints, UUID loyaltyTierId) {
+    }
+}
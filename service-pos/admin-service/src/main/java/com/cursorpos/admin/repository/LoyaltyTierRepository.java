@@ -4,8 +4,6 @@ import com.cursorpos.admin.entity.LoyaltyTier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -33,14 +31,4 @@ public interface LoyaltyTierRepository extends JpaRepository<LoyaltyTier, UUID>
     List<LoyaltyTier> findByTenantIdAndDeletedAtIsNullOrderByMinPointsAsc(String tenantId);
 
     boolean existsByTenantIdAndCode(String tenantId, String code);
-
-    /**
-     * Find the appropriate tier for a given point total.
-     * Returns the highest tier where minPoints <= totalPoints.
-     */
-    @Query("SELECT lt FROM LoyaltyTier lt WHERE lt.tenantId = :tenantId " +
-            "AND lt.minPoints <= :totalPoints AND lt.isActive = true AND lt.deletedAt IS NULL " +
-            "ORDER BY lt.minPoints DESC LIMIT 1")
-    Optional<LoyaltyTier> findTierForPoints(@Param("tenantId") String tenantId,
-            @Param("totalPoints") Integer totalPoints);
 }
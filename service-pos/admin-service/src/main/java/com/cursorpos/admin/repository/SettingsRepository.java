@@ -26,5 +26,7 @@ public interface SettingsRepository extends JpaRepository<Settings, UUID> {
 
     Page<Settings> findByTenantIdAndDeletedAtIsNull(String tenantId, Pageable pageable);
 
+    List<Settings> findByTenantIdAndDeletedAtIsNull(String tenantId);
+
     boolean existsByTenantIdAndSettingKey(String tenantId, String settingKey);
 }
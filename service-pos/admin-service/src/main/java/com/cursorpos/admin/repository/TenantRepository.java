@@ -4,8 +4,13 @@ import com.cursorpos.admin.entity.Tenant;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,13 +28,40 @@ public interface TenantRepository extends JpaRepository<Tenant, UUID> {
 
     Optional<Tenant> findBySubdomain(String subdomain);
 
+    Optional<Tenant> findFirstByTenantIdAndDeletedAtIsNull(String tenantId);
+
     Optional<Tenant> findByIdAndDeletedAtIsNull(UUID id);
 
     Page<Tenant> findByDeletedAtIsNull(Pageable pageable);
 
     Page<Tenant> findByIsActiveAndDeletedAtIsNull(Boolean isActive, Pageable pageable);
 
+    List<Tenant> findByIsActiveTrueAndDeletedAtIsNull();
+
     boolean existsByCode(String code);
 
     boolean existsBySubdomain(String subdomain);
+
+    /**
+     * Plan code and features of every active tenant with a valid subscription.
+     */
+    @Query("SELECT t.tenantId AS tenantId, p.code AS planCode, p.features AS features " +
+            "FROM Tenant t JOIN SubscriptionPlan p ON p.id = t.subscriptionPlanId " +
+            "WHERE t.isActive = true AND t.deletedAt IS NULL AND p.deletedAt IS NULL " +
+            "AND t.subscriptionStatus IN :statuses " +
+            "AND (t.subscriptionEndDate IS NULL OR t.subscriptionEndDate > :now)")
+    List<TenantPlanView> findActiveTenantPlans(
+            @Param("statuses") Collection<Tenant.SubscriptionStatus> statuses,
+            @Param("now") Instant now);
+
+    /**
+     * Projection of a tenant and its subscription plan features.
+     */
+    interface TenantPlanView {
+        String getTenantId();
+
+        String getPlanCode();
+
+        String getFeatures();
+    }
 }
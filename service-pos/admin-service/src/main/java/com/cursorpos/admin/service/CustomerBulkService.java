@@ -0,0 +1,381 @@
+package com.cursorpos.admin.service;
+
+import com.cursorpos.admin.dto.CreateCustomerRequest;
+import com.cursorpos.admin.dto.CustomerImportJobResponse;
+import com.cursorpos.admin.dto.CustomerImportJobResponse.RowError;
+import com.cursorpos.admin.dto.CustomerImportJobResponse.Status;
+import com.cursorpos.admin.repository.CustomerBulkRepository;
+import com.cursorpos.admin.repository.CustomerBulkRepository.NewCustomer;
+import com.cursorpos.admin.repository.CustomerImportJobRepository;
+import com.cursorpos.admin.repository.CustomerImportJobRepository.Progress;
+import com.cursorpos.admin.service.CustomerRecordReader.CustomerRecord;
+import com.cursorpos.shared.exception.CursorPosException;
+import com.cursorpos.shared.exception.ResourceNotFoundException;
+import com.cursorpos.shared.security.TenantContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk customer import and export.
+ *
+ * <p>
+ * An upload is spooled to a temporary file and imported in the background,
+ * reading one record at a time. Each chunk is validated in parallel, checked
+ * against existing codes with one query and inserted with one statement;
+ * progress is stored after every chunk so the job can be polled from any
+ * node. Chunks commit independently: if a job fails part-way, importing the
+ * same file again skips the customers that already made it in.
+ * </p>
+ *
+ * <p>
+ * Uploads over {@code customers.import.max-file-size} or with more lines than
+ * {@code customers.import.max-rows} (plus the CSV header) are rejected with a
+ * 413 while spooling; no job is created for them.
+ * </p>
+ *
+ * <p>
+ * Within a file the first row with a given code wins; later rows with the
+ * same code count as duplicates, as do codes that already exist in the
+ * tenant (including deleted customers).
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Slf4j
+@Service
+public class CustomerBulkService {
+
+    private static final int SPOOL_BUFFER_SIZE = 8192;
+
+    private final CustomerBulkRepository customerBulkRepository;
+    private final CustomerImportJobRepository customerImportJobRepository;
+    private final CustomerLookupKeys customerLookupKeys;
+    private final LoyaltyProgramCache loyaltyProgramCache;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final Executor importExecutor;
+    private final int chunkSize;
+    private final int maxErrors;
+    private final long maxFileBytes;
+    private final long maxRows;
+
+    @Autowired
+    public CustomerBulkService(CustomerBulkRepository customerBulkRepository,
+            CustomerImportJobRepository customerImportJobRepository, CustomerLookupKeys customerLookupKeys,
+            LoyaltyProgramCache loyaltyProgramCache, Validator validator, ObjectMapper objectMapper,
+            @Value("${customers.import.chunk-size:1000}") int chunkSize,
+            @Value("${customers.import.max-errors:100}") int maxErrors,
+            @Value("${customers.import.max-file-size:50MB}") DataSize maxFileSize,
+            @Value("${customers.import.max-rows:200000}") long maxRows,
+            @Value("${customers.import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+            @Value("${customers.import.max-queued-jobs:10}") int maxQueuedJobs) {
+        this(customerBulkRepository, customerImportJobRepository, customerLookupKeys, loyaltyProgramCache,
+                validator, objectMapper, chunkSize, maxErrors, maxFileSize.toBytes(), maxRows,
+                newImportExecutor(maxConcurrentJobs, maxQueuedJobs));
+    }
+
+    CustomerBulkService(CustomerBulkRepository customerBulkRepository,
+            CustomerImportJobRepository customerImportJobRepository, CustomerLookupKeys customerLookupKeys,
+            LoyaltyProgramCache loyaltyProgramCache, Validator validator, ObjectMapper objectMapper,
+            int chunkSize, int maxErrors, long maxFileBytes, long maxRows, Executor importExecutor) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("customers.import.chunk-size must be at least 1");
+        }
+        if (maxFileBytes < 1 || maxRows < 1) {
+            throw new IllegalArgumentException("customers.import.max-file-size and max-rows must be positive");
+        }
+        this.customerBulkRepository = customerBulkRepository;
+        this.customerImportJobRepository = customerImportJobRepository;
+        this.customerLookupKeys = customerLookupKeys;
+        this.loyaltyProgramCache = loyaltyProgramCache;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.maxFileBytes = maxFileBytes;
+        this.maxRows = maxRows;
+        this.importExecutor = importExecutor;
+    }
+
+    /**
+     * Stores the upload and queues it for import.
+     *
+     * @param body   the file contents
+     * @param format the file format
+     * @return the queued job
+     * @throws CursorPosException with 413 if the file exceeds the import limits
+     */
+    public CustomerImportJobResponse startImport(InputStream body, CustomerFileFormat format) {
+        Objects.requireNonNull(body, "body");
+        Objects.requireNonNull(format, "format");
+        String tenantId = TenantContext.getTenantId();
+        String userId = TenantContext.getUserId();
+
+        Path file = spool(body, format);
+        UUID jobId = customerImportJobRepository.create(tenantId, format.name(), userId);
+        log.info("Queued customer import {} ({}) for tenant: {}", jobId, format, tenantId);
+        try {
+            importExecutor.execute(() -> runImport(jobId, tenantId, userId, format, file));
+        } catch (RejectedExecutionException e) {
+            deleteQuietly(file);
+            customerImportJobRepository.finish(jobId, Status.FAILED, "Too many imports in progress");
+            throw new CursorPosException("Too many customer imports in progress, try again later",
+                    HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return getImportJob(jobId);
+    }
+
+    public CustomerImportJobResponse getImportJob(UUID jobId) {
+        Objects.requireNonNull(jobId, "jobId");
+        String tenantId = TenantContext.getTenantId();
+        return customerImportJobRepository.find(tenantId, jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Customer import job not found with ID: " + jobId));
+    }
+
+    /**
+     * Writes all of the tenant's customers, ordered by code.
+     *
+     * @param format the file format
+     * @param out    where to write; not closed
+     */
+    @Transactional(readOnly = true)
+    public void exportCustomers(CustomerFileFormat format, OutputStream out) {
+        Objects.requireNonNull(format, "format");
+        String tenantId = TenantContext.getTenantId();
+        CustomerRecordWriter writer = new CustomerRecordWriter(
+                new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)), format, objectMapper);
+        AtomicInteger exported = new AtomicInteger();
+        try {
+            writer.writeHeader();
+            customerBulkRepository.streamCustomers(tenantId, row -> {
+                try {
+                    writer.write(row);
+                    exported.incrementAndGet();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Exported {} customers ({}) for tenant: {}", exported.get(), format, tenantId);
+    }
+
+    void runImport(UUID jobId, String tenantId, String userId, CustomerFileFormat format, Path file) {
+        ImportState state = new ImportState();
+        try (CustomerRecordReader reader = new CustomerRecordReader(
+                Files.newBufferedReader(file, StandardCharsets.UTF_8), format, objectMapper)) {
+            customerImportJobRepository.markRunning(jobId);
+            UUID defaultTierId = loyaltyProgramCache.get(tenantId).tierForPoints(0);
+            List<CustomerRecord> chunk = new ArrayList<>(chunkSize);
+            CustomerRecord customerRecord;
+            while ((customerRecord = reader.next()) != null) {
+                chunk.add(customerRecord);
+                if (chunk.size() == chunkSize) {
+                    importChunk(jobId, tenantId, userId, defaultTierId, chunk, state);
+                    chunk.clear();
+                }
+            }
+            importChunk(jobId, tenantId, userId, defaultTierId, chunk, state);
+            customerImportJobRepository.finish(jobId, Status.COMPLETED, null);
+            log.info("Customer import {} completed for tenant {}: {} read, {} imported, {} duplicates, {} failed",
+                    jobId, tenantId, state.rowsRead, state.imported, state.duplicates, state.failed);
+        } catch (IOException | RuntimeException e) {
+            log.error("Customer import {} failed for tenant {} after {} rows", jobId, tenantId, state.rowsRead, e);
+            customerImportJobRepository.finish(jobId, Status.FAILED, e.getMessage());
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private void importChunk(UUID jobId, String tenantId, String userId, UUID defaultTierId,
+            List<CustomerRecord> chunk, ImportState state) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<Checked> checked = chunk.parallelStream().map(this::check).toList();
+
+        List<RowError> errors = new ArrayList<>();
+        Map<String, NewCustomer> candidates = new LinkedHashMap<>();
+        for (Checked row : checked) {
+            if (row.error() != null) {
+                state.failed++;
+                errors.add(row.error());
+            } else if (state.seenCodes.add(row.customer().code())) {
+                candidates.put(row.customer().code(), row.customer());
+            } else {
+                state.duplicates++;
+            }
+        }
+
+        Set<String> existing = customerBulkRepository.findExistingCodes(tenantId, candidates.keySet());
+        candidates.keySet().removeAll(existing);
+        Set<String> inserted = customerBulkRepository.insert(tenantId, new ArrayList<>(candidates.values()),
+                defaultTierId, userId);
+
+        state.rowsRead += chunk.size();
+        state.imported += inserted.size();
+        // Codes taken between the lookup and the insert are skipped by the insert
+        state.duplicates += existing.size() + candidates.size() - inserted.size();
+
+        int room = Math.max(0, maxErrors - state.errorsRecorded);
+        List<RowError> recorded = errors.subList(0, Math.min(room, errors.size()));
+        state.errorsRecorded += recorded.size();
+        customerImportJobRepository.recordProgress(jobId,
+                new Progress(state.rowsRead, state.imported, state.duplicates, state.failed), recorded);
+    }
+
+    private Checked check(CustomerRecord customerRecord) {
+        CreateCustomerRequest request = customerRecord.request();
+        if (customerRecord.error() != null) {
+            return Checked.rejected(customerRecord, null, customerRecord.error());
+        }
+        Set<ConstraintViolation<CreateCustomerRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            return Checked.rejected(customerRecord, request.getCode(), message);
+        }
+        return new Checked(new NewCustomer(request.getCode(), request.getFirstName(), request.getLastName(),
+                request.getEmail(), request.getPhone(), customerLookupKeys.email(request.getEmail()),
+                customerLookupKeys.phone(request.getPhone()), request.getAddress(), request.getCity(),
+                request.getState(), request.getCountry(), request.getPostalCode(), request.getDateOfBirth(),
+                request.getNotes()), null);
+    }
+
+    /**
+     * Copies the upload to a temporary file, stopping at the first byte or
+     * line over the limits. Lines are an upper bound on records, so the row
+     * limit is checked without parsing.
+     */
+    private Path spool(InputStream body, CustomerFileFormat format) {
+        long maxLines = format == CustomerFileFormat.CSV ? maxRows + 1 : maxRows;
+        Path file = null;
+        try {
+            file = Files.createTempFile("customer-import-", "." + format.name().toLowerCase(Locale.ROOT));
+            try (OutputStream out = Files.newOutputStream(file)) {
+                byte[] buffer = new byte[SPOOL_BUFFER_SIZE];
+                long bytes = 0;
+                long lines = 0;
+                byte last = '\n';
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                    bytes += read;
+                    if (bytes > maxFileBytes) {
+                        throw tooLarge("Customer import file exceeds " + maxFileBytes + " bytes");
+                    }
+                    for (int i = 0; i < read; i++) {
+                        if (buffer[i] == '\n') {
+                            lines++;
+                        }
+                    }
+                    if (read > 0) {
+                        last = buffer[read - 1];
+                    }
+                    // An unterminated last line counts too
+                    if (lines + (last != '\n' ? 1 : 0) > maxLines) {
+                        throw tooLarge("Customer import file has more than " + maxRows + " rows");
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+            return file;
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new UncheckedIOException("Cannot store customer import file", e);
+        } catch (CursorPosException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    private static CursorPosException tooLarge(String message) {
+        return new CursorPosException(message, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Cannot delete customer import file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static ExecutorService newImportExecutor(int maxConcurrentJobs, int maxQueuedJobs) {
+        AtomicInteger threads = new AtomicInteger();
+        return new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueuedJobs), runnable -> {
+                    Thread thread = new Thread(runnable, "customer-import-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    void stop() {
+        if (importExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private record Checked(NewCustomer customer, RowError error) {
+
+        static Checked rejected(CustomerRecord customerRecord, String code, String message) {
+            return new Checked(null, new RowError(customerRecord.row(), code, message));
+        }
+    }
+
+    private static final class ImportState {
+
+        private final Set<String> seenCodes = new HashSet<>();
+        private int rowsRead;
+        private int imported;
+        private int duplicates;
+        private int failed;
+        private int errorsRecorded;
+    }
+}
@@ -0,0 +1,62 @@
+package com.cursorpos.admin.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * File formats for bulk customer import and export.
+ *
+ * <p>
+ * CSV files start with a header row; columns are matched by name
+ * ({@code first_name}, {@code firstName} and {@code First Name} are the same
+ * column) and unknown columns are ignored. NDJSON files hold one JSON object
+ * per line with the fields of a customer create request.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CustomerFileFormat {
+
+    CSV(new MediaType("text", "csv")),
+    NDJSON(MediaType.APPLICATION_NDJSON);
+
+    private final MediaType mediaType;
+
+    /**
+     * @param contentType request content type
+     * @return the matching format
+     * @throws IllegalArgumentException if the content type is not supported
+     */
+    public static CustomerFileFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            for (CustomerFileFormat format : values()) {
+                if (format.mediaType.isCompatibleWith(mediaType)) {
+                    return format;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unsupported content type " + contentType
+                + ", expected text/csv or application/x-ndjson");
+    }
+
+    /**
+     * @param name format name, case-insensitive
+     * @return the matching format
+     * @throws IllegalArgumentException if the name is not a format
+     */
+    public static CustomerFileFormat fromName(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported format " + name + ", expected csv or ndjson", e);
+        }
+    }
+}
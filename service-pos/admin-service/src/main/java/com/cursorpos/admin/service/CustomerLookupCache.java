@@ -0,0 +1,96 @@
+package com.cursorpos.admin.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-tenant LRU of recently looked-up customers, from lookup key (code,
+ * normalized phone or email) to customer ID.
+ *
+ * <p>
+ * Only the identity is cached: callers load the customer by primary key and
+ * check it still has the key, so balances are always current and a stale
+ * entry left by another node costs one extra query rather than a wrong
+ * answer.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Component
+public class CustomerLookupCache {
+
+    private final int maxEntriesPerTenant;
+    private final Map<String, Map<String, UUID>> tenants = new ConcurrentHashMap<>();
+
+    public CustomerLookupCache(@Value("${customers.lookup.hot-cache-size:512}") int maxEntriesPerTenant) {
+        if (maxEntriesPerTenant < 1) {
+            throw new IllegalArgumentException("customers.lookup.hot-cache-size must be at least 1");
+        }
+        this.maxEntriesPerTenant = maxEntriesPerTenant;
+    }
+
+    /**
+     * @param tenantId tenant
+     * @param key      lookup key
+     * @return the customer ID last seen for {@code key}, or null
+     */
+    public UUID get(String tenantId, String key) {
+        Map<String, UUID> entries = tenants.get(tenantId);
+        if (entries == null) {
+            return null;
+        }
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    public void put(String tenantId, String key, UUID customerId) {
+        Map<String, UUID> entries = tenants.computeIfAbsent(tenantId, id -> newTenantMap());
+        synchronized (entries) {
+            entries.put(key, customerId);
+        }
+    }
+
+    /**
+     * Drops every key pointing at a customer, e.g. after it was edited or
+     * deleted.
+     *
+     * @param tenantId   tenant
+     * @param customerId customer
+     */
+    public void evict(String tenantId, UUID customerId) {
+        Map<String, UUID> entries = tenants.get(tenantId);
+        if (entries == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.values().removeIf(customerId::equals);
+        }
+    }
+
+    int size(String tenantId) {
+        Map<String, UUID> entries = tenants.get(tenantId);
+        if (entries == null) {
+            return 0;
+        }
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private Map<String, UUID> newTenantMap() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, UUID> eldest) {
+                return size() > maxEntriesPerTenant;
+            }
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package com.cursorpos.admin.service;
+
+import com.cursorpos.admin.entity.Customer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Normalized keys for looking customers up by phone and email.
+ *
+ * <p>
+ * Phones become E.164 ({@code +<country><number>}): formatting is dropped, a
+ * leading {@code 00} is an international prefix, a leading {@code 0} is a
+ * trunk prefix replaced by the default country code, and any other number
+ * without {@code +} gets the default country code. Emails are trimmed and
+ * lowercased. The V7 migration backfills existing rows with the same rules.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Component
+public class CustomerLookupKeys {
+
+    private static final int MIN_PHONE_DIGITS = 7;
+    private static final int MAX_PHONE_DIGITS = 15;
+    private static final int MIN_PHONE_PREFIX_DIGITS = 3;
+
+    private final String defaultCountryCode;
+
+    public CustomerLookupKeys(@Value("${customers.lookup.default-country-code:62}") String defaultCountryCode) {
+        if (defaultCountryCode == null || !defaultCountryCode.matches("[1-9]\\d{0,2}")) {
+            throw new IllegalArgumentException(
+                    "customers.lookup.default-country-code must be 1 to 3 digits: " + defaultCountryCode);
+        }
+        this.defaultCountryCode = defaultCountryCode;
+    }
+
+    /**
+     * Sets the normalized keys from the customer's phone and email.
+     *
+     * @param customer the customer about to be saved
+     */
+    public void apply(Customer customer) {
+        customer.setPhoneNormalized(phone(customer.getPhone()));
+        customer.setEmailNormalized(email(customer.getEmail()));
+    }
+
+    /**
+     * @param raw phone as entered
+     * @return the E.164 key, or null if {@code raw} is not a plausible number
+     */
+    public String phone(String raw) {
+        String digits = phoneDigits(raw);
+        if (digits == null || digits.length() < MIN_PHONE_DIGITS || digits.length() > MAX_PHONE_DIGITS) {
+            return null;
+        }
+        return "+" + digits;
+    }
+
+    /**
+     * Normalizes the start of a phone number for prefix search.
+     *
+     * @param raw partial phone as typed
+     * @return the E.164 prefix, or null if {@code raw} does not look like
+     *         the start of a phone number
+     */
+    public String phonePrefix(String raw) {
+        if (raw == null || !raw.strip().matches("\\+?[\\d\\s().-]+")) {
+            return null;
+        }
+        String digits = phoneDigits(raw);
+        if (digits == null || digits.length() < MIN_PHONE_PREFIX_DIGITS || digits.length() > MAX_PHONE_DIGITS) {
+            return null;
+        }
+        return "+" + digits;
+    }
+
+    /**
+     * @param raw email as entered
+     * @return the lowercased key, or null if {@code raw} is blank
+     */
+    public String email(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return null;
+        }
+        return raw.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private String phoneDigits(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String trimmed = raw.strip();
+        StringBuilder digits = new StringBuilder(trimmed.length());
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        if (digits.isEmpty()) {
+            return null;
+        }
+        if (trimmed.startsWith("+")) {
+            return digits.toString();
+        }
+        if (digits.length() > 1 && digits.charAt(0) == '0' && digits.charAt(1) == '0') {
+            return digits.substring(2);
+        }
+        if (digits.charAt(0) == '0') {
+            return defaultCountryCode + digits.substring(1);
+        }
+        return defaultCountryCode + digits;
+    }
+}
@@ -0,0 +1,200 @@
+package com.cursorpos.admin.service;
+
+import com.cursorpos.admin.dto.CreateCustomerRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads customer records one at a time from a CSV or NDJSON stream, so an
+ * import never holds more than the current record in memory.
+ *
+ * <p>
+ * A record that cannot be parsed is returned with an error instead of
+ * failing the whole file; only an unusable CSV header is fatal.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+public class CustomerRecordReader implements Closeable {
+
+    private static final List<String> COLUMNS = List.of("code", "firstname", "lastname", "email", "phone",
+            "address", "city", "state", "country", "postalcode", "dateofbirth", "notes");
+
+    private final BufferedReader reader;
+    private final CustomerFileFormat format;
+    private final ObjectMapper objectMapper;
+    private int[] columnIndexes;
+    private long row;
+
+    public CustomerRecordReader(Reader reader, CustomerFileFormat format, ObjectMapper objectMapper) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return the next record, or null at the end of the stream
+     * @throws IOException              if the stream cannot be read
+     * @throws IllegalArgumentException if the CSV header lacks a required
+     *                                  column
+     */
+    public CustomerRecord next() throws IOException {
+        return format == CustomerFileFormat.CSV ? nextCsv() : nextNdjson();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private CustomerRecord nextNdjson() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+        row++;
+        try {
+            return new CustomerRecord(row, objectMapper.readValue(line, CreateCustomerRequest.class), null);
+        } catch (JsonProcessingException e) {
+            return new CustomerRecord(row, null, "Invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private CustomerRecord nextCsv() throws IOException {
+        if (columnIndexes == null) {
+            readHeader();
+        }
+        List<String> fields;
+        do {
+            fields = readCsvFields();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty());
+        row++;
+        try {
+            return new CustomerRecord(row, CreateCustomerRequest.builder()
+                    .code(field(fields, 0))
+                    .firstName(field(fields, 1))
+                    .lastName(field(fields, 2))
+                    .email(field(fields, 3))
+                    .phone(field(fields, 4))
+                    .address(field(fields, 5))
+                    .city(field(fields, 6))
+                    .state(field(fields, 7))
+                    .country(field(fields, 8))
+                    .postalCode(field(fields, 9))
+                    .dateOfBirth(dateField(fields, 10))
+                    .notes(field(fields, 11))
+                    .build(), null);
+        } catch (DateTimeParseException e) {
+            return new CustomerRecord(row, null, "Invalid date of birth: " + e.getParsedString());
+        }
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readCsvFields();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        columnIndexes = new int[COLUMNS.size()];
+        Arrays.fill(columnIndexes, -1);
+        for (int i = 0; i < header.size(); i++) {
+            int column = COLUMNS.indexOf(header.get(i).replaceAll("[\\s_\\-\uFEFF]", "").toLowerCase(Locale.ROOT));
+            if (column >= 0) {
+                columnIndexes[column] = i;
+            }
+        }
+        if (columnIndexes[0] < 0 || columnIndexes[1] < 0) {
+            throw new IllegalArgumentException("CSV header must include code and first_name columns");
+        }
+    }
+
+    private String field(List<String> fields, int column) {
+        int index = columnIndexes[column];
+        if (index < 0 || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private LocalDate dateField(List<String> fields, int column) {
+        String value = field(fields, column);
+        return value == null ? null : LocalDate.parse(value);
+    }
+
+    /*
+     * RFC 4180: fields are comma-separated, optionally quoted; quoted fields
+     * may contain commas, line breaks and doubled quotes.
+     */
+    private List<String> readCsvFields() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * One record of an import file.
+     *
+     * @param row     1-based data row (header and blank lines excluded)
+     * @param request the parsed customer, null if the record is malformed
+     * @param error   why the record could not be parsed, null if it was
+     */
+    public record CustomerRecord(long row, CreateCustomerRequest request, String error) {
+    }
+}
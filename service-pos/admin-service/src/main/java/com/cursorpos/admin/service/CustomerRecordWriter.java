@@ -0,0 +1,75 @@
+package com.cursorpos.admin.service;
+
+import com.cursorpos.admin.repository.CustomerBulkRepository.ExportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * Writes exported customers as CSV or NDJSON, one record at a time. The CSV
+ * columns are the import columns followed by read-only loyalty fields, so an
+ * export can be imported into another tenant as-is.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+public class CustomerRecordWriter {
+
+    static final String CSV_HEADER = "id,code,first_name,last_name,email,phone,address,city,state,country,"
+            + "postal_code,date_of_birth,notes,is_active,loyalty_tier_id,total_points,available_points,"
+            + "lifetime_points";
+
+    private final Writer writer;
+    private final CustomerFileFormat format;
+    private final ObjectMapper objectMapper;
+
+    public CustomerRecordWriter(Writer writer, CustomerFileFormat format, ObjectMapper objectMapper) {
+        this.writer = writer;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    public void writeHeader() throws IOException {
+        if (format == CustomerFileFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+    }
+
+    public void write(ExportRow row) throws IOException {
+        if (format == CustomerFileFormat.NDJSON) {
+            writer.write(objectMapper.writeValueAsString(row));
+            writer.write('\n');
+            return;
+        }
+        Object[] values = { row.id(), row.code(), row.firstName(), row.lastName(), row.email(), row.phone(),
+                row.address(), row.city(), row.state(), row.country(), row.postalCode(), row.dateOfBirth(),
+                row.notes(), row.isActive(), row.loyaltyTierId(), row.totalPoints(), row.availablePoints(),
+                row.lifetimePoints() };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvField(Objects.toString(values[i], ""));
+        }
+        writer.write('\n');
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeCsvField(String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
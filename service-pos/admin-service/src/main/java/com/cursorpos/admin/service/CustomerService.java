@@ -1,11 +1,12 @@
 package com.cursorpos.admin.service;
 
 import com.cursorpos.admin.dto.CreateCustomerRequest;
+import com.cursorpos.admin.dto.CustomerLookupResponse;
 import com.cursorpos.admin.dto.CustomerResponse;
 import com.cursorpos.admin.entity.Customer;
 import com.cursorpos.admin.mapper.AdminMapper;
+import com.cursorpos.admin.repository.CustomerLookupRepository;
 import com.cursorpos.admin.repository.CustomerRepository;
-import com.cursorpos.admin.repository.LoyaltyTierRepository;
 import com.cursorpos.shared.dto.PagedResponse;
 import com.cursorpos.shared.exception.ResourceNotFoundException;
 import com.cursorpos.shared.security.TenantContext;
@@ -16,8 +17,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Service for managing customers.
@@ -33,9 +39,14 @@ import java.util.Objects;
 public class CustomerService {
 
     private static final String CUSTOMER_NOT_FOUND_MSG = "Customer not found with ID: ";
+    private static final int MIN_LOOKUP_QUERY_LENGTH = 2;
+    private static final int MAX_LOOKUP_LIMIT = 50;
 
     private final CustomerRepository customerRepository;
-    private final LoyaltyTierRepository loyaltyTierRepository;
+    private final CustomerLookupRepository customerLookupRepository;
+    private final CustomerLookupKeys customerLookupKeys;
+    private final CustomerLookupCache customerLookupCache;
+    private final LoyaltyProgramCache loyaltyProgramCache;
     private final AdminMapper adminMapper;
 
     @Transactional
@@ -50,10 +61,13 @@ public class CustomerService {
 
         Customer customer = adminMapper.toCustomer(request);
         customer.setTenantId(tenantId);
+        customerLookupKeys.apply(customer);
 
         // Assign default (lowest) loyalty tier
-        loyaltyTierRepository.findTierForPoints(tenantId, 0)
-                .ifPresent(tier -> customer.setLoyaltyTierId(tier.getId()));
+        UUID tierId = loyaltyProgramCache.get(tenantId).tierForPoints(0);
+        if (tierId != null) {
+            customer.setLoyaltyTierId(tierId);
+        }
 
         Customer saved = customerRepository.save(customer);
 
@@ -73,11 +87,37 @@ public class CustomerService {
     @Transactional(readOnly = true)
     public CustomerResponse getCustomerByCode(String code) {
         String tenantId = TenantContext.getTenantId();
-        Customer customer = customerRepository.findByTenantIdAndCodeAndDeletedAtIsNull(tenantId, code)
+        Customer customer = findByLookupKey(tenantId, "code:" + code, code, Customer::getCode,
+                () -> customerRepository.findByTenantIdAndCodeAndDeletedAtIsNull(tenantId, code))
                 .orElseThrow(() -> new ResourceNotFoundException("Customer not found with code: " + code));
         return adminMapper.toCustomerResponse(customer);
     }
 
+    /**
+     * Prefix search across code, phone and email for the till's customer
+     * picker. Phone prefixes are matched in E.164 form, so "0812" and
+     * "+62 812" find the same customers.
+     *
+     * @param query what the cashier typed
+     * @param limit maximum number of matches
+     * @return matches ordered by code
+     */
+    @Transactional(readOnly = true)
+    public List<CustomerLookupResponse> lookupCustomers(String query, int limit) {
+        String tenantId = TenantContext.getTenantId();
+        String trimmed = query == null ? "" : query.strip();
+        if (trimmed.length() < MIN_LOOKUP_QUERY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Lookup query must be at least " + MIN_LOOKUP_QUERY_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_LOOKUP_LIMIT) {
+            throw new IllegalArgumentException("Lookup limit must be between 1 and " + MAX_LOOKUP_LIMIT);
+        }
+        String lowercased = trimmed.toLowerCase(Locale.ROOT);
+        return customerLookupRepository.findByPrefix(tenantId, lowercased,
+                customerLookupKeys.phonePrefix(trimmed), lowercased, limit);
+    }
+
     @Transactional(readOnly = true)
     public PagedResponse<CustomerResponse> getAllCustomers(Pageable pageable) {
         String tenantId = TenantContext.getTenantId();
@@ -105,7 +145,9 @@ public class CustomerService {
 
         adminMapper.updateCustomerFromRequest(request, customer);
         Objects.requireNonNull(customer, "customer");
+        customerLookupKeys.apply(customer);
         Customer updated = customerRepository.save(customer);
+        customerLookupCache.evict(tenantId, id);
 
         log.info("Customer updated successfully with ID: {}", updated.getId());
         return adminMapper.toCustomerResponse(updated);
@@ -122,6 +164,7 @@ public class CustomerService {
 
         customer.softDelete();
         customerRepository.save(customer);
+        customerLookupCache.evict(tenantId, id);
 
         log.info("Customer soft-deleted successfully with ID: {}", id);
     }
@@ -151,7 +194,10 @@ public class CustomerService {
     @Transactional(readOnly = true)
     public CustomerResponse getCustomerByEmail(String email) {
         String tenantId = TenantContext.getTenantId();
-        Customer customer = customerRepository.findByTenantIdAndEmailAndDeletedAtIsNull(tenantId, email)
+        String key = customerLookupKeys.email(email);
+        Customer customer = Optional.ofNullable(key)
+                .flatMap(k -> findByLookupKey(tenantId, "email:" + k, k, Customer::getEmailNormalized,
+                        () -> customerRepository.findFirstByTenantIdAndEmailNormalizedAndDeletedAtIsNull(tenantId, k)))
                 .orElseThrow(() -> new ResourceNotFoundException("Customer not found with email: " + email));
         return adminMapper.toCustomerResponse(customer);
     }
@@ -159,11 +205,35 @@ public class CustomerService {
     @Transactional(readOnly = true)
     public CustomerResponse getCustomerByPhone(String phone) {
         String tenantId = TenantContext.getTenantId();
-        Customer customer = customerRepository.findByTenantIdAndPhoneAndDeletedAtIsNull(tenantId, phone)
+        String key = customerLookupKeys.phone(phone);
+        Customer customer = Optional.ofNullable(key)
+                .flatMap(k -> findByLookupKey(tenantId, "phone:" + k, k, Customer::getPhoneNormalized,
+                        () -> customerRepository.findFirstByTenantIdAndPhoneNormalizedAndDeletedAtIsNull(tenantId, k)))
                 .orElseThrow(() -> new ResourceNotFoundException("Customer not found with phone: " + phone));
         return adminMapper.toCustomerResponse(customer);
     }
 
+    /*
+     * Serves repeat lookups of the same customer by primary key. A cached ID
+     * is only trusted if the customer still has the key; otherwise the entry
+     * is dropped and the indexed query runs.
+     */
+    private Optional<Customer> findByLookupKey(String tenantId, String cacheKey, String key,
+            Function<Customer, String> keyOf, Supplier<Optional<Customer>> query) {
+        UUID cachedId = customerLookupCache.get(tenantId, cacheKey);
+        if (cachedId != null) {
+            Optional<Customer> cached = customerRepository.findByIdAndTenantIdAndDeletedAtIsNull(cachedId, tenantId)
+                    .filter(customer -> key.equals(keyOf.apply(customer)));
+            if (cached.isPresent()) {
+                return cached;
+            }
+            customerLookupCache.evict(tenantId, cachedId);
+        }
+        Optional<Customer> found = query.get();
+        found.ifPresent(customer -> customerLookupCache.put(tenantId, cacheKey, customer.getId()));
+        return found;
+    }
+
     @Transactional
     public CustomerResponse addLoyaltyPoints(UUID id, Integer points) {
         String tenantId = TenantContext.getTenantId();
@@ -183,8 +253,10 @@ public class CustomerService {
         customer.setLifetimePoints(newLifetimePoints);
 
         // Check if customer should be upgraded to a new tier
-        loyaltyTierRepository.findTierForPoints(tenantId, newTotalPoints)
-                .ifPresent(tier -> customer.setLoyaltyTierId(tier.getId()));
+        UUID tierId = loyaltyProgramCache.get(tenantId).tierForPoints(newTotalPoints);
+        if (tierId != null) {
+            customer.setLoyaltyTierId(tierId);
+        }
 
         Customer updated = customerRepository.save(customer);
         log.info("Loyalty points updated to {} for customer with ID: {}", newTotalPoints, id);
@@ -0,0 +1,212 @@
+package com.cursorpos.admin.service;
+
+import com.cursorpos.admin.entity.LoyaltyTransaction;
+import com.cursorpos.admin.event.SaleCompletedMessage;
+import com.cursorpos.admin.repository.LoyaltyAccrualRepository;
+import com.cursorpos.admin.repository.LoyaltyAccrualRepository.Balance;
+import com.cursorpos.admin.repository.LoyaltyAccrualRepository.LedgerEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Awards loyalty points for completed sales in micro-batches.
+ * 
+ * <p>
+ * Points per sale follow {@link LoyaltyService#calculatePointsForPurchase}
+ * (amount x tenant earn rate x tier multiplier, truncated), using the cached
+ * {@link LoyaltyProgram}. Completed returns deduct points the same way. All
+ * events of one customer in a batch are coalesced into a single balance update
+ * and a single EARN or REFUND ledger row.
+ * </p>
+ * 
+ * <p>
+ * The points each event moved are recorded under its event ID. A cancellation
+ * reverses exactly the points recorded for the event it names, and removes
+ * the record, so it is applied at most once even if the cancellation itself
+ * is published again under another ID.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LoyaltyAccrualService {
+
+    static final String CONSUMER = "loyalty-accrual";
+    static final String REFERENCE_TYPE = "TRANSACTION";
+    static final String CREATED_BY = "system";
+
+    private final LoyaltyAccrualRepository loyaltyAccrualRepository;
+    private final LoyaltyProgramCache loyaltyProgramCache;
+
+    /**
+     * Applies a batch of sale, return and cancellation events.
+     * 
+     * @param messages the events, in any order
+     * @return number of customers whose balance changed
+     */
+    @Transactional
+    public int accrue(List<SaleCompletedMessage> messages) {
+        Objects.requireNonNull(messages, "messages");
+        List<String> eventIds = messages.stream()
+                .map(SaleCompletedMessage::getEventId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Set<String> fresh = new HashSet<>(loyaltyAccrualRepository.claimEvents(CONSUMER, eventIds));
+
+        Map<String, List<SaleCompletedMessage>> byTenant = new LinkedHashMap<>();
+        for (SaleCompletedMessage message : messages) {
+            // remove() also drops duplicates within the batch
+            if (fresh.remove(message.getEventId()) && message.getTenantId() != null
+                    && (message.isAccruable() || message.isReturn() || message.isCancellation())) {
+                byTenant.computeIfAbsent(message.getTenantId(), k -> new ArrayList<>()).add(message);
+            }
+        }
+
+        int credited = 0;
+        for (Map.Entry<String, List<SaleCompletedMessage>> entry : byTenant.entrySet()) {
+            credited += accrueForTenant(entry.getKey(), entry.getValue());
+        }
+        return credited;
+    }
+
+    private int accrueForTenant(String tenantId, List<SaleCompletedMessage> events) {
+        LoyaltyProgram program = loyaltyProgramCache.get(tenantId);
+        List<SaleCompletedMessage> cancellations = events.stream()
+                .filter(SaleCompletedMessage::isCancellation)
+                .toList();
+        if (!program.isEnabled() && cancellations.isEmpty()) {
+            log.debug("Loyalty disabled for tenant {}, skipping {} sales", tenantId, events.size());
+            return 0;
+        }
+
+        Set<UUID> customerIds = new HashSet<>();
+        events.stream()
+                .map(SaleCompletedMessage::getCustomerId)
+                .filter(Objects::nonNull)
+                .forEach(customerIds::add);
+        Map<UUID, UUID> currentTiers = loyaltyAccrualRepository.findTierIds(tenantId, customerIds);
+
+        Map<UUID, Accrual> accruals = new LinkedHashMap<>();
+        if (program.isEnabled()) {
+            List<LoyaltyAccrualRepository.Accrual> recorded = new ArrayList<>();
+            for (SaleCompletedMessage sale : events) {
+                if (sale.isCancellation()) {
+                    continue;
+                }
+                UUID customerId = sale.getCustomerId();
+                if (!currentTiers.containsKey(customerId)) {
+                    log.warn("Skipping loyalty accrual for unknown customer {} (tenant {}, transaction {})",
+                            customerId, tenantId, sale.getTransactionNumber());
+                    continue;
+                }
+                int points = program.pointsForPurchase(sale.getTotalAmount(), currentTiers.get(customerId));
+                if (points > 0) {
+                    int signed = sale.isReturn() ? -points : points;
+                    accruals.computeIfAbsent(customerId, k -> new Accrual()).add(signed, sale);
+                    recorded.add(new LoyaltyAccrualRepository.Accrual(sale.getEventId(), tenantId, customerId,
+                            signed));
+                }
+            }
+            loyaltyAccrualRepository.recordAccruals(recorded);
+        }
+        if (!cancellations.isEmpty()) {
+            // Recorded above first, so a sale cancelled within the same batch is reversed too
+            Map<String, SaleCompletedMessage> byOriginal = new HashMap<>();
+            cancellations.forEach(cancellation -> byOriginal.put(cancellation.getOriginalEventId(), cancellation));
+            for (LoyaltyAccrualRepository.Accrual reversed : loyaltyAccrualRepository.takeAccruals(tenantId,
+                    byOriginal.keySet())) {
+                accruals.computeIfAbsent(reversed.customerId(), k -> new Accrual())
+                        .add(-reversed.points(), byOriginal.get(reversed.eventId()));
+            }
+        }
+
+        Map<UUID, Integer> credits = new LinkedHashMap<>();
+        Map<UUID, Integer> debits = new LinkedHashMap<>();
+        accruals.forEach((customerId, accrual) -> {
+            if (accrual.points > 0) {
+                credits.put(customerId, accrual.points);
+            } else if (accrual.points < 0) {
+                debits.put(customerId, -accrual.points);
+            }
+        });
+        if (credits.isEmpty() && debits.isEmpty()) {
+            return 0;
+        }
+        List<Balance> balances = new ArrayList<>(loyaltyAccrualRepository.addPoints(tenantId, credits));
+        balances.addAll(loyaltyAccrualRepository.deductPoints(tenantId, debits));
+
+        Map<UUID, UUID> tierChanges = new HashMap<>();
+        List<LedgerEntry> ledger = new ArrayList<>(balances.size());
+        for (Balance balance : balances) {
+            UUID newTier = program.tierForPoints(balance.totalPoints());
+            if (newTier != null && !newTier.equals(currentTiers.get(balance.customerId()))) {
+                tierChanges.put(balance.customerId(), newTier);
+            }
+            Accrual accrual = accruals.get(balance.customerId());
+            ledger.add(new LedgerEntry(tenantId, balance.customerId(), accrual.transactionType(), accrual.points,
+                    balance.availablePoints(), accrual.referenceId(), REFERENCE_TYPE, accrual.description(),
+                    CREATED_BY));
+        }
+        loyaltyAccrualRepository.updateTiers(tenantId, tierChanges);
+        loyaltyAccrualRepository.insertLedger(ledger);
+
+        log.debug("Updated {} customers from {} events for tenant {} ({} tier changes)",
+                balances.size(), events.size(), tenantId, tierChanges.size());
+        return balances.size();
+    }
+
+    /**
+     * Net points of one customer within a batch.
+     */
+    private static final class Accrual {
+
+        private int points;
+        private final List<SaleCompletedMessage> sales = new ArrayList<>(1);
+
+        private void add(int earned, SaleCompletedMessage sale) {
+            points += earned;
+            sales.add(sale);
+        }
+
+        private String transactionType() {
+            return points < 0 ? LoyaltyTransaction.LoyaltyTransactionType.REFUND.name()
+                    : LoyaltyTransaction.LoyaltyTransactionType.EARN.name();
+        }
+
+        private UUID referenceId() {
+            return sales.size() == 1 ? sales.get(0).getTransactionId() : null;
+        }
+
+        private String description() {
+            if (sales.size() > 1) {
+                return (points < 0 ? "Points deducted for " : "Points earned from ") + sales.size()
+                        + " transactions";
+            }
+            SaleCompletedMessage sale = sales.get(0);
+            if (sale.isCancellation()) {
+                return "Points reversed for cancelled transaction " + sale.getTransactionNumber();
+            }
+            if (sale.isReturn()) {
+                return "Points deducted for return " + sale.getTransactionNumber();
+            }
+            return "Points earned from purchase " + sale.getTransactionNumber();
+        }
+    }
+}
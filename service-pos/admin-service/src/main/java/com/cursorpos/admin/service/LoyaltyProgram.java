@@ -0,0 +1,146 @@
+package com.cursorpos.admin.service;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable snapshot of a tenant's loyalty configuration: earn rate and
+ * active tiers ordered by minimum points.
+ * 
+ * <p>
+ * Tier thresholds are kept in a sorted {@code int[]} so resolving the tier
+ * for a point total is a binary search, and multipliers are looked up by tier
+ * ID in a map; neither allocates.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+public final class LoyaltyProgram {
+
+    private final boolean enabled;
+    private final BigDecimal pointsPerCurrency;
+    private final List<Tier> tiers;
+    private final Tier[] sortedTiers;
+    private final int[] minPoints;
+    private final Map<UUID, Tier> tiersById;
+
+    public LoyaltyProgram(boolean enabled, BigDecimal pointsPerCurrency, List<Tier> tiers) {
+        this.enabled = enabled;
+        this.pointsPerCurrency = pointsPerCurrency != null ? pointsPerCurrency : BigDecimal.ONE;
+        this.sortedTiers = tiers.stream()
+                .sorted(Comparator.comparingInt(Tier::minPoints))
+                .toArray(Tier[]::new);
+        this.tiers = List.of(sortedTiers);
+        this.minPoints = Arrays.stream(sortedTiers).mapToInt(Tier::minPoints).toArray();
+        this.tiersById = this.tiers.stream().collect(Collectors.toUnmodifiableMap(Tier::id, Function.identity()));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public BigDecimal getPointsPerCurrency() {
+        return pointsPerCurrency;
+    }
+
+    public List<Tier> getTiers() {
+        return tiers;
+    }
+
+    /**
+     * Tier IDs in ascending order of minimum points, parallel to
+     * {@link #getTierMinPoints()}.
+     */
+    public UUID[] getTierIds() {
+        UUID[] ids = new UUID[sortedTiers.length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = sortedTiers[i].id();
+        }
+        return ids;
+    }
+
+    /**
+     * Minimum points of each tier, ascending.
+     */
+    public int[] getTierMinPoints() {
+        return minPoints.clone();
+    }
+
+    /**
+     * Points earned for a purchase, with the same rounding as
+     * {@link LoyaltyService#calculatePointsForPurchase}.
+     * 
+     * @param purchaseAmount the purchase total
+     * @param tierId         the customer's current tier, may be null
+     * @return points earned
+     */
+    public int pointsForPurchase(BigDecimal purchaseAmount, UUID tierId) {
+        return pointsForPurchase(purchaseAmount, pointsPerCurrency, tierId);
+    }
+
+    /**
+     * Points earned for a purchase at an explicit earn rate.
+     * 
+     * @param purchaseAmount    the purchase total
+     * @param pointsPerCurrency the earn rate
+     * @param tierId            the customer's current tier, may be null
+     * @return points earned
+     */
+    public int pointsForPurchase(BigDecimal purchaseAmount, BigDecimal pointsPerCurrency, UUID tierId) {
+        return purchaseAmount
+                .multiply(pointsPerCurrency)
+                .multiply(multiplierFor(tierId))
+                .intValue();
+    }
+
+    /**
+     * Earn multiplier of a tier.
+     * 
+     * @param tierId the tier ID, may be null
+     * @return the multiplier, or one if the tier is unknown, inactive or has
+     *         none
+     */
+    public BigDecimal multiplierFor(UUID tierId) {
+        Tier tier = tierId != null ? tiersById.get(tierId) : null;
+        return tier != null && tier.pointsMultiplier() != null ? tier.pointsMultiplier() : BigDecimal.ONE;
+    }
+
+    /**
+     * Highest tier whose minimum is at or below the given total.
+     * 
+     * @param totalPoints the customer's total points
+     * @return the tier ID, or null if no tier applies
+     */
+    public UUID tierForPoints(int totalPoints) {
+        // Index of the first tier whose minimum is above the total
+        int low = 0;
+        int high = minPoints.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (minPoints[mid] <= totalPoints) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low > 0 ? sortedTiers[low - 1].id() : null;
+    }
+
+    /**
+     * Tier fields needed for accrual.
+     * 
+     * @param id               tier ID
+     * @param minPoints        minimum total points
+     * @param pointsMultiplier earn multiplier
+     */
+    public record Tier(UUID id, int minPoints, BigDecimal pointsMultiplier) {
+    }
+}
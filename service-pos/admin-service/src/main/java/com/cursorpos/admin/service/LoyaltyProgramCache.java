@@ -0,0 +1,101 @@
+package com.cursorpos.admin.service;
+
+import com.cursorpos.admin.repository.LoyaltyTierRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-tenant cache of {@link LoyaltyProgram} snapshots.
+ * 
+ * <p>
+ * Tier tables change rarely but are needed for every accrual. Entries expire
+ * after a TTL and are invalidated when tiers are changed through
+ * {@link LoyaltyService}.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Slf4j
+@Component
+public class LoyaltyProgramCache {
+
+    private final LoyaltyTierRepository loyaltyTierRepository;
+    private final TenantDescriptorCache tenantDescriptorCache;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LoyaltyProgramCache(LoyaltyTierRepository loyaltyTierRepository,
+            TenantDescriptorCache tenantDescriptorCache, @Value("${loyalty.program-cache-ttl:5m}") Duration ttl) {
+        this(loyaltyTierRepository, tenantDescriptorCache, ttl, System::nanoTime);
+    }
+
+    LoyaltyProgramCache(LoyaltyTierRepository loyaltyTierRepository, TenantDescriptorCache tenantDescriptorCache,
+            Duration ttl, LongSupplier nanoClock) {
+        this.loyaltyTierRepository = loyaltyTierRepository;
+        this.tenantDescriptorCache = tenantDescriptorCache;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns the tenant's loyalty program, loading it on a miss.
+     * 
+     * @param tenantId the tenant ID
+     * @return the cached snapshot
+     */
+    public LoyaltyProgram get(String tenantId) {
+        long now = nanoClock.getAsLong();
+        Entry entry = entries.get(tenantId);
+        if (entry != null && now - entry.expiresAt() < 0) {
+            return entry.program();
+        }
+        LoyaltyProgram program = load(tenantId);
+        entries.put(tenantId, new Entry(program, now + ttlNanos));
+        return program;
+    }
+
+    /**
+     * Drops the cached program so the next access reloads it. Inside a
+     * transaction it is dropped again after commit, so a reload that raced
+     * with the write does not keep the old tiers.
+     * 
+     * @param tenantId the tenant ID
+     */
+    public void invalidate(String tenantId) {
+        entries.remove(tenantId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.remove(tenantId);
+                }
+            });
+        }
+    }
+
+    private LoyaltyProgram load(String tenantId) {
+        TenantDescriptor tenant = tenantDescriptorCache.get(tenantId).orElse(null);
+        boolean enabled = tenant == null || tenant.loyaltyEnabled();
+        var tiers = loyaltyTierRepository.findByTenantIdAndIsActiveAndDeletedAtIsNull(tenantId, true).stream()
+                .map(tier -> new LoyaltyProgram.Tier(tier.getId(), tier.getMinPoints(), tier.getPointsMultiplier()))
+                .toList();
+        log.debug("Loaded loyalty program for tenant {}: {} tiers, enabled: {}", tenantId, tiers.size(), enabled);
+        return new LoyaltyProgram(enabled, tenant != null ? tenant.loyaltyPointsPerCurrency() : null, tiers);
+    }
+
+    private record Entry(LoyaltyProgram program, long expiresAt) {
+    }
+}
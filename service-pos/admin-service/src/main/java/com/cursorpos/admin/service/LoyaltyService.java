@@ -9,6 +9,7 @@ import com.cursorpos.admin.entity.LoyaltyTier;
 import com.cursorpos.admin.entity.LoyaltyTransaction;
 import com.cursorpos.admin.mapper.AdminMapper;
 import com.cursorpos.admin.repository.CustomerRepository;
+import com.cursorpos.admin.repository.LoyaltyBalanceRepository;
 import com.cursorpos.admin.repository.LoyaltyTierRepository;
 import com.cursorpos.admin.repository.LoyaltyTransactionRepository;
 import com.cursorpos.shared.dto.PagedResponse;
@@ -46,6 +47,8 @@ public class LoyaltyService {
     private final LoyaltyTransactionRepository loyaltyTransactionRepository;
     private final CustomerRepository customerRepository;
     private final AdminMapper adminMapper;
+    private final LoyaltyProgramCache loyaltyProgramCache;
+    private final LoyaltyBalanceRepository loyaltyBalanceRepository;
 
     // ========== Loyalty Tier Management ==========
 
@@ -62,6 +65,7 @@ public class LoyaltyService {
         LoyaltyTier tier = adminMapper.toLoyaltyTier(request);
         tier.setTenantId(tenantId);
         LoyaltyTier saved = loyaltyTierRepository.save(tier);
+        loyaltyProgramCache.invalidate(tenantId);
 
         log.info("Loyalty tier created successfully with ID: {}", saved.getId());
         return adminMapper.toLoyaltyTierResponse(saved);
@@ -113,6 +117,7 @@ public class LoyaltyService {
         adminMapper.updateLoyaltyTierFromRequest(request, tier);
         @SuppressWarnings("null") // JPA save() never returns null
         LoyaltyTier updated = loyaltyTierRepository.save(tier);
+        loyaltyProgramCache.invalidate(tenantId);
 
         log.info("Loyalty tier updated successfully with ID: {}", updated.getId());
         return adminMapper.toLoyaltyTierResponse(updated);
@@ -129,6 +134,7 @@ public class LoyaltyService {
 
         tier.softDelete();
         loyaltyTierRepository.save(tier);
+        loyaltyProgramCache.invalidate(tenantId);
 
         log.info("Loyalty tier soft-deleted successfully with ID: {}", id);
     }
@@ -142,36 +148,21 @@ public class LoyaltyService {
         log.info("Creating loyalty transaction for customer: {} type: {}",
                 request.getCustomerId(), request.getTransactionType());
 
-        // Validate customer exists
-        Customer customer = customerRepository.findByIdAndTenantIdAndDeletedAtIsNull(request.getCustomerId(), tenantId)
-                .orElseThrow(() -> new ResourceNotFoundException(CUSTOMER_NOT_FOUND_MSG + request.getCustomerId()));
+        // Balance and tier change in one conditional update; concurrent changes
+        // to the same customer queue on the row lock instead of overwriting
+        // each other
+        LoyaltyProgram program = loyaltyProgramCache.get(tenantId);
+        LoyaltyBalanceRepository.Balance balance = loyaltyBalanceRepository
+                .applyPointsChange(tenantId, request.getCustomerId(), request.getPointsChange(),
+                        program.getTierIds(), program.getTierMinPoints())
+                .orElseThrow(() -> rejectedPointsChange(tenantId, request));
 
-        // Calculate new balance
-        int currentPoints = customer.getAvailablePoints() != null ? customer.getAvailablePoints() : 0;
-        int newBalance = currentPoints + request.getPointsChange();
-
-        if (newBalance < 0) {
-            throw new IllegalArgumentException("Insufficient points. Current: " + currentPoints +
-                    ", Requested: " + request.getPointsChange());
-        }
-
-        // Create transaction
+        // Ledger row carries the balance the update returned
         LoyaltyTransaction transaction = adminMapper.toLoyaltyTransaction(request);
         transaction.setTenantId(tenantId);
-        transaction.setBalanceAfter(newBalance);
+        transaction.setBalanceAfter(balance.availablePoints());
         LoyaltyTransaction saved = loyaltyTransactionRepository.save(transaction);
 
-        // Update customer points
-        customer.setAvailablePoints(newBalance);
-        customer.setTotalPoints(customer.getTotalPoints() + Math.max(0, request.getPointsChange()));
-        if (request.getPointsChange() > 0) {
-            customer.setLifetimePoints(customer.getLifetimePoints() + request.getPointsChange());
-        }
-
-        // Update customer tier based on total points
-        updateCustomerTier(customer);
-        customerRepository.save(customer);
-
         log.info("Loyalty transaction created successfully with ID: {}", saved.getId());
         return adminMapper.toLoyaltyTransactionResponse(saved);
     }
@@ -206,18 +197,21 @@ public class LoyaltyService {
     // ========== Helper Methods ==========
 
     /**
-     * Update customer's loyalty tier based on their total points.
+     * Explains why a points change matched no customer row.
      */
-    private void updateCustomerTier(Customer customer) {
-        String tenantId = customer.getTenantId();
-        Integer totalPoints = customer.getTotalPoints();
-
-        loyaltyTierRepository.findTierForPoints(tenantId, totalPoints)
-                .ifPresent(tier -> customer.setLoyaltyTierId(tier.getId()));
+    private RuntimeException rejectedPointsChange(String tenantId, LoyaltyTransactionRequest request) {
+        Integer currentPoints = loyaltyBalanceRepository.findAvailablePoints(tenantId, request.getCustomerId())
+                .orElse(null);
+        if (currentPoints == null) {
+            return new ResourceNotFoundException(CUSTOMER_NOT_FOUND_MSG + request.getCustomerId());
+        }
+        return new IllegalArgumentException("Insufficient points. Current: " + currentPoints +
+                ", Requested: " + request.getPointsChange());
     }
 
     /**
-     * Calculate points to earn from a purchase amount.
+     * Calculate points to earn from a purchase amount. The tier multiplier
+     * comes from the tenant's cached tiers.
      */
     @Transactional(readOnly = true)
     public int calculatePointsForPurchase(UUID customerId, java.math.BigDecimal purchaseAmount,
@@ -227,18 +221,7 @@ public class LoyaltyService {
         Customer customer = customerRepository.findByIdAndTenantIdAndDeletedAtIsNull(customerId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException(CUSTOMER_NOT_FOUND_MSG + customerId));
 
-        java.math.BigDecimal multiplier = java.math.BigDecimal.ONE;
-        if (customer.getLoyaltyTierId() != null) {
-            LoyaltyTier tier = loyaltyTierRepository.findByIdAndTenantIdAndDeletedAtIsNull(
-                    customer.getLoyaltyTierId(), tenantId).orElse(null);
-            if (tier != null && tier.getPointsMultiplier() != null) {
-                multiplier = tier.getPointsMultiplier();
-            }
-        }
-
-        return purchaseAmount
-                .multiply(loyaltyPointsPerCurrency)
-                .multiply(multiplier)
-                .intValue();
+        return loyaltyProgramCache.get(tenantId)
+                .pointsForPurchase(purchaseAmount, loyaltyPointsPerCurrency, customer.getLoyaltyTierId());
     }
 }
@@ -0,0 +1,104 @@
+package com.cursorpos.admin.service;
+
+import com.cursorpos.admin.dto.RateLimitProfileResponse;
+import com.cursorpos.admin.entity.Tenant;
+import com.cursorpos.admin.repository.TenantRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Service resolving per-tenant API rate limit profiles from subscription plan
+ * features.
+ * 
+ * <p>
+ * Consumed by the API gateway, which caches all profiles and refreshes them in
+ * the background. Tenants whose plan has no {@code rate_limits} feature are
+ * omitted and get the gateway's route defaults.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitProfileService {
+
+    private static final EnumSet<Tenant.SubscriptionStatus> LIMITED_STATUSES = EnumSet.of(
+            Tenant.SubscriptionStatus.ACTIVE, Tenant.SubscriptionStatus.TRIAL);
+
+    private final TenantRepository tenantRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public List<RateLimitProfileResponse> getActiveProfiles() {
+        List<TenantRepository.TenantPlanView> tenantPlans = tenantRepository.findActiveTenantPlans(
+                LIMITED_STATUSES, Instant.now());
+
+        // A handful of plans are shared by many tenants, so parse each once
+        Map<String, Optional<RateLimitProfileResponse>> planLimits = new HashMap<>();
+        List<RateLimitProfileResponse> profiles = new ArrayList<>(tenantPlans.size());
+
+        for (TenantRepository.TenantPlanView tenantPlan : tenantPlans) {
+            planLimits.computeIfAbsent(tenantPlan.getPlanCode(),
+                    code -> parseRateLimits(code, tenantPlan.getFeatures()))
+                    .ifPresent(limits -> profiles.add(RateLimitProfileResponse.builder()
+                            .tenantId(tenantPlan.getTenantId())
+                            .planCode(tenantPlan.getPlanCode())
+                            .read(limits.getRead())
+                            .write(limits.getWrite())
+                            .build()));
+        }
+
+        log.debug("Resolved {} rate limit profiles", profiles.size());
+        return profiles;
+    }
+
+    private Optional<RateLimitProfileResponse> parseRateLimits(String planCode, String features) {
+        if (features == null || features.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            JsonNode rateLimits = objectMapper.readTree(features).path("rate_limits");
+            RateLimitProfileResponse.LimitTier read = parseTier(rateLimits.path("read"));
+            RateLimitProfileResponse.LimitTier write = parseTier(rateLimits.path("write"));
+            if (read == null && write == null) {
+                return Optional.empty();
+            }
+            return Optional.of(RateLimitProfileResponse.builder()
+                    .planCode(planCode)
+                    .read(read != null ? read : write)
+                    .write(write != null ? write : read)
+                    .build());
+        } catch (JsonProcessingException e) {
+            log.warn("Invalid features JSON for plan {}: {}", planCode, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private RateLimitProfileResponse.LimitTier parseTier(JsonNode tier) {
+        int replenishRate = tier.path("replenish_rate").asInt(0);
+        if (replenishRate <= 0) {
+            return null;
+        }
+        int burstCapacity = Math.max(tier.path("burst_capacity").asInt(replenishRate), replenishRate);
+        return RateLimitProfileResponse.LimitTier.builder()
+                .replenishRate(replenishRate)
+                .burstCapacity(burstCapacity)
+                .build();
+    }
+}
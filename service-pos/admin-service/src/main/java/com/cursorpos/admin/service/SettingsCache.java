@@ -0,0 +1,119 @@
+package com.cursorpos.admin.service;
+
+import com.cursorpos.admin.repository.SettingsRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-tenant cache of {@link SettingsSnapshot}s.
+ *
+ * <p>
+ * A tenant's settings are loaded in one query and decoded once. Writes
+ * through {@link SettingsService} replace the snapshot after their
+ * transaction commits and publish {@code settings.changed}, on which every
+ * node reloads the tenant; the TTL only bounds staleness if an event is
+ * missed.
+ * </p>
+ *
+ * <p>
+ * Loads are numbered as they start, and a finished load only replaces an
+ * entry from an earlier load. A miss that read the database before a write
+ * committed cannot overwrite the snapshot reloaded after the write.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Slf4j
+@Component
+public class SettingsCache {
+
+    private final SettingsRepository settingsRepository;
+    private final ObjectMapper objectMapper;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong loads = new AtomicLong();
+
+    @Autowired
+    public SettingsCache(SettingsRepository settingsRepository, ObjectMapper objectMapper,
+            @Value("${settings.cache-ttl:1m}") Duration ttl) {
+        this(settingsRepository, objectMapper, ttl, System::nanoTime);
+    }
+
+    SettingsCache(SettingsRepository settingsRepository, ObjectMapper objectMapper, Duration ttl,
+            LongSupplier nanoClock) {
+        this.settingsRepository = settingsRepository;
+        this.objectMapper = objectMapper;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns the tenant's settings, loading them on a miss.
+     *
+     * @param tenantId the tenant ID
+     * @return the cached snapshot
+     */
+    public SettingsSnapshot get(String tenantId) {
+        long now = nanoClock.getAsLong();
+        Entry entry = entries.get(tenantId);
+        if (entry != null && now - entry.expiresAt() < 0) {
+            return entry.snapshot();
+        }
+        return refresh(tenantId);
+    }
+
+    /**
+     * Reloads the tenant's snapshot once the current transaction commits, or
+     * immediately if there is none. A rolled-back write leaves the cache
+     * untouched.
+     *
+     * @param tenantId the tenant ID
+     */
+    public void refreshAfterCommit(String tenantId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(tenantId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh(tenantId);
+            }
+        });
+    }
+
+    /**
+     * Reloads the tenant's snapshot now, e.g. when another node changed it.
+     *
+     * @param tenantId the tenant ID
+     * @return the newest snapshot of the tenant
+     */
+    public SettingsSnapshot refresh(String tenantId) {
+        long load = loads.incrementAndGet();
+        SettingsSnapshot snapshot = SettingsSnapshot.of(
+                settingsRepository.findByTenantIdAndDeletedAtIsNull(tenantId), objectMapper);
+        Entry loaded = new Entry(snapshot, load, nanoClock.getAsLong() + ttlNanos);
+        Entry current = entries.compute(tenantId,
+                (key, existing) -> existing != null && existing.load() > load ? existing : loaded);
+        log.debug("Loaded {} settings for tenant {}, version {}", snapshot.getAll().size(), tenantId,
+                snapshot.getVersion());
+        return current.snapshot();
+    }
+
+    private record Entry(SettingsSnapshot snapshot, long load, long expiresAt) {
+    }
+}
@@ -2,11 +2,15 @@ package com.cursorpos.admin.service;
 
 import com.cursorpos.admin.dto.SettingsRequest;
 import com.cursorpos.admin.dto.SettingsResponse;
+import com.cursorpos.admin.dto.SettingsSnapshotResponse;
 import com.cursorpos.admin.entity.Settings;
+import com.cursorpos.admin.event.SettingsChangedEvent;
 import com.cursorpos.admin.mapper.AdminMapper;
 import com.cursorpos.admin.repository.SettingsRepository;
 import com.cursorpos.shared.dto.PagedResponse;
+import com.cursorpos.shared.event.EventTopics;
 import com.cursorpos.shared.exception.ResourceNotFoundException;
+import com.cursorpos.shared.outbox.OutboxEventPublisher;
 import com.cursorpos.shared.security.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +26,12 @@ import java.util.Objects;
 /**
  * Service for managing settings.
  * 
+ * <p>
+ * Reads are served from the tenant's {@link SettingsSnapshot} in
+ * {@link SettingsCache}; writes replace the snapshot after commit and publish
+ * {@code settings.changed} so the other nodes reload theirs.
+ * </p>
+ * 
  * @author rjnat
  * @version 1.0.0
  * @since 2025-11-13
@@ -33,6 +43,8 @@ public class SettingsService {
 
     private final SettingsRepository settingsRepository;
     private final AdminMapper adminMapper;
+    private final SettingsCache settingsCache;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     @Transactional
     public SettingsResponse createOrUpdateSetting(SettingsRequest request) {
@@ -54,27 +66,35 @@ public class SettingsService {
         }
 
         Settings saved = settingsRepository.save(settings);
+        settingsChanged(tenantId);
         log.info("Setting saved successfully with ID: {}", saved.getId());
         return adminMapper.toSettingsResponse(saved);
     }
 
-    @Transactional(readOnly = true)
     public SettingsResponse getSettingByKey(String settingKey) {
-        String tenantId = TenantContext.getTenantId();
-        Settings settings = settingsRepository.findByTenantIdAndSettingKeyAndDeletedAtIsNull(tenantId, settingKey)
+        return settingsCache.get(TenantContext.getTenantId()).get(settingKey)
+                .map(adminMapper::toSettingsResponse)
                 .orElseThrow(() -> new ResourceNotFoundException("Setting not found with key: " + settingKey));
-        return adminMapper.toSettingsResponse(settings);
     }
 
-    @Transactional(readOnly = true)
     public List<SettingsResponse> getSettingsByCategory(String category) {
-        String tenantId = TenantContext.getTenantId();
-        List<Settings> settings = settingsRepository.findByTenantIdAndCategoryAndDeletedAtIsNull(tenantId, category);
-        return settings.stream()
+        return settingsCache.get(TenantContext.getTenantId()).getCategory(category).stream()
                 .map(adminMapper::toSettingsResponse)
                 .toList();
     }
 
+    /**
+     * All of the tenant's settings with their version, for clients that cache
+     * settings locally.
+     */
+    public SettingsSnapshotResponse getSettingsSnapshot() {
+        SettingsSnapshot snapshot = settingsCache.get(TenantContext.getTenantId());
+        return SettingsSnapshotResponse.builder()
+                .version(snapshot.getVersion())
+                .settings(snapshot.getAll().stream().map(adminMapper::toSettingsResponse).toList())
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public PagedResponse<SettingsResponse> getAllSettings(Pageable pageable) {
         String tenantId = TenantContext.getTenantId();
@@ -100,7 +120,14 @@ public class SettingsService {
 
         settings.softDelete();
         settingsRepository.save(settings);
+        settingsChanged(tenantId);
 
         log.info("Setting soft-deleted successfully with ID: {}", id);
     }
+
+    private void settingsChanged(String tenantId) {
+        settingsCache.refreshAfterCommit(tenantId);
+        outboxEventPublisher.publish(EventTopics.SETTINGS_CHANGED, "Settings", tenantId,
+                SettingsChangedEvent.of(tenantId, TenantContext.getUserId()));
+    }
 }
@@ -0,0 +1,157 @@
+package com.cursorpos.admin.service;
+
+import com.cursorpos.admin.entity.Settings;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of a tenant's settings, with values decoded once by
+ * {@code valueType}.
+ *
+ * <p>
+ * The version is a digest of the settings' content, so every node computes
+ * the same version for the same data and clients can use it as an ETag.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+public final class SettingsSnapshot {
+
+    private final String version;
+    private final Map<String, Setting> byKey;
+    private final Map<String, List<Setting>> byCategory;
+
+    private SettingsSnapshot(String version, Map<String, Setting> byKey, Map<String, List<Setting>> byCategory) {
+        this.version = version;
+        this.byKey = byKey;
+        this.byCategory = byCategory;
+    }
+
+    /**
+     * Builds a snapshot from a tenant's active settings.
+     *
+     * @param settings     the settings rows
+     * @param objectMapper used to decode JSON and ARRAY values
+     * @return the snapshot
+     */
+    public static SettingsSnapshot of(List<Settings> settings, ObjectMapper objectMapper) {
+        Map<String, Setting> byKey = new TreeMap<>();
+        for (Settings row : settings) {
+            byKey.put(row.getSettingKey(), Setting.of(row, objectMapper));
+        }
+        Map<String, List<Setting>> byCategory = new LinkedHashMap<>();
+        for (Setting setting : byKey.values()) {
+            byCategory.computeIfAbsent(setting.category(), c -> new ArrayList<>()).add(setting);
+        }
+        byCategory.replaceAll((category, list) -> List.copyOf(list));
+        return new SettingsSnapshot(digest(byKey.values()), Collections.unmodifiableMap(byKey),
+                Collections.unmodifiableMap(byCategory));
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * All settings, ordered by key.
+     */
+    public Collection<Setting> getAll() {
+        return byKey.values();
+    }
+
+    public Optional<Setting> get(String key) {
+        return Optional.ofNullable(byKey.get(key));
+    }
+
+    public List<Setting> getCategory(String category) {
+        return byCategory.getOrDefault(category, List.of());
+    }
+
+    private static String digest(Collection<Setting> settings) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            for (Setting setting : settings) {
+                update(md, setting.key());
+                update(md, setting.category());
+                update(md, setting.valueType());
+                update(md, setting.rawValue());
+                update(md, setting.description());
+                update(md, setting.system() + ":" + setting.encrypted());
+            }
+            return HexFormat.of().formatHex(md.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void update(MessageDigest md, String value) {
+        if (value != null) {
+            md.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        // Separator so ("ab", "c") and ("a", "bc") differ; null differs from ""
+        md.update(value != null ? (byte) 0 : (byte) 1);
+    }
+
+    /**
+     * One decoded setting.
+     *
+     * @param value the value decoded by {@code valueType}: {@link BigDecimal}
+     *              for NUMBER, {@link Boolean} for BOOLEAN, {@link JsonNode}
+     *              for JSON and ARRAY, otherwise the raw string. Null if the
+     *              raw value is null, encrypted or cannot be decoded.
+     */
+    public record Setting(UUID id, String category, String key, String rawValue, String valueType, Object value,
+            String description, boolean system, boolean encrypted, Instant createdAt, Instant updatedAt) {
+
+        static Setting of(Settings row, ObjectMapper objectMapper) {
+            boolean encrypted = Boolean.TRUE.equals(row.getIsEncrypted());
+            return new Setting(row.getId(), row.getCategory(), row.getSettingKey(), row.getSettingValue(),
+                    row.getValueType(), encrypted ? null : decode(row.getValueType(), row.getSettingValue(),
+                            objectMapper),
+                    row.getDescription(), Boolean.TRUE.equals(row.getIsSystem()), encrypted, row.getCreatedAt(),
+                    row.getUpdatedAt());
+        }
+
+        private static Object decode(String valueType, String raw, ObjectMapper objectMapper) {
+            if (raw == null || valueType == null) {
+                return raw;
+            }
+            try {
+                return switch (valueType) {
+                    case "NUMBER" -> new BigDecimal(raw.trim());
+                    case "BOOLEAN" -> decodeBoolean(raw.trim());
+                    case "JSON", "ARRAY" -> objectMapper.readTree(raw);
+                    default -> raw;
+                };
+            } catch (NumberFormatException | JsonProcessingException e) {
+                return null;
+            }
+        }
+
+        private static Boolean decodeBoolean(String raw) {
+            if ("true".equalsIgnoreCase(raw)) {
+                return Boolean.TRUE;
+            }
+            return "false".equalsIgnoreCase(raw) ? Boolean.FALSE : null;
+        }
+    }
+}
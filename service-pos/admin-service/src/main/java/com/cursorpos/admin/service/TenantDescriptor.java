@@ -0,0 +1,52 @@
+package com.cursorpos.admin.service;
+
+import com.cursorpos.admin.entity.Tenant;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Compact, immutable view of the tenant-level settings other components need
+ * on hot paths: localization, subscription state and loyalty configuration.
+ *
+ * @param tenantId                 tenant ID
+ * @param code                     tenant code
+ * @param name                     display name
+ * @param active                   whether the tenant is active
+ * @param subscriptionStatus       subscription status
+ * @param subscriptionEndDate      end of the subscription, null if open-ended
+ * @param timezone                 IANA time zone
+ * @param currency                 ISO 4217 currency code
+ * @param locale                   locale tag
+ * @param loyaltyEnabled           whether loyalty points are earned
+ * @param loyaltyPointsPerCurrency base earn rate
+ * @param version                  row version, incremented on every change
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+public record TenantDescriptor(String tenantId, String code, String name, boolean active,
+        Tenant.SubscriptionStatus subscriptionStatus, Instant subscriptionEndDate, String timezone,
+        String currency, String locale, boolean loyaltyEnabled, BigDecimal loyaltyPointsPerCurrency,
+        long version) {
+
+    public static TenantDescriptor of(Tenant tenant) {
+        return new TenantDescriptor(tenant.getTenantId(), tenant.getCode(), tenant.getName(),
+                Boolean.TRUE.equals(tenant.getIsActive()), tenant.getSubscriptionStatus(),
+                tenant.getSubscriptionEndDate(), tenant.getTimezone(), tenant.getCurrency(), tenant.getLocale(),
+                !Boolean.FALSE.equals(tenant.getLoyaltyEnabled()), tenant.getLoyaltyPointsPerCurrency(),
+                tenant.getVersion() != null ? tenant.getVersion() : 0L);
+    }
+
+    /**
+     * Same rule as {@link Tenant#hasActiveSubscription()}.
+     *
+     * @param now the current time
+     * @return whether the subscription is active at {@code now}
+     */
+    public boolean hasActiveSubscription(Instant now) {
+        boolean isValidStatus = subscriptionStatus == Tenant.SubscriptionStatus.ACTIVE
+                || subscriptionStatus == Tenant.SubscriptionStatus.TRIAL;
+        return isValidStatus && (subscriptionEndDate == null || !now.isAfter(subscriptionEndDate));
+    }
+}
@@ -0,0 +1,195 @@
+package com.cursorpos.admin.service;
+
+import com.cursorpos.admin.entity.Tenant;
+import com.cursorpos.admin.repository.TenantRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongSupplier;
+
+/**
+ * Read-through, refresh-ahead cache of {@link TenantDescriptor}s.
+ *
+ * <p>
+ * A miss or an expired entry is loaded on the calling thread. An entry read
+ * within {@code refresh-ahead} of its expiry is still returned and a reload
+ * is queued in the background, so tenants in active use never wait for the
+ * database. Unknown tenants are cached as absent for the same TTL. All active
+ * tenants are loaded in one query at startup, with their refresh times spread
+ * out so they don't all reload together.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Slf4j
+@Component
+public class TenantDescriptorCache {
+
+    private final TenantRepository tenantRepository;
+    private final long ttlNanos;
+    private final long refreshAheadNanos;
+    private final LongSupplier nanoClock;
+    private final Executor refreshExecutor;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public TenantDescriptorCache(TenantRepository tenantRepository,
+            @Value("${tenants.descriptor-cache.ttl:10m}") Duration ttl,
+            @Value("${tenants.descriptor-cache.refresh-ahead:2m}") Duration refreshAhead) {
+        this(tenantRepository, ttl, refreshAhead, System::nanoTime, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "tenant-descriptor-refresh");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    TenantDescriptorCache(TenantRepository tenantRepository, Duration ttl, Duration refreshAhead,
+            LongSupplier nanoClock, Executor refreshExecutor) {
+        if (refreshAhead.compareTo(ttl) >= 0) {
+            throw new IllegalArgumentException("Tenant descriptor refresh-ahead must be shorter than the TTL");
+        }
+        this.tenantRepository = tenantRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.refreshAheadNanos = refreshAhead.toNanos();
+        this.nanoClock = nanoClock;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Returns the tenant's descriptor, loading it on a miss.
+     *
+     * @param tenantId the tenant ID
+     * @return the descriptor, or empty if the tenant does not exist or is
+     *         deleted
+     */
+    public Optional<TenantDescriptor> get(String tenantId) {
+        long now = nanoClock.getAsLong();
+        Entry entry = entries.get(tenantId);
+        if (entry == null || now - entry.expiresAt() >= 0) {
+            return load(tenantId);
+        }
+        if (now - entry.refreshAt() >= 0) {
+            refreshInBackground(tenantId);
+        }
+        return entry.descriptor();
+    }
+
+    /**
+     * Reloads the tenant's descriptor once the current transaction commits, or
+     * immediately if there is none.
+     *
+     * @param tenantId the tenant ID
+     */
+    public void refreshAfterCommit(String tenantId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            load(tenantId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                load(tenantId);
+            }
+        });
+    }
+
+    /**
+     * Loads every active tenant in one query.
+     *
+     * @return the number of descriptors loaded
+     */
+    public int warmUp() {
+        List<Tenant> tenants = tenantRepository.findByIsActiveTrueAndDeletedAtIsNull();
+        long now = nanoClock.getAsLong();
+        long firstRefresh = (ttlNanos - refreshAheadNanos) / 2;
+        long spread = ttlNanos - refreshAheadNanos - firstRefresh;
+        for (int i = 0; i < tenants.size(); i++) {
+            TenantDescriptor descriptor = TenantDescriptor.of(tenants.get(i));
+            // Spread refreshes over the second half of the refresh interval
+            long refreshAt = now + firstRefresh + spread * i / tenants.size();
+            install(descriptor.tenantId(), new Entry(Optional.of(descriptor), refreshAt, now + ttlNanos));
+        }
+        return tenants.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void warmUpOnStartup() {
+        try {
+            log.info("Warmed up {} tenant descriptors", warmUp());
+        } catch (RuntimeException e) {
+            // Reads fall back to loading on demand
+            log.warn("Tenant descriptor warm-up failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void refreshInBackground(String tenantId) {
+        if (!refreshing.add(tenantId)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(tenantId);
+                } catch (RuntimeException e) {
+                    // The current entry stays until it expires; the next read retries
+                    log.warn("Refreshing tenant descriptor {} failed: {}", tenantId, e.getMessage());
+                } finally {
+                    refreshing.remove(tenantId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(tenantId);
+        }
+    }
+
+    private Optional<TenantDescriptor> load(String tenantId) {
+        Optional<TenantDescriptor> descriptor = tenantRepository.findFirstByTenantIdAndDeletedAtIsNull(tenantId)
+                .map(TenantDescriptor::of);
+        long now = nanoClock.getAsLong();
+        return install(tenantId, new Entry(descriptor, now + ttlNanos - refreshAheadNanos, now + ttlNanos))
+                .descriptor();
+    }
+
+    /**
+     * Installs a loaded entry unless the cached one holds a newer row
+     * version, so a load that read the tenant before a concurrent update
+     * committed cannot replace the reload that followed the update.
+     */
+    private Entry install(String tenantId, Entry loaded) {
+        return entries.compute(tenantId, (key, existing) -> existing != null
+                && existing.descriptor().isPresent() && loaded.descriptor().isPresent()
+                && existing.descriptor().get().version() > loaded.descriptor().get().version()
+                        ? existing
+                        : loaded);
+    }
+
+    private record Entry(Optional<TenantDescriptor> descriptor, long refreshAt, long expiresAt) {
+    }
+}
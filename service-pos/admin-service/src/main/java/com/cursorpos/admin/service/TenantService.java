@@ -34,6 +34,7 @@ public class TenantService {
 
     private final TenantRepository tenantRepository;
     private final AdminMapper adminMapper;
+    private final TenantDescriptorCache tenantDescriptorCache;
 
     @Transactional
     public TenantResponse createTenant(CreateTenantRequest request) {
@@ -52,6 +53,7 @@ public class TenantService {
         tenant.setTenantId(tenant.getCode());
         Objects.requireNonNull(tenant, ENTITY_NAME);
         Tenant saved = tenantRepository.save(tenant);
+        tenantDescriptorCache.refreshAfterCommit(saved.getTenantId());
 
         log.info("Tenant created successfully with ID: {}", saved.getId());
         return adminMapper.toTenantResponse(saved);
@@ -72,6 +74,18 @@ public class TenantService {
         return adminMapper.toTenantResponse(tenant);
     }
 
+    /**
+     * Returns the cached descriptor of a tenant.
+     * 
+     * @param tenantId the tenant ID
+     * @return the descriptor
+     * @throws ResourceNotFoundException if the tenant does not exist
+     */
+    public TenantDescriptor getTenantDescriptor(String tenantId) {
+        return tenantDescriptorCache.get(tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Tenant not found with tenant ID: " + tenantId));
+    }
+
     @Transactional(readOnly = true)
     public PagedResponse<TenantResponse> getAllTenants(Pageable pageable) {
         Page<Tenant> page = tenantRepository.findByDeletedAtIsNull(pageable);
@@ -90,6 +104,7 @@ public class TenantService {
         adminMapper.updateTenantFromRequest(request, tenant);
         Objects.requireNonNull(tenant, ENTITY_NAME);
         Tenant updated = tenantRepository.save(tenant);
+        tenantDescriptorCache.refreshAfterCommit(tenant.getTenantId());
 
         log.info("Tenant updated successfully with ID: {}", updated.getId());
         return adminMapper.toTenantResponse(updated);
@@ -106,6 +121,7 @@ public class TenantService {
         tenant.softDelete();
         Objects.requireNonNull(tenant, ENTITY_NAME);
         tenantRepository.save(tenant);
+        tenantDescriptorCache.refreshAfterCommit(tenant.getTenantId());
 
         log.info("Tenant soft-deleted successfully with ID: {}", id);
     }
@@ -119,6 +135,7 @@ public class TenantService {
         tenant.setIsActive(true);
         Objects.requireNonNull(tenant, ENTITY_NAME);
         Tenant updated = tenantRepository.save(tenant);
+        tenantDescriptorCache.refreshAfterCommit(tenant.getTenantId());
         return adminMapper.toTenantResponse(updated);
     }
 
@@ -131,6 +148,7 @@ public class TenantService {
         tenant.setIsActive(false);
         Objects.requireNonNull(tenant, ENTITY_NAME);
         Tenant updated = tenantRepository.save(tenant);
+        tenantDescriptorCache.refreshAfterCommit(tenant.getTenantId());
         return adminMapper.toTenantResponse(updated);
     }
 }
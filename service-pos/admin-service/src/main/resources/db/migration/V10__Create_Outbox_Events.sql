@@ -0,0 +1,30 @@
+-- ============================================================================
+-- V10: Transactional outbox
+-- ============================================================================
+-- Domain events written in the same transaction as the business change and
+-- relayed to Kafka in the background (see shared OutboxRelay). The relay
+-- claims a batch until claimed_until, publishes it without a transaction open
+-- and deletes or releases the events afterwards.
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    tenant_id VARCHAR(100),
+    aggregate_type VARCHAR(100) NOT NULL,
+    aggregate_key VARCHAR(255) NOT NULL,
+    topic VARCHAR(255) NOT NULL,
+    event_id VARCHAR(36) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    claimed_until TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Relay reads pending events in id order; published rows are deleted
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending ON outbox_events (id) WHERE status = 'PENDING';
+
+-- Claims skip keys with a live claim; only in-flight events are indexed
+CREATE INDEX IF NOT EXISTS idx_outbox_events_claimed ON outbox_events (aggregate_key)
+    WHERE claimed_until IS NOT NULL;
@@ -0,0 +1,27 @@
+-- ============================================================================
+-- V11: Byte-order customer lookup indexes
+-- ============================================================================
+-- The V7 text_pattern_ops indexes serve the prefix LIKE but not the
+-- ORDER BY ... LIMIT of each lookup branch, which sorts with the database
+-- collation, so a common prefix read every match and sorted it. Indexing the
+-- keys with COLLATE "C" serves both: LIKE prefixes are byte ranges under "C",
+-- and CustomerLookupRepository orders by the same collated expressions.
+
+DROP INDEX IF EXISTS idx_customers_lookup_code;
+DROP INDEX IF EXISTS idx_customers_lookup_phone;
+DROP INDEX IF EXISTS idx_customers_lookup_email;
+
+CREATE INDEX idx_customers_lookup_code
+    ON customers (tenant_id, (lower(code) COLLATE "C"))
+    INCLUDE (id, code, first_name, last_name, phone, email, is_active)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX idx_customers_lookup_phone
+    ON customers (tenant_id, (phone_normalized COLLATE "C"))
+    INCLUDE (id, code, first_name, last_name, phone, email, is_active)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX idx_customers_lookup_email
+    ON customers (tenant_id, (email_normalized COLLATE "C"))
+    INCLUDE (id, code, first_name, last_name, phone, email, is_active)
+    WHERE deleted_at IS NULL;
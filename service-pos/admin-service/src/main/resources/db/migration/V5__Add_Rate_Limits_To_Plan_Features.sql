@@ -0,0 +1,26 @@
+-- ============================================================================
+-- V5: Add API Rate Limit Tiers to Subscription Plan Features
+-- ============================================================================
+-- The API gateway resolves per-tenant limits from features.rate_limits.
+-- "read" applies to GET/HEAD requests, "write" to mutating requests
+-- (checkout, stock changes). Values are requests per second / burst size.
+
+UPDATE subscription_plans
+SET features = COALESCE(features, '{}'::jsonb)
+    || '{"rate_limits": {"read": {"replenish_rate": 10, "burst_capacity": 20}, "write": {"replenish_rate": 5, "burst_capacity": 10}}}'::jsonb
+WHERE code = 'FREE' AND jsonb_typeof(COALESCE(features, '{}'::jsonb)) = 'object';
+
+UPDATE subscription_plans
+SET features = COALESCE(features, '{}'::jsonb)
+    || '{"rate_limits": {"read": {"replenish_rate": 20, "burst_capacity": 40}, "write": {"replenish_rate": 10, "burst_capacity": 20}}}'::jsonb
+WHERE code = 'BASIC' AND jsonb_typeof(COALESCE(features, '{}'::jsonb)) = 'object';
+
+UPDATE subscription_plans
+SET features = COALESCE(features, '{}'::jsonb)
+    || '{"rate_limits": {"read": {"replenish_rate": 50, "burst_capacity": 100}, "write": {"replenish_rate": 25, "burst_capacity": 50}}}'::jsonb
+WHERE code = 'PREMIUM' AND jsonb_typeof(COALESCE(features, '{}'::jsonb)) = 'object';
+
+UPDATE subscription_plans
+SET features = COALESCE(features, '{}'::jsonb)
+    || '{"rate_limits": {"read": {"replenish_rate": 200, "burst_capacity": 400}, "write": {"replenish_rate": 100, "burst_capacity": 200}}}'::jsonb
+WHERE code = 'ENTERPRISE' AND jsonb_typeof(COALESCE(features, '{}'::jsonb)) = 'object';
@@ -0,0 +1,14 @@
+-- ============================================================================
+-- V6: Processed events for Kafka consumers
+-- ============================================================================
+-- Event IDs already applied by a consumer (e.g. loyalty accrual), so
+-- redelivered events after a restart or a failed batch are skipped.
+
+CREATE TABLE IF NOT EXISTS processed_events (
+    event_id VARCHAR(36) NOT NULL,
+    consumer VARCHAR(100) NOT NULL,
+    processed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_processed_events PRIMARY KEY (consumer, event_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_processed_events_processed_at ON processed_events(processed_at);
@@ -0,0 +1,52 @@
+-- ============================================================================
+-- V7: Normalized customer lookup keys
+-- ============================================================================
+-- Cashiers type phone numbers and emails in whatever format the customer
+-- gives them. phone_normalized holds the E.164 form (+<country><number>) and
+-- email_normalized the trimmed, lowercased address, both maintained by the
+-- service on every save. The backfill below mirrors CustomerLookupKeys;
+-- ${default_country_code} is customers.lookup.default-country-code.
+
+ALTER TABLE customers
+    ADD COLUMN IF NOT EXISTS phone_normalized VARCHAR(20),
+    ADD COLUMN IF NOT EXISTS email_normalized VARCHAR(255);
+
+UPDATE customers
+SET email_normalized = NULLIF(lower(btrim(email)), '')
+WHERE email IS NOT NULL;
+
+UPDATE customers c
+SET phone_normalized = '+' || k.digits
+FROM (
+    SELECT id,
+           CASE
+               WHEN btrim(phone) LIKE '+%' THEN digits
+               WHEN digits LIKE '00%' THEN substr(digits, 3)
+               WHEN digits LIKE '0%' THEN '${default_country_code}' || substr(digits, 2)
+               ELSE '${default_country_code}' || digits
+           END AS digits
+    FROM (
+        SELECT id, phone, regexp_replace(phone, '[^0-9]', '', 'g') AS digits
+        FROM customers
+        WHERE phone IS NOT NULL
+    ) p
+) k
+WHERE c.id = k.id
+  AND length(k.digits) BETWEEN 7 AND 15;
+
+-- Prefix search at the till: one index per identifier, each covering the
+-- columns of a lookup result so matches are answered from the index.
+CREATE INDEX IF NOT EXISTS idx_customers_lookup_code
+    ON customers (tenant_id, lower(code) text_pattern_ops)
+    INCLUDE (id, code, first_name, last_name, phone, email, is_active)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_customers_lookup_phone
+    ON customers (tenant_id, phone_normalized text_pattern_ops)
+    INCLUDE (id, code, first_name, last_name, phone, email, is_active)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_customers_lookup_email
+    ON customers (tenant_id, email_normalized text_pattern_ops)
+    INCLUDE (id, code, first_name, last_name, phone, email, is_active)
+    WHERE deleted_at IS NULL;
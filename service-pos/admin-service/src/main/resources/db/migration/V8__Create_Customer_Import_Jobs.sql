@@ -0,0 +1,25 @@
+-- ============================================================================
+-- V8: Customer import jobs
+-- ============================================================================
+-- Progress of bulk customer imports. Rows are updated after every chunk so
+-- any node can answer status polls while the owning node works through the
+-- file. errors keeps the first rejected rows for the operator.
+
+CREATE TABLE IF NOT EXISTS customer_import_jobs (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    tenant_id VARCHAR(36) NOT NULL,
+    format VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    rows_read INTEGER NOT NULL DEFAULT 0,
+    imported INTEGER NOT NULL DEFAULT 0,
+    duplicates INTEGER NOT NULL DEFAULT 0,
+    failed INTEGER NOT NULL DEFAULT 0,
+    errors JSONB NOT NULL DEFAULT '[]'::jsonb,
+    message TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(36),
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_customer_import_jobs_tenant ON customer_import_jobs(tenant_id, created_at DESC);
@@ -0,0 +1,19 @@
+-- ============================================================================
+-- V9: Loyalty accruals per event
+-- ============================================================================
+-- Points each transaction.created event moved (positive for sales, negative
+-- for returns), keyed by the event ID. A TransactionCancelled event names the
+-- original event, and its row is deleted as the points are reversed, so a
+-- cancellation is undone at most once and by exactly the points it earned.
+-- Events applied before this table existed have no row and are not reversed.
+
+CREATE TABLE IF NOT EXISTS loyalty_accruals (
+    event_id VARCHAR(36) NOT NULL,
+    tenant_id VARCHAR(36) NOT NULL,
+    customer_id UUID NOT NULL,
+    points INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_loyalty_accruals PRIMARY KEY (event_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_loyalty_accruals_created_at ON loyalty_accruals(created_at);
@@ -0,0 +1,114 @@
+package com.cursorpos.admin.controller;
+
+import com.cursorpos.admin.dto.CustomerImportJobResponse;
+import com.cursorpos.admin.dto.CustomerImportJobResponse.Status;
+import com.cursorpos.admin.service.CustomerBulkService;
+import com.cursorpos.admin.service.CustomerFileFormat;
+import com.cursorpos.shared.exception.GlobalExceptionHandler;
+import com.cursorpos.shared.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller unit tests for CustomerBulkController.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomerBulkController Tests")
+@SuppressWarnings({ "PMD.AvoidDuplicateLiterals", "null" })
+class CustomerBulkControllerTest {
+
+    private static final UUID JOB_ID = UUID.randomUUID();
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private CustomerBulkService customerBulkService;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new CustomerBulkController(customerBulkService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should accept CSV import and point to the job")
+    void shouldAcceptCsvImport() throws Exception {
+        when(customerBulkService.startImport(any(), eq(CustomerFileFormat.CSV))).thenReturn(
+                CustomerImportJobResponse.builder().id(JOB_ID).status(Status.QUEUED).build());
+
+        mockMvc.perform(post("/customers/import")
+                .contentType("text/csv")
+                .content("code,first_name\nCUST-001,Jane\n"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/customers/import-jobs/" + JOB_ID))
+                .andExpect(jsonPath("$.data.status").value("QUEUED"));
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported content types")
+    void shouldRejectUnsupportedContentType() throws Exception {
+        mockMvc.perform(post("/customers/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(customerBulkService);
+    }
+
+    @Test
+    @DisplayName("Should return 404 for unknown job")
+    void shouldReturnNotFoundForUnknownJob() throws Exception {
+        when(customerBulkService.getImportJob(JOB_ID))
+                .thenThrow(new ResourceNotFoundException("Customer import job not found with ID: " + JOB_ID));
+
+        mockMvc.perform(get("/customers/import-jobs/{jobId}", JOB_ID))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should stream export as NDJSON attachment")
+    void shouldStreamExport() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"code\":\"CUST-001\"}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(customerBulkService).exportCustomers(eq(CustomerFileFormat.NDJSON), any());
+
+        mockMvc.perform(get("/customers/export").param("format", "ndjson"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"customers.ndjson\""))
+                .andExpect(content().string("{\"code\":\"CUST-001\"}\n"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for unknown export format")
+    void shouldRejectUnknownExportFormat() throws Exception {
+        mockMvc.perform(get("/customers/export").param("format", "xlsx"))
+                .andExpect(status().isBadRequest());
+    }
+}
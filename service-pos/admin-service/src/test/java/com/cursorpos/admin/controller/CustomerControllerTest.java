@@ -1,6 +1,7 @@
 package com.cursorpos.admin.controller;
 
 import com.cursorpos.admin.dto.CreateCustomerRequest;
+import com.cursorpos.admin.dto.CustomerLookupResponse;
 import com.cursorpos.admin.dto.CustomerResponse;
 import com.cursorpos.admin.service.CustomerService;
 import com.cursorpos.shared.dto.PagedResponse;
@@ -182,6 +183,38 @@ class CustomerControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /customers/lookup")
+    class LookupCustomersTests {
+
+        @Test
+        @DisplayName("Should return matches with default limit")
+        void shouldReturnMatchesWithDefaultLimit() throws Exception {
+            when(customerService.lookupCustomers("555", 10)).thenReturn(List.of(CustomerLookupResponse.builder()
+                    .id(customerId)
+                    .code(CUSTOMER_CODE)
+                    .firstName("John")
+                    .phone(CUSTOMER_PHONE)
+                    .build()));
+
+            mockMvc.perform(get("/customers/lookup").param("q", "555"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath(JSON_SUCCESS).value(true))
+                    .andExpect(jsonPath("$.data[0].code").value(CUSTOMER_CODE))
+                    .andExpect(jsonPath("$.data[0].phone").value(CUSTOMER_PHONE));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when query is too short")
+        void shouldReturn400WhenQueryTooShort() throws Exception {
+            when(customerService.lookupCustomers("5", 10))
+                    .thenThrow(new IllegalArgumentException("Lookup query must be at least 2 characters"));
+
+            mockMvc.perform(get("/customers/lookup").param("q", "5"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("GET /customers/phone/{phone}")
     class GetCustomerByPhoneTests {
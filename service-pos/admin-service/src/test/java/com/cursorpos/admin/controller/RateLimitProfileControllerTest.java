@@ -0,0 +1,99 @@
+package com.cursorpos.admin.controller;
+
+import com.cursorpos.admin.dto.RateLimitProfileResponse;
+import com.cursorpos.admin.service.RateLimitProfileService;
+import com.cursorpos.shared.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller unit tests for RateLimitProfileController.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimitProfileController Tests")
+@SuppressWarnings({ "PMD.AvoidDuplicateLiterals", "null" })
+class RateLimitProfileControllerTest {
+
+    private static final String BASE_URL = "/internal/rate-limit-profiles";
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private RateLimitProfileService rateLimitProfileService;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new RateLimitProfileController(rateLimitProfileService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        RateLimitProfileResponse profile = RateLimitProfileResponse.builder()
+                .tenantId("tenant-coffee-001")
+                .planCode("PREMIUM")
+                .read(new RateLimitProfileResponse.LimitTier(50, 100))
+                .write(new RateLimitProfileResponse.LimitTier(25, 50))
+                .build();
+        when(rateLimitProfileService.getActiveProfiles()).thenReturn(List.of(profile));
+    }
+
+    @Test
+    @DisplayName("Should return profiles with ETag")
+    void shouldReturnProfilesWithEtag() throws Exception {
+        mockMvc.perform(get(BASE_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data[0].tenantId").value("tenant-coffee-001"))
+                .andExpect(jsonPath("$.data[0].read.replenishRate").value(50))
+                .andExpect(jsonPath("$.data[0].write.burstCapacity").value(50));
+    }
+
+    @Test
+    @DisplayName("Should return 304 when ETag matches")
+    void shouldReturnNotModifiedWhenEtagMatches() throws Exception {
+        MvcResult first = mockMvc.perform(get(BASE_URL)).andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(BASE_URL).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Should return new ETag when a limit changes")
+    void shouldReturnNewEtagWhenLimitChanges() throws Exception {
+        MvcResult first = mockMvc.perform(get(BASE_URL)).andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        RateLimitProfileResponse changed = RateLimitProfileResponse.builder()
+                .tenantId("tenant-coffee-001")
+                .planCode("PREMIUM")
+                .read(new RateLimitProfileResponse.LimitTier(50, 100))
+                .write(new RateLimitProfileResponse.LimitTier(25, 60))
+                .build();
+        when(rateLimitProfileService.getActiveProfiles()).thenReturn(List.of(changed));
+
+        mockMvc.perform(get(BASE_URL).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.data[0].write.burstCapacity").value(60));
+    }
+}
@@ -2,6 +2,7 @@ package com.cursorpos.admin.controller;
 
 import com.cursorpos.admin.dto.SettingsRequest;
 import com.cursorpos.admin.dto.SettingsResponse;
+import com.cursorpos.admin.dto.SettingsSnapshotResponse;
 import com.cursorpos.admin.service.SettingsService;
 import com.cursorpos.shared.dto.PagedResponse;
 import com.cursorpos.shared.exception.GlobalExceptionHandler;
@@ -162,6 +163,35 @@ class SettingsControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /settings/snapshot")
+    class GetSettingsSnapshotTests {
+
+        @Test
+        @DisplayName("Should return snapshot with version as ETag")
+        void shouldReturnSnapshotWithEtag() throws Exception {
+            when(settingsService.getSettingsSnapshot())
+                    .thenReturn(new SettingsSnapshotResponse("abc123", List.of(response)));
+
+            mockMvc.perform(get("/settings/snapshot"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"abc123\""))
+                    .andExpect(jsonPath("$.data.version").value("abc123"))
+                    .andExpect(jsonPath("$.data.settings[0].settingKey").value("store.tax.rate"));
+        }
+
+        @Test
+        @DisplayName("Should return 304 when version matches If-None-Match")
+        void shouldReturnNotModifiedWhenVersionMatches() throws Exception {
+            when(settingsService.getSettingsSnapshot())
+                    .thenReturn(new SettingsSnapshotResponse("abc123", List.of(response)));
+
+            mockMvc.perform(get("/settings/snapshot").header("If-None-Match", "\"abc123\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
+    }
+
     @Nested
     @DisplayName("GET /settings")
     class GetAllSettingsTests {
@@ -0,0 +1,86 @@
+package com.cursorpos.admin.controller;
+
+import com.cursorpos.admin.entity.Tenant;
+import com.cursorpos.admin.service.TenantDescriptor;
+import com.cursorpos.admin.service.TenantService;
+import com.cursorpos.shared.exception.GlobalExceptionHandler;
+import com.cursorpos.shared.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller unit tests for TenantDescriptorController.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TenantDescriptorController Tests")
+@SuppressWarnings({ "PMD.AvoidDuplicateLiterals", "null" })
+class TenantDescriptorControllerTest {
+
+    private static final String BASE_URL = "/internal/tenant-descriptors/";
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private TenantService tenantService;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new TenantDescriptorController(tenantService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    private static TenantDescriptor descriptor() {
+        return new TenantDescriptor("tenant-coffee-001", "tenant-coffee-001", "Coffee Shop", true,
+                Tenant.SubscriptionStatus.ACTIVE, null, "Asia/Jakarta", "IDR", "id_ID", true, BigDecimal.ONE, 7);
+    }
+
+    @Test
+    @DisplayName("Should return descriptor with version as ETag")
+    void shouldReturnDescriptorWithEtag() throws Exception {
+        when(tenantService.getTenantDescriptor("tenant-coffee-001")).thenReturn(descriptor());
+
+        mockMvc.perform(get(BASE_URL + "tenant-coffee-001"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"7\""))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.currency").value("IDR"))
+                .andExpect(jsonPath("$.data.subscriptionStatus").value("ACTIVE"));
+    }
+
+    @Test
+    @DisplayName("Should return 304 when ETag matches")
+    void shouldReturnNotModifiedWhenEtagMatches() throws Exception {
+        when(tenantService.getTenantDescriptor("tenant-coffee-001")).thenReturn(descriptor());
+
+        mockMvc.perform(get(BASE_URL + "tenant-coffee-001").header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Should return 404 when tenant not found")
+    void shouldReturnNotFoundWhenTenantMissing() throws Exception {
+        when(tenantService.getTenantDescriptor("missing"))
+                .thenThrow(new ResourceNotFoundException("Tenant not found with tenant ID: missing"));
+
+        mockMvc.perform(get(BASE_URL + "missing"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,266 @@
+package com.cursorpos.admin.service;
+
+import com.cursorpos.admin.dto.CustomerImportJobResponse;
+import com.cursorpos.admin.dto.CustomerImportJobResponse.RowError;
+import com.cursorpos.admin.dto.CustomerImportJobResponse.Status;
+import com.cursorpos.admin.repository.CustomerBulkRepository;
+import com.cursorpos.admin.repository.CustomerBulkRepository.ExportRow;
+import com.cursorpos.admin.repository.CustomerBulkRepository.NewCustomer;
+import com.cursorpos.admin.repository.CustomerImportJobRepository;
+import com.cursorpos.admin.repository.CustomerImportJobRepository.Progress;
+import com.cursorpos.shared.exception.CursorPosException;
+import com.cursorpos.shared.exception.ResourceNotFoundException;
+import com.cursorpos.shared.security.TenantContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CustomerBulkService.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({ "PMD.AvoidDuplicateLiterals", "null", "unchecked" })
+class CustomerBulkServiceTest {
+
+    private static final String TENANT_ID = "tenant-test-001";
+    private static final String USER_ID = "user-001";
+    private static final UUID JOB_ID = UUID.randomUUID();
+
+    @Mock
+    private CustomerBulkRepository customerBulkRepository;
+
+    @Mock
+    private CustomerImportJobRepository customerImportJobRepository;
+
+    @Mock
+    private LoyaltyProgramCache loyaltyProgramCache;
+
+    @TempDir
+    private Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<Runnable> queued = new ArrayList<>();
+    private final UUID bronzeTierId = UUID.randomUUID();
+
+    private MockedStatic<TenantContext> tenantContextMock;
+    private CustomerBulkService service;
+
+    @BeforeEach
+    void setUp() {
+        tenantContextMock = mockStatic(TenantContext.class);
+        tenantContextMock.when(TenantContext::getTenantId).thenReturn(TENANT_ID);
+        tenantContextMock.when(TenantContext::getUserId).thenReturn(USER_ID);
+        service = newService(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tenantContextMock.close();
+    }
+
+    private CustomerBulkService newService(int chunkSize) {
+        return new CustomerBulkService(customerBulkRepository, customerImportJobRepository,
+                new CustomerLookupKeys("1"), loyaltyProgramCache,
+                Validation.buildDefaultValidatorFactory().getValidator(), objectMapper, chunkSize, 100, 64, 3,
+                queued::add);
+    }
+
+    private Path file(String content) throws IOException {
+        return Files.writeString(tempDir.resolve("import.csv"), content);
+    }
+
+    private void givenBronzeProgram() {
+        when(loyaltyProgramCache.get(TENANT_ID)).thenReturn(new LoyaltyProgram(true, BigDecimal.ONE,
+                List.of(new LoyaltyProgram.Tier(bronzeTierId, 0, BigDecimal.ONE))));
+    }
+
+    @Nested
+    @DisplayName("runImport tests")
+    class RunImportTests {
+
+        @Test
+        @DisplayName("Should validate, deduplicate and insert per chunk")
+        void shouldImportInChunks() throws IOException {
+            givenBronzeProgram();
+            Path file = file("""
+                    code,first_name,email,phone
+                    CUST-001,Jane,Jane@Example.com,(555) 1001
+                    CUST-002,,,
+                    CUST-003,John,,
+                    CUST-001,Again,,
+                    CUST-004,Existing,,
+                    """);
+            when(customerBulkRepository.findExistingCodes(eq(TENANT_ID), anyCollection()))
+                    .thenAnswer(invocation -> ((Collection<String>) invocation.getArgument(1)).contains("CUST-004")
+                            ? Set.of("CUST-004")
+                            : Set.of());
+            when(customerBulkRepository.insert(eq(TENANT_ID), anyList(), eq(bronzeTierId), eq(USER_ID)))
+                    .thenAnswer(invocation -> ((List<NewCustomer>) invocation.getArgument(1)).stream()
+                            .map(NewCustomer::code)
+                            .collect(Collectors.toSet()));
+
+            service.runImport(JOB_ID, TENANT_ID, USER_ID, CustomerFileFormat.CSV, file);
+
+            ArgumentCaptor<List<NewCustomer>> inserted = ArgumentCaptor.forClass(List.class);
+            verify(customerBulkRepository, times(3)).insert(eq(TENANT_ID), inserted.capture(), eq(bronzeTierId),
+                    eq(USER_ID));
+            NewCustomer jane = inserted.getAllValues().get(0).get(0);
+            assertThat(jane.emailNormalized()).isEqualTo("jane@example.com");
+            assertThat(jane.phoneNormalized()).isEqualTo("+15551001");
+            assertThat(inserted.getAllValues().get(1)).extracting(NewCustomer::code).containsExactly("CUST-003");
+            assertThat(inserted.getAllValues().get(2)).isEmpty();
+
+            ArgumentCaptor<Progress> progress = ArgumentCaptor.forClass(Progress.class);
+            ArgumentCaptor<List<RowError>> errors = ArgumentCaptor.forClass(List.class);
+            verify(customerImportJobRepository, times(3)).recordProgress(eq(JOB_ID), progress.capture(),
+                    errors.capture());
+            assertThat(progress.getValue()).isEqualTo(new Progress(5, 2, 2, 1));
+            assertThat(errors.getAllValues().get(0)).singleElement()
+                    .satisfies(error -> {
+                        assertThat(error.row()).isEqualTo(2);
+                        assertThat(error.code()).isEqualTo("CUST-002");
+                        assertThat(error.message()).isEqualTo("First name is required");
+                    });
+            verify(customerImportJobRepository).markRunning(JOB_ID);
+            verify(customerImportJobRepository).finish(JOB_ID, Status.COMPLETED, null);
+            assertThat(file).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("Should count codes taken during the import as duplicates")
+        void shouldCountConcurrentInsertsAsDuplicates() throws IOException {
+            givenBronzeProgram();
+            Path file = file("code,first_name\nCUST-001,Jane\nCUST-002,John\n");
+            when(customerBulkRepository.findExistingCodes(eq(TENANT_ID), anyCollection())).thenReturn(Set.of());
+            when(customerBulkRepository.insert(eq(TENANT_ID), anyList(), eq(bronzeTierId), eq(USER_ID)))
+                    .thenReturn(Set.of("CUST-001"));
+
+            service.runImport(JOB_ID, TENANT_ID, USER_ID, CustomerFileFormat.CSV, file);
+
+            verify(customerImportJobRepository).recordProgress(eq(JOB_ID), eq(new Progress(2, 1, 1, 0)), anyList());
+        }
+
+        @Test
+        @DisplayName("Should fail the job on an unusable header and delete the file")
+        void shouldFailJobOnBadHeader() throws IOException {
+            givenBronzeProgram();
+            Path file = file("name\nJane\n");
+
+            service.runImport(JOB_ID, TENANT_ID, USER_ID, CustomerFileFormat.CSV, file);
+
+            verify(customerImportJobRepository).finish(eq(JOB_ID), eq(Status.FAILED), contains("code"));
+            verifyNoInteractions(customerBulkRepository);
+            assertThat(file).doesNotExist();
+        }
+    }
+
+    @Nested
+    @DisplayName("startImport tests")
+    class StartImportTests {
+
+        @Test
+        @DisplayName("Should queue the import and return the job")
+        void shouldQueueImport() {
+            CustomerImportJobResponse job = CustomerImportJobResponse.builder()
+                    .id(JOB_ID)
+                    .status(Status.QUEUED)
+                    .build();
+            when(customerImportJobRepository.create(TENANT_ID, "NDJSON", USER_ID)).thenReturn(JOB_ID);
+            when(customerImportJobRepository.find(TENANT_ID, JOB_ID)).thenReturn(Optional.of(job));
+
+            CustomerImportJobResponse result = service.startImport(
+                    new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)), CustomerFileFormat.NDJSON);
+
+            assertThat(result.getStatus()).isEqualTo(Status.QUEUED);
+            assertThat(queued).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should reject a file over the size limit before creating a job")
+        void shouldRejectOversizedFile() {
+            byte[] body = ("{\"code\":\"" + "C".repeat(64) + "\"}").getBytes(StandardCharsets.UTF_8);
+
+            assertThatThrownBy(() -> service.startImport(new ByteArrayInputStream(body), CustomerFileFormat.NDJSON))
+                    .isInstanceOf(CursorPosException.class)
+                    .satisfies(e -> assertThat(((CursorPosException) e).getStatus())
+                            .isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE));
+            verifyNoInteractions(customerImportJobRepository);
+            assertThat(queued).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject a file with too many rows before creating a job")
+        void shouldRejectTooManyRows() {
+            byte[] body = "code,first_name\nC1,A\nC2,B\nC3,C\nC4,D".getBytes(StandardCharsets.UTF_8);
+
+            assertThatThrownBy(() -> service.startImport(new ByteArrayInputStream(body), CustomerFileFormat.CSV))
+                    .isInstanceOf(CursorPosException.class)
+                    .hasMessageContaining("3 rows");
+            verifyNoInteractions(customerImportJobRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw when job belongs to another tenant")
+        void shouldThrowWhenJobNotFound() {
+            when(customerImportJobRepository.find(TENANT_ID, JOB_ID)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> service.getImportJob(JOB_ID)).isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Should export customers as CSV with escaping")
+    void shouldExportCsv() {
+        UUID id = UUID.randomUUID();
+        doAnswer(invocation -> {
+            Consumer<ExportRow> consumer = invocation.getArgument(1);
+            consumer.accept(new ExportRow(id, "CUST-001", "Jane", "Doe", null, "+1-555-1001", "1 Main St, Apt 2",
+                    null, null, null, null, LocalDate.of(1990, 1, 15), "says \"hi\"", true, null, 10, 5, 10));
+            return null;
+        }).when(customerBulkRepository).streamCustomers(eq(TENANT_ID), any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.exportCustomers(CustomerFileFormat.CSV, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(CustomerRecordWriter.CSV_HEADER + "\n"
+                + id + ",CUST-001,Jane,Doe,,+1-555-1001,\"1 Main St, Apt 2\",,,,,1990-01-15,\"says \"\"hi\"\"\","
+                + "true,,10,5,10\n");
+    }
+}
@@ -0,0 +1,52 @@
+package com.cursorpos.admin.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for CustomerLookupCache.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@SuppressWarnings({ "PMD.AvoidDuplicateLiterals", "null" })
+class CustomerLookupCacheTest {
+
+    private final CustomerLookupCache cache = new CustomerLookupCache(2);
+
+    @Test
+    @DisplayName("Should evict least recently used entry per tenant")
+    void shouldEvictLeastRecentlyUsedPerTenant() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        cache.put("tenant-a", "code:A", first);
+        cache.put("tenant-a", "code:B", second);
+        cache.get("tenant-a", "code:A");
+
+        cache.put("tenant-a", "code:C", UUID.randomUUID());
+        cache.put("tenant-b", "code:A", UUID.randomUUID());
+
+        assertThat(cache.get("tenant-a", "code:A")).isEqualTo(first);
+        assertThat(cache.get("tenant-a", "code:B")).isNull();
+        assertThat(cache.size("tenant-a")).isEqualTo(2);
+        assertThat(cache.size("tenant-b")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict every key of a customer")
+    void shouldEvictAllKeysOfCustomer() {
+        UUID customerId = UUID.randomUUID();
+        cache.put("tenant-a", "code:A", customerId);
+        cache.put("tenant-a", "phone:+15551001", customerId);
+
+        cache.evict("tenant-a", customerId);
+
+        assertThat(cache.size("tenant-a")).isZero();
+        assertThat(cache.get("tenant-a", "code:A")).isNull();
+    }
+}
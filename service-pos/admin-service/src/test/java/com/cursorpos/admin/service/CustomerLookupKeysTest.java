@@ -0,0 +1,98 @@
+package com.cursorpos.admin.service;
+
+import com.cursorpos.admin.entity.Customer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for CustomerLookupKeys.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@SuppressWarnings({ "PMD.AvoidDuplicateLiterals", "null" })
+class CustomerLookupKeysTest {
+
+    private final CustomerLookupKeys keys = new CustomerLookupKeys("62");
+
+    @Nested
+    @DisplayName("phone tests")
+    class PhoneTests {
+
+        @Test
+        @DisplayName("Should map every common format to the same E.164 key")
+        void shouldNormalizeCommonFormats() {
+            assertThat(keys.phone("+62 812-3456-7890")).isEqualTo("+6281234567890");
+            assertThat(keys.phone("0062 812 3456 7890")).isEqualTo("+6281234567890");
+            assertThat(keys.phone("0812 3456 7890")).isEqualTo("+6281234567890");
+            assertThat(keys.phone("(812) 3456.7890")).isEqualTo("+6281234567890");
+        }
+
+        @Test
+        @DisplayName("Should keep explicit country codes")
+        void shouldKeepExplicitCountryCode() {
+            assertThat(keys.phone("+1-555-1001")).isEqualTo("+15551001");
+        }
+
+        @Test
+        @DisplayName("Should reject blank, too short and too long numbers")
+        void shouldRejectImplausibleNumbers() {
+            assertThat(keys.phone(null)).isNull();
+            assertThat(keys.phone("  ")).isNull();
+            assertThat(keys.phone("+12345")).isNull();
+            assertThat(keys.phone("+1234567890123456")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("phonePrefix tests")
+    class PhonePrefixTests {
+
+        @Test
+        @DisplayName("Should normalize partial numbers")
+        void shouldNormalizePartialNumbers() {
+            assertThat(keys.phonePrefix("0812")).isEqualTo("+62812");
+            assertThat(keys.phonePrefix("+62 81")).isEqualTo("+6281");
+        }
+
+        @Test
+        @DisplayName("Should ignore text and very short prefixes")
+        void shouldIgnoreNonPhoneQueries() {
+            assertThat(keys.phonePrefix("john")).isNull();
+            assertThat(keys.phonePrefix("cust-001")).isNull();
+            assertThat(keys.phonePrefix("+1")).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should trim and lowercase emails")
+    void shouldNormalizeEmail() {
+        assertThat(keys.email(" John.Doe@Example.COM ")).isEqualTo("john.doe@example.com");
+        assertThat(keys.email("")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should set both keys on a customer")
+    void shouldApplyKeysToCustomer() {
+        Customer customer = new Customer();
+        customer.setPhone("0812-3456-7890");
+        customer.setEmail("Jane@Example.com");
+
+        keys.apply(customer);
+
+        assertThat(customer.getPhoneNormalized()).isEqualTo("+6281234567890");
+        assertThat(customer.getEmailNormalized()).isEqualTo("jane@example.com");
+    }
+
+    @Test
+    @DisplayName("Should reject invalid default country codes")
+    void shouldRejectInvalidDefaultCountryCode() {
+        assertThatThrownBy(() -> new CustomerLookupKeys("+1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CustomerLookupKeys("0")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,117 @@
+package com.cursorpos.admin.service;
+
+import com.cursorpos.admin.service.CustomerRecordReader.CustomerRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for CustomerRecordReader.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@SuppressWarnings({ "PMD.AvoidDuplicateLiterals", "null" })
+class CustomerRecordReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private List<CustomerRecord> readAll(String content, CustomerFileFormat format) throws IOException {
+        List<CustomerRecord> records = new ArrayList<>();
+        try (CustomerRecordReader reader = new CustomerRecordReader(new StringReader(content), format,
+                objectMapper)) {
+            CustomerRecord customerRecord;
+            while ((customerRecord = reader.next()) != null) {
+                records.add(customerRecord);
+            }
+        }
+        return records;
+    }
+
+    @Nested
+    @DisplayName("CSV tests")
+    class CsvTests {
+
+        @Test
+        @DisplayName("Should map columns by header name in any order and spelling")
+        void shouldMapColumnsByHeaderName() throws IOException {
+            List<CustomerRecord> records = readAll("""
+                    Phone,First Name,code,unknown,dateOfBirth\r
+                    +1-555-1001,Jane,CUST-001,x,1990-01-15\r
+                    """, CustomerFileFormat.CSV);
+
+            assertThat(records).hasSize(1);
+            CustomerRecord customerRecord = records.get(0);
+            assertThat(customerRecord.row()).isEqualTo(1);
+            assertThat(customerRecord.request().getCode()).isEqualTo("CUST-001");
+            assertThat(customerRecord.request().getFirstName()).isEqualTo("Jane");
+            assertThat(customerRecord.request().getPhone()).isEqualTo("+1-555-1001");
+            assertThat(customerRecord.request().getDateOfBirth()).isEqualTo(LocalDate.of(1990, 1, 15));
+            assertThat(customerRecord.request().getEmail()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should handle quoted fields with commas, quotes and line breaks")
+        void shouldHandleQuotedFields() throws IOException {
+            List<CustomerRecord> records = readAll("code,first_name,address,notes\n"
+                    + "CUST-001,Jane,\"1 Main St, Apt 2\",\"said \"\"hi\"\"\nand left\"\n"
+                    + "\n"
+                    + "CUST-002,John,,\n", CustomerFileFormat.CSV);
+
+            assertThat(records).hasSize(2);
+            assertThat(records.get(0).request().getAddress()).isEqualTo("1 Main St, Apt 2");
+            assertThat(records.get(0).request().getNotes()).isEqualTo("said \"hi\"\nand left");
+            assertThat(records.get(1).row()).isEqualTo(2);
+            assertThat(records.get(1).request().getAddress()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should report a bad date as a row error")
+        void shouldReportBadDateAsRowError() throws IOException {
+            List<CustomerRecord> records = readAll("code,first_name,date_of_birth\nCUST-001,Jane,15/01/1990\n",
+                    CustomerFileFormat.CSV);
+
+            assertThat(records.get(0).request()).isNull();
+            assertThat(records.get(0).error()).contains("15/01/1990");
+        }
+
+        @Test
+        @DisplayName("Should reject a header without required columns")
+        void shouldRejectHeaderWithoutRequiredColumns() {
+            assertThatThrownBy(() -> readAll("code,last_name\nCUST-001,Doe\n", CustomerFileFormat.CSV))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("first_name");
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON tests")
+    class NdjsonTests {
+
+        @Test
+        @DisplayName("Should read one customer per line and report malformed lines")
+        void shouldReadOneCustomerPerLine() throws IOException {
+            List<CustomerRecord> records = readAll("""
+                    {"code":"CUST-001","firstName":"Jane","dateOfBirth":"1990-01-15"}
+
+                    {"code":"CUST-002",
+                    """, CustomerFileFormat.NDJSON);
+
+            assertThat(records).hasSize(2);
+            assertThat(records.get(0).request().getFirstName()).isEqualTo("Jane");
+            assertThat(records.get(1).row()).isEqualTo(2);
+            assertThat(records.get(1).error()).startsWith("Invalid JSON");
+        }
+    }
+}
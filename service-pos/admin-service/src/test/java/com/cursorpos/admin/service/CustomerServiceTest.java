@@ -1,12 +1,13 @@
 package com.cursorpos.admin.service;
 
 import com.cursorpos.admin.dto.CreateCustomerRequest;
+import com.cursorpos.admin.dto.CustomerLookupResponse;
 import com.cursorpos.admin.dto.CustomerResponse;
 import com.cursorpos.admin.entity.Customer;
 import com.cursorpos.admin.entity.LoyaltyTier;
 import com.cursorpos.admin.mapper.AdminMapper;
+import com.cursorpos.admin.repository.CustomerLookupRepository;
 import com.cursorpos.admin.repository.CustomerRepository;
-import com.cursorpos.admin.repository.LoyaltyTierRepository;
 import com.cursorpos.shared.exception.ResourceNotFoundException;
 import com.cursorpos.shared.security.TenantContext;
 import org.junit.jupiter.api.AfterEach;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -49,7 +51,16 @@ class CustomerServiceTest {
     private CustomerRepository customerRepository;
 
     @Mock
-    private LoyaltyTierRepository loyaltyTierRepository;
+    private CustomerLookupRepository customerLookupRepository;
+
+    @Spy
+    private CustomerLookupKeys customerLookupKeys = new CustomerLookupKeys("1");
+
+    @Mock
+    private CustomerLookupCache customerLookupCache;
+
+    @Mock
+    private LoyaltyProgramCache loyaltyProgramCache;
 
     @Mock
     private AdminMapper adminMapper;
@@ -92,6 +103,8 @@ class CustomerServiceTest {
         customer.setLastName("Doe");
         customer.setEmail("john.doe@example.com");
         customer.setPhone("555-1234");
+        customer.setEmailNormalized("john.doe@example.com");
+        customer.setPhoneNormalized("+15551234");
         customer.setDateOfBirth(LocalDate.of(1990, 1, 15));
         customer.setLoyaltyTierId(loyaltyTierId);
         customer.setLifetimePoints(100);
@@ -134,9 +147,14 @@ class CustomerServiceTest {
         @Test
         @DisplayName("Should create customer successfully with default loyalty tier")
         void shouldCreateCustomerSuccessfullyWithDefaultLoyaltyTier() {
+            customer.setLoyaltyTierId(null);
+            customer.setPhoneNormalized(null);
+            customer.setEmailNormalized(null);
             when(customerRepository.existsByTenantIdAndCode(TENANT_ID, "CUST-001")).thenReturn(false);
             when(adminMapper.toCustomer(request)).thenReturn(customer);
-            when(loyaltyTierRepository.findTierForPoints(TENANT_ID, 0)).thenReturn(Optional.of(loyaltyTier));
+            when(loyaltyProgramCache.get(TENANT_ID)).thenReturn(new LoyaltyProgram(true, BigDecimal.ONE,
+                    List.of(new LoyaltyProgram.Tier(loyaltyTier.getId(), loyaltyTier.getMinPoints(),
+                            loyaltyTier.getPointsMultiplier()))));
             when(customerRepository.save(customer)).thenReturn(customer);
             when(adminMapper.toCustomerResponse(customer)).thenReturn(response);
 
@@ -145,7 +163,9 @@ class CustomerServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getCode()).isEqualTo("CUST-001");
             verify(customerRepository).save(customer);
-            verify(loyaltyTierRepository).findTierForPoints(TENANT_ID, 0);
+            assertThat(customer.getLoyaltyTierId()).isEqualTo(loyaltyTierId);
+            assertThat(customer.getPhoneNormalized()).isEqualTo("+15551234");
+            assertThat(customer.getEmailNormalized()).isEqualTo("john.doe@example.com");
         }
 
         @Test
@@ -153,7 +173,7 @@ class CustomerServiceTest {
         void shouldCreateCustomerSuccessfullyWithoutLoyaltyTier() {
             when(customerRepository.existsByTenantIdAndCode(TENANT_ID, "CUST-001")).thenReturn(false);
             when(adminMapper.toCustomer(request)).thenReturn(customer);
-            when(loyaltyTierRepository.findTierForPoints(TENANT_ID, 0)).thenReturn(Optional.empty());
+            when(loyaltyProgramCache.get(TENANT_ID)).thenReturn(new LoyaltyProgram(true, BigDecimal.ONE, List.of()));
             when(customerRepository.save(customer)).thenReturn(customer);
             when(adminMapper.toCustomerResponse(customer)).thenReturn(response);
 
@@ -231,6 +251,42 @@ class CustomerServiceTest {
 
             assertThat(result).isNotNull();
             assertThat(result.getCode()).isEqualTo("CUST-001");
+            verify(customerLookupCache).put(TENANT_ID, "code:CUST-001", customerId);
+        }
+
+        @Test
+        @DisplayName("Should load cached customer by ID")
+        void shouldLoadCachedCustomerById() {
+            when(customerLookupCache.get(TENANT_ID, "code:CUST-001")).thenReturn(customerId);
+            when(customerRepository.findByIdAndTenantIdAndDeletedAtIsNull(customerId, TENANT_ID))
+                    .thenReturn(Optional.of(customer));
+            when(adminMapper.toCustomerResponse(customer)).thenReturn(response);
+
+            CustomerResponse result = customerService.getCustomerByCode("CUST-001");
+
+            assertThat(result.getId()).isEqualTo(customerId);
+            verify(customerRepository, never()).findByTenantIdAndCodeAndDeletedAtIsNull(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should drop cached ID when customer no longer has the key")
+        void shouldDropStaleCachedId() {
+            UUID staleId = UUID.randomUUID();
+            Customer renamed = new Customer();
+            renamed.setId(staleId);
+            renamed.setCode("CUST-999");
+            when(customerLookupCache.get(TENANT_ID, "code:CUST-001")).thenReturn(staleId);
+            when(customerRepository.findByIdAndTenantIdAndDeletedAtIsNull(staleId, TENANT_ID))
+                    .thenReturn(Optional.of(renamed));
+            when(customerRepository.findByTenantIdAndCodeAndDeletedAtIsNull(TENANT_ID, "CUST-001"))
+                    .thenReturn(Optional.of(customer));
+            when(adminMapper.toCustomerResponse(customer)).thenReturn(response);
+
+            CustomerResponse result = customerService.getCustomerByCode("CUST-001");
+
+            assertThat(result.getId()).isEqualTo(customerId);
+            verify(customerLookupCache).evict(TENANT_ID, staleId);
+            verify(customerLookupCache).put(TENANT_ID, "code:CUST-001", customerId);
         }
 
         @Test
@@ -249,13 +305,13 @@ class CustomerServiceTest {
     class GetCustomerByEmailTests {
 
         @Test
-        @DisplayName("Should return customer when found by email")
+        @DisplayName("Should return customer when found by email regardless of case")
         void shouldReturnCustomerWhenFoundByEmail() {
-            when(customerRepository.findByTenantIdAndEmailAndDeletedAtIsNull(TENANT_ID, "john.doe@example.com"))
-                    .thenReturn(Optional.of(customer));
+            when(customerRepository.findFirstByTenantIdAndEmailNormalizedAndDeletedAtIsNull(TENANT_ID,
+                    "john.doe@example.com")).thenReturn(Optional.of(customer));
             when(adminMapper.toCustomerResponse(customer)).thenReturn(response);
 
-            CustomerResponse result = customerService.getCustomerByEmail("john.doe@example.com");
+            CustomerResponse result = customerService.getCustomerByEmail(" John.Doe@Example.com ");
 
             assertThat(result).isNotNull();
             assertThat(result.getEmail()).isEqualTo("john.doe@example.com");
@@ -264,8 +320,8 @@ class CustomerServiceTest {
         @Test
         @DisplayName("Should throw exception when customer not found by email")
         void shouldThrowExceptionWhenNotFoundByEmail() {
-            when(customerRepository.findByTenantIdAndEmailAndDeletedAtIsNull(TENANT_ID, "invalid@example.com"))
-                    .thenReturn(Optional.empty());
+            when(customerRepository.findFirstByTenantIdAndEmailNormalizedAndDeletedAtIsNull(TENANT_ID,
+                    "invalid@example.com")).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> customerService.getCustomerByEmail("invalid@example.com"))
                     .isInstanceOf(ResourceNotFoundException.class);
@@ -277,13 +333,13 @@ class CustomerServiceTest {
     class GetCustomerByPhoneTests {
 
         @Test
-        @DisplayName("Should return customer when found by phone")
+        @DisplayName("Should return customer when found by phone in any format")
         void shouldReturnCustomerWhenFoundByPhone() {
-            when(customerRepository.findByTenantIdAndPhoneAndDeletedAtIsNull(TENANT_ID, "555-1234"))
+            when(customerRepository.findFirstByTenantIdAndPhoneNormalizedAndDeletedAtIsNull(TENANT_ID, "+15551234"))
                     .thenReturn(Optional.of(customer));
             when(adminMapper.toCustomerResponse(customer)).thenReturn(response);
 
-            CustomerResponse result = customerService.getCustomerByPhone("555-1234");
+            CustomerResponse result = customerService.getCustomerByPhone("(555) 1234");
 
             assertThat(result).isNotNull();
             assertThat(result.getPhone()).isEqualTo("555-1234");
@@ -292,12 +348,55 @@ class CustomerServiceTest {
         @Test
         @DisplayName("Should throw exception when customer not found by phone")
         void shouldThrowExceptionWhenNotFoundByPhone() {
-            when(customerRepository.findByTenantIdAndPhoneAndDeletedAtIsNull(TENANT_ID, "999-9999"))
+            when(customerRepository.findFirstByTenantIdAndPhoneNormalizedAndDeletedAtIsNull(TENANT_ID, "+19999999"))
                     .thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> customerService.getCustomerByPhone("999-9999"))
                     .isInstanceOf(ResourceNotFoundException.class);
         }
+
+        @Test
+        @DisplayName("Should not query when phone cannot be normalized")
+        void shouldNotQueryWhenPhoneInvalid() {
+            assertThatThrownBy(() -> customerService.getCustomerByPhone("12"))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            verifyNoInteractions(customerRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("lookupCustomers tests")
+    class LookupCustomersTests {
+
+        @Test
+        @DisplayName("Should search all identifiers with normalized prefixes")
+        void shouldSearchWithNormalizedPrefixes() {
+            List<CustomerLookupResponse> matches = List.of(CustomerLookupResponse.builder().id(customerId).build());
+            when(customerLookupRepository.findByPrefix(TENANT_ID, "555-12", "+155512", "555-12", 10))
+                    .thenReturn(matches);
+
+            assertThat(customerService.lookupCustomers(" 555-12 ", 10)).isEqualTo(matches);
+        }
+
+        @Test
+        @DisplayName("Should skip phone prefix for text queries")
+        void shouldSkipPhonePrefixForText() {
+            when(customerLookupRepository.findByPrefix(TENANT_ID, "john", null, "john", 5)).thenReturn(List.of());
+
+            assertThat(customerService.lookupCustomers("John", 5)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject short queries and out-of-range limits")
+        void shouldRejectInvalidArguments() {
+            assertThatThrownBy(() -> customerService.lookupCustomers(" a ", 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> customerService.lookupCustomers(null, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> customerService.lookupCustomers("john", 51))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(customerLookupRepository);
+        }
     }
 
     @Nested
@@ -353,11 +452,15 @@ class CustomerServiceTest {
             when(customerRepository.save(customer)).thenReturn(customer);
             when(adminMapper.toCustomerResponse(customer)).thenReturn(response);
 
+            customer.setPhone("0555-9876");
+
             CustomerResponse result = customerService.updateCustomer(customerId, request);
 
             assertThat(result).isNotNull();
             verify(adminMapper).updateCustomerFromRequest(request, customer);
             verify(customerRepository).save(customer);
+            assertThat(customer.getPhoneNormalized()).isEqualTo("+15559876");
+            verify(customerLookupCache).evict(TENANT_ID, customerId);
         }
 
         @Test
@@ -399,6 +502,7 @@ class CustomerServiceTest {
             customerService.deleteCustomer(customerId);
 
             verify(customerRepository).save(customer);
+            verify(customerLookupCache).evict(TENANT_ID, customerId);
         }
 
         @Test
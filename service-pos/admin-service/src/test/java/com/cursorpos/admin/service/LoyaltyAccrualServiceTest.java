@@ -0,0 +1,280 @@
+package com.cursorpos.admin.service;
+
+import com.cursorpos.admin.event.SaleCompletedMessage;
+import com.cursorpos.admin.repository.LoyaltyAccrualRepository;
+import com.cursorpos.admin.repository.LoyaltyAccrualRepository.Accrual;
+import com.cursorpos.admin.repository.LoyaltyAccrualRepository.Balance;
+import com.cursorpos.admin.repository.LoyaltyAccrualRepository.LedgerEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for LoyaltyAccrualService.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({ "unchecked", "null" })
+class LoyaltyAccrualServiceTest {
+
+        private static final String TENANT_ID = "tenant-test-001";
+        private static final UUID SILVER_ID = UUID.randomUUID();
+        private static final UUID GOLD_ID = UUID.randomUUID();
+
+        @Mock
+        private LoyaltyAccrualRepository loyaltyAccrualRepository;
+
+        @Mock
+        private LoyaltyProgramCache loyaltyProgramCache;
+
+        @InjectMocks
+        private LoyaltyAccrualService loyaltyAccrualService;
+
+        private UUID customerId;
+
+        @BeforeEach
+        void setUp() {
+                customerId = UUID.randomUUID();
+                LoyaltyProgram program = new LoyaltyProgram(true, BigDecimal.ONE, List.of(
+                                new LoyaltyProgram.Tier(SILVER_ID, 0, BigDecimal.ONE),
+                                new LoyaltyProgram.Tier(GOLD_ID, 100, BigDecimal.valueOf(2))));
+                lenient().when(loyaltyProgramCache.get(TENANT_ID)).thenReturn(program);
+        }
+
+        @Test
+        @DisplayName("Should coalesce sales of one customer into one balance update and one ledger row")
+        void shouldCoalescePerCustomer() {
+                // Arrange
+                List<SaleCompletedMessage> sales = List.of(
+                                sale("e1", customerId, "10.90"),
+                                sale("e2", customerId, "20.50"));
+                when(loyaltyAccrualRepository.claimEvents(eq(LoyaltyAccrualService.CONSUMER), anyList()))
+                                .thenReturn(Set.of("e1", "e2"));
+                Map<UUID, UUID> tiers = new HashMap<>();
+                tiers.put(customerId, SILVER_ID);
+                when(loyaltyAccrualRepository.findTierIds(eq(TENANT_ID), any())).thenReturn(tiers);
+                when(loyaltyAccrualRepository.addPoints(eq(TENANT_ID), anyMap()))
+                                .thenReturn(List.of(new Balance(customerId, 50, 30)));
+
+                // Act
+                int credited = loyaltyAccrualService.accrue(sales);
+
+                // Assert - truncated per purchase, like calculatePointsForPurchase: 10 + 20
+                assertThat(credited).isEqualTo(1);
+                verify(loyaltyAccrualRepository).addPoints(TENANT_ID, Map.of(customerId, 30));
+                ArgumentCaptor<List<LedgerEntry>> ledger = ArgumentCaptor.forClass(List.class);
+                verify(loyaltyAccrualRepository).insertLedger(ledger.capture());
+                assertThat(ledger.getValue()).singleElement().satisfies(entry -> {
+                        assertThat(entry.points()).isEqualTo(30);
+                        assertThat(entry.balanceAfter()).isEqualTo(30);
+                        assertThat(entry.referenceId()).isNull();
+                });
+                verify(loyaltyAccrualRepository).updateTiers(TENANT_ID, Map.of());
+        }
+
+        @Test
+        @DisplayName("Should apply the tier multiplier and promote customers crossing a tier minimum")
+        void shouldApplyMultiplierAndPromote() {
+                // Arrange
+                SaleCompletedMessage sale = sale("e1", customerId, "40.00");
+                when(loyaltyAccrualRepository.claimEvents(eq(LoyaltyAccrualService.CONSUMER), anyList()))
+                                .thenReturn(Set.of("e1"));
+                Map<UUID, UUID> tiers = new HashMap<>();
+                tiers.put(customerId, GOLD_ID);
+                when(loyaltyAccrualRepository.findTierIds(eq(TENANT_ID), any())).thenReturn(tiers);
+                when(loyaltyAccrualRepository.addPoints(eq(TENANT_ID), anyMap()))
+                                .thenReturn(List.of(new Balance(customerId, 180, 80)));
+
+                // Act
+                loyaltyAccrualService.accrue(List.of(sale));
+
+                // Assert
+                verify(loyaltyAccrualRepository).addPoints(TENANT_ID, Map.of(customerId, 80));
+                verify(loyaltyAccrualRepository).updateTiers(TENANT_ID, Map.of());
+
+                // Customer without a tier crossing 100 points is promoted to gold
+                tiers.put(customerId, null);
+                when(loyaltyAccrualRepository.claimEvents(eq(LoyaltyAccrualService.CONSUMER), anyList()))
+                                .thenReturn(Set.of("e2"));
+                when(loyaltyAccrualRepository.addPoints(eq(TENANT_ID), anyMap()))
+                                .thenReturn(List.of(new Balance(customerId, 120, 120)));
+
+                loyaltyAccrualService.accrue(List.of(sale("e2", customerId, "40.00")));
+
+                verify(loyaltyAccrualRepository).updateTiers(TENANT_ID, Map.of(customerId, GOLD_ID));
+        }
+
+        @Test
+        @DisplayName("Should skip events that were already processed")
+        void shouldSkipProcessedEvents() {
+                // Arrange
+                when(loyaltyAccrualRepository.claimEvents(eq(LoyaltyAccrualService.CONSUMER), anyList()))
+                                .thenReturn(Set.of());
+
+                // Act
+                int credited = loyaltyAccrualService.accrue(List.of(sale("e1", customerId, "10.00")));
+
+                // Assert
+                assertThat(credited).isZero();
+                verify(loyaltyAccrualRepository, never()).addPoints(anyString(), anyMap());
+        }
+
+        @Test
+        @DisplayName("Should not credit anything when loyalty is disabled for the tenant")
+        void shouldSkipDisabledTenant() {
+                // Arrange
+                when(loyaltyProgramCache.get(TENANT_ID)).thenReturn(new LoyaltyProgram(false, BigDecimal.ONE, List.of()));
+                when(loyaltyAccrualRepository.claimEvents(eq(LoyaltyAccrualService.CONSUMER), anyList()))
+                                .thenReturn(Set.of("e1"));
+
+                // Act
+                int credited = loyaltyAccrualService.accrue(List.of(sale("e1", customerId, "10.00")));
+
+                // Assert
+                assertThat(credited).isZero();
+                verify(loyaltyAccrualRepository, never()).findTierIds(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Should record the points of each sale so they can be reversed")
+        void shouldRecordAccrualPerEvent() {
+                // Arrange
+                when(loyaltyAccrualRepository.claimEvents(eq(LoyaltyAccrualService.CONSUMER), anyList()))
+                                .thenReturn(Set.of("e1"));
+                Map<UUID, UUID> tiers = new HashMap<>();
+                tiers.put(customerId, SILVER_ID);
+                when(loyaltyAccrualRepository.findTierIds(eq(TENANT_ID), any())).thenReturn(tiers);
+                when(loyaltyAccrualRepository.addPoints(eq(TENANT_ID), anyMap()))
+                                .thenReturn(List.of(new Balance(customerId, 10, 10)));
+
+                // Act
+                loyaltyAccrualService.accrue(List.of(sale("e1", customerId, "10.90")));
+
+                // Assert
+                verify(loyaltyAccrualRepository).recordAccruals(List.of(new Accrual("e1", TENANT_ID, customerId, 10)));
+        }
+
+        @Test
+        @DisplayName("Should deduct the points recorded for the original event of a cancellation")
+        void shouldReverseCancelledSale() {
+                // Arrange
+                SaleCompletedMessage cancellation = cancellation("c1", "e1", customerId);
+                when(loyaltyAccrualRepository.claimEvents(eq(LoyaltyAccrualService.CONSUMER), anyList()))
+                                .thenReturn(Set.of("c1"));
+                Map<UUID, UUID> tiers = new HashMap<>();
+                tiers.put(customerId, GOLD_ID);
+                when(loyaltyAccrualRepository.findTierIds(eq(TENANT_ID), any())).thenReturn(tiers);
+                when(loyaltyAccrualRepository.takeAccruals(TENANT_ID, Set.of("e1")))
+                                .thenReturn(List.of(new Accrual("e1", TENANT_ID, customerId, 80)));
+                when(loyaltyAccrualRepository.deductPoints(eq(TENANT_ID), anyMap()))
+                                .thenReturn(List.of(new Balance(customerId, 60, 20)));
+
+                // Act
+                int updated = loyaltyAccrualService.accrue(List.of(cancellation));
+
+                // Assert - the customer drops back below the gold minimum
+                assertThat(updated).isEqualTo(1);
+                verify(loyaltyAccrualRepository).deductPoints(TENANT_ID, Map.of(customerId, 80));
+                verify(loyaltyAccrualRepository).updateTiers(TENANT_ID, Map.of(customerId, SILVER_ID));
+                ArgumentCaptor<List<LedgerEntry>> ledger = ArgumentCaptor.forClass(List.class);
+                verify(loyaltyAccrualRepository).insertLedger(ledger.capture());
+                assertThat(ledger.getValue()).singleElement().satisfies(entry -> {
+                        assertThat(entry.transactionType()).isEqualTo("REFUND");
+                        assertThat(entry.points()).isEqualTo(-80);
+                        assertThat(entry.referenceId()).isEqualTo(cancellation.getTransactionId());
+                });
+        }
+
+        @Test
+        @DisplayName("Should not deduct anything when the original event was already reversed")
+        void shouldReverseOnlyOnce() {
+                // Arrange
+                when(loyaltyAccrualRepository.claimEvents(eq(LoyaltyAccrualService.CONSUMER), anyList()))
+                                .thenReturn(Set.of("c2"));
+                when(loyaltyAccrualRepository.takeAccruals(TENANT_ID, Set.of("e1"))).thenReturn(List.of());
+
+                // Act
+                int updated = loyaltyAccrualService.accrue(List.of(cancellation("c2", "e1", customerId)));
+
+                // Assert
+                assertThat(updated).isZero();
+                verify(loyaltyAccrualRepository, never()).deductPoints(anyString(), anyMap());
+                verify(loyaltyAccrualRepository, never()).insertLedger(anyList());
+        }
+
+        @Test
+        @DisplayName("Should deduct points for completed returns")
+        void shouldDeductForReturns() {
+                // Arrange
+                SaleCompletedMessage sale = sale("r1", customerId, "25.00");
+                sale.setType("RETURN");
+                when(loyaltyAccrualRepository.claimEvents(eq(LoyaltyAccrualService.CONSUMER), anyList()))
+                                .thenReturn(Set.of("r1"));
+                Map<UUID, UUID> tiers = new HashMap<>();
+                tiers.put(customerId, SILVER_ID);
+                when(loyaltyAccrualRepository.findTierIds(eq(TENANT_ID), any())).thenReturn(tiers);
+                when(loyaltyAccrualRepository.deductPoints(eq(TENANT_ID), anyMap()))
+                                .thenReturn(List.of(new Balance(customerId, 5, 5)));
+
+                // Act
+                loyaltyAccrualService.accrue(List.of(sale));
+
+                // Assert
+                verify(loyaltyAccrualRepository).deductPoints(TENANT_ID, Map.of(customerId, 25));
+                verify(loyaltyAccrualRepository).recordAccruals(List.of(new Accrual("r1", TENANT_ID, customerId, -25)));
+        }
+
+        private static SaleCompletedMessage cancellation(String eventId, String originalEventId, UUID customerId) {
+                return SaleCompletedMessage.builder()
+                                .eventId(eventId)
+                                .eventType(SaleCompletedMessage.CANCELLED_EVENT_TYPE)
+                                .originalEventId(originalEventId)
+                                .tenantId(TENANT_ID)
+                                .transactionId(UUID.randomUUID())
+                                .transactionNumber("TRX-" + originalEventId)
+                                .customerId(customerId)
+                                .status("CANCELLED")
+                                .type("SALE")
+                                .totalAmount(new BigDecimal("40.00"))
+                                .build();
+        }
+
+        private static SaleCompletedMessage sale(String eventId, UUID customerId, String amount) {
+                return SaleCompletedMessage.builder()
+                                .eventId(eventId)
+                                .tenantId(TENANT_ID)
+                                .transactionId(UUID.randomUUID())
+                                .transactionNumber("TRX-" + eventId)
+                                .customerId(customerId)
+                                .status("COMPLETED")
+                                .type("SALE")
+                                .totalAmount(new BigDecimal(amount))
+                                .build();
+        }
+}
@@ -0,0 +1,88 @@
+package com.cursorpos.admin.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for LoyaltyProgram.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@SuppressWarnings({ "PMD.AvoidDuplicateLiterals", "null" })
+class LoyaltyProgramTest {
+
+    private static final UUID BRONZE_ID = UUID.randomUUID();
+    private static final UUID SILVER_ID = UUID.randomUUID();
+    private static final UUID GOLD_ID = UUID.randomUUID();
+
+    // Deliberately out of order
+    private final LoyaltyProgram program = new LoyaltyProgram(true, BigDecimal.ONE, List.of(
+            new LoyaltyProgram.Tier(GOLD_ID, 2000, new BigDecimal("2.0")),
+            new LoyaltyProgram.Tier(BRONZE_ID, 100, null),
+            new LoyaltyProgram.Tier(SILVER_ID, 500, new BigDecimal("1.5"))));
+
+    @Nested
+    @DisplayName("tierForPoints tests")
+    class TierForPointsTests {
+
+        @Test
+        @DisplayName("Should return null below the lowest tier")
+        void shouldReturnNullBelowLowestTier() {
+            assertThat(program.tierForPoints(0)).isNull();
+            assertThat(program.tierForPoints(99)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should return highest tier at or below the total")
+        void shouldReturnHighestTierAtOrBelowTotal() {
+            assertThat(program.tierForPoints(100)).isEqualTo(BRONZE_ID);
+            assertThat(program.tierForPoints(499)).isEqualTo(BRONZE_ID);
+            assertThat(program.tierForPoints(500)).isEqualTo(SILVER_ID);
+            assertThat(program.tierForPoints(1999)).isEqualTo(SILVER_ID);
+            assertThat(program.tierForPoints(2000)).isEqualTo(GOLD_ID);
+            assertThat(program.tierForPoints(Integer.MAX_VALUE)).isEqualTo(GOLD_ID);
+        }
+
+        @Test
+        @DisplayName("Should return null when there are no tiers")
+        void shouldReturnNullWithoutTiers() {
+            assertThat(new LoyaltyProgram(true, BigDecimal.ONE, List.of()).tierForPoints(1000)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("multiplierFor tests")
+    class MultiplierForTests {
+
+        @Test
+        @DisplayName("Should return tier multiplier")
+        void shouldReturnTierMultiplier() {
+            assertThat(program.multiplierFor(SILVER_ID)).isEqualByComparingTo("1.5");
+        }
+
+        @Test
+        @DisplayName("Should default to one for unknown, missing or unset tiers")
+        void shouldDefaultToOne() {
+            assertThat(program.multiplierFor(null)).isEqualByComparingTo(BigDecimal.ONE);
+            assertThat(program.multiplierFor(UUID.randomUUID())).isEqualByComparingTo(BigDecimal.ONE);
+            assertThat(program.multiplierFor(BRONZE_ID)).isEqualByComparingTo(BigDecimal.ONE);
+        }
+
+        @Test
+        @DisplayName("Should apply explicit earn rate and tier multiplier")
+        void shouldApplyEarnRateAndMultiplier() {
+            // 100 * 0.5 * 2.0 = 100
+            assertThat(program.pointsForPurchase(new BigDecimal("100"), new BigDecimal("0.5"), GOLD_ID))
+                    .isEqualTo(100);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.cursorpos.admin.service;
+
+import com.cursorpos.admin.config.IntegrationTestSecurityConfig;
+import com.cursorpos.admin.dto.LoyaltyTransactionRequest;
+import com.cursorpos.admin.entity.LoyaltyTransaction.LoyaltyTransactionType;
+import com.cursorpos.shared.security.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrency tests for loyalty balance changes against a real database.
+ *
+ * <p>
+ * Not {@code @Transactional}: every change must commit in its own
+ * transaction so the threads actually contend for the customer row. Rows are
+ * removed by tenant after each test.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(IntegrationTestSecurityConfig.class)
+@DisplayName("LoyaltyService Concurrency Integration Tests")
+@SuppressWarnings({ "PMD.AvoidDuplicateLiterals", "null" })
+class LoyaltyServiceConcurrencyIntegrationTest {
+
+    private static final String TENANT_ID = "tenant-loyalty-concurrency";
+    private static final int THREADS = 8;
+
+    @Autowired
+    private LoyaltyService loyaltyService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID customerId;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        customerId = jdbcTemplate.queryForObject(
+                "INSERT INTO customers (tenant_id, code, first_name) VALUES (?, ?, ?) RETURNING id",
+                UUID.class, TENANT_ID, "CONCURRENT-001", "Concurrent");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM loyalty_transactions WHERE tenant_id = ?", TENANT_ID);
+        jdbcTemplate.update("DELETE FROM customers WHERE tenant_id = ?", TENANT_ID);
+    }
+
+    @Test
+    @DisplayName("Should not lose updates when accruing in parallel")
+    void shouldNotLoseUpdatesUnderParallelAccrual() throws Exception {
+        int changesPerThread = 25;
+        int points = 10;
+
+        List<Boolean> results = runInParallel(THREADS * changesPerThread, () -> change(points));
+
+        int expected = THREADS * changesPerThread * points;
+        assertThat(results).containsOnly(true);
+        Map<String, Object> balance = balance();
+        assertThat(balance.get("available_points")).isEqualTo(expected);
+        assertThat(balance.get("total_points")).isEqualTo(expected);
+        assertThat(balance.get("lifetime_points")).isEqualTo(expected);
+
+        // Each ledger row saw a distinct balance: 10, 20, ..., expected
+        List<Integer> balancesAfter = jdbcTemplate.queryForList(
+                "SELECT balance_after FROM loyalty_transactions WHERE tenant_id = ? AND customer_id = ? "
+                        + "ORDER BY balance_after",
+                Integer.class, TENANT_ID, customerId);
+        assertThat(balancesAfter).containsExactlyElementsOf(
+                IntStream.rangeClosed(1, THREADS * changesPerThread).map(i -> i * points).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("Should never overdraw when redeeming in parallel")
+    void shouldNeverOverdrawUnderParallelRedemption() throws Exception {
+        jdbcTemplate.update("UPDATE customers SET available_points = 100, total_points = 100 WHERE id = ?",
+                customerId);
+
+        // 30 redemptions of 10 against a balance of 100: exactly 10 succeed
+        List<Boolean> results = runInParallel(30, () -> change(-10));
+
+        assertThat(results.stream().filter(Boolean::booleanValue).count()).isEqualTo(10);
+        Map<String, Object> balance = balance();
+        assertThat(balance.get("available_points")).isEqualTo(0);
+        assertThat(balance.get("total_points")).isEqualTo(100);
+        Integer ledgerRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM loyalty_transactions WHERE tenant_id = ? AND customer_id = ?",
+                Integer.class, TENANT_ID, customerId);
+        assertThat(ledgerRows).isEqualTo(10);
+    }
+
+    private boolean change(int pointsChange) {
+        TenantContext.setTenantId(TENANT_ID);
+        try {
+            loyaltyService.createTransaction(LoyaltyTransactionRequest.builder()
+                    .customerId(customerId)
+                    .transactionType(pointsChange > 0 ? LoyaltyTransactionType.EARN : LoyaltyTransactionType.REDEEM)
+                    .pointsChange(pointsChange)
+                    .description("Concurrency test")
+                    .build());
+            return true;
+        } catch (IllegalArgumentException e) {
+            // Insufficient points
+            return false;
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private List<Boolean> runInParallel(int tasks, Callable<Boolean> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>(tasks);
+            for (int i = 0; i < tasks; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<Boolean> results = new ArrayList<>(tasks);
+            for (Future<Boolean> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<String, Object> balance() {
+        return jdbcTemplate.queryForMap(
+                "SELECT available_points, total_points, lifetime_points FROM customers WHERE id = ?", customerId);
+    }
+}
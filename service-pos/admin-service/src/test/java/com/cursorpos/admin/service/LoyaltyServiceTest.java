@@ -9,6 +9,7 @@ import com.cursorpos.admin.entity.LoyaltyTier;
 import com.cursorpos.admin.entity.LoyaltyTransaction;
 import com.cursorpos.admin.mapper.AdminMapper;
 import com.cursorpos.admin.repository.CustomerRepository;
+import com.cursorpos.admin.repository.LoyaltyBalanceRepository;
 import com.cursorpos.admin.repository.LoyaltyTierRepository;
 import com.cursorpos.admin.repository.LoyaltyTransactionRepository;
 import com.cursorpos.shared.exception.ResourceNotFoundException;
@@ -60,6 +61,12 @@ class LoyaltyServiceTest {
         @Mock
         private AdminMapper adminMapper;
 
+        @Mock
+        private LoyaltyProgramCache loyaltyProgramCache;
+
+        @Mock
+        private LoyaltyBalanceRepository loyaltyBalanceRepository;
+
         @InjectMocks
         private LoyaltyService loyaltyService;
 
@@ -228,8 +235,8 @@ class LoyaltyServiceTest {
                 @Test
                 @DisplayName("Should throw exception when tier not found")
                 void shouldThrowExceptionWhenNotFound() {
-                        when(loyaltyTierRepository.findByIdAndTenantIdAndDeletedAtIsNull(tierId, TENANT_ID))
-                                        .thenReturn(Optional.empty());
+                        when(loyaltyProgramCache.get(TENANT_ID))
+                                        .thenReturn(new LoyaltyProgram(true, BigDecimal.ONE, List.of()));
 
                         assertThatThrownBy(() -> loyaltyService.getTierById(tierId))
                                         .isInstanceOf(ResourceNotFoundException.class);
@@ -331,8 +338,8 @@ class LoyaltyServiceTest {
                 @Test
                 @DisplayName("Should throw exception when tier not found")
                 void shouldThrowExceptionWhenTierNotFound() {
-                        when(loyaltyTierRepository.findByIdAndTenantIdAndDeletedAtIsNull(tierId, TENANT_ID))
-                                        .thenReturn(Optional.empty());
+                        when(loyaltyProgramCache.get(TENANT_ID))
+                                        .thenReturn(new LoyaltyProgram(true, BigDecimal.ONE, List.of()));
 
                         assertThatThrownBy(() -> loyaltyService.updateTier(tierId, tierRequest))
                                         .isInstanceOf(ResourceNotFoundException.class);
@@ -372,8 +379,8 @@ class LoyaltyServiceTest {
                 @Test
                 @DisplayName("Should throw exception when tier not found")
                 void shouldThrowExceptionWhenTierNotFound() {
-                        when(loyaltyTierRepository.findByIdAndTenantIdAndDeletedAtIsNull(tierId, TENANT_ID))
-                                        .thenReturn(Optional.empty());
+                        when(loyaltyProgramCache.get(TENANT_ID))
+                                        .thenReturn(new LoyaltyProgram(true, BigDecimal.ONE, List.of()));
 
                         assertThatThrownBy(() -> loyaltyService.deleteTier(tierId))
                                         .isInstanceOf(ResourceNotFoundException.class);
@@ -394,21 +401,25 @@ class LoyaltyServiceTest {
                 @Test
                 @DisplayName("Should create earn transaction successfully")
                 void shouldCreateEarnTransactionSuccessfully() {
-                        when(customerRepository.findByIdAndTenantIdAndDeletedAtIsNull(customerId, TENANT_ID))
-                                        .thenReturn(Optional.of(customer));
+                        LoyaltyProgram program = goldProgram();
+                        when(loyaltyProgramCache.get(TENANT_ID)).thenReturn(program);
+                        when(loyaltyBalanceRepository.applyPointsChange(eq(TENANT_ID), eq(customerId), eq(100),
+                                        any(UUID[].class), any(int[].class)))
+                                        .thenReturn(Optional.of(new LoyaltyBalanceRepository.Balance(2600, 1100, tierId)));
                         when(adminMapper.toLoyaltyTransaction(transactionRequest)).thenReturn(transaction);
                         when(loyaltyTransactionRepository.save(transaction)).thenReturn(transaction);
-                        when(loyaltyTierRepository.findTierForPoints(eq(TENANT_ID), anyInt()))
-                                        .thenReturn(Optional.of(loyaltyTier));
-                        when(customerRepository.save(customer)).thenReturn(customer);
                         when(adminMapper.toLoyaltyTransactionResponse(transaction)).thenReturn(transactionResponse);
 
                         LoyaltyTransactionResponse result = loyaltyService.createTransaction(transactionRequest);
 
                         assertThat(result).isNotNull();
                         assertThat(result.getPoints()).isEqualTo(100);
+                        assertThat(transaction.getBalanceAfter()).isEqualTo(1100);
+                        verify(loyaltyBalanceRepository).applyPointsChange(TENANT_ID, customerId, 100,
+                                        program.getTierIds(), program.getTierMinPoints());
                         verify(loyaltyTransactionRepository).save(transaction);
-                        verify(customerRepository).save(customer);
+                        verify(customerRepository, never()).save(any());
+                        verifyNoInteractions(loyaltyTierRepository);
                 }
 
                 @Test
@@ -426,22 +437,20 @@ class LoyaltyServiceTest {
                         redeemTransaction.setCustomerId(customerId);
                         redeemTransaction.setTransactionType(LoyaltyTransaction.LoyaltyTransactionType.REDEEM);
                         redeemTransaction.setPoints(-500);
-                        redeemTransaction.setBalanceAfter(500);
 
-                        when(customerRepository.findByIdAndTenantIdAndDeletedAtIsNull(customerId, TENANT_ID))
-                                        .thenReturn(Optional.of(customer));
+                        when(loyaltyProgramCache.get(TENANT_ID)).thenReturn(goldProgram());
+                        when(loyaltyBalanceRepository.applyPointsChange(eq(TENANT_ID), eq(customerId), eq(-500),
+                                        any(UUID[].class), any(int[].class)))
+                                        .thenReturn(Optional.of(new LoyaltyBalanceRepository.Balance(2500, 500, tierId)));
                         when(adminMapper.toLoyaltyTransaction(redeemRequest)).thenReturn(redeemTransaction);
                         when(loyaltyTransactionRepository.save(redeemTransaction)).thenReturn(redeemTransaction);
-                        when(loyaltyTierRepository.findTierForPoints(eq(TENANT_ID), anyInt()))
-                                        .thenReturn(Optional.of(loyaltyTier));
-                        when(customerRepository.save(customer)).thenReturn(customer);
                         when(adminMapper.toLoyaltyTransactionResponse(redeemTransaction))
                                         .thenReturn(transactionResponse);
 
                         LoyaltyTransactionResponse result = loyaltyService.createTransaction(redeemRequest);
 
                         assertThat(result).isNotNull();
-                        verify(customerRepository).save(customer);
+                        assertThat(redeemTransaction.getBalanceAfter()).isEqualTo(500);
                 }
 
                 @Test
@@ -454,22 +463,32 @@ class LoyaltyServiceTest {
                                         .description("Redemption test")
                                         .build();
 
-                        when(customerRepository.findByIdAndTenantIdAndDeletedAtIsNull(customerId, TENANT_ID))
-                                        .thenReturn(Optional.of(customer));
+                        when(loyaltyProgramCache.get(TENANT_ID)).thenReturn(goldProgram());
+                        when(loyaltyBalanceRepository.applyPointsChange(eq(TENANT_ID), eq(customerId), eq(-5000),
+                                        any(UUID[].class), any(int[].class)))
+                                        .thenReturn(Optional.empty());
+                        when(loyaltyBalanceRepository.findAvailablePoints(TENANT_ID, customerId))
+                                        .thenReturn(Optional.of(1000));
 
                         assertThatThrownBy(() -> loyaltyService.createTransaction(redeemRequest))
                                         .isInstanceOf(IllegalArgumentException.class)
-                                        .hasMessageContaining("Insufficient points");
+                                        .hasMessageContaining("Insufficient points. Current: 1000");
+                        verifyNoInteractions(loyaltyTransactionRepository);
                 }
 
                 @Test
                 @DisplayName("Should throw exception when customer not found")
                 void shouldThrowExceptionWhenCustomerNotFound() {
-                        when(customerRepository.findByIdAndTenantIdAndDeletedAtIsNull(customerId, TENANT_ID))
+                        when(loyaltyProgramCache.get(TENANT_ID)).thenReturn(goldProgram());
+                        when(loyaltyBalanceRepository.applyPointsChange(eq(TENANT_ID), eq(customerId), eq(100),
+                                        any(UUID[].class), any(int[].class)))
+                                        .thenReturn(Optional.empty());
+                        when(loyaltyBalanceRepository.findAvailablePoints(TENANT_ID, customerId))
                                         .thenReturn(Optional.empty());
 
                         assertThatThrownBy(() -> loyaltyService.createTransaction(transactionRequest))
                                         .isInstanceOf(ResourceNotFoundException.class);
+                        verifyNoInteractions(loyaltyTransactionRepository);
                 }
 
                 @Test
@@ -576,14 +595,14 @@ class LoyaltyServiceTest {
                 void shouldCalculatePointsWithTierMultiplier() {
                         when(customerRepository.findByIdAndTenantIdAndDeletedAtIsNull(customerId, TENANT_ID))
                                         .thenReturn(Optional.of(customer));
-                        when(loyaltyTierRepository.findByIdAndTenantIdAndDeletedAtIsNull(tierId, TENANT_ID))
-                                        .thenReturn(Optional.of(loyaltyTier));
+                        when(loyaltyProgramCache.get(TENANT_ID)).thenReturn(goldProgram());
 
                         int result = loyaltyService.calculatePointsForPurchase(customerId,
                                         BigDecimal.valueOf(100), BigDecimal.ONE);
 
                         // 100 * 1 * 2.0 = 200 points
                         assertThat(result).isEqualTo(200);
+                        verifyNoInteractions(loyaltyTierRepository);
                 }
 
                 @Test
@@ -592,6 +611,7 @@ class LoyaltyServiceTest {
                         customer.setLoyaltyTierId(null);
                         when(customerRepository.findByIdAndTenantIdAndDeletedAtIsNull(customerId, TENANT_ID))
                                         .thenReturn(Optional.of(customer));
+                        when(loyaltyProgramCache.get(TENANT_ID)).thenReturn(goldProgram());
 
                         int result = loyaltyService.calculatePointsForPurchase(customerId,
                                         BigDecimal.valueOf(100), BigDecimal.ONE);
@@ -605,8 +625,8 @@ class LoyaltyServiceTest {
                 void shouldCalculatePointsWhenTierNotFound() {
                         when(customerRepository.findByIdAndTenantIdAndDeletedAtIsNull(customerId, TENANT_ID))
                                         .thenReturn(Optional.of(customer));
-                        when(loyaltyTierRepository.findByIdAndTenantIdAndDeletedAtIsNull(tierId, TENANT_ID))
-                                        .thenReturn(Optional.empty());
+                        when(loyaltyProgramCache.get(TENANT_ID))
+                                        .thenReturn(new LoyaltyProgram(true, BigDecimal.ONE, List.of()));
 
                         int result = loyaltyService.calculatePointsForPurchase(customerId,
                                         BigDecimal.valueOf(100), BigDecimal.ONE);
@@ -626,4 +646,10 @@ class LoyaltyServiceTest {
                                         .isInstanceOf(ResourceNotFoundException.class);
                 }
         }
+
+        private LoyaltyProgram goldProgram() {
+                return new LoyaltyProgram(true, BigDecimal.ONE, List.of(
+                                new LoyaltyProgram.Tier(UUID.randomUUID(), 0, BigDecimal.ONE),
+                                new LoyaltyProgram.Tier(tierId, 2000, BigDecimal.valueOf(2.0))));
+        }
 }
@@ -0,0 +1,104 @@
+package com.cursorpos.admin.service;
+
+import com.cursorpos.admin.dto.RateLimitProfileResponse;
+import com.cursorpos.admin.repository.TenantRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RateLimitProfileService.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({ "PMD.AvoidDuplicateLiterals", "null" })
+class RateLimitProfileServiceTest {
+
+    private static final String PREMIUM_FEATURES = "{\"support\": \"priority\", \"rate_limits\": {"
+            + "\"read\": {\"replenish_rate\": 50, \"burst_capacity\": 100}, "
+            + "\"write\": {\"replenish_rate\": 25, \"burst_capacity\": 50}}}";
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    private RateLimitProfileService rateLimitProfileService;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitProfileService = new RateLimitProfileService(tenantRepository, new ObjectMapper());
+    }
+
+    private static TenantRepository.TenantPlanView view(String tenantId, String planCode, String features) {
+        return new TenantRepository.TenantPlanView() {
+            @Override
+            public String getTenantId() {
+                return tenantId;
+            }
+
+            @Override
+            public String getPlanCode() {
+                return planCode;
+            }
+
+            @Override
+            public String getFeatures() {
+                return features;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should build read and write tiers from plan features")
+    void shouldBuildProfilesFromFeatures() {
+        when(tenantRepository.findActiveTenantPlans(any(), any())).thenReturn(List.of(
+                view("tenant-a", "PREMIUM", PREMIUM_FEATURES),
+                view("tenant-b", "PREMIUM", PREMIUM_FEATURES)));
+
+        List<RateLimitProfileResponse> profiles = rateLimitProfileService.getActiveProfiles();
+
+        assertThat(profiles).hasSize(2);
+        assertThat(profiles.get(0).getTenantId()).isEqualTo("tenant-a");
+        assertThat(profiles.get(0).getPlanCode()).isEqualTo("PREMIUM");
+        assertThat(profiles.get(0).getRead().getReplenishRate()).isEqualTo(50);
+        assertThat(profiles.get(0).getRead().getBurstCapacity()).isEqualTo(100);
+        assertThat(profiles.get(1).getWrite().getReplenishRate()).isEqualTo(25);
+        assertThat(profiles.get(1).getWrite().getBurstCapacity()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("Should omit tenants whose plan has no rate limits")
+    void shouldOmitPlansWithoutRateLimits() {
+        when(tenantRepository.findActiveTenantPlans(any(), any())).thenReturn(List.of(
+                view("tenant-a", "CUSTOM", "[\"Advanced Analytics\"]"),
+                view("tenant-b", "EMPTY", null),
+                view("tenant-c", "BROKEN", "{not json")));
+
+        assertThat(rateLimitProfileService.getActiveProfiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reuse a single tier for both classes when only one is defined")
+    void shouldReuseSingleTier() {
+        when(tenantRepository.findActiveTenantPlans(any(), any())).thenReturn(List.of(
+                view("tenant-a", "BASIC", "{\"rate_limits\": {\"read\": {\"replenish_rate\": 20}}}")));
+
+        List<RateLimitProfileResponse> profiles = rateLimitProfileService.getActiveProfiles();
+
+        assertThat(profiles).hasSize(1);
+        assertThat(profiles.get(0).getWrite()).isEqualTo(profiles.get(0).getRead());
+        assertThat(profiles.get(0).getRead().getBurstCapacity()).isEqualTo(20);
+    }
+}
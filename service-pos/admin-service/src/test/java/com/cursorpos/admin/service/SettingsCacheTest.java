@@ -0,0 +1,95 @@
+package com.cursorpos.admin.service;
+
+import com.cursorpos.admin.entity.Settings;
+import com.cursorpos.admin.repository.SettingsRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SettingsCache.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({ "PMD.AvoidDuplicateLiterals", "null" })
+class SettingsCacheTest {
+
+    private static final String TENANT_ID = "tenant-test-001";
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Mock
+    private SettingsRepository settingsRepository;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private SettingsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SettingsCache(settingsRepository, new ObjectMapper(), TTL, clock::get);
+    }
+
+    private static Settings taxRate(String value) {
+        Settings settings = new Settings();
+        settings.setTenantId(TENANT_ID);
+        settings.setSettingKey("pos.tax.rate");
+        settings.setSettingValue(value);
+        settings.setCategory("POS");
+        settings.setValueType("NUMBER");
+        settings.setIsSystem(false);
+        settings.setIsEncrypted(false);
+        return settings;
+    }
+
+    private String cachedTaxRate() {
+        return cache.get(TENANT_ID).get("pos.tax.rate").orElseThrow().rawValue();
+    }
+
+    @Test
+    @DisplayName("Should load on miss and serve from cache until the TTL expires")
+    void shouldServeFromCacheUntilExpiry() {
+        when(settingsRepository.findByTenantIdAndDeletedAtIsNull(TENANT_ID))
+                .thenReturn(List.of(taxRate("0.10")))
+                .thenReturn(List.of(taxRate("0.11")));
+
+        assertThat(cachedTaxRate()).isEqualTo("0.10");
+        clock.addAndGet(TTL.minusSeconds(1).toNanos());
+        assertThat(cachedTaxRate()).isEqualTo("0.10");
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(cachedTaxRate()).isEqualTo("0.11");
+
+        verify(settingsRepository, times(2)).findByTenantIdAndDeletedAtIsNull(TENANT_ID);
+    }
+
+    @Test
+    @DisplayName("Should not let a miss that read before a write replace the reloaded snapshot")
+    void shouldKeepSnapshotOfLaterLoad() {
+        // The miss reads the old row; a write commits and reloads before the miss installs its result
+        when(settingsRepository.findByTenantIdAndDeletedAtIsNull(TENANT_ID))
+                .thenAnswer(invocation -> {
+                    cache.refresh(TENANT_ID);
+                    return List.of(taxRate("0.10"));
+                })
+                .thenReturn(List.of(taxRate("0.11")));
+
+        SettingsSnapshot returned = cache.get(TENANT_ID);
+
+        assertThat(returned.get("pos.tax.rate").orElseThrow().rawValue()).isEqualTo("0.11");
+        assertThat(cachedTaxRate()).isEqualTo("0.11");
+        verify(settingsRepository, times(2)).findByTenantIdAndDeletedAtIsNull(TENANT_ID);
+    }
+}
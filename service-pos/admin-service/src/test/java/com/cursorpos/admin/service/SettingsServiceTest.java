@@ -2,17 +2,23 @@ package com.cursorpos.admin.service;
 
 import com.cursorpos.admin.dto.SettingsRequest;
 import com.cursorpos.admin.dto.SettingsResponse;
+import com.cursorpos.admin.dto.SettingsSnapshotResponse;
 import com.cursorpos.admin.entity.Settings;
 import com.cursorpos.admin.mapper.AdminMapper;
+import com.cursorpos.admin.event.SettingsChangedEvent;
 import com.cursorpos.admin.repository.SettingsRepository;
+import com.cursorpos.shared.event.EventTopics;
 import com.cursorpos.shared.exception.ResourceNotFoundException;
+import com.cursorpos.shared.outbox.OutboxEventPublisher;
 import com.cursorpos.shared.security.TenantContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -28,6 +34,8 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -47,12 +55,19 @@ class SettingsServiceTest {
     @Mock
     private AdminMapper adminMapper;
 
+    @Mock
+    private SettingsCache settingsCache;
+
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+
     @InjectMocks
     private SettingsService settingsService;
 
     private MockedStatic<TenantContext> tenantContextMock;
 
     private static final String TENANT_ID = "tenant-test-001";
+    private static final AdminMapper MAPPER = Mappers.getMapper(AdminMapper.class);
     private UUID settingsId;
     private Settings settings;
     private SettingsRequest request;
@@ -71,8 +86,10 @@ class SettingsServiceTest {
         settings.setSettingKey("pos.tax.rate");
         settings.setSettingValue("0.10");
         settings.setCategory("POS");
+        settings.setValueType("NUMBER");
         settings.setDescription("Default tax rate");
         settings.setIsSystem(false);
+        settings.setIsEncrypted(false);
 
         request = SettingsRequest.builder()
                 .settingKey("pos.tax.rate")
@@ -116,6 +133,9 @@ class SettingsServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getSettingKey()).isEqualTo("pos.tax.rate");
             verify(settingsRepository).save(settings);
+            verify(settingsCache).refreshAfterCommit(TENANT_ID);
+            verify(outboxEventPublisher).publish(eq(EventTopics.SETTINGS_CHANGED), eq("Settings"), eq(TENANT_ID),
+                    any(SettingsChangedEvent.class));
         }
 
         @Test
@@ -143,6 +163,8 @@ class SettingsServiceTest {
             assertThatThrownBy(() -> settingsService.createOrUpdateSetting(request))
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("system settings");
+            verify(settingsCache, never()).refreshAfterCommit(any());
+            verifyNoInteractions(outboxEventPublisher);
         }
     }
 
@@ -151,23 +173,24 @@ class SettingsServiceTest {
     class GetSettingByKeyTests {
 
         @Test
-        @DisplayName("Should return setting when found by key")
+        @DisplayName("Should return setting from the cached snapshot")
         void shouldReturnSettingWhenFoundByKey() {
-            when(settingsRepository.findByTenantIdAndSettingKeyAndDeletedAtIsNull(TENANT_ID, "pos.tax.rate"))
-                    .thenReturn(Optional.of(settings));
-            when(adminMapper.toSettingsResponse(settings)).thenReturn(response);
+            mapSnapshotSettings();
+            when(settingsCache.get(TENANT_ID)).thenReturn(snapshotOf(settings));
 
             SettingsResponse result = settingsService.getSettingByKey("pos.tax.rate");
 
             assertThat(result).isNotNull();
+            assertThat(result.getId()).isEqualTo(settingsId);
             assertThat(result.getSettingKey()).isEqualTo("pos.tax.rate");
+            assertThat(result.getSettingValue()).isEqualTo("0.10");
+            verifyNoInteractions(settingsRepository);
         }
 
         @Test
         @DisplayName("Should throw exception when setting not found by key")
         void shouldThrowExceptionWhenNotFoundByKey() {
-            when(settingsRepository.findByTenantIdAndSettingKeyAndDeletedAtIsNull(TENANT_ID, "invalid.key"))
-                    .thenReturn(Optional.empty());
+            when(settingsCache.get(TENANT_ID)).thenReturn(snapshotOf(settings));
 
             assertThatThrownBy(() -> settingsService.getSettingByKey("invalid.key"))
                     .isInstanceOf(ResourceNotFoundException.class);
@@ -181,14 +204,33 @@ class SettingsServiceTest {
         @Test
         @DisplayName("Should return settings by category")
         void shouldReturnSettingsByCategory() {
-            when(settingsRepository.findByTenantIdAndCategoryAndDeletedAtIsNull(TENANT_ID, "POS"))
-                    .thenReturn(List.of(settings));
-            when(adminMapper.toSettingsResponse(settings)).thenReturn(response);
+            mapSnapshotSettings();
+            when(settingsCache.get(TENANT_ID)).thenReturn(snapshotOf(settings));
 
             List<SettingsResponse> result = settingsService.getSettingsByCategory("POS");
 
             assertThat(result).hasSize(1);
             assertThat(result.get(0).getCategory()).isEqualTo("POS");
+            assertThat(settingsService.getSettingsByCategory("OTHER")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("getSettingsSnapshot tests")
+    class GetSettingsSnapshotTests {
+
+        @Test
+        @DisplayName("Should return all settings with the snapshot version")
+        void shouldReturnAllSettingsWithVersion() {
+            mapSnapshotSettings();
+            SettingsSnapshot snapshot = snapshotOf(settings);
+            when(settingsCache.get(TENANT_ID)).thenReturn(snapshot);
+
+            SettingsSnapshotResponse result = settingsService.getSettingsSnapshot();
+
+            assertThat(result.getVersion()).isEqualTo(snapshot.getVersion());
+            assertThat(result.getSettings()).extracting(SettingsResponse::getSettingKey)
+                    .containsExactly("pos.tax.rate");
         }
     }
 
@@ -225,6 +267,9 @@ class SettingsServiceTest {
             settingsService.deleteSetting(settingsId);
 
             verify(settingsRepository).save(settings);
+            verify(settingsCache).refreshAfterCommit(TENANT_ID);
+            verify(outboxEventPublisher).publish(eq(EventTopics.SETTINGS_CHANGED), eq("Settings"), eq(TENANT_ID),
+                    any(SettingsChangedEvent.class));
         }
 
         @Test
@@ -264,4 +309,14 @@ class SettingsServiceTest {
                     .isInstanceOf(NullPointerException.class);
         }
     }
+
+    private void mapSnapshotSettings() {
+        when(adminMapper.toSettingsResponse(any(SettingsSnapshot.Setting.class)))
+                .thenAnswer(invocation -> MAPPER.toSettingsResponse(
+                        invocation.getArgument(0, SettingsSnapshot.Setting.class)));
+    }
+
+    private static SettingsSnapshot snapshotOf(Settings... rows) {
+        return SettingsSnapshot.of(List.of(rows), new ObjectMapper());
+    }
 }
@@ -0,0 +1,210 @@
+package com.cursorpos.admin.service;
+
+import com.cursorpos.admin.entity.Tenant;
+import com.cursorpos.admin.repository.TenantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TenantDescriptorCache.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({ "PMD.AvoidDuplicateLiterals", "null" })
+class TenantDescriptorCacheTest {
+
+    private static final String TENANT_ID = "tenant-coffee-001";
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration REFRESH_AHEAD = Duration.ofMinutes(2);
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Runnable> queued = new ArrayList<>();
+
+    private TenantDescriptorCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TenantDescriptorCache(tenantRepository, TTL, REFRESH_AHEAD, clock::get, queued::add);
+    }
+
+    private static Tenant tenant(String tenantId, long version) {
+        Tenant tenant = new Tenant();
+        tenant.setTenantId(tenantId);
+        tenant.setCode(tenantId);
+        tenant.setName("Coffee Shop");
+        tenant.setIsActive(true);
+        tenant.setCurrency("IDR");
+        tenant.setTimezone("Asia/Jakarta");
+        tenant.setLoyaltyEnabled(false);
+        tenant.setLoyaltyPointsPerCurrency(new BigDecimal("0.50"));
+        tenant.setVersion(version);
+        return tenant;
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    @Nested
+    @DisplayName("get tests")
+    class GetTests {
+
+        @Test
+        @DisplayName("Should load on miss and serve from cache afterwards")
+        void shouldLoadOnMissAndServeFromCache() {
+            when(tenantRepository.findFirstByTenantIdAndDeletedAtIsNull(TENANT_ID))
+                    .thenReturn(Optional.of(tenant(TENANT_ID, 3)));
+
+            TenantDescriptor first = cache.get(TENANT_ID).orElseThrow();
+            advance(Duration.ofMinutes(5));
+            TenantDescriptor second = cache.get(TENANT_ID).orElseThrow();
+
+            assertThat(second).isSameAs(first);
+            assertThat(first.currency()).isEqualTo("IDR");
+            assertThat(first.loyaltyEnabled()).isFalse();
+            assertThat(first.version()).isEqualTo(3);
+            verify(tenantRepository, times(1)).findFirstByTenantIdAndDeletedAtIsNull(TENANT_ID);
+            assertThat(queued).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should cache unknown tenants as absent")
+        void shouldCacheUnknownTenantsAsAbsent() {
+            when(tenantRepository.findFirstByTenantIdAndDeletedAtIsNull("missing")).thenReturn(Optional.empty());
+
+            assertThat(cache.get("missing")).isEmpty();
+            assertThat(cache.get("missing")).isEmpty();
+
+            verify(tenantRepository, times(1)).findFirstByTenantIdAndDeletedAtIsNull("missing");
+        }
+
+        @Test
+        @DisplayName("Should serve current entry and refresh in background near expiry")
+        void shouldRefreshAheadInBackground() {
+            when(tenantRepository.findFirstByTenantIdAndDeletedAtIsNull(TENANT_ID))
+                    .thenReturn(Optional.of(tenant(TENANT_ID, 3)))
+                    .thenReturn(Optional.of(tenant(TENANT_ID, 4)));
+            cache.get(TENANT_ID);
+
+            advance(Duration.ofMinutes(9));
+            assertThat(cache.get(TENANT_ID).orElseThrow().version()).isEqualTo(3);
+            assertThat(cache.get(TENANT_ID).orElseThrow().version()).isEqualTo(3);
+
+            // Only one refresh is queued however often the entry is read
+            assertThat(queued).hasSize(1);
+            queued.get(0).run();
+
+            assertThat(cache.get(TENANT_ID).orElseThrow().version()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should reload on the caller thread once expired")
+        void shouldReloadSynchronouslyWhenExpired() {
+            when(tenantRepository.findFirstByTenantIdAndDeletedAtIsNull(TENANT_ID))
+                    .thenReturn(Optional.of(tenant(TENANT_ID, 3)))
+                    .thenReturn(Optional.of(tenant(TENANT_ID, 4)));
+            cache.get(TENANT_ID);
+
+            advance(TTL);
+
+            assertThat(cache.get(TENANT_ID).orElseThrow().version()).isEqualTo(4);
+            assertThat(queued).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should not replace a newer row version with an older load")
+        void shouldKeepNewerVersion() {
+            // The miss reads version 3; an update commits and reloads version 4 before the miss installs
+            when(tenantRepository.findFirstByTenantIdAndDeletedAtIsNull(TENANT_ID))
+                    .thenAnswer(invocation -> {
+                        cache.refreshAfterCommit(TENANT_ID);
+                        return Optional.of(tenant(TENANT_ID, 3));
+                    })
+                    .thenReturn(Optional.of(tenant(TENANT_ID, 4)));
+
+            assertThat(cache.get(TENANT_ID).orElseThrow().version()).isEqualTo(4);
+            assertThat(cache.get(TENANT_ID).orElseThrow().version()).isEqualTo(4);
+            verify(tenantRepository, times(2)).findFirstByTenantIdAndDeletedAtIsNull(TENANT_ID);
+        }
+
+        @Test
+        @DisplayName("Should keep current entry when background refresh fails")
+        void shouldKeepEntryWhenRefreshFails() {
+            when(tenantRepository.findFirstByTenantIdAndDeletedAtIsNull(TENANT_ID))
+                    .thenReturn(Optional.of(tenant(TENANT_ID, 3)))
+                    .thenThrow(new IllegalStateException("database unavailable"));
+            cache.get(TENANT_ID);
+            advance(Duration.ofMinutes(9));
+            cache.get(TENANT_ID);
+
+            queued.get(0).run();
+
+            assertThat(cache.get(TENANT_ID).orElseThrow().version()).isEqualTo(3);
+            // The failed refresh is no longer in flight, so the next read queues another
+            assertThat(queued).hasSize(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("warmUp tests")
+    class WarmUpTests {
+
+        @Test
+        @DisplayName("Should load all active tenants in one query")
+        void shouldLoadAllActiveTenants() {
+            when(tenantRepository.findByIsActiveTrueAndDeletedAtIsNull())
+                    .thenReturn(List.of(tenant("tenant-a", 1), tenant("tenant-b", 1)));
+
+            int loaded = cache.warmUp();
+
+            assertThat(loaded).isEqualTo(2);
+            assertThat(cache.get("tenant-a")).isPresent();
+            assertThat(cache.get("tenant-b")).isPresent();
+            verify(tenantRepository, never()).findFirstByTenantIdAndDeletedAtIsNull(any());
+        }
+
+        @Test
+        @DisplayName("Should spread refreshes of warmed-up entries")
+        void shouldSpreadRefreshes() {
+            when(tenantRepository.findByIsActiveTrueAndDeletedAtIsNull())
+                    .thenReturn(List.of(tenant("tenant-a", 1), tenant("tenant-b", 1)));
+            cache.warmUp();
+
+            advance(Duration.ofMinutes(5));
+            cache.get("tenant-a");
+            cache.get("tenant-b");
+
+            // Refreshes start halfway to the refresh point, in list order
+            assertThat(queued).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject refresh-ahead not shorter than TTL")
+    void shouldRejectRefreshAheadNotShorterThanTtl() {
+        assertThatThrownBy(() -> new TenantDescriptorCache(tenantRepository, TTL, TTL, clock::get, queued::add))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -44,6 +44,9 @@ class TenantServiceTest {
     @Mock
     private AdminMapper adminMapper;
 
+    @Mock
+    private TenantDescriptorCache tenantDescriptorCache;
+
     @InjectMocks
     private TenantService tenantService;
 
@@ -121,6 +124,7 @@ class TenantServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getCode()).isEqualTo("TENANT-001");
             verify(tenantRepository).save(tenant);
+            verify(tenantDescriptorCache).refreshAfterCommit("TENANT-001");
         }
 
         @Test
@@ -177,6 +181,34 @@ class TenantServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getTenantDescriptor tests")
+    class GetTenantDescriptorTests {
+
+        @Test
+        @DisplayName("Should return cached descriptor")
+        void shouldReturnCachedDescriptor() {
+            tenant.setTenantId("TENANT-001");
+            TenantDescriptor descriptor = TenantDescriptor.of(tenant);
+            when(tenantDescriptorCache.get("TENANT-001")).thenReturn(Optional.of(descriptor));
+
+            TenantDescriptor result = tenantService.getTenantDescriptor("TENANT-001");
+
+            assertThat(result).isSameAs(descriptor);
+            verifyNoInteractions(tenantRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw exception when tenant not found")
+        void shouldThrowExceptionWhenNotFound() {
+            when(tenantDescriptorCache.get("MISSING")).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> tenantService.getTenantDescriptor("MISSING"))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessageContaining("MISSING");
+        }
+    }
+
     @Nested
     @DisplayName("getTenantById tests")
     class GetTenantByIdTests {
@@ -318,6 +350,7 @@ class TenantServiceTest {
             tenantService.deleteTenant(tenantId);
 
             verify(tenantRepository).save(tenant);
+            verify(tenantDescriptorCache).refreshAfterCommit(tenant.getTenantId());
         }
 
         @Test
@@ -0,0 +1,28 @@
+package com.cursorpos.gateway.coalescing;
+
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+/**
+ * Resolves the authorization scope of a request for coalescing.
+ * 
+ * <p>
+ * Requests are only coalesced when their scopes are equal, so a scope must
+ * capture everything the upstream uses to decide what a caller may see.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@FunctionalInterface
+public interface AuthScopeResolver {
+
+    /**
+     * Resolves the scope of the request.
+     * 
+     * @param request the incoming request
+     * @return the scope, or null if the request must not be coalesced (e.g.
+     *         missing or invalid credentials)
+     */
+    String resolve(ServerHttpRequest request);
+}
@@ -0,0 +1,51 @@
+package com.cursorpos.gateway.coalescing;
+
+import com.cursorpos.shared.security.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+/**
+ * Scope derived from the verified JWT: tenant, store, branch and role.
+ * 
+ * <p>
+ * The gateway does not authenticate requests itself, so the token signature
+ * and expiry are checked here before a request may share another caller's
+ * response. Requests without a valid token are never coalesced and reach the
+ * upstream service, which rejects them as usual.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JwtAuthScopeResolver implements AuthScopeResolver {
+
+    private final JwtUtil jwtUtil;
+
+    @Override
+    public String resolve(ServerHttpRequest request) {
+        String token = jwtUtil.extractTokenFromHeader(request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+        if (token == null) {
+            return null;
+        }
+        try {
+            // One signature check; throws on invalid or expired tokens
+            return jwtUtil.extractClaim(token, claims -> {
+                String tenantId = claims.get("tenant_id", String.class);
+                if (tenantId == null || tenantId.isBlank()) {
+                    return null;
+                }
+                return tenantId + '|' + claims.get("store_id", String.class)
+                        + '|' + claims.get("branch_id", String.class)
+                        + '|' + claims.get("role", String.class);
+            });
+        } catch (Exception e) {
+            log.debug("Not coalescing request with invalid token: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.cursorpos.gateway.coalescing;
+
+import com.cursorpos.shared.util.PathPrefixMatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.RouteToRequestUrlFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Single-flight layer for hot GET endpoints.
+ * 
+ * <p>
+ * Identical concurrent GETs (same auth scope, path, query and
+ * {@code Accept}) are collapsed into one upstream call: the first request is
+ * forwarded and the others wait for its response, which is then written to
+ * all of them. Optionally, successful responses are also kept for a short
+ * micro-cache window so a burst that arrives just after the leader finishes
+ * is still served without an upstream call.
+ * </p>
+ * 
+ * <p>
+ * If the leader fails or its response cannot be captured (streaming, or a
+ * body larger than {@code maxCapturedBodyBytes}), waiters fall back to
+ * forwarding their own request. The leader's body is streamed through while a
+ * copy is kept, so an oversized response is never held in memory. Every
+ * request is counted in {@code gateway.coalescing.requests} with an
+ * {@code outcome} tag of {@code forwarded}, {@code coalesced} or
+ * {@code cached}.
+ * </p>
+ * 
+ * <p>
+ * The filter runs after the route filters, so every request, including one
+ * served from a leader or the micro-cache, has passed
+ * {@code RequestRateLimiter} first. The leader's response must be wrapped
+ * before {@link NettyWriteResponseFilter} writes it, which happens earlier in
+ * the chain; that is done by {@link #responseCaptureFilter()}, which has to be
+ * registered as well.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Slf4j
+public class RequestCoalescingFilter implements GlobalFilter, Ordered {
+
+    public static final String COALESCED_HEADER = "X-Coalesced";
+
+    /**
+     * After the route filters, which are ordered by position from 1, and
+     * before the request is routed.
+     */
+    public static final int COALESCING_FILTER_ORDER = RouteToRequestUrlFilter.ROUTE_TO_URL_FILTER_ORDER - 1;
+
+    static final String METRIC_NAME = "gateway.coalescing.requests";
+
+    private final PathPrefixMatcher pathMatcher;
+    private final AuthScopeResolver scopeResolver;
+    private final LongSupplier nanoClock;
+    private final Map<String, Sinks.One<CapturedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, CachedEntry> microCache = new ConcurrentHashMap<>();
+
+    private final Counter forwarded;
+    private final Counter coalesced;
+    private final Counter cached;
+
+    private Duration microCacheTtl = Duration.ZERO;
+    private int maxCacheEntries = 1_000;
+    private int maxCachedBodyBytes = 256 * 1024;
+    private int maxCapturedBodyBytes = 1024 * 1024;
+
+    public RequestCoalescingFilter(PathPrefixMatcher pathMatcher, AuthScopeResolver scopeResolver,
+            MeterRegistry meterRegistry) {
+        this(pathMatcher, scopeResolver, meterRegistry, System::nanoTime);
+    }
+
+    RequestCoalescingFilter(PathPrefixMatcher pathMatcher, AuthScopeResolver scopeResolver,
+            MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.pathMatcher = pathMatcher;
+        this.scopeResolver = scopeResolver;
+        this.nanoClock = nanoClock;
+        this.forwarded = meterRegistry.counter(METRIC_NAME, "outcome", "forwarded");
+        this.coalesced = meterRegistry.counter(METRIC_NAME, "outcome", "coalesced");
+        this.cached = meterRegistry.counter(METRIC_NAME, "outcome", "cached");
+    }
+
+    /**
+     * Filter wrapping the response of coalescable requests so a leader's body
+     * can be captured. Must be registered alongside this filter.
+     * 
+     * @return the capture filter, ordered before the response is written
+     */
+    public GlobalFilter responseCaptureFilter() {
+        return new ResponseCaptureFilter();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!isCoalescable(request)) {
+            return chain.filter(exchange);
+        }
+        String scope = scopeResolver.resolve(request);
+        if (scope == null) {
+            return chain.filter(exchange);
+        }
+        String key = key(scope, request);
+
+        CapturedResponse fromCache = cachedResponse(key);
+        if (fromCache != null) {
+            cached.increment();
+            return write(exchange.getResponse(), fromCache);
+        }
+
+        Sinks.One<CapturedResponse> sink = Sinks.one();
+        Sinks.One<CapturedResponse> leader = inFlight.putIfAbsent(key, sink);
+        if (leader != null) {
+            coalesced.increment();
+            return leader.asMono()
+                    .flatMap(captured -> write(exchange.getResponse(), captured))
+                    .onErrorResume(e -> {
+                        log.debug("Coalesced request {} falling back to upstream: {}", key, e.getMessage());
+                        return chain.filter(exchange);
+                    });
+        }
+
+        forwarded.increment();
+        ServerWebExchange leaderExchange = exchange;
+        if (!(exchange.getResponse() instanceof CapturingResponse)) {
+            // Capture filter not in the chain (e.g. invoked directly); wrap here
+            leaderExchange = exchange.mutate().response(new CapturingResponse(exchange.getResponse())).build();
+        }
+        ((CapturingResponse) leaderExchange.getResponse()).capture(key, sink);
+        return chain.filter(leaderExchange)
+                .doFinally(signal -> {
+                    inFlight.remove(key, sink);
+                    // No-op if the response was captured
+                    sink.tryEmitError(new IllegalStateException("Leader response not captured: " + signal));
+                });
+    }
+
+    private boolean isCoalescable(ServerHttpRequest request) {
+        return request.getMethod() == HttpMethod.GET && pathMatcher.matches(request.getURI().getPath());
+    }
+
+    private static String key(String scope, ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        String accept = request.getHeaders().getFirst(HttpHeaders.ACCEPT);
+        return scope + ' ' + request.getURI().getRawPath()
+                + (query != null ? "?" + query : "")
+                + ' ' + (accept != null ? accept : "");
+    }
+
+    private CapturedResponse cachedResponse(String key) {
+        if (microCacheTtl.isZero()) {
+            return null;
+        }
+        CachedEntry entry = microCache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (nanoClock.getAsLong() - entry.expiresAt() >= 0) {
+            microCache.remove(key, entry);
+            return null;
+        }
+        return entry.response();
+    }
+
+    private void store(String key, CapturedResponse response) {
+        if (microCacheTtl.isZero() || !response.status().is2xxSuccessful()
+                || response.body().length > maxCachedBodyBytes) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        if (microCache.size() >= maxCacheEntries) {
+            microCache.values().removeIf(entry -> now - entry.expiresAt() >= 0);
+            if (microCache.size() >= maxCacheEntries) {
+                return;
+            }
+        }
+        microCache.put(key, new CachedEntry(response, now + microCacheTtl.toNanos()));
+    }
+
+    private static Mono<Void> write(ServerHttpResponse response, CapturedResponse captured) {
+        response.setStatusCode(captured.status());
+        HttpHeaders headers = response.getHeaders();
+        captured.headers().forEach((name, values) -> {
+            if (!headers.containsKey(name)) {
+                headers.addAll(name, values);
+            }
+        });
+        headers.remove(HttpHeaders.TRANSFER_ENCODING);
+        headers.setContentLength(captured.body().length);
+        headers.set(COALESCED_HEADER, "true");
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(captured.body())));
+    }
+
+    /**
+     * Number of keys currently held in the micro-cache.
+     */
+    int cachedKeys() {
+        return microCache.size();
+    }
+
+    @Override
+    public int getOrder() {
+        return COALESCING_FILTER_ORDER;
+    }
+
+    public void setMicroCacheTtl(Duration microCacheTtl) {
+        this.microCacheTtl = microCacheTtl;
+    }
+
+    public void setMaxCacheEntries(int maxCacheEntries) {
+        this.maxCacheEntries = maxCacheEntries;
+    }
+
+    public void setMaxCachedBodyBytes(int maxCachedBodyBytes) {
+        this.maxCachedBodyBytes = maxCachedBodyBytes;
+    }
+
+    public void setMaxCapturedBodyBytes(int maxCapturedBodyBytes) {
+        this.maxCapturedBodyBytes = maxCapturedBodyBytes;
+    }
+
+    /**
+     * Upstream response shared with coalesced requests.
+     */
+    record CapturedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+
+    private record CachedEntry(CapturedResponse response, long expiresAt) {
+    }
+
+    /**
+     * Wraps the response of coalescable requests before
+     * {@link NettyWriteResponseFilter} captures it for writing.
+     */
+    private final class ResponseCaptureFilter implements GlobalFilter, Ordered {
+
+        @Override
+        public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+            if (!isCoalescable(exchange.getRequest())) {
+                return chain.filter(exchange);
+            }
+            return chain.filter(exchange.mutate().response(new CapturingResponse(exchange.getResponse())).build());
+        }
+
+        @Override
+        public int getOrder() {
+            return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+        }
+    }
+
+    /**
+     * Response that, once {@link #capture armed} for a leader, copies the body
+     * as it is written and hands it to waiters when complete. Unarmed, it
+     * writes straight through.
+     */
+    private final class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private String key;
+        private Sinks.One<CapturedResponse> sink;
+
+        private CapturingResponse(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        private void capture(String key, Sinks.One<CapturedResponse> sink) {
+            this.key = key;
+            this.sink = sink;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (sink == null) {
+                return super.writeWith(body);
+            }
+            BodyCopy copy = new BodyCopy();
+            return super.writeWith(Flux.from(body)
+                    .doOnNext(copy::append)
+                    .doOnComplete(() -> complete(copy)));
+        }
+
+        private void complete(BodyCopy copy) {
+            if (copy.bytes == null) {
+                log.debug("Response for {} exceeds {} bytes, not coalesced", key, maxCapturedBodyBytes);
+                return;
+            }
+            HttpStatusCode status = getStatusCode() != null ? getStatusCode() : HttpStatusCode.valueOf(200);
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(getHeaders());
+            CapturedResponse captured = new CapturedResponse(status, HttpHeaders.readOnlyHttpHeaders(headers),
+                    copy.bytes.toByteArray());
+            store(key, captured);
+            sink.tryEmitValue(captured);
+        }
+
+        /**
+         * Copy of the body written so far; dropped once it would exceed the
+         * capture limit.
+         */
+        private final class BodyCopy {
+
+            private ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            private void append(DataBuffer buffer) {
+                if (bytes == null) {
+                    return;
+                }
+                int length = buffer.readableByteCount();
+                if (bytes.size() + (long) length > maxCapturedBodyBytes) {
+                    bytes = null;
+                    // Waiters forward their own request instead of waiting for this one
+                    inFlight.remove(key, sink);
+                    sink.tryEmitError(new IllegalStateException("Leader response too large to coalesce"));
+                    return;
+                }
+                byte[] chunk = new byte[length];
+                int position = buffer.readPosition();
+                buffer.read(chunk);
+                buffer.readPosition(position);
+                bytes.write(chunk, 0, length);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.cursorpos.gateway.config;
+
+import com.cursorpos.gateway.coalescing.AuthScopeResolver;
+import com.cursorpos.gateway.coalescing.JwtAuthScopeResolver;
+import com.cursorpos.gateway.coalescing.RequestCoalescingFilter;
+import com.cursorpos.shared.security.JwtUtil;
+import com.cursorpos.shared.util.PathPrefixMatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Request coalescing configuration.
+ * 
+ * <p>
+ * Collapses identical concurrent GETs on the paths listed in
+ * {@code gateway.coalescing.paths} into one upstream call. Requests are keyed
+ * by the verified JWT scope, so responses are only shared between callers of
+ * the same tenant, store, branch and role. Coalescing runs after the route
+ * filters, so rate limits apply to every request it serves.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Configuration
+@ConditionalOnProperty(name = "gateway.coalescing.enabled", havingValue = "true", matchIfMissing = true)
+public class CoalescingConfiguration {
+
+    /**
+     * JWT verifier used only to derive coalescing scopes; the gateway itself
+     * still does not authenticate requests.
+     */
+    @Bean
+    public JwtUtil coalescingJwtUtil() {
+        return new JwtUtil();
+    }
+
+    @Bean
+    public AuthScopeResolver authScopeResolver(JwtUtil coalescingJwtUtil) {
+        return new JwtAuthScopeResolver(coalescingJwtUtil);
+    }
+
+    @Bean
+    public RequestCoalescingFilter requestCoalescingFilter(
+            AuthScopeResolver authScopeResolver,
+            MeterRegistry meterRegistry,
+            @Value("${gateway.coalescing.paths:}") List<String> paths,
+            @Value("${gateway.coalescing.micro-cache-ttl:0s}") Duration microCacheTtl,
+            @Value("${gateway.coalescing.max-cache-entries:1000}") int maxCacheEntries,
+            @Value("${gateway.coalescing.max-cached-body-bytes:262144}") int maxCachedBodyBytes,
+            @Value("${gateway.coalescing.max-captured-body-bytes:1048576}") int maxCapturedBodyBytes) {
+        RequestCoalescingFilter filter = new RequestCoalescingFilter(PathPrefixMatcher.compile(paths),
+                authScopeResolver, meterRegistry);
+        filter.setMicroCacheTtl(microCacheTtl);
+        filter.setMaxCacheEntries(maxCacheEntries);
+        filter.setMaxCachedBodyBytes(maxCachedBodyBytes);
+        filter.setMaxCapturedBodyBytes(maxCapturedBodyBytes);
+        return filter;
+    }
+
+    /**
+     * Wraps leader responses before they are written so they can be shared.
+     */
+    @Bean
+    public GlobalFilter coalescingResponseCaptureFilter(RequestCoalescingFilter requestCoalescingFilter) {
+        return requestCoalescingFilter.responseCaptureFilter();
+    }
+}
@@ -1,10 +1,28 @@
 package com.cursorpos.gateway.config;
 
+import com.cursorpos.gateway.ratelimit.HybridRateLimiter;
+import com.cursorpos.gateway.ratelimit.PermitSource;
+import com.cursorpos.gateway.ratelimit.RateLimitProfileResolver;
+import com.cursorpos.gateway.ratelimit.RedisPermitSource;
+import com.cursorpos.gateway.ratelimit.RouteClass;
+import com.cursorpos.gateway.ratelimit.TenantRateLimitProfileRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.support.ConfigurationService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
+
 /**
  * Rate limiting configuration.
  * 
@@ -13,6 +31,17 @@ import reactor.core.publisher.Mono;
  * and ensure fair resource usage across tenants.
  * </p>
  * 
+ * <p>
+ * Routes use the {@link HybridRateLimiter}, which serves requests from
+ * per-node token buckets and only contacts Redis to claim permit batches.
+ * Without Redis the limiter enforces local limits only.
+ * </p>
+ * 
+ * <p>
+ * Limits follow the tenant's subscription plan (loaded from admin-service)
+ * and are applied separately to reads and writes.
+ * </p>
+ * 
  * @author rjnat
  * @version 1.0.0
  * @since 2025-11-13
@@ -20,6 +49,12 @@ import reactor.core.publisher.Mono;
 @Configuration
 public class RateLimitConfiguration {
 
+    /**
+     * Header carrying the shared secret for service-to-service calls, see
+     * ServiceTokenAuthenticationFilter in shared-lib.
+     */
+    static final String SERVICE_TOKEN_HEADER = "X-Service-Token";
+
     /**
      * Rate limit key resolver based on tenant ID.
      * Falls back to IP address if tenant is not authenticated.
@@ -44,4 +79,69 @@ public class RateLimitConfiguration {
             return Mono.just(ipAddress);
         };
     }
+
+    /**
+     * Rate limit key resolver used by routes: tenant ID plus route class
+     * ({@code tenant-001:read} / {@code tenant-001:write}), so plan limits can
+     * be applied separately to reads and checkout writes.
+     * Falls back to IP address if tenant is not authenticated.
+     */
+    @Bean
+    @Primary
+    public KeyResolver tenantRouteClassKeyResolver() {
+        KeyResolver tenantKeyResolver = tenantKeyResolver();
+        return exchange -> {
+            String tenantId = exchange.getRequest().getHeaders().getFirst("X-Tenant-Id");
+            if (tenantId == null || tenantId.isBlank()) {
+                return tenantKeyResolver.resolve(exchange);
+            }
+            RouteClass routeClass = RouteClass.of(exchange.getRequest().getMethod());
+            return Mono.just(tenantId + ":" + routeClass.getKeySuffix());
+        };
+    }
+
+    /**
+     * Per-tenant plan limits, refreshed in the background from admin-service.
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "gateway.rate-limit-profiles.enabled", havingValue = "true", matchIfMissing = true)
+    public TenantRateLimitProfileRegistry tenantRateLimitProfileRegistry(
+            WebClient.Builder webClientBuilder,
+            @Value("${gateway.rate-limit-profiles.uri:http://localhost:8082/api/v1/internal/rate-limit-profiles}") String uri,
+            @Value("${gateway.rate-limit-profiles.refresh-interval:60s}") Duration refreshInterval,
+            @Value("${security.internal.token:}") String serviceToken) {
+        // admin-service only serves /internal endpoints to callers presenting the shared service token
+        WebClient webClient = webClientBuilder.baseUrl(uri)
+                .defaultHeader(SERVICE_TOKEN_HEADER, serviceToken)
+                .build();
+        return new TenantRateLimitProfileRegistry(webClient, refreshInterval);
+    }
+
+    /**
+     * Hybrid local/Redis rate limiter used by the RequestRateLimiter filter.
+     */
+    @Bean
+    @Primary
+    public HybridRateLimiter hybridRateLimiter(
+            ObjectProvider<ReactiveStringRedisTemplate> redisTemplate,
+            @Qualifier("redisRequestRateLimiterScript") ObjectProvider<RedisScript<List<Long>>> script,
+            ConfigurationService configurationService,
+            ObjectProvider<RateLimitProfileResolver> profileResolver,
+            @Value("${gateway.rate-limiter.redis-timeout:200ms}") Duration redisTimeout,
+            @Value("${gateway.rate-limiter.redis-retry-interval:5s}") Duration redisRetryInterval,
+            @Value("${gateway.rate-limiter.max-tracked-keys:10000}") int maxTrackedKeys) {
+        ReactiveStringRedisTemplate template = redisTemplate.getIfAvailable();
+        RedisScript<List<Long>> redisScript = script.getIfAvailable();
+
+        PermitSource permitSource = template != null && redisScript != null
+                ? new RedisPermitSource(template, redisScript, redisTimeout)
+                : (key, rate, capacity, requested) -> Mono.error(
+                        new IllegalStateException("Redis is not configured"));
+
+        HybridRateLimiter limiter = new HybridRateLimiter(permitSource, configurationService);
+        limiter.setRedisRetryInterval(redisRetryInterval);
+        limiter.setMaxTrackedKeys(maxTrackedKeys);
+        limiter.setProfileResolver(profileResolver.getIfAvailable(() -> RateLimitProfileResolver.ROUTE_DEFAULTS));
+        return limiter;
+    }
 }
@@ -1,7 +1,7 @@
 package com.cursorpos.gateway.filter;
 
 import com.cursorpos.shared.security.JwtUtil;
-import lombok.RequiredArgsConstructor;
+import com.cursorpos.shared.util.PathPrefixMatcher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
@@ -12,7 +12,6 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 /**
  * JWT Authentication Gateway Filter.
@@ -34,13 +33,10 @@ import java.util.function.Predicate;
  */
 @Slf4j
 // @Component - Disabled: JwtUtil not available in reactive gateway
-@RequiredArgsConstructor
 public class AuthenticationGatewayFilter implements GatewayFilter {
 
-    private final JwtUtil jwtUtil;
-
     // Public endpoints that don't require authentication
-    private static final List<String> PUBLIC_ENDPOINTS = List.of(
+    static final List<String> PUBLIC_ENDPOINTS = List.of(
             "/api/v1/auth/login",
             "/api/v1/auth/register",
             "/api/v1/auth/refresh",
@@ -49,6 +45,20 @@ public class AuthenticationGatewayFilter implements GatewayFilter {
             "/actuator/health",
             "/actuator/info");
 
+    private static final PathPrefixMatcher DEFAULT_PUBLIC_MATCHER = PathPrefixMatcher.compile(PUBLIC_ENDPOINTS);
+
+    private final JwtUtil jwtUtil;
+    private final PathPrefixMatcher publicEndpointMatcher;
+
+    public AuthenticationGatewayFilter(JwtUtil jwtUtil) {
+        this(jwtUtil, DEFAULT_PUBLIC_MATCHER);
+    }
+
+    public AuthenticationGatewayFilter(JwtUtil jwtUtil, PathPrefixMatcher publicEndpointMatcher) {
+        this.jwtUtil = jwtUtil;
+        this.publicEndpointMatcher = publicEndpointMatcher;
+    }
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
         ServerHttpRequest request = exchange.getRequest();
@@ -122,11 +132,7 @@ public class AuthenticationGatewayFilter implements GatewayFilter {
      * Checks if the path is a public endpoint.
      */
     private boolean isPublicEndpoint(String path) {
-        Predicate<String> pathPredicate = PUBLIC_ENDPOINTS.stream()
-                .map(pattern -> (Predicate<String>) p -> p.startsWith(pattern))
-                .reduce(p -> false, Predicate::or);
-
-        return pathPredicate.test(path);
+        return publicEndpointMatcher.matches(path);
     }
 
     /**
@@ -0,0 +1,62 @@
+package com.cursorpos.gateway.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Assigns an {@code Idempotency-Key} to mutating requests that arrive without
+ * one.
+ * 
+ * <p>
+ * The default {@code Retry} filter re-sends {@code POST} requests on
+ * BAD_GATEWAY/GATEWAY_TIMEOUT. Because the key is added before routing, every
+ * retry of the same client request carries the same key, so downstream
+ * services execute it at most once and replay the stored response. Keys sent
+ * by clients are passed through untouched.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Slf4j
+@Component
+public class IdempotencyKeyGlobalFilter implements GlobalFilter, Ordered {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private static final Set<HttpMethod> MUTATING_METHODS = Set.of(
+            HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH, HttpMethod.DELETE);
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!MUTATING_METHODS.contains(request.getMethod())
+                || request.getHeaders().containsKey(IDEMPOTENCY_KEY_HEADER)) {
+            return chain.filter(exchange);
+        }
+
+        String key = "gw-" + UUID.randomUUID();
+        log.debug("Assigned idempotency key {} to {} {}", key, request.getMethod(), request.getURI().getPath());
+        ServerHttpRequest keyed = request.mutate()
+                .header(IDEMPOTENCY_KEY_HEADER, key)
+                .build();
+        return chain.filter(exchange.mutate().request(keyed).build());
+    }
+
+    @Override
+    public int getOrder() {
+        // Before route filters such as Retry
+        return Ordered.HIGHEST_PRECEDENCE + 100;
+    }
+}
@@ -0,0 +1,337 @@
+package com.cursorpos.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier rate limiter: per-node token buckets in front of Redis.
+ *
+ * <p>
+ * Each gateway node keeps a local bucket per route and key (tenant or IP) that
+ * holds permits pre-claimed from the global Redis bucket in batches. Requests
+ * are served from the local bucket without a network round trip; a new batch
+ * is claimed asynchronously when the bucket runs low, and the request only
+ * waits on Redis when the bucket is fully depleted. A key has at most one
+ * claim in flight; requests arriving meanwhile wait on that claim instead of
+ * sending their own.
+ * </p>
+ *
+ * <p>
+ * Buckets live in a size-bounded cache and expire after a minute without
+ * requests, so a flood of distinct keys cannot grow the node's memory.
+ * </p>
+ *
+ * <p>
+ * If Redis is unavailable, the limiter degrades to a purely local token bucket
+ * enforcing the configured rate per node until Redis is retried.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Slf4j
+public class HybridRateLimiter extends AbstractRateLimiter<HybridRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "hybrid-rate-limiter";
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+    public static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+    public static final String REQUESTED_TOKENS_HEADER = "X-RateLimit-Requested-Tokens";
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final Duration BUCKET_IDLE_TIMEOUT = Duration.ofMinutes(1);
+
+    private final PermitSource permitSource;
+    private final LongSupplier nanoClock;
+    private final AtomicLong redisRetryAt = new AtomicLong();
+
+    private Cache<String, LocalBucket> buckets;
+    private Config defaultConfig = new Config();
+    private RateLimitProfileResolver profileResolver = RateLimitProfileResolver.ROUTE_DEFAULTS;
+    private Duration redisRetryInterval = Duration.ofSeconds(5);
+
+    public HybridRateLimiter(PermitSource permitSource, ConfigurationService configurationService) {
+        this(permitSource, configurationService, System::nanoTime);
+    }
+
+    HybridRateLimiter(PermitSource permitSource, ConfigurationService configurationService,
+            LongSupplier nanoClock) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.permitSource = permitSource;
+        this.nanoClock = nanoClock;
+        this.buckets = newBucketCache(10_000);
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config routeConfig = getConfig().getOrDefault(routeId, defaultConfig);
+        return isAllowed(routeId, id, profileResolver.resolve(routeId, id, routeConfig));
+    }
+
+    /**
+     * Checks a request against an explicit limit configuration.
+     *
+     * @param routeId the route ID
+     * @param id      the resolved key (tenant or IP)
+     * @param config  the limits to apply
+     * @return the rate limit decision
+     */
+    public Mono<Response> isAllowed(String routeId, String id, Config config) {
+        String key = routeId + "." + id;
+        LocalBucket bucket = buckets.get(key, k -> new LocalBucket());
+        int requested = config.getRequestedTokens();
+        long now = nanoClock.getAsLong();
+
+        if (isRedisDegraded(now)) {
+            return Mono.just(localOnly(bucket, config, requested, now));
+        }
+
+        long remaining = bucket.tryAcquireClaimed(requested, now);
+        if (remaining >= 0) {
+            if (remaining < config.lowWatermark()) {
+                refillAsync(key, bucket, config);
+            }
+            return Mono.just(response(true, remaining, config));
+        }
+
+        // Bucket depleted: wait for the key's claim, then serve from the new batch
+        return bucket.joinClaim(() -> claim(key, bucket, config))
+                .map(granted -> {
+                    long afterClaim = bucket.tryAcquireClaimed(requested, nanoClock.getAsLong());
+                    return response(afterClaim >= 0, Math.max(afterClaim, 0), config);
+                })
+                .onErrorResume(e -> Mono.just(localOnly(bucket, config, requested, nanoClock.getAsLong())));
+    }
+
+    private void refillAsync(String key, LocalBucket bucket, Config config) {
+        if (!bucket.isClaimInFlight()) {
+            bucket.joinClaim(() -> claim(key, bucket, config))
+                    .onErrorResume(e -> Mono.empty())
+                    .subscribe();
+        }
+    }
+
+    private Mono<Long> claim(String key, LocalBucket bucket, Config config) {
+        int batch = config.effectiveBatchSize();
+        int requested = config.getRequestedTokens();
+
+        return permitSource.claim(key, config.getReplenishRate(), config.getBurstCapacity(), batch)
+                .flatMap(granted -> granted == 0 && batch > requested
+                        ? permitSource.claim(key, config.getReplenishRate(), config.getBurstCapacity(), requested)
+                        : Mono.just(granted))
+                .doOnNext(granted -> bucket.addClaimed(granted,
+                        nanoClock.getAsLong() + config.getPermitTtl().toNanos()))
+                .doOnError(e -> markRedisDegraded(key, e));
+    }
+
+    private Response localOnly(LocalBucket bucket, Config config, int requested, long now) {
+        long remaining = bucket.tryAcquireLocal(requested, config.getReplenishRate(), config.getBurstCapacity(), now);
+        return response(remaining >= 0, Math.max(remaining, 0), config);
+    }
+
+    private boolean isRedisDegraded(long now) {
+        long retryAt = redisRetryAt.get();
+        return retryAt != 0 && now - retryAt < 0;
+    }
+
+    private void markRedisDegraded(String key, Throwable e) {
+        long retryAt = nanoClock.getAsLong() + redisRetryInterval.toNanos();
+        redisRetryAt.set(retryAt == 0 ? 1 : retryAt);
+        log.warn("Redis rate limiter unavailable for key {}, using local limits for {}: {}",
+                key, redisRetryInterval, e.getMessage());
+    }
+
+    private Cache<String, LocalBucket> newBucketCache(int maxTrackedKeys) {
+        // Maintenance runs on the calling thread, so the cache never needs a pool
+        return Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(BUCKET_IDLE_TIMEOUT)
+                .ticker(nanoClock::getAsLong)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    private Response response(boolean allowed, long remaining, Config config) {
+        return new Response(allowed, Map.of(
+                REMAINING_HEADER, Long.toString(remaining),
+                REPLENISH_RATE_HEADER, Integer.toString(config.getReplenishRate()),
+                BURST_CAPACITY_HEADER, Integer.toString(config.getBurstCapacity()),
+                REQUESTED_TOKENS_HEADER, Integer.toString(config.getRequestedTokens())));
+    }
+
+    /**
+     * Number of keys currently tracked by this node.
+     */
+    int trackedKeys() {
+        buckets.cleanUp();
+        return (int) buckets.estimatedSize();
+    }
+
+    public void setDefaultConfig(Config defaultConfig) {
+        this.defaultConfig = defaultConfig;
+    }
+
+    public void setProfileResolver(RateLimitProfileResolver profileResolver) {
+        this.profileResolver = profileResolver;
+    }
+
+    public void setRedisRetryInterval(Duration redisRetryInterval) {
+        this.redisRetryInterval = redisRetryInterval;
+    }
+
+    /**
+     * Bounds the number of buckets kept on this node; the least recently used
+     * are evicted beyond it. Replaces the current buckets, so call it during
+     * configuration only.
+     */
+    public void setMaxTrackedKeys(int maxTrackedKeys) {
+        this.buckets = newBucketCache(maxTrackedKeys);
+    }
+
+    /**
+     * Per-node bucket state for one route and key.
+     *
+     * <p>
+     * Holds permits claimed from Redis (valid until {@code claimedExpiresAt}),
+     * the claim currently in flight, and a local token bucket used only while
+     * Redis is unavailable.
+     * </p>
+     */
+    static final class LocalBucket {
+
+        private long claimed;
+        private long claimedExpiresAt;
+        private Mono<Long> inFlightClaim;
+
+        private double localTokens = -1;
+        private long localRefilledAt;
+
+        /**
+         * Takes permits from the pre-claimed batch.
+         *
+         * @return permits left after the acquire, or -1 if not enough were
+         *         available
+         */
+        synchronized long tryAcquireClaimed(int requested, long now) {
+            if (claimed > 0 && now - claimedExpiresAt > 0) {
+                claimed = 0;
+            }
+            if (claimed < requested) {
+                return -1;
+            }
+            claimed -= requested;
+            return claimed;
+        }
+
+        synchronized void addClaimed(long permits, long expiresAt) {
+            if (permits > 0) {
+                claimed += permits;
+                claimedExpiresAt = expiresAt;
+            }
+        }
+
+        /**
+         * Returns the claim in flight for this bucket, starting a new one with
+         * {@code claim} if there is none. The claim runs once however many
+         * callers subscribe, and every caller sees its result.
+         */
+        synchronized Mono<Long> joinClaim(Supplier<Mono<Long>> claim) {
+            if (inFlightClaim == null) {
+                inFlightClaim = claim.get()
+                        .doFinally(signal -> endClaim())
+                        .cache();
+            }
+            return inFlightClaim;
+        }
+
+        synchronized boolean isClaimInFlight() {
+            return inFlightClaim != null;
+        }
+
+        private synchronized void endClaim() {
+            inFlightClaim = null;
+        }
+
+        /**
+         * Classic token bucket refilled at {@code replenishRate} per second.
+         *
+         * @return tokens left after the acquire, or -1 if denied
+         */
+        synchronized long tryAcquireLocal(int requested, int replenishRate, int burstCapacity, long now) {
+            if (localTokens < 0) {
+                localTokens = burstCapacity;
+                localRefilledAt = now;
+            }
+            double elapsedSeconds = (double) (now - localRefilledAt) / NANOS_PER_SECOND;
+            localTokens = Math.min(burstCapacity, localTokens + elapsedSeconds * replenishRate);
+            localRefilledAt = now;
+            if (localTokens < requested) {
+                return -1;
+            }
+            localTokens -= requested;
+            return (long) localTokens;
+        }
+    }
+
+    /**
+     * Per-route limiter configuration, bound from
+     * {@code hybrid-rate-limiter.*} filter args.
+     */
+    @Data
+    @Validated
+    public static class Config {
+
+        /**
+         * Global permits replenished per second.
+         */
+        @Min(1)
+        private int replenishRate = 10;
+
+        /**
+         * Global bucket capacity.
+         */
+        @Min(0)
+        private int burstCapacity = 20;
+
+        /**
+         * Permits consumed per request.
+         */
+        @Min(1)
+        private int requestedTokens = 1;
+
+        /**
+         * Permits claimed from Redis per round trip. Capped at the burst
+         * capacity.
+         */
+        @Min(1)
+        private int batchSize = 5;
+
+        /**
+         * How long claimed permits stay valid on this node.
+         */
+        private Duration permitTtl = Duration.ofSeconds(1);
+
+        int effectiveBatchSize() {
+            return Math.max(requestedTokens, Math.min(batchSize, burstCapacity));
+        }
+
+        long lowWatermark() {
+            return effectiveBatchSize() / 2L;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.cursorpos.gateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Source of globally coordinated rate limit permits.
+ * 
+ * <p>
+ * Implementations claim a batch of permits for a key from shared state
+ * (Redis in production) so that each gateway node can serve requests from a
+ * local bucket until it is depleted.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@FunctionalInterface
+public interface PermitSource {
+
+    /**
+     * Claims permits for the given key.
+     * 
+     * @param key             the bucket key (route and tenant)
+     * @param replenishRate   global permits replenished per second
+     * @param burstCapacity   global bucket capacity
+     * @param requestedTokens number of permits to claim
+     * @return the number of permits granted, either {@code requestedTokens} or
+     *         zero; errors signal that the shared store is unavailable
+     */
+    Mono<Long> claim(String key, int replenishRate, int burstCapacity, int requestedTokens);
+}
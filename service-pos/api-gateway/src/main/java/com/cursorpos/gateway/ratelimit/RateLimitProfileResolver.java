@@ -0,0 +1,27 @@
+package com.cursorpos.gateway.ratelimit;
+
+/**
+ * Resolves the limits to apply for a rate limit key.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@FunctionalInterface
+public interface RateLimitProfileResolver {
+
+    /**
+     * Resolver that always applies the route's configured limits.
+     */
+    RateLimitProfileResolver ROUTE_DEFAULTS = (routeId, key, routeDefault) -> routeDefault;
+
+    /**
+     * Resolves the limits for a key.
+     * 
+     * @param routeId      the route ID
+     * @param key          the resolved rate limit key
+     * @param routeDefault limits configured on the route
+     * @return the limits to apply, never null
+     */
+    HybridRateLimiter.Config resolve(String routeId, String key, HybridRateLimiter.Config routeDefault);
+}
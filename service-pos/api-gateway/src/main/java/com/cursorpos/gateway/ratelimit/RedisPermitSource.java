@@ -0,0 +1,47 @@
+package com.cursorpos.gateway.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@link PermitSource} backed by the gateway's Redis token bucket script.
+ * 
+ * <p>
+ * Uses the same keys and Lua script as Spring Cloud Gateway's
+ * {@code RedisRateLimiter}, so global limits are shared with any node still
+ * running the stock limiter.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@RequiredArgsConstructor
+public class RedisPermitSource implements PermitSource {
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RedisScript<List<Long>> script;
+    private final Duration timeout;
+
+    @Override
+    public Mono<Long> claim(String key, int replenishRate, int burstCapacity, int requestedTokens) {
+        String prefix = "request_rate_limiter.{" + key;
+        List<String> keys = List.of(prefix + "}.tokens", prefix + "}.timestamp");
+        List<String> args = List.of(
+                Integer.toString(replenishRate),
+                Integer.toString(burstCapacity),
+                "",
+                Integer.toString(requestedTokens));
+
+        return redisTemplate.execute(script, keys, args)
+                .next()
+                .timeout(timeout)
+                .map(result -> result.get(0) == 1L ? (long) requestedTokens : 0L)
+                .defaultIfEmpty(0L);
+    }
+}
@@ -0,0 +1,60 @@
+package com.cursorpos.gateway.ratelimit;
+
+import org.springframework.http.HttpMethod;
+
+/**
+ * Rate limit class of a request. Reads and writes (checkout, stock changes)
+ * are limited independently so a burst of catalog reads cannot starve sales.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+public enum RouteClass {
+
+    READ("read"),
+    WRITE("write");
+
+    private final String keySuffix;
+
+    RouteClass(String keySuffix) {
+        this.keySuffix = keySuffix;
+    }
+
+    /**
+     * Suffix appended to rate limit keys, e.g. {@code tenant-001:write}.
+     */
+    public String getKeySuffix() {
+        return keySuffix;
+    }
+
+    /**
+     * Classifies a request by HTTP method.
+     * 
+     * @param method the request method
+     * @return READ for safe methods, WRITE otherwise
+     */
+    public static RouteClass of(HttpMethod method) {
+        if (method == null || HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method)
+                || HttpMethod.OPTIONS.equals(method)) {
+            return READ;
+        }
+        return WRITE;
+    }
+
+    /**
+     * Parses a key suffix back to a route class.
+     * 
+     * @param suffix the suffix
+     * @return the route class, or null if unknown
+     */
+    public static RouteClass fromKeySuffix(String suffix) {
+        if (READ.keySuffix.equals(suffix)) {
+            return READ;
+        }
+        if (WRITE.keySuffix.equals(suffix)) {
+            return WRITE;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.cursorpos.gateway.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-tenant rate limit profile as served by admin-service.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenantRateLimitProfile {
+
+    private String tenantId;
+    private String planCode;
+    private LimitTier read;
+    private LimitTier write;
+
+    /**
+     * Token bucket limits for one route class.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LimitTier {
+        private int replenishRate;
+        private int burstCapacity;
+    }
+}
@@ -0,0 +1,145 @@
+package com.cursorpos.gateway.ratelimit;
+
+import com.cursorpos.shared.dto.ApiResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory cache of per-tenant rate limit profiles loaded from admin-service.
+ *
+ * <p>
+ * All profiles are fetched in one conditional GET and refreshed in the
+ * background, so resolving a tenant's limits on the request path is a single
+ * map lookup. Keys are expected in the form {@code tenantId:read} or
+ * {@code tenantId:write}; unknown tenants and keys (e.g. IP addresses) fall
+ * back to the route's configured limits. The last good snapshot is kept if
+ * admin-service is unavailable.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@Slf4j
+public class TenantRateLimitProfileRegistry implements RateLimitProfileResolver {
+
+    private static final ParameterizedTypeReference<ApiResponse<List<TenantRateLimitProfile>>> RESPONSE_TYPE = new ParameterizedTypeReference<>() {
+    };
+
+    private final WebClient webClient;
+    private final Duration refreshInterval;
+
+    private volatile Map<String, HybridRateLimiter.Config> limitsByKey = Map.of();
+    private volatile String etag;
+    private Disposable refreshTask;
+
+    public TenantRateLimitProfileRegistry(WebClient webClient, Duration refreshInterval) {
+        this.webClient = webClient;
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * Starts the background refresh, loading profiles immediately.
+     */
+    public void start() {
+        refreshTask = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh()
+                        .onErrorResume(e -> {
+                            log.warn("Failed to refresh rate limit profiles, keeping {} cached: {}",
+                                    limitsByKey.size() / 2, e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    /**
+     * Stops the background refresh.
+     */
+    public void stop() {
+        if (refreshTask != null) {
+            refreshTask.dispose();
+        }
+    }
+
+    /**
+     * Fetches profiles once. Completes without changes on 304 Not Modified.
+     */
+    Mono<Void> refresh() {
+        return webClient.get()
+                .headers(headers -> {
+                    if (etag != null) {
+                        headers.setIfNoneMatch(etag);
+                    }
+                })
+                .exchangeToMono(response -> {
+                    if (response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                        return response.releaseBody();
+                    }
+                    if (response.statusCode().is2xxSuccessful()) {
+                        String responseEtag = response.headers().asHttpHeaders().getETag();
+                        return response.bodyToMono(RESPONSE_TYPE)
+                                .doOnNext(body -> apply(body.getData(), responseEtag))
+                                .then();
+                    }
+                    return response.createError();
+                });
+    }
+
+    /**
+     * Replaces the cached profiles.
+     *
+     * @param profiles     the new profiles
+     * @param responseEtag ETag of the response, may be null
+     */
+    void apply(List<TenantRateLimitProfile> profiles, String responseEtag) {
+        Map<String, HybridRateLimiter.Config> next = new HashMap<>();
+        if (profiles != null) {
+            for (TenantRateLimitProfile profile : profiles) {
+                if (profile.getTenantId() == null) {
+                    continue;
+                }
+                putTier(next, profile.getTenantId(), RouteClass.READ, profile.getRead());
+                putTier(next, profile.getTenantId(), RouteClass.WRITE, profile.getWrite());
+            }
+        }
+        limitsByKey = Map.copyOf(next);
+        etag = responseEtag;
+        log.info("Loaded rate limit profiles for {} tenants", profiles != null ? profiles.size() : 0);
+    }
+
+    private static void putTier(Map<String, HybridRateLimiter.Config> target, String tenantId,
+            RouteClass routeClass, TenantRateLimitProfile.LimitTier tier) {
+        if (tier == null || tier.getReplenishRate() <= 0) {
+            return;
+        }
+        HybridRateLimiter.Config config = new HybridRateLimiter.Config();
+        config.setReplenishRate(tier.getReplenishRate());
+        config.setBurstCapacity(Math.max(tier.getBurstCapacity(), tier.getReplenishRate()));
+        config.setBatchSize(Math.max(1, config.getBurstCapacity() / 4));
+        target.put(tenantId + ":" + routeClass.getKeySuffix(), config);
+    }
+
+    @Override
+    public HybridRateLimiter.Config resolve(String routeId, String key, HybridRateLimiter.Config routeDefault) {
+        HybridRateLimiter.Config config = limitsByKey.get(key);
+        return config != null ? config : routeDefault;
+    }
+
+    /**
+     * Number of cached tenant/route-class limits.
+     */
+    int size() {
+        return limitsByKey.size();
+    }
+}
@@ -0,0 +1,257 @@
+package com.cursorpos.gateway.coalescing;
+
+import com.cursorpos.shared.util.PathPrefixMatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RequestCoalescingFilter.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@DisplayName("RequestCoalescingFilter Unit Tests")
+class RequestCoalescingFilterTest {
+
+        private static final String PATH = "/api/v1/products";
+        private static final String BODY = "{\"data\":[1,2,3]}";
+
+        private final AtomicLong clock = new AtomicLong(1_000_000L);
+        private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+        private SimpleMeterRegistry meterRegistry;
+        private RequestCoalescingFilter filter;
+        private Sinks.Empty<Void> upstreamGate;
+
+        @BeforeEach
+        void setUp() {
+                meterRegistry = new SimpleMeterRegistry();
+                filter = new RequestCoalescingFilter(PathPrefixMatcher.compile(PATH),
+                                request -> request.getHeaders().getFirst("X-Scope"), meterRegistry, clock::get);
+                upstreamGate = Sinks.empty();
+        }
+
+        private MockServerWebExchange exchange(String path, String scope) {
+                MockServerHttpRequest.BaseBuilder<?> builder = MockServerHttpRequest.get(path);
+                if (scope != null) {
+                        builder.header("X-Scope", scope);
+                }
+                return MockServerWebExchange.from(builder);
+        }
+
+        private GatewayFilterChain upstream(HttpStatus status, boolean gated) {
+                return exchange -> {
+                        upstreamCalls.incrementAndGet();
+                        ServerHttpResponse response = exchange.getResponse();
+                        Mono<Void> write = Mono.defer(() -> {
+                                response.setStatusCode(status);
+                                response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                                return response.writeWith(Mono.just(response.bufferFactory()
+                                                .wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+                        });
+                        return gated ? upstreamGate.asMono().then(write) : write;
+                };
+        }
+
+        private double count(String outcome) {
+                return meterRegistry.counter(RequestCoalescingFilter.METRIC_NAME, "outcome", outcome).count();
+        }
+
+        @Test
+        @DisplayName("Should collapse concurrent identical GETs into one upstream call")
+        void shouldCoalesceConcurrentRequests() {
+                // Arrange
+                MockServerWebExchange leader = exchange(PATH + "?page=0", "tenant-001");
+                MockServerWebExchange follower = exchange(PATH + "?page=0", "tenant-001");
+                GatewayFilterChain chain = upstream(HttpStatus.OK, true);
+
+                // Act
+                Mono<Void> leaderResult = filter.filter(leader, chain);
+                Mono<Void> followerResult = filter.filter(follower, chain);
+                StepVerifier.create(Mono.when(leaderResult, followerResult)
+                                .doOnSubscribe(s -> upstreamGate.tryEmitEmpty()))
+                                .verifyComplete();
+
+                // Assert
+                assertThat(upstreamCalls.get()).isEqualTo(1);
+                assertThat(leader.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+                assertThat(follower.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+                assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+                assertThat(follower.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+                assertThat(follower.getResponse().getHeaders().getFirst(RequestCoalescingFilter.COALESCED_HEADER))
+                                .isEqualTo("true");
+                assertThat(count("forwarded")).isEqualTo(1);
+                assertThat(count("coalesced")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not coalesce requests with different scopes or queries")
+        void shouldNotCoalesceDifferentKeys() {
+                // Arrange
+                GatewayFilterChain chain = upstream(HttpStatus.OK, true);
+                Mono<Void> first = filter.filter(exchange(PATH + "?page=0", "tenant-001"), chain);
+                Mono<Void> otherTenant = filter.filter(exchange(PATH + "?page=0", "tenant-002"), chain);
+                Mono<Void> otherQuery = filter.filter(exchange(PATH + "?page=1", "tenant-001"), chain);
+
+                // Act
+                StepVerifier.create(Mono.when(first, otherTenant, otherQuery)
+                                .doOnSubscribe(s -> upstreamGate.tryEmitEmpty()))
+                                .verifyComplete();
+
+                // Assert
+                assertThat(upstreamCalls.get()).isEqualTo(3);
+                assertThat(count("coalesced")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should forward requests without a scope or outside configured paths")
+        void shouldBypassUnscopedAndUnmatchedRequests() {
+                // Arrange
+                GatewayFilterChain chain = upstream(HttpStatus.OK, false);
+
+                // Act
+                StepVerifier.create(filter.filter(exchange(PATH, null), chain)).verifyComplete();
+                StepVerifier.create(filter.filter(exchange("/api/v1/inventory", "tenant-001"), chain))
+                                .verifyComplete();
+
+                // Assert
+                assertThat(upstreamCalls.get()).isEqualTo(2);
+                assertThat(count("forwarded")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should serve from the micro-cache within the window")
+        void shouldServeFromMicroCache() {
+                // Arrange
+                filter.setMicroCacheTtl(Duration.ofSeconds(1));
+                GatewayFilterChain chain = upstream(HttpStatus.OK, false);
+                StepVerifier.create(filter.filter(exchange(PATH, "tenant-001"), chain)).verifyComplete();
+                MockServerWebExchange cachedExchange = exchange(PATH, "tenant-001");
+
+                // Act
+                StepVerifier.create(filter.filter(cachedExchange, chain)).verifyComplete();
+                clock.addAndGet(Duration.ofSeconds(1).toNanos());
+                StepVerifier.create(filter.filter(exchange(PATH, "tenant-001"), chain)).verifyComplete();
+
+                // Assert
+                assertThat(upstreamCalls.get()).isEqualTo(2);
+                assertThat(cachedExchange.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+                assertThat(count("cached")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not micro-cache error responses")
+        void shouldNotCacheErrors() {
+                // Arrange
+                filter.setMicroCacheTtl(Duration.ofSeconds(1));
+                GatewayFilterChain chain = upstream(HttpStatus.SERVICE_UNAVAILABLE, false);
+
+                // Act
+                StepVerifier.create(filter.filter(exchange(PATH, "tenant-001"), chain)).verifyComplete();
+                StepVerifier.create(filter.filter(exchange(PATH, "tenant-001"), chain)).verifyComplete();
+
+                // Assert
+                assertThat(upstreamCalls.get()).isEqualTo(2);
+                assertThat(filter.cachedKeys()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should let waiters forward their own request when the leader fails")
+        void shouldFallBackWhenLeaderFails() {
+                // Arrange
+                Sinks.Empty<Void> failGate = Sinks.empty();
+                GatewayFilterChain failing = exchange -> {
+                        upstreamCalls.incrementAndGet();
+                        return failGate.asMono().then(Mono.error(new IllegalStateException("upstream down")));
+                };
+                MockServerWebExchange follower = exchange(PATH, "tenant-001");
+                Mono<Void> leaderResult = filter.filter(exchange(PATH, "tenant-001"), failing)
+                                .onErrorResume(e -> Mono.empty());
+                Mono<Void> followerResult = filter.filter(follower, upstream(HttpStatus.OK, false));
+
+                // Act
+                StepVerifier.create(Mono.when(leaderResult, followerResult)
+                                .doOnSubscribe(s -> failGate.tryEmitEmpty()))
+                                .verifyComplete();
+
+                // Assert
+                assertThat(upstreamCalls.get()).isEqualTo(2);
+                assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+                assertThat(follower.getResponse().getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should let waiters forward their own request when the response is too large to capture")
+        void shouldFallBackWhenResponseTooLarge() {
+                // Arrange
+                filter.setMaxCapturedBodyBytes(BODY.length() - 1);
+                filter.setMicroCacheTtl(Duration.ofSeconds(1));
+                MockServerWebExchange leader = exchange(PATH, "tenant-001");
+                MockServerWebExchange follower = exchange(PATH, "tenant-001");
+                GatewayFilterChain chain = upstream(HttpStatus.OK, true);
+
+                // Act
+                Mono<Void> leaderResult = filter.filter(leader, chain);
+                Mono<Void> followerResult = filter.filter(follower, chain);
+                StepVerifier.create(Mono.when(leaderResult, followerResult)
+                                .doOnSubscribe(s -> upstreamGate.tryEmitEmpty()))
+                                .verifyComplete();
+
+                // Assert
+                assertThat(upstreamCalls.get()).isEqualTo(2);
+                assertThat(leader.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+                assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+                assertThat(follower.getResponse().getHeaders().containsKey(RequestCoalescingFilter.COALESCED_HEADER))
+                                .isFalse();
+                assertThat(filter.cachedKeys()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should coalesce after route filters and capture before the response is written")
+        void shouldRunAfterRouteFilters() {
+                // Arrange
+                GlobalFilter captureFilter = filter.responseCaptureFilter();
+                MockServerWebExchange leader = exchange(PATH, "tenant-001");
+                MockServerWebExchange follower = exchange(PATH, "tenant-001");
+                GatewayFilterChain chain = upstream(HttpStatus.OK, true);
+                GatewayFilterChain coalescing = exchange -> filter.filter(exchange, chain);
+
+                // Act
+                Mono<Void> leaderResult = captureFilter.filter(leader, coalescing);
+                Mono<Void> followerResult = captureFilter.filter(follower, coalescing);
+                StepVerifier.create(Mono.when(leaderResult, followerResult)
+                                .doOnSubscribe(s -> upstreamGate.tryEmitEmpty()))
+                                .verifyComplete();
+
+                // Assert
+                // Route filters such as RequestRateLimiter are ordered by position from 1
+                assertThat(filter.getOrder()).isGreaterThan(1_000);
+                assertThat(((Ordered) captureFilter).getOrder())
+                                .isLessThan(NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER);
+                assertThat(upstreamCalls.get()).isEqualTo(1);
+                assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+        }
+}
@@ -199,4 +199,52 @@ class RateLimitConfigurationTest {
                                 .expectNext("unknown")
                                 .verifyComplete();
         }
+
+        @Test
+        @DisplayName("Should append read route class for GET requests")
+        void shouldAppendReadRouteClassForGet() {
+                // Arrange
+                KeyResolver resolver = rateLimitConfiguration.tenantRouteClassKeyResolver();
+                MockServerHttpRequest request = MockServerHttpRequest
+                                .get("/api/v1/products")
+                                .header("X-Tenant-Id", "tenant-coffee-001")
+                                .build();
+
+                // Act & Assert
+                StepVerifier.create(resolver.resolve(MockServerWebExchange.from(request)))
+                                .expectNext("tenant-coffee-001:read")
+                                .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should append write route class for POST requests")
+        void shouldAppendWriteRouteClassForPost() {
+                // Arrange
+                KeyResolver resolver = rateLimitConfiguration.tenantRouteClassKeyResolver();
+                MockServerHttpRequest request = MockServerHttpRequest
+                                .post("/api/v1/transactions")
+                                .header("X-Tenant-Id", "tenant-coffee-001")
+                                .build();
+
+                // Act & Assert
+                StepVerifier.create(resolver.resolve(MockServerWebExchange.from(request)))
+                                .expectNext("tenant-coffee-001:write")
+                                .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should use IP address without route class for unauthenticated requests")
+        void shouldUseIpWithoutRouteClass() {
+                // Arrange
+                KeyResolver resolver = rateLimitConfiguration.tenantRouteClassKeyResolver();
+                MockServerHttpRequest request = MockServerHttpRequest
+                                .post("/api/v1/transactions")
+                                .remoteAddress(new InetSocketAddress("192.168.1.100", 8080))
+                                .build();
+
+                // Act & Assert
+                StepVerifier.create(resolver.resolve(MockServerWebExchange.from(request)))
+                                .expectNext("192.168.1.100")
+                                .verifyComplete();
+        }
 }
@@ -1,6 +1,7 @@
 package com.cursorpos.gateway.filter;
 
 import com.cursorpos.shared.security.JwtUtil;
+import com.cursorpos.shared.util.PathPrefixMatcher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -383,4 +384,45 @@ class AuthenticationGatewayFilterTest {
                 assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
                 verify(chain, never()).filter(any(ServerWebExchange.class));
         }
+
+        @Test
+        @DisplayName("Should use configured public endpoint matcher")
+        void shouldUseConfiguredPublicEndpointMatcher() {
+                // Arrange
+                filter = new AuthenticationGatewayFilter(jwtUtil, PathPrefixMatcher.compile("/api/v1/catalog/public/"));
+                MockServerHttpRequest request = MockServerHttpRequest
+                                .get("/api/v1/catalog/public/items")
+                                .build();
+                ServerWebExchange exchange = MockServerWebExchange.from(request);
+                when(chain.filter(any(ServerWebExchange.class))).thenReturn(Mono.empty());
+
+                // Act
+                Mono<Void> result = filter.filter(exchange, chain);
+
+                // Assert
+                StepVerifier.create(result)
+                                .verifyComplete();
+                verify(chain).filter(any(ServerWebExchange.class));
+                verify(jwtUtil, never()).validateToken(anyString());
+        }
+
+        @Test
+        @DisplayName("Should require authentication for default public endpoints when matcher overrides them")
+        void shouldRequireAuthWhenEndpointNotInConfiguredMatcher() {
+                // Arrange
+                filter = new AuthenticationGatewayFilter(jwtUtil, PathPrefixMatcher.compile("/actuator/health$"));
+                MockServerHttpRequest request = MockServerHttpRequest
+                                .get("/api/v1/auth/login")
+                                .build();
+                ServerWebExchange exchange = MockServerWebExchange.from(request);
+
+                // Act
+                Mono<Void> result = filter.filter(exchange, chain);
+
+                // Assert
+                StepVerifier.create(result)
+                                .verifyComplete();
+                assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+                verify(chain, never()).filter(any(ServerWebExchange.class));
+        }
 }
@@ -0,0 +1,75 @@
+package com.cursorpos.gateway.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for IdempotencyKeyGlobalFilter.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@DisplayName("IdempotencyKeyGlobalFilter Unit Tests")
+class IdempotencyKeyGlobalFilterTest {
+
+        private final IdempotencyKeyGlobalFilter filter = new IdempotencyKeyGlobalFilter();
+        private final AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+        private final GatewayFilterChain chain = exchange -> {
+                forwarded.set(exchange);
+                return Mono.empty();
+        };
+
+        private String forwardedKey() {
+                return forwarded.get().getRequest().getHeaders()
+                                .getFirst(IdempotencyKeyGlobalFilter.IDEMPOTENCY_KEY_HEADER);
+        }
+
+        @Test
+        @DisplayName("Should assign a key to POST requests without one")
+        void shouldAssignKeyToPost() {
+                // Arrange
+                MockServerWebExchange exchange = MockServerWebExchange.from(
+                                MockServerHttpRequest.post("/api/transactions").build());
+
+                // Act & Assert
+                StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+                assertThat(forwardedKey()).startsWith("gw-");
+        }
+
+        @Test
+        @DisplayName("Should keep a client supplied key")
+        void shouldKeepClientKey() {
+                // Arrange
+                MockServerWebExchange exchange = MockServerWebExchange.from(
+                                MockServerHttpRequest.post("/api/transactions")
+                                                .header(IdempotencyKeyGlobalFilter.IDEMPOTENCY_KEY_HEADER, "client-1")
+                                                .build());
+
+                // Act & Assert
+                StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+                assertThat(forwardedKey()).isEqualTo("client-1");
+        }
+
+        @Test
+        @DisplayName("Should leave GET requests untouched")
+        void shouldIgnoreGet() {
+                // Arrange
+                MockServerWebExchange exchange = MockServerWebExchange.from(
+                                MockServerHttpRequest.get("/api/transactions").build());
+
+                // Act & Assert
+                StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+                assertThat(forwardedKey()).isNull();
+        }
+}
@@ -0,0 +1,272 @@
+package com.cursorpos.gateway.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter.Response;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for HybridRateLimiter.
+ * 
+ * <p>
+ * Tests local batch consumption, Redis depletion handling and local-only
+ * degradation when Redis is unavailable.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@DisplayName("HybridRateLimiter Unit Tests")
+class HybridRateLimiterTest {
+
+        private static final String ROUTE_ID = "product-service";
+        private static final String TENANT_ID = "tenant-coffee-001";
+
+        private final AtomicLong clock = new AtomicLong(1_000_000L);
+        private final List<Integer> claims = new ArrayList<>();
+
+        private HybridRateLimiter.Config config;
+
+        @BeforeEach
+        void setUp() {
+                config = new HybridRateLimiter.Config();
+                config.setReplenishRate(10);
+                config.setBurstCapacity(20);
+                config.setBatchSize(5);
+        }
+
+        private HybridRateLimiter limiter(PermitSource source) {
+                PermitSource recording = (key, rate, capacity, requested) -> {
+                        claims.add(requested);
+                        return source.claim(key, rate, capacity, requested);
+                };
+                HybridRateLimiter limiter = new HybridRateLimiter(recording, mock(ConfigurationService.class),
+                                clock::get);
+                limiter.setDefaultConfig(config);
+                return limiter;
+        }
+
+        private boolean allowed(HybridRateLimiter limiter) {
+                Response response = limiter.isAllowed(ROUTE_ID, TENANT_ID).block();
+                assertThat(response).isNotNull();
+                return response.isAllowed();
+        }
+
+        @Test
+        @DisplayName("Should serve requests from a claimed batch without calling Redis per request")
+        void shouldServeFromClaimedBatch() {
+                // Arrange
+                HybridRateLimiter limiter = limiter((key, rate, capacity, requested) -> Mono.just((long) requested));
+
+                // Act - first request claims 5, then 2 more come from the local bucket
+                assertThat(allowed(limiter)).isTrue();
+                assertThat(allowed(limiter)).isTrue();
+                assertThat(allowed(limiter)).isTrue();
+
+                // Assert
+                assertThat(claims).containsExactly(5);
+        }
+
+        @Test
+        @DisplayName("Should pre-claim the next batch when the local bucket runs low")
+        void shouldRefillAsynchronouslyBelowLowWatermark() {
+                // Arrange
+                HybridRateLimiter limiter = limiter((key, rate, capacity, requested) -> Mono.just((long) requested));
+
+                // Act - 5 claimed, remaining drops to 1 (< watermark 2) on the 4th request
+                for (int i = 0; i < 4; i++) {
+                        assertThat(allowed(limiter)).isTrue();
+                }
+
+                // Assert
+                assertThat(claims).containsExactly(5, 5);
+        }
+
+        @Test
+        @DisplayName("Should deny when Redis has no permits left")
+        void shouldDenyWhenGlobalBucketEmpty() {
+                // Arrange
+                HybridRateLimiter limiter = limiter((key, rate, capacity, requested) -> Mono.just(0L));
+
+                // Act
+                Response response = limiter.isAllowed(ROUTE_ID, TENANT_ID).block();
+
+                // Assert - batch claim and single-permit retry both denied
+                assertThat(response).isNotNull();
+                assertThat(response.isAllowed()).isFalse();
+                assertThat(response.getHeaders()).containsEntry(HybridRateLimiter.REMAINING_HEADER, "0");
+                assertThat(claims).containsExactly(5, 1);
+        }
+
+        @Test
+        @DisplayName("Should fall back to a single permit when the batch cannot be granted")
+        void shouldClaimSinglePermitWhenBatchDenied() {
+                // Arrange
+                HybridRateLimiter limiter = limiter(
+                                (key, rate, capacity, requested) -> Mono.just(requested == 1 ? 1L : 0L));
+
+                // Act & Assert
+                assertThat(allowed(limiter)).isTrue();
+                assertThat(claims).containsExactly(5, 1);
+        }
+
+        @Test
+        @DisplayName("Should discard claimed permits after their TTL")
+        void shouldExpireClaimedPermits() {
+                // Arrange
+                HybridRateLimiter limiter = limiter((key, rate, capacity, requested) -> Mono.just((long) requested));
+                assertThat(allowed(limiter)).isTrue();
+
+                // Act
+                clock.addAndGet(Duration.ofSeconds(2).toNanos());
+                assertThat(allowed(limiter)).isTrue();
+
+                // Assert
+                assertThat(claims).containsExactly(5, 5);
+        }
+
+        @Test
+        @DisplayName("Should enforce local limits when Redis is unavailable")
+        void shouldDegradeToLocalLimitsWhenRedisFails() {
+                // Arrange
+                HybridRateLimiter limiter = limiter(
+                                (key, rate, capacity, requested) -> Mono.error(new IllegalStateException("down")));
+
+                // Act - burst capacity of 20 is available locally
+                for (int i = 0; i < 20; i++) {
+                        assertThat(allowed(limiter)).isTrue();
+                }
+
+                // Assert
+                assertThat(allowed(limiter)).isFalse();
+                assertThat(claims).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should refill local bucket at replenish rate while degraded")
+        void shouldRefillLocalBucketOverTime() {
+                // Arrange
+                HybridRateLimiter limiter = limiter(
+                                (key, rate, capacity, requested) -> Mono.error(new IllegalStateException("down")));
+                for (int i = 0; i < 20; i++) {
+                        allowed(limiter);
+                }
+                assertThat(allowed(limiter)).isFalse();
+
+                // Act - 100ms at 10/s yields one token
+                clock.addAndGet(Duration.ofMillis(100).toNanos());
+
+                // Assert
+                assertThat(allowed(limiter)).isTrue();
+                assertThat(allowed(limiter)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should retry Redis after the retry interval")
+        void shouldRetryRedisAfterInterval() {
+                // Arrange
+                AtomicLong failures = new AtomicLong(1);
+                HybridRateLimiter limiter = limiter((key, rate, capacity, requested) -> failures
+                                .getAndDecrement() > 0
+                                                ? Mono.error(new IllegalStateException("down"))
+                                                : Mono.just((long) requested));
+                limiter.setRedisRetryInterval(Duration.ofSeconds(1));
+                assertThat(allowed(limiter)).isTrue();
+
+                // Act
+                clock.addAndGet(Duration.ofSeconds(2).toNanos());
+
+                // Assert
+                assertThat(allowed(limiter)).isTrue();
+                assertThat(claims).containsExactly(5, 5);
+        }
+
+        @Test
+        @DisplayName("Should keep separate buckets per route and key")
+        void shouldIsolateKeys() {
+                // Arrange
+                HybridRateLimiter limiter = limiter((key, rate, capacity, requested) -> Mono.just((long) requested));
+
+                // Act
+                StepVerifier.create(limiter.isAllowed(ROUTE_ID, "tenant-a"))
+                                .assertNext(r -> assertThat(r.isAllowed()).isTrue())
+                                .verifyComplete();
+                StepVerifier.create(limiter.isAllowed("admin-service", "tenant-a"))
+                                .assertNext(r -> assertThat(r.isAllowed()).isTrue())
+                                .verifyComplete();
+
+                // Assert
+                assertThat(limiter.trackedKeys()).isEqualTo(2);
+                assertThat(claims).containsExactly(5, 5);
+        }
+
+        @Test
+        @DisplayName("Should share one in-flight Redis claim between requests for the same key")
+        void shouldShareInFlightClaim() {
+                // Arrange
+                Sinks.One<Long> redis = Sinks.one();
+                HybridRateLimiter limiter = limiter((key, rate, capacity, requested) -> redis.asMono());
+                List<Response> responses = new ArrayList<>();
+
+                // Act - both requests find the bucket empty while the claim is pending
+                limiter.isAllowed(ROUTE_ID, TENANT_ID).subscribe(responses::add);
+                limiter.isAllowed(ROUTE_ID, TENANT_ID).subscribe(responses::add);
+                redis.tryEmitValue(5L);
+
+                // Assert
+                assertThat(claims).containsExactly(5);
+                assertThat(responses).hasSize(2).allMatch(Response::isAllowed);
+        }
+
+        @Test
+        @DisplayName("Should bound the number of tracked keys and drop idle ones")
+        void shouldBoundTrackedKeys() {
+                // Arrange
+                HybridRateLimiter limiter = limiter((key, rate, capacity, requested) -> Mono.just((long) requested));
+                limiter.setMaxTrackedKeys(2);
+
+                // Act
+                for (String tenant : List.of("tenant-a", "tenant-b", "tenant-c")) {
+                        limiter.isAllowed(ROUTE_ID, tenant).block();
+                }
+
+                // Assert
+                assertThat(limiter.trackedKeys()).isEqualTo(2);
+                clock.addAndGet(Duration.ofMinutes(2).toNanos());
+                assertThat(limiter.trackedKeys()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should apply limits from the profile resolver")
+        void shouldApplyResolvedProfile() {
+                // Arrange
+                HybridRateLimiter.Config premium = new HybridRateLimiter.Config();
+                premium.setReplenishRate(50);
+                premium.setBurstCapacity(100);
+                premium.setBatchSize(25);
+                HybridRateLimiter limiter = limiter((key, rate, capacity, requested) -> Mono.just((long) requested));
+                limiter.setProfileResolver((routeId, key, routeDefault) -> key.endsWith(":write") ? premium
+                                : routeDefault);
+
+                // Act
+                Response response = limiter.isAllowed(ROUTE_ID, TENANT_ID + ":write").block();
+
+                // Assert
+                assertThat(response).isNotNull();
+                assertThat(response.getHeaders()).containsEntry(HybridRateLimiter.BURST_CAPACITY_HEADER, "100");
+                assertThat(claims).containsExactly(25);
+        }
+}
@@ -0,0 +1,147 @@
+package com.cursorpos.gateway.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TenantRateLimitProfileRegistry.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-12-04
+ */
+@DisplayName("TenantRateLimitProfileRegistry Unit Tests")
+class TenantRateLimitProfileRegistryTest {
+
+        private static final String PROFILES_JSON = """
+                        {"success":true,"data":[
+                          {"tenantId":"tenant-coffee-001","planCode":"PREMIUM",
+                           "read":{"replenishRate":50,"burstCapacity":100},
+                           "write":{"replenishRate":25,"burstCapacity":50}}]}
+                        """;
+
+        private final List<ClientRequest> requests = new ArrayList<>();
+        private HybridRateLimiter.Config routeDefault;
+
+        @BeforeEach
+        void setUp() {
+                routeDefault = new HybridRateLimiter.Config();
+        }
+
+        private TenantRateLimitProfileRegistry registry(ClientResponse... responses) {
+                WebClient webClient = WebClient.builder()
+                                .exchangeFunction(request -> {
+                                        requests.add(request);
+                                        return Mono.just(responses[Math.min(requests.size(), responses.length) - 1]);
+                                })
+                                .build();
+                return new TenantRateLimitProfileRegistry(webClient, Duration.ofMinutes(1));
+        }
+
+        private static ClientResponse ok(String etag) {
+                return ClientResponse.create(HttpStatus.OK)
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .header(HttpHeaders.ETAG, etag)
+                                .body(PROFILES_JSON)
+                                .build();
+        }
+
+        @Test
+        @DisplayName("Should resolve plan limits per tenant and route class")
+        void shouldResolvePlanLimits() {
+                // Arrange
+                TenantRateLimitProfileRegistry registry = registry(ok("\"v1\""));
+
+                // Act
+                StepVerifier.create(registry.refresh()).verifyComplete();
+
+                // Assert
+                HybridRateLimiter.Config read = registry.resolve("product-service", "tenant-coffee-001:read",
+                                routeDefault);
+                HybridRateLimiter.Config write = registry.resolve("transaction-service", "tenant-coffee-001:write",
+                                routeDefault);
+                assertThat(read.getReplenishRate()).isEqualTo(50);
+                assertThat(read.getBurstCapacity()).isEqualTo(100);
+                assertThat(read.getBatchSize()).isEqualTo(25);
+                assertThat(write.getReplenishRate()).isEqualTo(25);
+                assertThat(write.getBurstCapacity()).isEqualTo(50);
+                assertThat(registry.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should fall back to route defaults for unknown tenants and IP keys")
+        void shouldFallBackToRouteDefaults() {
+                // Arrange
+                TenantRateLimitProfileRegistry registry = registry(ok("\"v1\""));
+                StepVerifier.create(registry.refresh()).verifyComplete();
+
+                // Act & Assert
+                assertThat(registry.resolve("product-service", "tenant-unknown:read", routeDefault))
+                                .isSameAs(routeDefault);
+                assertThat(registry.resolve("product-service", "192.168.1.100", routeDefault))
+                                .isSameAs(routeDefault);
+        }
+
+        @Test
+        @DisplayName("Should send If-None-Match and keep profiles on 304")
+        void shouldUseConditionalGet() {
+                // Arrange
+                TenantRateLimitProfileRegistry registry = registry(ok("\"v1\""),
+                                ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+                StepVerifier.create(registry.refresh()).verifyComplete();
+
+                // Act
+                StepVerifier.create(registry.refresh()).verifyComplete();
+
+                // Assert
+                assertThat(requests).hasSize(2);
+                assertThat(requests.get(0).headers().getIfNoneMatch()).isEmpty();
+                assertThat(requests.get(1).headers().getIfNoneMatch()).containsExactly("\"v1\"");
+                assertThat(registry.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should keep last snapshot when admin-service fails")
+        void shouldKeepSnapshotOnError() {
+                // Arrange
+                TenantRateLimitProfileRegistry registry = registry(ok("\"v1\""),
+                                ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+                StepVerifier.create(registry.refresh()).verifyComplete();
+
+                // Act & Assert
+                StepVerifier.create(registry.refresh()).expectError().verify();
+                assertThat(registry.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should skip tiers without a positive replenish rate")
+        void shouldSkipInvalidTiers() {
+                // Arrange
+                TenantRateLimitProfileRegistry registry = registry(ok("\"v1\""));
+                TenantRateLimitProfile profile = new TenantRateLimitProfile("tenant-a", "FREE",
+                                new TenantRateLimitProfile.LimitTier(10, 5),
+                                new TenantRateLimitProfile.LimitTier(0, 10));
+
+                // Act
+                registry.apply(List.of(profile), null);
+
+                // Assert - burst is raised to at least the replenish rate
+                assertThat(registry.resolve("r", "tenant-a:read", routeDefault).getBurstCapacity()).isEqualTo(10);
+                assertThat(registry.resolve("r", "tenant-a:write", routeDefault)).isSameAs(routeDefault);
+        }
+}
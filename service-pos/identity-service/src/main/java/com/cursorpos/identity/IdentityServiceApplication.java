@@ -2,6 +2,7 @@ package com.cursorpos.identity;
 
 import com.cursorpos.shared.config.SecurityConfig;
 import com.cursorpos.shared.security.JwtAuthenticationFilter;
+import com.cursorpos.shared.security.ServiceTokenAuthenticationFilter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
@@ -26,7 +27,8 @@ import org.springframework.context.annotation.FilterType;
 @SpringBootApplication
 @ComponentScan(basePackages = { "com.cursorpos.identity",
         "com.cursorpos.shared" }, excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
-                SecurityConfig.class, JwtAuthenticationFilter.class }))
+                SecurityConfig.class, JwtAuthenticationFilter.class,
+                ServiceTokenAuthenticationFilter.class }))
 public class IdentityServiceApplication {
 
     public static void main(String[] args) {
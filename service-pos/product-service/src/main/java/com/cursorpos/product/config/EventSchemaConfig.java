@@ -0,0 +1,35 @@
+package com.cursorpos.product.config;
+
+import com.cursorpos.product.event.InventoryUpdatedEvent;
+import com.cursorpos.product.event.PricesChangedEvent;
+import com.cursorpos.product.event.SaleCompletedMessage;
+import com.cursorpos.shared.event.serde.EventSchemaRegistrar;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Event schema configuration.
+ * 
+ * <p>
+ * Registers the events this service publishes, and binds the
+ * {@code transaction.created} events it consumes to
+ * {@link SaleCompletedMessage}.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Configuration
+public class EventSchemaConfig {
+
+    @Bean
+    public EventSchemaRegistrar productEventSchemas() {
+        return registry -> {
+            registry.register(InventoryUpdatedEvent.class, InventoryUpdatedEvent.EVENT_TYPE);
+            registry.register(PricesChangedEvent.class, PricesChangedEvent.EVENT_TYPE);
+            registry.registerProjection(SaleCompletedMessage.CREATED_EVENT_TYPE, SaleCompletedMessage.class);
+            registry.registerProjection(SaleCompletedMessage.CANCELLED_EVENT_TYPE, SaleCompletedMessage.class);
+        };
+    }
+}
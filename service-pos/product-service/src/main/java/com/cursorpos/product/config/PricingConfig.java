@@ -0,0 +1,38 @@
+package com.cursorpos.product.config;
+
+import com.cursorpos.product.service.ScheduledPriceJob;
+import com.cursorpos.product.service.ScheduledPriceService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Pricing configuration.
+ * 
+ * <p>
+ * When {@code products.prices.scheduler.enabled=true} a background
+ * {@link ScheduledPriceJob} applies scheduled prices when they take effect.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Configuration
+public class PricingConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "products.prices.scheduler.enabled", havingValue = "true")
+    public ScheduledPriceJob scheduledPriceJob(
+            ScheduledPriceService scheduledPriceService,
+            @Value("${products.prices.scheduler.tick:1s}") Duration tick,
+            @Value("${products.prices.scheduler.lookahead:1h}") Duration lookahead,
+            @Value("${products.prices.scheduler.refresh-interval:5m}") Duration refreshInterval) {
+        return new ScheduledPriceJob(scheduledPriceService, Clock.systemDefaultZone(), tick, lookahead,
+                refreshInterval);
+    }
+}
@@ -0,0 +1,115 @@
+package com.cursorpos.product.consumer;
+
+import com.cursorpos.product.event.SaleCompletedMessage;
+import com.cursorpos.product.service.SaleStockService;
+import com.cursorpos.shared.event.EventTopics;
+import com.cursorpos.shared.event.KeyedBatchDispatcher;
+import com.cursorpos.shared.outbox.KafkaOutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Consumes {@code transaction.created} in batches and updates stock, putting
+ * it back when a completed transaction is cancelled.
+ * 
+ * <p>
+ * The batch is split by branch with {@link KeyedBatchDispatcher}; each
+ * branch's events are applied in their own transaction, in parallel with the
+ * other branches, so no two transactions update the same inventory rows. The
+ * batch is acknowledged only after every branch has committed; on failure the
+ * batch is redelivered from the failed branch's first record and
+ * already-applied events are skipped by event ID.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.kafka.enabled", havingValue = "true", matchIfMissing = true)
+public class SaleStockConsumer {
+
+    private final SaleStockService saleStockService;
+    private final ObjectMapper objectMapper;
+    private final KeyedBatchDispatcher keyedBatchDispatcher;
+
+    @KafkaListener(topics = EventTopics.TRANSACTION_CREATED, containerFactory = "batchKafkaListenerContainerFactory")
+    public void onSales(List<ConsumerRecord<String, Object>> records, Acknowledgment acknowledgment) {
+        Map<ConsumerRecord<String, Object>, SaleCompletedMessage> messages = new IdentityHashMap<>(records.size());
+        for (ConsumerRecord<String, Object> consumerRecord : records) {
+            SaleCompletedMessage message = toMessage(consumerRecord);
+            if (message != null) {
+                messages.put(consumerRecord, message);
+            }
+        }
+        AtomicInteger applied = new AtomicInteger();
+        keyedBatchDispatcher.dispatchGroups(records, consumerRecord -> {
+            SaleCompletedMessage message = messages.get(consumerRecord);
+            return message != null ? Arrays.asList(message.getTenantId(), message.getBranchId()) : null;
+        }, group -> {
+            List<SaleCompletedMessage> branchMessages = group.stream()
+                    .map(messages::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            if (!branchMessages.isEmpty()) {
+                applied.addAndGet(saleStockService.applySales(branchMessages));
+            }
+        });
+        acknowledgment.acknowledge();
+        log.debug("Stock batch of {} records applied ({} new events)", records.size(), applied.get());
+    }
+
+    private SaleCompletedMessage toMessage(ConsumerRecord<String, Object> consumerRecord) {
+        try {
+            // Already bound by the binary deserializer, or a map from the JSON path
+            SaleCompletedMessage message = consumerRecord.value() instanceof SaleCompletedMessage bound
+                    ? bound
+                    : objectMapper.convertValue(consumerRecord.value(), SaleCompletedMessage.class);
+            if (message.getEventId() == null) {
+                message.setEventId(header(consumerRecord, KafkaOutboxSink.EVENT_ID_HEADER));
+            }
+            if (message.getEventId() == null) {
+                log.warn("Skipping transaction.created record without event id at offset {}",
+                        consumerRecord.offset());
+                return null;
+            }
+            // The topic carries creations and cancellations; the type header says which
+            String eventType = header(consumerRecord, KafkaOutboxSink.EVENT_TYPE_HEADER);
+            if (eventType != null) {
+                message.setEventType(eventType);
+            }
+            if (!SaleCompletedMessage.CREATED_EVENT_TYPE.equals(message.getEventType())
+                    && !SaleCompletedMessage.CANCELLED_EVENT_TYPE.equals(message.getEventType())) {
+                log.debug("Skipping {} record at offset {}", message.getEventType(), consumerRecord.offset());
+                return null;
+            }
+            return message;
+        } catch (IllegalArgumentException e) {
+            log.error("Skipping malformed transaction.created record at offset {}: {}",
+                    consumerRecord.offset(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static String header(ConsumerRecord<String, Object> consumerRecord, String name) {
+        Header header = consumerRecord.headers().lastHeader(name);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+}
@@ -0,0 +1,84 @@
+package com.cursorpos.product.controller;
+
+import com.cursorpos.product.dto.BulkPriceUpdateRequest;
+import com.cursorpos.product.dto.BulkPriceUpdateResponse;
+import com.cursorpos.product.dto.ProductImportResponse;
+import com.cursorpos.product.dto.ScheduledPriceRequest;
+import com.cursorpos.product.dto.ScheduledPriceResponse;
+import com.cursorpos.product.service.ProductImportService;
+import com.cursorpos.product.service.ProductPriceService;
+import com.cursorpos.product.service.ScheduledPriceService;
+import com.cursorpos.shared.dto.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * REST controller for bulk catalog operations.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@RestController
+@RequestMapping("/api/v1/products")
+@RequiredArgsConstructor
+public class ProductBulkController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final ProductImportService productImportService;
+    private final ProductPriceService productPriceService;
+    private final ScheduledPriceService scheduledPriceService;
+
+    /**
+     * Imports a CSV catalog sent as the raw request body.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<ProductImportResponse>> importProducts(
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) {
+        if (contentType != null && !TEXT_CSV.isCompatibleWith(MediaType.parseMediaType(contentType))) {
+            throw new IllegalArgumentException("Unsupported content type: " + contentType + ", expected text/csv");
+        }
+        ProductImportResponse response = productImportService.importProducts(body);
+        return ResponseEntity.ok(ApiResponse.success(response, "Product import completed"));
+    }
+
+    /**
+     * Applies a price list or percentage rules per category.
+     */
+    @PostMapping("/prices/bulk")
+    public ResponseEntity<ApiResponse<BulkPriceUpdateResponse>> updatePrices(
+            @Valid @RequestBody BulkPriceUpdateRequest request) {
+        BulkPriceUpdateResponse response = productPriceService.updatePrices(request);
+        return ResponseEntity.ok(ApiResponse.success(response, "Prices updated successfully"));
+    }
+
+    /**
+     * Schedules a price list to take effect at a future time.
+     */
+    @PostMapping("/prices/scheduled")
+    public ResponseEntity<ApiResponse<ScheduledPriceResponse>> schedulePrices(
+            @Valid @RequestBody ScheduledPriceRequest request) {
+        ScheduledPriceResponse response = scheduledPriceService.schedulePrices(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "Prices scheduled successfully"));
+    }
+
+    /**
+     * Cancels a scheduled price that has not taken effect yet.
+     */
+    @DeleteMapping("/prices/scheduled/{id}")
+    public ResponseEntity<ApiResponse<Void>> cancelScheduledPrice(@PathVariable UUID id) {
+        scheduledPriceService.cancelScheduledPrice(id);
+        return ResponseEntity.ok(ApiResponse.success(null, "Scheduled price cancelled successfully"));
+    }
+}
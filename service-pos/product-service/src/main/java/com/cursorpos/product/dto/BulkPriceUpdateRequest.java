@@ -0,0 +1,79 @@
+package com.cursorpos.product.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for bulk price changes: either a price list or percentage
+ * rules per category, not both.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkPriceUpdateRequest {
+
+    @Valid
+    @Size(max = 50000, message = "Price list must not exceed 50000 items")
+    private List<PriceItem> prices;
+
+    @Valid
+    @Size(max = 100, message = "Category rules must not exceed 100 items")
+    private List<CategoryRule> categoryRules;
+
+    /**
+     * Decimal places that rule-based prices are rounded to (half up).
+     */
+    @Min(value = 0, message = "Scale must be between 0 and 4")
+    @Max(value = 4, message = "Scale must be between 0 and 4")
+    @Builder.Default
+    private Integer scale = 2;
+
+    @Size(max = 500, message = "Reason must not exceed 500 characters")
+    private String reason;
+
+    /**
+     * New price for one product.
+     *
+     * @param code  product code
+     * @param price new price
+     */
+    public record PriceItem(
+            @NotBlank(message = "Code is required") String code,
+            @NotNull(message = "Price is required")
+            @DecimalMin(value = "0.0", inclusive = false, message = "Price must be greater than 0")
+            BigDecimal price) {
+    }
+
+    /**
+     * Percentage change for every product in a category.
+     *
+     * @param categoryId category
+     * @param percent    change in percent, e.g. -15 for 15% off
+     */
+    public record CategoryRule(
+            @NotNull(message = "Category ID is required") UUID categoryId,
+            @NotNull(message = "Percent is required")
+            @DecimalMin(value = "-100.0", inclusive = false, message = "Percent must be greater than -100")
+            @DecimalMax(value = "1000.0", message = "Percent must not exceed 1000")
+            BigDecimal percent) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.cursorpos.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a bulk price change.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkPriceUpdateResponse {
+
+    /**
+     * Products matched by the price list or rules.
+     */
+    private long matched;
+
+    private long updated;
+
+    /**
+     * Matched products that already had the requested price.
+     */
+    private long unchanged;
+
+    /**
+     * Price list codes with no product; at most the first 100 are listed.
+     */
+    private List<String> notFoundCodes;
+
+    private long notFound;
+
+    private int chunks;
+
+    private long elapsedMs;
+}
@@ -34,5 +34,6 @@ public class PriceHistoryResponse {
     private LocalDateTime effectiveTo;
     private String changedBy;
     private String reason;
+    private String status;
     private Instant createdAt;
 }
@@ -0,0 +1,42 @@
+package com.cursorpos.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a bulk catalog import.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductImportResponse {
+
+    private long rowsRead;
+    private long productsCreated;
+    private long stockRowsCreated;
+    private long duplicates;
+    private long failed;
+    private long elapsedMs;
+    private long rowsPerSecond;
+    private List<RowError> errors;
+    private boolean errorsTruncated;
+
+    /**
+     * A row that was not imported.
+     *
+     * @param row     1-based data row
+     * @param code    product code, if it could be read
+     * @param message why the row was rejected
+     */
+    public record RowError(long row, String code, String message) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.cursorpos.product.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Request DTO for scheduling a price list to take effect at a future time.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduledPriceRequest {
+
+    @NotEmpty(message = "Prices are required")
+    @Valid
+    @Size(max = 50000, message = "Price list must not exceed 50000 items")
+    private List<BulkPriceUpdateRequest.PriceItem> prices;
+
+    @NotNull(message = "Effective from is required")
+    @Future(message = "Effective from must be in the future")
+    private LocalDateTime effectiveFrom;
+
+    @Size(max = 500, message = "Reason must not exceed 500 characters")
+    private String reason;
+}
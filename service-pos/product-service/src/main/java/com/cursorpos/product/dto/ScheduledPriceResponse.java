@@ -0,0 +1,34 @@
+package com.cursorpos.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Response DTO for a scheduled price list.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduledPriceResponse {
+
+    private long scheduled;
+
+    /**
+     * Price list codes with no product; at most the first 100 are listed.
+     */
+    private List<String> notFoundCodes;
+
+    private long notFound;
+
+    private LocalDateTime effectiveFrom;
+}
@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 @Table(name = "price_history", indexes = {
         @Index(name = "idx_price_history_tenant", columnList = "tenant_id"),
         @Index(name = "idx_price_history_product", columnList = "tenant_id,product_id"),
-        @Index(name = "idx_price_history_effective", columnList = "tenant_id,product_id,effective_from")
+        @Index(name = "idx_price_history_effective", columnList = "tenant_id,product_id,effective_from"),
+        @Index(name = "idx_price_history_scheduled", columnList = "effective_from")
 })
 @Getter
 @Setter
@@ -52,4 +53,17 @@ public class PriceHistory extends BaseEntity {
 
     @Column(length = 500)
     private String reason;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private PriceStatus status = PriceStatus.APPLIED;
+
+    /**
+     * Whether the price is already reflected in {@link Product#getPrice()}.
+     */
+    public enum PriceStatus {
+        APPLIED,
+        SCHEDULED
+    }
 }
@@ -0,0 +1,71 @@
+package com.cursorpos.product.event;
+
+import com.cursorpos.product.entity.Inventory;
+import com.cursorpos.shared.event.BaseEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.util.UUID;
+
+/**
+ * Published to {@code inventory.updated} when stock levels change.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class InventoryUpdatedEvent extends BaseEvent {
+
+    public static final String EVENT_TYPE = "InventoryUpdated";
+
+    private UUID inventoryId;
+    private UUID productId;
+    private UUID branchId;
+    private Integer quantityOnHand;
+    private Integer quantityReserved;
+    private Integer quantityAvailable;
+
+    /**
+     * What changed the stock (e.g. "ADJUST_SUBTRACT", "RESERVE").
+     */
+    private String reason;
+
+    /**
+     * Ordering key: events of one product at one branch are published in order.
+     */
+    public static String aggregateKey(UUID productId, UUID branchId) {
+        return productId + ":" + branchId;
+    }
+
+    /**
+     * Builds the event from the updated inventory row.
+     * 
+     * @param inventory the updated inventory
+     * @param productId the product
+     * @param reason    what changed the stock
+     * @param userId    the user who made the change
+     * @return the event
+     */
+    public static InventoryUpdatedEvent from(Inventory inventory, UUID productId, String reason, String userId) {
+        return InventoryUpdatedEvent.builder()
+                .eventType(EVENT_TYPE)
+                .tenantId(inventory.getTenantId())
+                .userId(userId)
+                .inventoryId(inventory.getId())
+                .productId(productId)
+                .branchId(inventory.getBranchId())
+                .quantityOnHand(inventory.getQuantityOnHand())
+                .quantityReserved(inventory.getQuantityReserved())
+                .quantityAvailable(inventory.getQuantityAvailable())
+                .reason(reason)
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.cursorpos.product.event;
+
+import com.cursorpos.shared.event.BaseEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published to {@code product.updated} once per chunk of a bulk price
+ * change, listing every product whose price changed.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class PricesChangedEvent extends BaseEvent {
+
+    public static final String EVENT_TYPE = "PricesChanged";
+
+    private List<PriceChange> changes;
+
+    /**
+     * Why the prices changed (e.g. "Weekend promotion").
+     */
+    private String reason;
+
+    /**
+     * One product's price change.
+     *
+     * @param productId product
+     * @param code      product code
+     * @param oldPrice  price before the change
+     * @param newPrice  price after the change
+     */
+    public record PriceChange(UUID productId, String code, BigDecimal oldPrice, BigDecimal newPrice) {
+    }
+}
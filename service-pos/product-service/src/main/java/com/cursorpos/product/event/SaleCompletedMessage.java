@@ -0,0 +1,76 @@
+package com.cursorpos.product.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fields of the {@code transaction.created} events that affect stock.
+ * 
+ * <p>
+ * Mirrors the relevant part of transaction-service's TransactionCreatedEvent
+ * and TransactionCancelledEvent; unknown fields are ignored so the producer
+ * can evolve independently.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SaleCompletedMessage {
+
+    public static final String CREATED_EVENT_TYPE = "TransactionCreated";
+    public static final String CANCELLED_EVENT_TYPE = "TransactionCancelled";
+
+    private String eventId;
+    private String eventType;
+    private String tenantId;
+    private UUID transactionId;
+    private UUID branchId;
+    private String status;
+    private String type;
+    private List<Line> items;
+
+    /**
+     * Sold product line.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Line {
+        private UUID productId;
+        private Integer quantity;
+    }
+
+    /**
+     * Signed stock change per unit: sales take stock, returns put it back,
+     * anything else (pending, exchanges) does not move stock. Cancelling a
+     * completed transaction undoes its change; only completed transactions
+     * publish a cancellation.
+     */
+    public int stockDirection() {
+        if (CANCELLED_EVENT_TYPE.equals(eventType)) {
+            return -typeDirection();
+        }
+        return "COMPLETED".equals(status) ? typeDirection() : 0;
+    }
+
+    private int typeDirection() {
+        if ("SALE".equals(type)) {
+            return -1;
+        }
+        return "RETURN".equals(type) ? 1 : 0;
+    }
+}
@@ -4,6 +4,7 @@ import com.cursorpos.product.entity.PriceHistory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -27,11 +28,30 @@ public interface PriceHistoryRepository extends JpaRepository<PriceHistory, UUID
 
     List<PriceHistory> findByTenantIdAndProductIdAndDeletedAtIsNull(String tenantId, UUID productId);
 
-    @Query("SELECT ph FROM PriceHistory ph WHERE ph.tenantId = :tenantId AND ph.product.id = :productId " +
-            "AND ph.deletedAt IS NULL AND ph.effectiveFrom <= :date " +
-            "AND (ph.effectiveTo IS NULL OR ph.effectiveTo > :date) " +
-            "ORDER BY ph.effectiveFrom DESC")
+    /**
+     * Finds the price in effect at {@code date}, including prices scheduled
+     * for that time. Served by a descending range scan of
+     * idx_price_history_effective that stops at the first matching row.
+     */
+    @Query(value = """
+            SELECT * FROM price_history
+            WHERE tenant_id = :tenantId AND product_id = :productId AND deleted_at IS NULL
+              AND effective_from <= :date AND (effective_to IS NULL OR effective_to > :date)
+            ORDER BY effective_from DESC
+            LIMIT 1
+            """, nativeQuery = true)
     Optional<PriceHistory> findEffectivePrice(@Param("tenantId") String tenantId,
             @Param("productId") UUID productId,
             @Param("date") LocalDateTime date);
+
+    /**
+     * Ends the product's open applied price at {@code at}.
+     */
+    @Modifying
+    @Query("UPDATE PriceHistory ph SET ph.effectiveTo = :at WHERE ph.tenantId = :tenantId "
+            + "AND ph.product.id = :productId "
+            + "AND ph.status = com.cursorpos.product.entity.PriceHistory.PriceStatus.APPLIED "
+            + "AND ph.effectiveTo IS NULL AND ph.deletedAt IS NULL")
+    int closeOpenPrice(@Param("tenantId") String tenantId, @Param("productId") UUID productId,
+            @Param("at") LocalDateTime at);
 }
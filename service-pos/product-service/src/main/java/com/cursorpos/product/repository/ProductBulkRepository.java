@@ -0,0 +1,367 @@
+package com.cursorpos.product.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Set-based catalog writes for bulk imports and price changes.
+ *
+ * <p>
+ * Every statement takes a whole chunk as arrays and expands it with
+ * {@code unnest}, so a chunk costs one round trip per table instead of a
+ * lookup and an insert per product.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductBulkRepository {
+
+    private static final String CATEGORY_IDS_SQL = """
+            SELECT code, id FROM categories
+            WHERE tenant_id = ? AND deleted_at IS NULL
+            """;
+
+    /**
+     * Deleted products still hold their code and SKU (the unique constraints
+     * cover them), so they are not filtered out.
+     */
+    private static final String EXISTING_KEYS_SQL = """
+            SELECT 'code', code FROM products WHERE tenant_id = ? AND code = ANY(?)
+            UNION ALL
+            SELECT 'sku', sku FROM products WHERE tenant_id = ? AND sku = ANY(?)
+            """;
+
+    /**
+     * Inserts the products and their initial price history rows in one
+     * statement. Rows that hit either unique constraint are skipped.
+     */
+    private static final String INSERT_PRODUCTS_SQL = """
+            WITH inserted AS (
+                INSERT INTO products (tenant_id, code, sku, name, description, category_id, price, cost,
+                                      tax_rate, unit, barcode, image_url, is_active, is_trackable,
+                                      min_stock_level, max_stock_level, created_by)
+                SELECT ?, p.code, p.sku, p.name, p.description, p.category_id, p.price, p.cost,
+                       COALESCE(p.tax_rate, 0), p.unit, p.barcode, p.image_url, p.is_active, p.is_trackable,
+                       p.min_stock_level, p.max_stock_level, ?
+                FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::uuid[], ?::numeric[],
+                            ?::numeric[], ?::numeric[], ?::varchar[], ?::varchar[], ?::varchar[], ?::boolean[],
+                            ?::boolean[], ?::integer[], ?::integer[])
+                     AS p(code, sku, name, description, category_id, price, cost, tax_rate, unit, barcode,
+                          image_url, is_active, is_trackable, min_stock_level, max_stock_level)
+                ON CONFLICT DO NOTHING
+                RETURNING id, tenant_id, code, price
+            ), history AS (
+                INSERT INTO price_history (tenant_id, product_id, old_price, new_price, effective_from,
+                                           changed_by, reason, created_by)
+                SELECT tenant_id, id, NULL, price, CURRENT_TIMESTAMP, 'SYSTEM', 'Initial price', ?
+                FROM inserted
+            )
+            SELECT code, id FROM inserted
+            """;
+
+    private static final String INSERT_STOCK_SQL = """
+            INSERT INTO inventory (tenant_id, branch_id, product_id, quantity_on_hand, quantity_reserved,
+                                   quantity_available, created_by)
+            SELECT ?, s.branch_id, s.product_id, s.quantity, 0, s.quantity, ?
+            FROM unnest(?::uuid[], ?::uuid[], ?::integer[]) AS s(branch_id, product_id, quantity)
+            ON CONFLICT ON CONSTRAINT uq_inventory_per_branch DO NOTHING
+            """;
+
+    private static final String PRICE_LIST_CHANGES_SQL = """
+            WITH changes AS (
+                SELECT p.id, p.code, p.price AS old_price, i.price AS new_price
+                FROM products p
+                JOIN unnest(?::varchar[], ?::numeric[]) AS i(code, price) ON p.code = i.code
+                WHERE p.tenant_id = ? AND p.deleted_at IS NULL
+                ORDER BY p.id
+                FOR UPDATE OF p
+            ),
+            """;
+
+    private static final String CATEGORY_RULE_CHANGES_SQL = """
+            WITH changes AS (
+                SELECT id, code, price AS old_price, ROUND(price * ?, ?) AS new_price
+                FROM products
+                WHERE tenant_id = ? AND category_id = ? AND deleted_at IS NULL AND id > ?
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE
+            ),
+            """;
+
+    /**
+     * Applies {@code changes}: updates the changed prices, closes the open
+     * price history rows of those products and records the new prices, all
+     * at the same timestamp. Returns every matched product, changed or not.
+     */
+    private static final String APPLY_PRICE_CHANGES_SQL = """
+            updated AS (
+                UPDATE products p
+                SET price = c.new_price, updated_at = CURRENT_TIMESTAMP, updated_by = ?, version = p.version + 1
+                FROM changes c
+                WHERE p.id = c.id AND c.new_price <> c.old_price
+                RETURNING p.id
+            ), closed AS (
+                UPDATE price_history h
+                SET effective_to = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP, updated_by = ?
+                FROM updated u
+                WHERE h.tenant_id = ? AND h.product_id = u.id AND h.status = 'APPLIED'
+                  AND h.effective_to IS NULL AND h.deleted_at IS NULL
+            ), history AS (
+                INSERT INTO price_history (tenant_id, product_id, old_price, new_price, effective_from,
+                                           changed_by, reason, created_by)
+                SELECT ?, c.id, c.old_price, c.new_price, CURRENT_TIMESTAMP, ?, ?, ?
+                FROM changes c JOIN updated u ON u.id = c.id
+            )
+            SELECT c.id, c.code, c.old_price, c.new_price, u.id IS NOT NULL AS changed
+            FROM changes c LEFT JOIN updated u ON u.id = c.id
+            ORDER BY c.id
+            """;
+
+    private static final UUID MIN_UUID = new UUID(0, 0);
+
+    private static final RowMapper<AppliedPrice> APPLIED_PRICE_MAPPER = (rs, rowNum) -> new AppliedPrice(
+            rs.getObject(1, UUID.class), rs.getString(2), rs.getBigDecimal(3), rs.getBigDecimal(4),
+            rs.getBoolean(5));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param tenantId tenant
+     * @return category ID by code, for resolving import rows without a lookup
+     *         per product
+     */
+    public Map<String, UUID> findCategoryIds(String tenantId) {
+        Map<String, UUID> categoryIds = new HashMap<>();
+        jdbcTemplate.query(CATEGORY_IDS_SQL,
+                rs -> {
+                    categoryIds.put(rs.getString(1), rs.getObject(2, UUID.class));
+                },
+                tenantId);
+        return categoryIds;
+    }
+
+    /**
+     * Finds which of the given codes and SKUs are already taken.
+     *
+     * @param tenantId tenant
+     * @param codes    candidate product codes
+     * @param skus     candidate SKUs
+     * @return the taken codes and SKUs
+     */
+    public ExistingKeys findExistingKeys(String tenantId, Collection<String> codes, Collection<String> skus) {
+        ExistingKeys existing = new ExistingKeys(new HashSet<>(), new HashSet<>());
+        if (codes.isEmpty() && skus.isEmpty()) {
+            return existing;
+        }
+        jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(EXISTING_KEYS_SQL);
+            ps.setString(1, tenantId);
+            ps.setArray(2, connection.createArrayOf("varchar", codes.toArray()));
+            ps.setString(3, tenantId);
+            ps.setArray(4, connection.createArrayOf("varchar", skus.toArray()));
+            return ps;
+        }, rs -> {
+            ("code".equals(rs.getString(1)) ? existing.codes() : existing.skus()).add(rs.getString(2));
+        });
+        return existing;
+    }
+
+    /**
+     * Inserts products with their initial price history.
+     *
+     * @param tenantId tenant
+     * @param products products to insert
+     * @param userId   recorded as creator
+     * @return IDs of the inserted products by code; products whose code or
+     *         SKU was taken in the meantime are missing
+     */
+    public Map<String, UUID> insertProducts(String tenantId, List<NewProduct> products, String userId) {
+        Map<String, UUID> ids = new HashMap<>();
+        if (products.isEmpty()) {
+            return ids;
+        }
+        jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(INSERT_PRODUCTS_SQL);
+            int i = 1;
+            ps.setString(i++, tenantId);
+            ps.setString(i++, userId);
+            ps.setArray(i++, array(connection, "varchar", products, NewProduct::code));
+            ps.setArray(i++, array(connection, "varchar", products, NewProduct::sku));
+            ps.setArray(i++, array(connection, "varchar", products, NewProduct::name));
+            ps.setArray(i++, array(connection, "varchar", products, NewProduct::description));
+            ps.setArray(i++, array(connection, "uuid", products, NewProduct::categoryId));
+            ps.setArray(i++, array(connection, "numeric", products, NewProduct::price));
+            ps.setArray(i++, array(connection, "numeric", products, NewProduct::cost));
+            ps.setArray(i++, array(connection, "numeric", products, NewProduct::taxRate));
+            ps.setArray(i++, array(connection, "varchar", products, NewProduct::unit));
+            ps.setArray(i++, array(connection, "varchar", products, NewProduct::barcode));
+            ps.setArray(i++, array(connection, "varchar", products, NewProduct::imageUrl));
+            ps.setArray(i++, array(connection, "boolean", products, NewProduct::active));
+            ps.setArray(i++, array(connection, "boolean", products, NewProduct::trackable));
+            ps.setArray(i++, array(connection, "integer", products, NewProduct::minStockLevel));
+            ps.setArray(i++, array(connection, "integer", products, NewProduct::maxStockLevel));
+            ps.setString(i, userId);
+            return ps;
+        }, rs -> {
+            ids.put(rs.getString(1), rs.getObject(2, UUID.class));
+        });
+        return ids;
+    }
+
+    /**
+     * Inserts opening stock. Rows for a branch that already stocks the
+     * product are skipped.
+     *
+     * @param tenantId tenant
+     * @param stock    stock rows to insert
+     * @param userId   recorded as creator
+     * @return number of inventory rows inserted
+     */
+    public int insertStock(String tenantId, List<NewStock> stock, String userId) {
+        if (stock.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(connection -> {
+            var ps = connection.prepareStatement(INSERT_STOCK_SQL);
+            ps.setString(1, tenantId);
+            ps.setString(2, userId);
+            ps.setArray(3, array(connection, "uuid", stock, NewStock::branchId));
+            ps.setArray(4, array(connection, "uuid", stock, NewStock::productId));
+            ps.setArray(5, array(connection, "integer", stock, NewStock::quantity));
+            return ps;
+        });
+    }
+
+    /**
+     * Sets prices by product code.
+     *
+     * @param tenantId     tenant
+     * @param pricesByCode new price by product code
+     * @param reason       recorded in the price history
+     * @param userId       recorded as the user who changed the prices
+     * @return every product found, in ID order; codes without a product are
+     *         missing
+     */
+    public List<AppliedPrice> applyPriceList(String tenantId, Map<String, BigDecimal> pricesByCode, String reason,
+            String userId) {
+        if (pricesByCode.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(PRICE_LIST_CHANGES_SQL + APPLY_PRICE_CHANGES_SQL);
+            ps.setArray(1, connection.createArrayOf("varchar", pricesByCode.keySet().toArray()));
+            ps.setArray(2, connection.createArrayOf("numeric", pricesByCode.values().toArray()));
+            ps.setString(3, tenantId);
+            setPriceChangeParameters(ps, 4, tenantId, reason, userId);
+            return ps;
+        }, APPLIED_PRICE_MAPPER);
+    }
+
+    /**
+     * Multiplies the prices of one page of a category's products.
+     *
+     * @param tenantId   tenant
+     * @param categoryId category
+     * @param factor     price multiplier, e.g. 0.85 for 15% off
+     * @param scale      decimal places to round the new prices to
+     * @param afterId    last product ID of the previous page, null for the
+     *                   first page
+     * @param limit      page size
+     * @param reason     recorded in the price history
+     * @param userId     recorded as the user who changed the prices
+     * @return the page's products in ID order; fewer than {@code limit} on the
+     *         last page
+     */
+    public List<AppliedPrice> applyCategoryFactor(String tenantId, UUID categoryId, BigDecimal factor, int scale,
+            UUID afterId, int limit, String reason, String userId) {
+        return jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(CATEGORY_RULE_CHANGES_SQL + APPLY_PRICE_CHANGES_SQL);
+            ps.setBigDecimal(1, factor);
+            ps.setInt(2, scale);
+            ps.setString(3, tenantId);
+            ps.setObject(4, categoryId);
+            ps.setObject(5, afterId == null ? MIN_UUID : afterId);
+            ps.setInt(6, limit);
+            setPriceChangeParameters(ps, 7, tenantId, reason, userId);
+            return ps;
+        }, APPLIED_PRICE_MAPPER);
+    }
+
+    private static void setPriceChangeParameters(PreparedStatement ps, int first, String tenantId, String reason,
+            String userId) throws SQLException {
+        int i = first;
+        ps.setString(i++, userId);
+        ps.setString(i++, userId);
+        ps.setString(i++, tenantId);
+        ps.setString(i++, tenantId);
+        ps.setString(i++, userId);
+        ps.setString(i++, reason);
+        ps.setString(i, userId);
+    }
+
+    private static <T> Array array(Connection connection, String type, List<T> rows,
+            Function<T, Object> column) throws SQLException {
+        return connection.createArrayOf(type, rows.stream().map(column).toArray());
+    }
+
+    /**
+     * Codes and SKUs that are already taken.
+     *
+     * @param codes taken product codes
+     * @param skus  taken SKUs
+     */
+    public record ExistingKeys(Set<String> codes, Set<String> skus) {
+    }
+
+    /**
+     * Product row to insert.
+     */
+    public record NewProduct(String code, String sku, String name, String description, UUID categoryId,
+            BigDecimal price, BigDecimal cost, BigDecimal taxRate, String unit, String barcode, String imageUrl,
+            boolean active, boolean trackable, Integer minStockLevel, Integer maxStockLevel) {
+    }
+
+    /**
+     * Price of one product matched by a bulk price change.
+     *
+     * @param productId product
+     * @param code      product code
+     * @param oldPrice  price before the change
+     * @param newPrice  requested price
+     * @param changed   false if the product already had the requested price
+     */
+    public record AppliedPrice(UUID productId, String code, BigDecimal oldPrice, BigDecimal newPrice,
+            boolean changed) {
+    }
+
+    /**
+     * Opening stock for one product at one branch.
+     *
+     * @param branchId  branch
+     * @param productId product
+     * @param quantity  quantity on hand
+     */
+    public record NewStock(UUID branchId, UUID productId, int quantity) {
+    }
+}
@@ -0,0 +1,211 @@
+package com.cursorpos.product.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Future-dated prices, kept as {@code SCHEDULED} price history rows until
+ * they take effect.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduledPriceRepository {
+
+    private static final String SCHEDULE_SQL = """
+            WITH matched AS (
+                SELECT p.id, p.code, i.price
+                FROM products p
+                JOIN unnest(?::varchar[], ?::numeric[]) AS i(code, price) ON p.code = i.code
+                WHERE p.tenant_id = ? AND p.deleted_at IS NULL
+            ), scheduled AS (
+                INSERT INTO price_history (tenant_id, product_id, old_price, new_price, effective_from,
+                                           changed_by, reason, status, created_by)
+                SELECT ?, m.id, NULL, m.price, ?, ?, ?, 'SCHEDULED', ?
+                FROM matched m
+            )
+            SELECT code FROM matched
+            """;
+
+    private static final String CANCEL_SQL = """
+            UPDATE price_history
+            SET deleted_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP, updated_by = ?
+            WHERE id = ? AND tenant_id = ? AND status = 'SCHEDULED' AND deleted_at IS NULL
+            """;
+
+    private static final String BOUNDARIES_SQL = """
+            SELECT DISTINCT effective_from FROM price_history
+            WHERE status = 'SCHEDULED' AND deleted_at IS NULL AND effective_from <= ?
+            ORDER BY effective_from
+            """;
+
+    /**
+     * Activates a batch of due prices across all tenants in one statement.
+     *
+     * <p>
+     * When a product has several due prices only the latest is written to the
+     * product row; the earlier ones are recorded as having been in effect
+     * until the next one started. The product's open applied price is closed
+     * where the first due price starts. Each batch claims whole products with
+     * a transaction-scoped advisory lock, so all due rows of a product are
+     * activated together even when a batch ends mid-way through the due
+     * rows; products claimed by another node are skipped. Products deleted in the meantime keep their price, but their
+     * due rows are still marked applied so they are not picked up again.
+     * Returns the latest due price per product, with the product's price
+     * before activation.
+     * </p>
+     */
+    private static final String ACTIVATE_DUE_SQL = """
+            WITH candidates AS MATERIALIZED (
+                SELECT product_id
+                FROM price_history
+                WHERE status = 'SCHEDULED' AND deleted_at IS NULL AND effective_from <= ?
+                GROUP BY product_id
+                ORDER BY min(effective_from), product_id
+                LIMIT ?
+            ), claimed AS MATERIALIZED (
+                SELECT product_id
+                FROM candidates
+                WHERE pg_try_advisory_xact_lock(hashtext('scheduled-price'), hashtext(product_id::text))
+            ), due AS (
+                SELECT h.id, h.tenant_id, h.product_id, h.new_price, h.effective_from
+                FROM price_history h
+                JOIN claimed c ON c.product_id = h.product_id
+                WHERE h.status = 'SCHEDULED' AND h.deleted_at IS NULL AND h.effective_from <= ?
+                FOR UPDATE OF h
+            ), ordered AS (
+                SELECT d.*,
+                       lag(d.new_price) OVER w AS previous_price,
+                       lead(d.effective_from) OVER w AS next_from,
+                       first_value(d.effective_from) OVER w AS first_from,
+                       row_number() OVER w = count(*) OVER (PARTITION BY d.product_id) AS latest
+                FROM due d
+                WINDOW w AS (PARTITION BY d.product_id ORDER BY d.effective_from, d.id)
+            ), current_price AS (
+                SELECT p.id, p.code, p.price
+                FROM products p
+                WHERE p.id IN (SELECT product_id FROM ordered) AND p.deleted_at IS NULL
+                ORDER BY p.id
+                FOR UPDATE
+            ), priced AS (
+                UPDATE products p
+                SET price = o.new_price, updated_at = CURRENT_TIMESTAMP, updated_by = 'SYSTEM',
+                    version = p.version + 1
+                FROM ordered o JOIN current_price c ON c.id = o.product_id
+                WHERE p.id = o.product_id AND o.latest
+            ), closed AS (
+                UPDATE price_history h
+                SET effective_to = GREATEST(h.effective_from, o.first_from), updated_at = CURRENT_TIMESTAMP,
+                    updated_by = 'SYSTEM'
+                FROM ordered o JOIN current_price c ON c.id = o.product_id
+                WHERE o.latest AND h.tenant_id = o.tenant_id AND h.product_id = o.product_id
+                  AND h.status = 'APPLIED' AND h.effective_to IS NULL AND h.deleted_at IS NULL
+            ), activated AS (
+                UPDATE price_history h
+                SET status = 'APPLIED', old_price = COALESCE(o.previous_price, c.price), effective_to = o.next_from,
+                    updated_at = CURRENT_TIMESTAMP, updated_by = 'SYSTEM'
+                FROM ordered o LEFT JOIN current_price c ON c.id = o.product_id
+                WHERE h.id = o.id
+            )
+            SELECT o.tenant_id, o.product_id, c.code, c.price, o.new_price
+            FROM ordered o LEFT JOIN current_price c ON c.id = o.product_id
+            WHERE o.latest
+            ORDER BY o.tenant_id, o.product_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Schedules prices by product code.
+     *
+     * @param tenantId      tenant
+     * @param pricesByCode  new price by product code
+     * @param effectiveFrom when the prices take effect
+     * @param reason        recorded in the price history
+     * @param userId        recorded as the user who scheduled the prices
+     * @return codes of the products a price was scheduled for; codes without
+     *         a product are missing
+     */
+    public List<String> schedule(String tenantId, Map<String, BigDecimal> pricesByCode, LocalDateTime effectiveFrom,
+            String reason, String userId) {
+        if (pricesByCode.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(SCHEDULE_SQL);
+            ps.setArray(1, connection.createArrayOf("varchar", pricesByCode.keySet().toArray()));
+            ps.setArray(2, connection.createArrayOf("numeric", pricesByCode.values().toArray()));
+            ps.setString(3, tenantId);
+            ps.setString(4, tenantId);
+            ps.setTimestamp(5, Timestamp.valueOf(effectiveFrom));
+            ps.setString(6, userId);
+            ps.setString(7, reason);
+            ps.setString(8, userId);
+            return ps;
+        }, (rs, rowNum) -> rs.getString(1));
+    }
+
+    /**
+     * Cancels a price that has not taken effect yet.
+     *
+     * @param tenantId tenant
+     * @param id       price history row
+     * @param userId   recorded as the user who cancelled the price
+     * @return false if no such pending price exists
+     */
+    public boolean cancel(String tenantId, UUID id, String userId) {
+        return jdbcTemplate.update(CANCEL_SQL, userId, id, tenantId) > 0;
+    }
+
+    /**
+     * @param until latest boundary to return
+     * @return the distinct times at which pending prices take effect, up to
+     *         {@code until}, across all tenants
+     */
+    public List<LocalDateTime> findBoundaries(LocalDateTime until) {
+        return jdbcTemplate.query(BOUNDARIES_SQL,
+                (rs, rowNum) -> rs.getTimestamp(1).toLocalDateTime(),
+                Timestamp.valueOf(until));
+    }
+
+    /**
+     * Activates the prices due at {@code now} of up to {@code limit}
+     * products.
+     *
+     * @param now   activation time
+     * @param limit maximum number of products to activate prices of
+     * @return the latest activated price per product, empty once nothing is
+     *         due
+     */
+    public List<ActivatedPrice> activateDue(LocalDateTime now, int limit) {
+        return jdbcTemplate.query(ACTIVATE_DUE_SQL,
+                (rs, rowNum) -> new ActivatedPrice(rs.getString(1), rs.getObject(2, UUID.class), rs.getString(3),
+                        rs.getBigDecimal(4), rs.getBigDecimal(5)),
+                Timestamp.valueOf(now), limit, Timestamp.valueOf(now));
+    }
+
+    /**
+     * A scheduled price that took effect.
+     *
+     * @param tenantId  tenant
+     * @param productId product
+     * @param code      product code, null if the product has been deleted
+     * @param oldPrice  price before activation, null if the product has been
+     *                  deleted
+     * @param newPrice  activated price
+     */
+    public record ActivatedPrice(String tenantId, UUID productId, String code, BigDecimal oldPrice,
+            BigDecimal newPrice) {
+    }
+}
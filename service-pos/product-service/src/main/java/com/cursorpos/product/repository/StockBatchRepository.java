@@ -0,0 +1,126 @@
+package com.cursorpos.product.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Set-based stock updates for event consumers.
+ * 
+ * <p>
+ * Applies one UPDATE per (tenant, branch, product) key for a whole batch of
+ * events instead of a read-modify-write per line, and records processed event
+ * IDs for idempotency.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockBatchRepository {
+
+    private static final String CLAIM_EVENTS_SQL = """
+            INSERT INTO processed_events (consumer, event_id)
+            SELECT ?, event_id FROM unnest(?::varchar[]) AS event_id
+            ON CONFLICT DO NOTHING
+            RETURNING event_id
+            """;
+
+    /**
+     * Only applies if the result keeps on-hand stock at or above the reserved
+     * quantity (the table's check constraints).
+     */
+    private static final String APPLY_DELTA_SQL = """
+            UPDATE inventory
+            SET quantity_on_hand = quantity_on_hand + ?,
+                quantity_available = quantity_on_hand + ? - quantity_reserved,
+                updated_at = CURRENT_TIMESTAMP,
+                version = version + 1
+            WHERE tenant_id = ? AND branch_id = ? AND product_id = ? AND deleted_at IS NULL
+              AND quantity_on_hand + ? >= quantity_reserved
+            """;
+
+    /**
+     * Fallback for oversold keys: take what is left above the reserved stock.
+     */
+    private static final String CLAMP_SQL = """
+            UPDATE inventory
+            SET quantity_on_hand = quantity_reserved,
+                quantity_available = 0,
+                updated_at = CURRENT_TIMESTAMP,
+                version = version + 1
+            WHERE tenant_id = ? AND branch_id = ? AND product_id = ? AND deleted_at IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Records event IDs as processed by a consumer.
+     * 
+     * @param consumer consumer name
+     * @param eventIds candidate event IDs
+     * @return the IDs that had not been processed before
+     */
+    public Set<String> claimEvents(String consumer, List<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(CLAIM_EVENTS_SQL);
+            Array ids = connection.createArrayOf("varchar", eventIds.toArray());
+            ps.setString(1, consumer);
+            ps.setArray(2, ids);
+            return ps;
+        }, (rs, rowNum) -> rs.getString(1)));
+    }
+
+    /**
+     * Applies aggregated stock deltas in one JDBC batch.
+     * 
+     * @param deltas one entry per key
+     * @return rows updated per delta (0 if the key is missing or would oversell)
+     */
+    public int[] applyDeltas(List<StockDelta> deltas) {
+        return jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setInt(1, delta.quantity());
+            ps.setInt(2, delta.quantity());
+            ps.setString(3, delta.tenantId());
+            ps.setObject(4, delta.branchId());
+            ps.setObject(5, delta.productId());
+            ps.setInt(6, delta.quantity());
+        })[0];
+    }
+
+    /**
+     * Sets stock to the reserved quantity for keys that would go negative.
+     * 
+     * @param deltas oversold keys
+     * @return rows updated per delta
+     */
+    public int[] clampToReserved(List<StockDelta> deltas) {
+        return jdbcTemplate.batchUpdate(CLAMP_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setString(1, delta.tenantId());
+            ps.setObject(2, delta.branchId());
+            ps.setObject(3, delta.productId());
+        })[0];
+    }
+
+    /**
+     * Aggregated stock change for one inventory row.
+     * 
+     * @param tenantId  tenant
+     * @param branchId  branch
+     * @param productId product
+     * @param quantity  signed change (negative for sales)
+     */
+    public record StockDelta(String tenantId, UUID branchId, UUID productId, int quantity) {
+    }
+}
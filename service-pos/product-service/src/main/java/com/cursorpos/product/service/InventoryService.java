@@ -5,11 +5,14 @@ import com.cursorpos.product.dto.InventoryResponse;
 import com.cursorpos.product.dto.StockAdjustmentRequest;
 import com.cursorpos.product.entity.Inventory;
 import com.cursorpos.product.entity.Product;
+import com.cursorpos.product.event.InventoryUpdatedEvent;
 import com.cursorpos.product.mapper.ProductMapper;
 import com.cursorpos.product.repository.InventoryRepository;
 import com.cursorpos.product.repository.ProductRepository;
 import com.cursorpos.shared.dto.PagedResponse;
+import com.cursorpos.shared.event.EventTopics;
 import com.cursorpos.shared.exception.ResourceNotFoundException;
+import com.cursorpos.shared.outbox.OutboxEventPublisher;
 import com.cursorpos.shared.security.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -44,6 +47,7 @@ public class InventoryService {
         private final InventoryRepository inventoryRepository;
         private final ProductRepository productRepository;
         private final ProductMapper productMapper;
+        private final OutboxEventPublisher outboxEventPublisher;
 
         @Transactional
         public InventoryResponse createOrUpdateInventory(InventoryRequest request) {
@@ -108,6 +112,7 @@ public class InventoryService {
                 inventory.setQuantityOnHand(newQuantity);
                 Objects.requireNonNull(inventory, ENTITY_NAME);
                 Inventory updated = inventoryRepository.save(inventory);
+                publishInventoryUpdated(updated, request.getProductId(), "ADJUST_" + request.getType());
 
                 log.info("Stock adjusted successfully. New quantity: {}", updated.getQuantityOnHand());
                 return productMapper.toInventoryResponse(updated);
@@ -134,6 +139,7 @@ public class InventoryService {
                 inventory.setQuantityReserved(inventory.getQuantityReserved() + quantity);
                 Objects.requireNonNull(inventory, ENTITY_NAME);
                 Inventory updated = inventoryRepository.save(inventory);
+                publishInventoryUpdated(updated, productId, "RESERVE");
 
                 log.info("Stock reserved successfully. Reserved: {}, Available: {}",
                                 updated.getQuantityReserved(), updated.getQuantityAvailable());
@@ -163,6 +169,7 @@ public class InventoryService {
                 inventory.setQuantityReserved(newReserved);
                 Objects.requireNonNull(inventory, ENTITY_NAME);
                 Inventory updated = inventoryRepository.save(inventory);
+                publishInventoryUpdated(updated, productId, "RELEASE");
 
                 log.info("Stock released successfully. Reserved: {}, Available: {}",
                                 updated.getQuantityReserved(), updated.getQuantityAvailable());
@@ -236,4 +243,10 @@ public class InventoryService {
                                 .map(productMapper::toInventoryResponse)
                                 .toList();
         }
+
+        private void publishInventoryUpdated(Inventory inventory, UUID productId, String reason) {
+                outboxEventPublisher.publish(EventTopics.INVENTORY_UPDATED, "Inventory",
+                                InventoryUpdatedEvent.aggregateKey(productId, inventory.getBranchId()),
+                                InventoryUpdatedEvent.from(inventory, productId, reason, TenantContext.getUserId()));
+        }
 }
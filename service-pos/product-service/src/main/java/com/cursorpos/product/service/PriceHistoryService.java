@@ -4,6 +4,7 @@ import com.cursorpos.product.dto.PriceHistoryResponse;
 import com.cursorpos.product.entity.PriceHistory;
 import com.cursorpos.product.mapper.ProductMapper;
 import com.cursorpos.product.repository.PriceHistoryRepository;
+import com.cursorpos.product.repository.ProductRepository;
 import com.cursorpos.shared.dto.PagedResponse;
 import com.cursorpos.shared.security.TenantContext;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +33,7 @@ public class PriceHistoryService {
 
     private final PriceHistoryRepository priceHistoryRepository;
     private final ProductMapper productMapper;
+    private final ProductRepository productRepository;
 
     @Transactional(readOnly = true)
     public PagedResponse<PriceHistoryResponse> getPriceHistory(UUID productId, Pageable pageable) {
@@ -42,13 +44,33 @@ public class PriceHistoryService {
         return PagedResponse.of(page.map(productMapper::toPriceHistoryResponse));
     }
 
+    /**
+     * Finds the price in effect at {@code date}.
+     *
+     * <p>
+     * Without a date the current price is answered from the product row,
+     * which scheduled prices are applied to when they take effect, so no
+     * history rows are read. A date is looked up in the price history,
+     * including prices scheduled for that time.
+     * </p>
+     */
     @Transactional(readOnly = true)
     public Optional<PriceHistoryResponse> getEffectivePrice(UUID productId, LocalDateTime date) {
         Objects.requireNonNull(productId, "productId");
         String tenantId = TenantContext.getTenantId();
-        LocalDateTime effectiveDate = date != null ? date : LocalDateTime.now();
 
-        return priceHistoryRepository.findEffectivePrice(tenantId, productId, effectiveDate)
+        if (date == null) {
+            return productRepository.findByIdAndTenantIdAndDeletedAtIsNull(productId, tenantId)
+                    .map(product -> PriceHistoryResponse.builder()
+                            .tenantId(tenantId)
+                            .productId(product.getId())
+                            .productCode(product.getCode())
+                            .productName(product.getName())
+                            .newPrice(product.getPrice())
+                            .status(PriceHistory.PriceStatus.APPLIED.name())
+                            .build());
+        }
+        return priceHistoryRepository.findEffectivePrice(tenantId, productId, date)
                 .map(productMapper::toPriceHistoryResponse);
     }
 }
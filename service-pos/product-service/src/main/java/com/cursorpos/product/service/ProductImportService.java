@@ -0,0 +1,288 @@
+package com.cursorpos.product.service;
+
+import com.cursorpos.product.dto.ProductImportResponse;
+import com.cursorpos.product.dto.ProductImportResponse.RowError;
+import com.cursorpos.product.dto.ProductRequest;
+import com.cursorpos.product.repository.ProductBulkRepository;
+import com.cursorpos.product.repository.ProductBulkRepository.ExistingKeys;
+import com.cursorpos.product.repository.ProductBulkRepository.NewProduct;
+import com.cursorpos.product.repository.ProductBulkRepository.NewStock;
+import com.cursorpos.product.service.ProductRecordReader.ProductRecord;
+import com.cursorpos.shared.exception.CursorPosException;
+import com.cursorpos.shared.security.TenantContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk catalog import.
+ *
+ * <p>
+ * Streams a CSV file in chunks. Categories are resolved from a code-to-ID
+ * map loaded once per import; each chunk is validated in parallel, checked
+ * against existing codes and SKUs with one query, and written in one
+ * transaction: products and their initial price history in one statement,
+ * opening stock in another. Chunks commit independently, so importing the
+ * same file again after a failure skips what already made it in.
+ * </p>
+ *
+ * <p>
+ * A product may appear on several rows to stock several branches; its
+ * product columns are taken from the first row. Rows whose code or SKU is
+ * already taken, in the tenant or earlier in the file, count as duplicates.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+
+    private final ProductBulkRepository productBulkRepository;
+    private final TransactionOperations transactionOperations;
+    private final Validator validator;
+    private final Semaphore imports;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    @Autowired
+    public ProductImportService(ProductBulkRepository productBulkRepository,
+            PlatformTransactionManager transactionManager, Validator validator,
+            @Value("${products.import.chunk-size:2000}") int chunkSize,
+            @Value("${products.import.max-errors:100}") int maxErrors,
+            @Value("${products.import.max-concurrent:2}") int maxConcurrent) {
+        this(productBulkRepository, new TransactionTemplate(transactionManager), validator, chunkSize, maxErrors,
+                maxConcurrent);
+    }
+
+    ProductImportService(ProductBulkRepository productBulkRepository, TransactionOperations transactionOperations,
+            Validator validator, int chunkSize, int maxErrors, int maxConcurrent) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("products.import.chunk-size must be at least 1");
+        }
+        this.productBulkRepository = productBulkRepository;
+        this.transactionOperations = transactionOperations;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.imports = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Imports a CSV catalog for the current tenant.
+     *
+     * @param body the file contents, read to the end
+     * @return counts, throughput and the first rejected rows
+     */
+    public ProductImportResponse importProducts(InputStream body) {
+        Objects.requireNonNull(body, "body");
+        String tenantId = TenantContext.getTenantId();
+        String userId = TenantContext.getUserId();
+        if (!imports.tryAcquire()) {
+            throw new CursorPosException("Too many product imports in progress, try again later",
+                    HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        long started = System.nanoTime();
+        ImportState state;
+        try (ProductRecordReader reader = new ProductRecordReader(
+                new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            log.info("Importing products for tenant: {}", tenantId);
+            state = new ImportState(productBulkRepository.findCategoryIds(tenantId));
+            List<ProductRecord> chunk = new ArrayList<>(chunkSize);
+            ProductRecord productRecord;
+            while ((productRecord = reader.next()) != null) {
+                chunk.add(productRecord);
+                if (chunk.size() == chunkSize) {
+                    importChunk(tenantId, userId, chunk, state);
+                    chunk.clear();
+                    log.debug("Product import for tenant {}: {} rows read, {} rows/s", tenantId, state.rowsRead,
+                            rowsPerSecond(state.rowsRead, elapsedMs(started)));
+                }
+            }
+            importChunk(tenantId, userId, chunk, state);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read product import file", e);
+        } finally {
+            imports.release();
+        }
+
+        long elapsedMs = elapsedMs(started);
+        log.info("Product import completed for tenant {} in {} ms: {} read, {} created, {} stock rows, "
+                + "{} duplicates, {} failed", tenantId, elapsedMs, state.rowsRead, state.productsCreated,
+                state.stockRowsCreated, state.duplicates, state.failed);
+        return ProductImportResponse.builder()
+                .rowsRead(state.rowsRead)
+                .productsCreated(state.productsCreated)
+                .stockRowsCreated(state.stockRowsCreated)
+                .duplicates(state.duplicates)
+                .failed(state.failed)
+                .elapsedMs(elapsedMs)
+                .rowsPerSecond(rowsPerSecond(state.rowsRead, elapsedMs))
+                .errors(state.errors)
+                .errorsTruncated(state.failed > state.errors.size())
+                .build();
+    }
+
+    private void importChunk(String tenantId, String userId, List<ProductRecord> chunk, ImportState state) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<Checked> checked = chunk.parallelStream().map(row -> check(row, state.categoryIds)).toList();
+
+        Map<String, NewProduct> candidates = new LinkedHashMap<>();
+        List<PendingStock> pendingStock = new ArrayList<>();
+        for (Checked row : checked) {
+            NewProduct product = row.product();
+            if (row.error() != null) {
+                state.failed++;
+                state.addError(row.error(), maxErrors);
+            } else if (state.productIds.containsKey(product.code()) || candidates.containsKey(product.code())) {
+                // Repeated product: the row only adds stock at another branch
+                if (row.branchId() == null) {
+                    state.duplicates++;
+                } else {
+                    pendingStock.add(new PendingStock(product.code(), row.branchId(), row.quantity(), false));
+                }
+            } else if (!state.seenCodes.add(product.code()) || !state.seenSkus.add(product.sku())) {
+                state.duplicates++;
+            } else {
+                candidates.put(product.code(), product);
+                if (row.branchId() != null) {
+                    pendingStock.add(new PendingStock(product.code(), row.branchId(), row.quantity(), true));
+                }
+            }
+        }
+
+        int candidateCount = candidates.size();
+        Set<String> skus = candidates.values().stream().map(NewProduct::sku).collect(Collectors.toSet());
+        ExistingKeys existing = productBulkRepository.findExistingKeys(tenantId, candidates.keySet(), skus);
+        candidates.values().removeIf(product -> existing.codes().contains(product.code())
+                || existing.skus().contains(product.sku()));
+
+        transactionOperations.executeWithoutResult(status -> {
+            Map<String, UUID> created = productBulkRepository.insertProducts(tenantId,
+                    new ArrayList<>(candidates.values()), userId);
+            List<NewStock> stock = new ArrayList<>(pendingStock.size());
+            int orphanedStock = 0;
+            for (PendingStock pending : pendingStock) {
+                UUID productId = created.getOrDefault(pending.code(), state.productIds.get(pending.code()));
+                if (productId != null) {
+                    stock.add(new NewStock(pending.branchId(), productId, pending.quantity()));
+                } else if (!pending.firstRow()) {
+                    orphanedStock++;
+                }
+            }
+            int stockRows = productBulkRepository.insertStock(tenantId, stock, userId);
+
+            state.productIds.putAll(created);
+            state.productsCreated += created.size();
+            state.stockRowsCreated += stockRows;
+            // Rows whose code or SKU was taken, including between the lookup and the insert
+            state.duplicates += candidateCount - created.size() + orphanedStock;
+        });
+        state.rowsRead += chunk.size();
+    }
+
+    private Checked check(ProductRecord productRecord, Map<String, UUID> categoryIds) {
+        ProductRequest request = productRecord.request();
+        if (productRecord.error() != null) {
+            return Checked.rejected(productRecord, productRecord.error());
+        }
+        Set<ConstraintViolation<ProductRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return Checked.rejected(productRecord, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        UUID categoryId = null;
+        if (productRecord.categoryCode() != null) {
+            categoryId = categoryIds.get(productRecord.categoryCode());
+            if (categoryId == null) {
+                return Checked.rejected(productRecord, "Unknown category: " + productRecord.categoryCode());
+            }
+        }
+        Integer quantity = productRecord.quantity();
+        if (quantity != null && productRecord.branchId() == null) {
+            return Checked.rejected(productRecord, "Quantity requires a branch_id");
+        }
+        if (quantity != null && quantity < 0) {
+            return Checked.rejected(productRecord, "Quantity must be non-negative");
+        }
+        NewProduct product = new NewProduct(request.getCode(), request.getSku(), request.getName(),
+                request.getDescription(), categoryId, request.getPrice(), request.getCost(), request.getTaxRate(),
+                request.getUnit(), request.getBarcode(), request.getImageUrl(), request.getIsActive(),
+                request.getIsTrackable(), request.getMinStockLevel(), request.getMaxStockLevel());
+        return new Checked(product, productRecord.branchId(), quantity == null ? 0 : quantity, null);
+    }
+
+    private static long elapsedMs(long started) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+    }
+
+    private static long rowsPerSecond(long rows, long elapsedMs) {
+        return rows * 1000 / Math.max(elapsedMs, 1);
+    }
+
+    private record Checked(NewProduct product, UUID branchId, int quantity, RowError error) {
+
+        static Checked rejected(ProductRecord productRecord, String message) {
+            return new Checked(null, null, 0, new RowError(productRecord.row(),
+                    productRecord.request() == null ? null : productRecord.request().getCode(), message));
+        }
+    }
+
+    private record PendingStock(String code, UUID branchId, int quantity, boolean firstRow) {
+    }
+
+    private static final class ImportState {
+
+        private final Map<String, UUID> categoryIds;
+        private final Map<String, UUID> productIds = new HashMap<>();
+        private final Set<String> seenCodes = new HashSet<>();
+        private final Set<String> seenSkus = new HashSet<>();
+        private final List<RowError> errors = new ArrayList<>();
+        private long rowsRead;
+        private long productsCreated;
+        private long stockRowsCreated;
+        private long duplicates;
+        private long failed;
+
+        ImportState(Map<String, UUID> categoryIds) {
+            this.categoryIds = categoryIds;
+        }
+
+        void addError(RowError error, int maxErrors) {
+            if (errors.size() < maxErrors) {
+                errors.add(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.cursorpos.product.service;
+
+import com.cursorpos.product.dto.BulkPriceUpdateRequest;
+import com.cursorpos.product.dto.BulkPriceUpdateRequest.CategoryRule;
+import com.cursorpos.product.dto.BulkPriceUpdateRequest.PriceItem;
+import com.cursorpos.product.dto.BulkPriceUpdateResponse;
+import com.cursorpos.product.event.PricesChangedEvent;
+import com.cursorpos.product.event.PricesChangedEvent.PriceChange;
+import com.cursorpos.product.repository.CategoryRepository;
+import com.cursorpos.product.repository.ProductBulkRepository;
+import com.cursorpos.product.repository.ProductBulkRepository.AppliedPrice;
+import com.cursorpos.shared.event.EventTopics;
+import com.cursorpos.shared.exception.ResourceNotFoundException;
+import com.cursorpos.shared.outbox.OutboxEventPublisher;
+import com.cursorpos.shared.security.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bulk price changes.
+ *
+ * <p>
+ * Applies a price list, or percentage rules per category, in chunks. Each
+ * chunk is one transaction with one statement that updates the prices,
+ * closes the products' open price history rows and records the new ones,
+ * plus a single {@link PricesChangedEvent} for the whole chunk. Chunks commit
+ * independently, so a failed run can simply be repeated: products that
+ * already have the requested price are reported as unchanged.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Slf4j
+@Service
+public class ProductPriceService {
+
+    private static final String DEFAULT_REASON = "Bulk price update";
+    private static final int DEFAULT_SCALE = 2;
+    private static final int MAX_LISTED_NOT_FOUND = 100;
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final ProductBulkRepository productBulkRepository;
+    private final CategoryRepository categoryRepository;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final TransactionOperations transactionOperations;
+    private final int chunkSize;
+
+    @Autowired
+    public ProductPriceService(ProductBulkRepository productBulkRepository, CategoryRepository categoryRepository,
+            OutboxEventPublisher outboxEventPublisher, PlatformTransactionManager transactionManager,
+            @Value("${products.prices.chunk-size:1000}") int chunkSize) {
+        this(productBulkRepository, categoryRepository, outboxEventPublisher,
+                new TransactionTemplate(transactionManager), chunkSize);
+    }
+
+    ProductPriceService(ProductBulkRepository productBulkRepository, CategoryRepository categoryRepository,
+            OutboxEventPublisher outboxEventPublisher, TransactionOperations transactionOperations,
+            int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("products.prices.chunk-size must be at least 1");
+        }
+        this.productBulkRepository = productBulkRepository;
+        this.categoryRepository = categoryRepository;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.transactionOperations = transactionOperations;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Applies a price list or category rules for the current tenant.
+     *
+     * @param request the price list or the rules
+     * @return counts of matched, updated and unchanged products
+     */
+    public BulkPriceUpdateResponse updatePrices(BulkPriceUpdateRequest request) {
+        Objects.requireNonNull(request, "request");
+        boolean hasPrices = request.getPrices() != null && !request.getPrices().isEmpty();
+        boolean hasRules = request.getCategoryRules() != null && !request.getCategoryRules().isEmpty();
+        if (hasPrices == hasRules) {
+            throw new IllegalArgumentException("Provide either prices or categoryRules");
+        }
+        String tenantId = TenantContext.getTenantId();
+        String userId = TenantContext.getUserId();
+        String reason = request.getReason() == null ? DEFAULT_REASON : request.getReason();
+        long started = System.nanoTime();
+
+        Totals totals = new Totals();
+        if (hasPrices) {
+            applyPriceList(tenantId, userId, reason, request.getPrices(), totals);
+        } else {
+            int scale = request.getScale() == null ? DEFAULT_SCALE : request.getScale();
+            applyCategoryRules(tenantId, userId, reason, request.getCategoryRules(), scale, totals);
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        log.info("Bulk price update for tenant {} in {} ms: {} matched, {} updated, {} not found in {} chunks",
+                tenantId, elapsedMs, totals.matched, totals.updated, totals.notFound, totals.chunks);
+        return BulkPriceUpdateResponse.builder()
+                .matched(totals.matched)
+                .updated(totals.updated)
+                .unchanged(totals.matched - totals.updated)
+                .notFound(totals.notFound)
+                .notFoundCodes(totals.notFoundCodes)
+                .chunks(totals.chunks)
+                .elapsedMs(elapsedMs)
+                .build();
+    }
+
+    private void applyPriceList(String tenantId, String userId, String reason, List<PriceItem> prices,
+            Totals totals) {
+        // The last price given for a code wins
+        Map<String, BigDecimal> pricesByCode = new LinkedHashMap<>();
+        for (PriceItem item : prices) {
+            pricesByCode.put(item.code(), item.price());
+        }
+        List<Map.Entry<String, BigDecimal>> entries = new ArrayList<>(pricesByCode.entrySet());
+        for (int from = 0; from < entries.size(); from += chunkSize) {
+            Map<String, BigDecimal> chunk = new LinkedHashMap<>();
+            entries.subList(from, Math.min(from + chunkSize, entries.size()))
+                    .forEach(entry -> chunk.put(entry.getKey(), entry.getValue()));
+
+            List<AppliedPrice> applied = applyChunk(tenantId, userId, reason, totals,
+                    () -> productBulkRepository.applyPriceList(tenantId, chunk, reason, userId));
+
+            Set<String> found = new HashSet<>();
+            applied.forEach(price -> found.add(price.code()));
+            for (String code : chunk.keySet()) {
+                if (!found.contains(code)) {
+                    totals.notFound++;
+                    if (totals.notFoundCodes.size() < MAX_LISTED_NOT_FOUND) {
+                        totals.notFoundCodes.add(code);
+                    }
+                }
+            }
+        }
+    }
+
+    private void applyCategoryRules(String tenantId, String userId, String reason, List<CategoryRule> rules,
+            int scale, Totals totals) {
+        // Check every category up front so a typo does not leave a half-applied promotion
+        for (CategoryRule rule : rules) {
+            categoryRepository.findByIdAndTenantIdAndDeletedAtIsNull(rule.categoryId(), tenantId)
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            "Category not found with ID: " + rule.categoryId()));
+        }
+        for (CategoryRule rule : rules) {
+            BigDecimal factor = BigDecimal.ONE.add(rule.percent().divide(HUNDRED, MathContext.DECIMAL64));
+            UUID afterId = null;
+            List<AppliedPrice> page;
+            do {
+                UUID pageAfter = afterId;
+                page = applyChunk(tenantId, userId, reason, totals,
+                        () -> productBulkRepository.applyCategoryFactor(tenantId, rule.categoryId(), factor, scale,
+                                pageAfter, chunkSize, reason, userId));
+                if (!page.isEmpty()) {
+                    afterId = page.get(page.size() - 1).productId();
+                }
+            } while (page.size() == chunkSize);
+        }
+    }
+
+    private List<AppliedPrice> applyChunk(String tenantId, String userId, String reason, Totals totals,
+            Supplier<List<AppliedPrice>> write) {
+        List<AppliedPrice> applied = transactionOperations.execute(status -> {
+            List<AppliedPrice> result = write.get();
+            List<PriceChange> changes = result.stream()
+                    .filter(AppliedPrice::changed)
+                    .map(price -> new PriceChange(price.productId(), price.code(), price.oldPrice(),
+                            price.newPrice()))
+                    .toList();
+            if (!changes.isEmpty()) {
+                outboxEventPublisher.publish(EventTopics.PRODUCT_UPDATED, "Product", tenantId,
+                        PricesChangedEvent.builder()
+                                .eventType(PricesChangedEvent.EVENT_TYPE)
+                                .tenantId(tenantId)
+                                .userId(userId)
+                                .changes(changes)
+                                .reason(reason)
+                                .build());
+            }
+            return result;
+        });
+        List<AppliedPrice> chunkResult = applied == null ? List.of() : applied;
+        totals.matched += chunkResult.size();
+        totals.updated += chunkResult.stream().filter(AppliedPrice::changed).count();
+        totals.chunks++;
+        return chunkResult;
+    }
+
+    private static final class Totals {
+
+        private final List<String> notFoundCodes = new ArrayList<>();
+        private long matched;
+        private long updated;
+        private long notFound;
+        private int chunks;
+    }
+}
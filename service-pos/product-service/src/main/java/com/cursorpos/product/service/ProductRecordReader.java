@@ -0,0 +1,227 @@
+package com.cursorpos.product.service;
+
+import com.cursorpos.product.dto.ProductRequest;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Reads catalog rows one at a time from a CSV stream, so an import never
+ * holds more than the current row in memory.
+ *
+ * <p>
+ * Columns are matched by header name, ignoring case, spaces, underscores and
+ * dashes. {@code code}, {@code sku}, {@code name} and {@code price} are
+ * required; {@code category_code} names the category and the optional
+ * {@code branch_id} and {@code quantity} columns give opening stock. A row
+ * that cannot be parsed is returned with an error instead of failing the
+ * whole file; only an unusable header is fatal.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+public class ProductRecordReader implements Closeable {
+
+    private static final List<String> COLUMNS = List.of("code", "sku", "name", "price", "description",
+            "categorycode", "cost", "taxrate", "unit", "barcode", "imageurl", "isactive", "istrackable",
+            "minstocklevel", "maxstocklevel", "branchid", "quantity");
+
+    private final BufferedReader reader;
+    private int[] columnIndexes;
+    private long row;
+
+    public ProductRecordReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    /**
+     * @return the next row, or null at the end of the stream
+     * @throws IOException              if the stream cannot be read
+     * @throws IllegalArgumentException if the header lacks a required column
+     */
+    public ProductRecord next() throws IOException {
+        if (columnIndexes == null) {
+            readHeader();
+        }
+        List<String> fields;
+        do {
+            fields = readCsvFields();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty());
+        row++;
+        String code = field(fields, 0);
+        try {
+            ProductRequest request = ProductRequest.builder()
+                    .code(code)
+                    .sku(field(fields, 1))
+                    .name(field(fields, 2))
+                    .price(decimalField(fields, 3, "price"))
+                    .description(field(fields, 4))
+                    .cost(decimalField(fields, 6, "cost"))
+                    .taxRate(decimalField(fields, 7, "tax_rate"))
+                    .unit(field(fields, 8))
+                    .barcode(field(fields, 9))
+                    .imageUrl(field(fields, 10))
+                    .isActive(booleanField(fields, 11, "is_active"))
+                    .isTrackable(booleanField(fields, 12, "is_trackable"))
+                    .minStockLevel(integerField(fields, 13, "min_stock_level"))
+                    .maxStockLevel(integerField(fields, 14, "max_stock_level"))
+                    .build();
+            return new ProductRecord(row, request, field(fields, 5), uuidField(fields, 15, "branch_id"),
+                    integerField(fields, 16, "quantity"), null);
+        } catch (IllegalArgumentException e) {
+            return new ProductRecord(row, ProductRequest.builder().code(code).build(), null, null, null,
+                    e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readCsvFields();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        columnIndexes = new int[COLUMNS.size()];
+        Arrays.fill(columnIndexes, -1);
+        for (int i = 0; i < header.size(); i++) {
+            int column = COLUMNS.indexOf(header.get(i).replaceAll("[\\s_\\-\uFEFF]", "").toLowerCase(Locale.ROOT));
+            if (column >= 0) {
+                columnIndexes[column] = i;
+            }
+        }
+        if (columnIndexes[0] < 0 || columnIndexes[1] < 0 || columnIndexes[2] < 0 || columnIndexes[3] < 0) {
+            throw new IllegalArgumentException("CSV header must include code, sku, name and price columns");
+        }
+    }
+
+    private String field(List<String> fields, int column) {
+        int index = columnIndexes[column];
+        if (index < 0 || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private BigDecimal decimalField(List<String> fields, int column, String name) {
+        String value = field(fields, column);
+        try {
+            return value == null ? null : new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value, e);
+        }
+    }
+
+    private Integer integerField(List<String> fields, int column, String name) {
+        String value = field(fields, column);
+        try {
+            return value == null ? null : Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value, e);
+        }
+    }
+
+    /*
+     * Blank means "use the default" (true), so the builder defaults must not
+     * be overridden with null.
+     */
+    private Boolean booleanField(List<String> fields, int column, String name) {
+        String value = field(fields, column);
+        if (value == null) {
+            return Boolean.TRUE;
+        }
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "yes", "y", "1" -> Boolean.TRUE;
+            case "false", "no", "n", "0" -> Boolean.FALSE;
+            default -> throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        };
+    }
+
+    private UUID uuidField(List<String> fields, int column, String name) {
+        String value = field(fields, column);
+        try {
+            return value == null ? null : UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value, e);
+        }
+    }
+
+    /*
+     * RFC 4180: fields are comma-separated, optionally quoted; quoted fields
+     * may contain commas, line breaks and doubled quotes.
+     */
+    private List<String> readCsvFields() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * One row of a catalog file.
+     *
+     * @param row          1-based data row (header and blank lines excluded)
+     * @param request      the parsed product; only the code is set if the row
+     *                     is malformed
+     * @param categoryCode category code, null for none
+     * @param branchId     branch to stock, null for none
+     * @param quantity     opening stock at {@code branchId}
+     * @param error        why the row could not be parsed, null if it was
+     */
+    public record ProductRecord(long row, ProductRequest request, String categoryCode, UUID branchId,
+            Integer quantity, String error) {
+    }
+}
@@ -198,12 +198,14 @@ public class ProductService {
 
     private void recordPriceChange(Product product, BigDecimal oldPrice, BigDecimal newPrice, String reason,
             String changedBy) {
+        LocalDateTime now = LocalDateTime.now();
+        priceHistoryRepository.closeOpenPrice(product.getTenantId(), product.getId(), now);
         PriceHistory priceHistory = PriceHistory.builder()
                 .tenantId(product.getTenantId())
                 .product(product)
                 .oldPrice(oldPrice)
                 .newPrice(newPrice)
-                .effectiveFrom(LocalDateTime.now())
+                .effectiveFrom(now)
                 .changedBy(changedBy)
                 .reason(reason)
                 .build();
@@ -0,0 +1,129 @@
+package com.cursorpos.product.service;
+
+import com.cursorpos.product.event.SaleCompletedMessage;
+import com.cursorpos.product.repository.StockBatchRepository;
+import com.cursorpos.product.repository.StockBatchRepository.StockDelta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Applies stock changes from completed sales, returns and their
+ * cancellations in batches.
+ * 
+ * <p>
+ * All lines of a batch are grouped by (tenant, branch, product) and applied
+ * with one conditional UPDATE per key, in key order so concurrent batches
+ * cannot deadlock, in a single transaction together with the processed-event
+ * records, so each event is applied exactly once even if Kafka redelivers it.
+ * Cost scales with the number of distinct keys, not with the number of lines.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SaleStockService {
+
+    static final String CONSUMER = "sale-stock";
+
+    private final StockBatchRepository stockBatchRepository;
+
+    /**
+     * Applies a batch of sale and cancellation events.
+     * 
+     * @param messages the events, in any order
+     * @return number of events applied (duplicates excluded)
+     */
+    @Transactional
+    public int applySales(List<SaleCompletedMessage> messages) {
+        Objects.requireNonNull(messages, "messages");
+        List<String> eventIds = messages.stream()
+                .map(SaleCompletedMessage::getEventId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Set<String> fresh = new HashSet<>(stockBatchRepository.claimEvents(CONSUMER, eventIds));
+
+        Map<StockKey, Integer> totals = new TreeMap<>(StockKey.ORDER);
+        int applied = 0;
+        for (SaleCompletedMessage message : messages) {
+            if (!fresh.remove(message.getEventId())) {
+                // Already processed, or a duplicate within this batch
+                continue;
+            }
+            applied++;
+            int direction = message.stockDirection();
+            if (direction == 0 || message.getItems() == null) {
+                continue;
+            }
+            for (SaleCompletedMessage.Line line : message.getItems()) {
+                if (line.getProductId() == null || line.getQuantity() == null) {
+                    continue;
+                }
+                totals.merge(new StockKey(message.getTenantId(), message.getBranchId(), line.getProductId()),
+                        direction * line.getQuantity(), Integer::sum);
+            }
+        }
+
+        List<StockDelta> deltas = totals.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .map(entry -> new StockDelta(entry.getKey().tenantId(), entry.getKey().branchId(),
+                        entry.getKey().productId(), entry.getValue()))
+                .toList();
+        if (!deltas.isEmpty()) {
+            applyDeltas(deltas);
+        }
+
+        log.debug("Applied {} sale events ({} skipped as duplicates) as {} stock updates",
+                applied, messages.size() - applied, deltas.size());
+        return applied;
+    }
+
+    private void applyDeltas(List<StockDelta> deltas) {
+        int[] updated = stockBatchRepository.applyDeltas(deltas);
+        List<StockDelta> oversold = new ArrayList<>();
+        for (int i = 0; i < deltas.size(); i++) {
+            if (updated[i] == 0) {
+                oversold.add(deltas.get(i));
+            }
+        }
+        if (oversold.isEmpty()) {
+            return;
+        }
+        // The sale already happened; record stock as depleted rather than reject it
+        int[] clamped = stockBatchRepository.clampToReserved(oversold);
+        for (int i = 0; i < oversold.size(); i++) {
+            StockDelta delta = oversold.get(i);
+            if (clamped[i] == 0) {
+                log.warn("No inventory for product {} at branch {} (tenant {}); {} units not tracked",
+                        delta.productId(), delta.branchId(), delta.tenantId(), -delta.quantity());
+            } else {
+                log.warn("Product {} at branch {} (tenant {}) oversold by sale events; stock set to reserved",
+                        delta.productId(), delta.branchId(), delta.tenantId());
+            }
+        }
+    }
+
+    private record StockKey(String tenantId, UUID branchId, UUID productId) {
+
+        static final Comparator<StockKey> ORDER = Comparator
+                .comparing(StockKey::tenantId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(StockKey::branchId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(StockKey::productId);
+    }
+}
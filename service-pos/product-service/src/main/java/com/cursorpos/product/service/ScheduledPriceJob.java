@@ -0,0 +1,124 @@
+package com.cursorpos.product.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background job flipping product prices when scheduled prices take effect.
+ *
+ * <p>
+ * Every refresh interval the job activates anything overdue and loads the
+ * boundaries within the lookahead window into a {@link TimerWheel}; prices
+ * scheduled on this node in between are added as they are created. The wheel
+ * is advanced every tick, and each boundary that fires activates every due
+ * price in bulk, so prices change within a tick of their effective time
+ * without polling the price history. Boundaries scheduled on another node or
+ * beyond the lookahead are picked up at the next refresh. Several nodes may
+ * run the job; due rows are claimed with {@code SKIP LOCKED}.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Slf4j
+public class ScheduledPriceJob {
+
+    private final ScheduledPriceService scheduledPriceService;
+    private final Clock clock;
+    private final Duration tick;
+    private final Duration lookahead;
+    private final Duration refreshInterval;
+    private final TimerWheel<LocalDateTime> wheel;
+
+    private ScheduledExecutorService executor;
+
+    public ScheduledPriceJob(ScheduledPriceService scheduledPriceService, Clock clock, Duration tick,
+            Duration lookahead, Duration refreshInterval) {
+        if (tick.toMillis() < 1 || lookahead.compareTo(refreshInterval) < 0) {
+            throw new IllegalArgumentException(
+                    "products.prices.scheduler.tick must be positive and lookahead at least the refresh interval");
+        }
+        this.scheduledPriceService = scheduledPriceService;
+        this.clock = clock;
+        this.tick = tick;
+        this.lookahead = lookahead;
+        this.refreshInterval = refreshInterval;
+        // One revolution spans the lookahead, so boundaries loaded at a refresh never wrap
+        long slots = lookahead.toMillis() / tick.toMillis() + 1;
+        this.wheel = new TimerWheel<>(tick, (int) Math.min(Integer.MAX_VALUE, slots));
+    }
+
+    /**
+     * Starts the background job.
+     */
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scheduled-prices");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduledPriceService.setScheduleListener(this::onScheduled);
+        executor.scheduleWithFixedDelay(this::refresh, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        executor.scheduleAtFixedRate(this::tick, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Scheduled price job started (tick {}, lookahead {}, refresh {})", tick, lookahead,
+                refreshInterval);
+    }
+
+    /**
+     * Stops the background job.
+     */
+    public void stop() {
+        scheduledPriceService.setScheduleListener(null);
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    void onScheduled(LocalDateTime effectiveFrom) {
+        if (!effectiveFrom.isAfter(LocalDateTime.now(clock).plus(lookahead))) {
+            wheel.schedule(toMillis(effectiveFrom), effectiveFrom);
+        }
+    }
+
+    void refresh() {
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            scheduledPriceService.activateDuePrices(now);
+            for (LocalDateTime boundary : scheduledPriceService.findScheduledBoundaries(now.plus(lookahead))) {
+                wheel.schedule(toMillis(boundary), boundary);
+            }
+        } catch (Exception e) {
+            log.warn("Scheduled price refresh failed: {}", e.getMessage());
+        }
+    }
+
+    void tick() {
+        List<LocalDateTime> due = wheel.advance(clock.millis());
+        if (due.isEmpty()) {
+            return;
+        }
+        try {
+            scheduledPriceService.activateDuePrices(LocalDateTime.now(clock));
+        } catch (Exception e) {
+            // Put the boundaries back so the next tick retries them
+            due.forEach(boundary -> wheel.schedule(toMillis(boundary), boundary));
+            log.warn("Scheduled price activation failed: {}", e.getMessage());
+        }
+    }
+
+    int pending() {
+        return wheel.size();
+    }
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,214 @@
+package com.cursorpos.product.service;
+
+import com.cursorpos.product.dto.BulkPriceUpdateRequest.PriceItem;
+import com.cursorpos.product.dto.ScheduledPriceRequest;
+import com.cursorpos.product.dto.ScheduledPriceResponse;
+import com.cursorpos.product.event.PricesChangedEvent;
+import com.cursorpos.product.event.PricesChangedEvent.PriceChange;
+import com.cursorpos.product.repository.ScheduledPriceRepository;
+import com.cursorpos.product.repository.ScheduledPriceRepository.ActivatedPrice;
+import com.cursorpos.shared.event.EventTopics;
+import com.cursorpos.shared.exception.ResourceNotFoundException;
+import com.cursorpos.shared.outbox.OutboxEventPublisher;
+import com.cursorpos.shared.security.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Future-dated prices.
+ *
+ * <p>
+ * A scheduled price is a {@code SCHEDULED} price history row that leaves the
+ * product untouched until its effective time. {@link ScheduledPriceJob} then
+ * calls {@link #activateDuePrices(LocalDateTime)}, which writes the due prices
+ * to the products in batches, one transaction and one
+ * {@link PricesChangedEvent} per tenant and batch, so reading the current
+ * price stays a plain product lookup.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Slf4j
+@Service
+public class ScheduledPriceService {
+
+    static final String ACTIVATION_REASON = "Scheduled price";
+    private static final String DEFAULT_REASON = "Scheduled price update";
+    private static final String SYSTEM_USER = "SYSTEM";
+    private static final int MAX_LISTED_NOT_FOUND = 100;
+
+    private final ScheduledPriceRepository scheduledPriceRepository;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+
+    private volatile Consumer<LocalDateTime> scheduleListener;
+
+    @Autowired
+    public ScheduledPriceService(ScheduledPriceRepository scheduledPriceRepository,
+            OutboxEventPublisher outboxEventPublisher, PlatformTransactionManager transactionManager,
+            @Value("${products.prices.chunk-size:1000}") int batchSize) {
+        this(scheduledPriceRepository, outboxEventPublisher, new TransactionTemplate(transactionManager), batchSize);
+    }
+
+    ScheduledPriceService(ScheduledPriceRepository scheduledPriceRepository,
+            OutboxEventPublisher outboxEventPublisher, TransactionOperations transactionOperations, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("products.prices.chunk-size must be at least 1");
+        }
+        this.scheduledPriceRepository = scheduledPriceRepository;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.transactionOperations = transactionOperations;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Sets the callback told about every newly scheduled effective time, so a
+     * running scheduler can pick it up before its next refresh.
+     */
+    public void setScheduleListener(Consumer<LocalDateTime> scheduleListener) {
+        this.scheduleListener = scheduleListener;
+    }
+
+    /**
+     * Schedules a price list for the current tenant.
+     *
+     * @param request prices and the time they take effect
+     * @return counts of scheduled and unknown codes
+     */
+    public ScheduledPriceResponse schedulePrices(ScheduledPriceRequest request) {
+        Objects.requireNonNull(request, "request");
+        LocalDateTime effectiveFrom = request.getEffectiveFrom();
+        if (effectiveFrom == null || !effectiveFrom.isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Effective from must be in the future");
+        }
+        if (request.getPrices() == null || request.getPrices().isEmpty()) {
+            throw new IllegalArgumentException("Prices are required");
+        }
+        String tenantId = TenantContext.getTenantId();
+        String userId = TenantContext.getUserId();
+        String reason = request.getReason() == null ? DEFAULT_REASON : request.getReason();
+
+        // The last price given for a code wins
+        Map<String, BigDecimal> pricesByCode = new LinkedHashMap<>();
+        for (PriceItem item : request.getPrices()) {
+            pricesByCode.put(item.code(), item.price());
+        }
+        List<String> scheduled = transactionOperations.execute(status -> scheduledPriceRepository
+                .schedule(tenantId, pricesByCode, effectiveFrom, reason, userId));
+        Set<String> found = scheduled == null ? Set.of() : new HashSet<>(scheduled);
+
+        List<String> notFoundCodes = new ArrayList<>();
+        long notFound = 0;
+        for (String code : pricesByCode.keySet()) {
+            if (!found.contains(code)) {
+                notFound++;
+                if (notFoundCodes.size() < MAX_LISTED_NOT_FOUND) {
+                    notFoundCodes.add(code);
+                }
+            }
+        }
+
+        Consumer<LocalDateTime> listener = scheduleListener;
+        if (listener != null && !found.isEmpty()) {
+            listener.accept(effectiveFrom);
+        }
+        log.info("Scheduled {} prices for tenant {} from {} ({} codes not found)", found.size(), tenantId,
+                effectiveFrom, notFound);
+        return ScheduledPriceResponse.builder()
+                .scheduled(found.size())
+                .notFound(notFound)
+                .notFoundCodes(notFoundCodes)
+                .effectiveFrom(effectiveFrom)
+                .build();
+    }
+
+    /**
+     * Cancels a price of the current tenant that has not taken effect yet.
+     *
+     * @param id price history ID
+     */
+    public void cancelScheduledPrice(UUID id) {
+        Objects.requireNonNull(id, "id");
+        String tenantId = TenantContext.getTenantId();
+        if (!scheduledPriceRepository.cancel(tenantId, id, TenantContext.getUserId())) {
+            throw new ResourceNotFoundException("Scheduled price not found with ID: " + id);
+        }
+        log.info("Cancelled scheduled price {} for tenant {}", id, tenantId);
+    }
+
+    /**
+     * @param until latest boundary to return
+     * @return the times at which pending prices of any tenant take effect, up
+     *         to {@code until}
+     */
+    public List<LocalDateTime> findScheduledBoundaries(LocalDateTime until) {
+        return scheduledPriceRepository.findBoundaries(until);
+    }
+
+    /**
+     * Activates every price due at {@code now}, for all tenants.
+     *
+     * @param now activation time
+     * @return number of products whose price was activated
+     */
+    public int activateDuePrices(LocalDateTime now) {
+        int activated = 0;
+        List<ActivatedPrice> batch;
+        do {
+            batch = transactionOperations.execute(status -> {
+                List<ActivatedPrice> prices = scheduledPriceRepository.activateDue(now, batchSize);
+                publish(prices);
+                return prices;
+            });
+            if (batch == null) {
+                break;
+            }
+            activated += (int) batch.stream().filter(price -> price.code() != null).count();
+        } while (!batch.isEmpty());
+
+        if (activated > 0) {
+            log.info("Activated {} scheduled prices due at {}", activated, now);
+        }
+        return activated;
+    }
+
+    private void publish(List<ActivatedPrice> prices) {
+        // Rows come ordered by tenant
+        Map<String, List<PriceChange>> changesByTenant = new LinkedHashMap<>();
+        for (ActivatedPrice price : prices) {
+            if (price.code() != null) {
+                changesByTenant.computeIfAbsent(price.tenantId(), tenant -> new ArrayList<>())
+                        .add(new PriceChange(price.productId(), price.code(), price.oldPrice(), price.newPrice()));
+            }
+        }
+        changesByTenant.forEach((tenantId, changes) -> outboxEventPublisher.publish(EventTopics.PRODUCT_UPDATED,
+                "Product", tenantId,
+                PricesChangedEvent.builder()
+                        .eventType(PricesChangedEvent.EVENT_TYPE)
+                        .tenantId(tenantId)
+                        .userId(SYSTEM_USER)
+                        .changes(changes)
+                        .reason(ACTIVATION_REASON)
+                        .build()));
+    }
+}
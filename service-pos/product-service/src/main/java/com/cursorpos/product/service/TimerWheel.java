@@ -0,0 +1,108 @@
+package com.cursorpos.product.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Hashed timer wheel: a ring of slots, one per tick, each holding the items
+ * whose deadline falls into it.
+ *
+ * <p>
+ * Scheduling is constant time, and advancing visits only the slots passed
+ * since the last advance instead of scanning every pending item. Deadlines
+ * more than one revolution ahead share a slot with nearer ones and stay there
+ * until their own deadline has passed. Adding an item that is already pending
+ * for the same deadline has no effect. Thread-safe.
+ * </p>
+ *
+ * @param <T> item type
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+public class TimerWheel<T> {
+
+    private final long tickMillis;
+    private final List<Set<Entry<T>>> slots;
+
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tick      slot width
+     * @param slotCount number of slots; one revolution covers
+     *                  {@code tick * slotCount}
+     */
+    public TimerWheel(Duration tick, int slotCount) {
+        if (tick.toMillis() < 1 || slotCount < 1) {
+            throw new IllegalArgumentException("Timer wheel needs a tick of at least 1 ms and at least one slot");
+        }
+        this.tickMillis = tick.toMillis();
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new HashSet<>());
+        }
+    }
+
+    /**
+     * Adds an item. An item whose deadline has already passed fires on the
+     * next {@link #advance(long)}.
+     *
+     * @param deadlineMillis epoch millis at which the item is due
+     * @param item           item to return once due
+     */
+    public synchronized void schedule(long deadlineMillis, T item) {
+        long tick = Math.max(deadlineMillis / tickMillis, currentTick);
+        if (slots.get(slotIndex(tick)).add(new Entry<>(deadlineMillis, item))) {
+            size++;
+        }
+    }
+
+    /**
+     * Moves the wheel to {@code nowMillis} and removes the items that are due.
+     *
+     * @param nowMillis current epoch millis
+     * @return due items, earliest slot first
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> due = new ArrayList<>();
+        if (size == 0) {
+            currentTick = Math.max(currentTick, targetTick);
+            return due;
+        }
+        // The current slot is visited again because it can hold items due later in the same tick
+        long fromTick = Math.max(currentTick, targetTick - slots.size() + 1);
+        for (long tick = fromTick; tick <= targetTick; tick++) {
+            Iterator<Entry<T>> entries = slots.get(slotIndex(tick)).iterator();
+            while (entries.hasNext()) {
+                Entry<T> entry = entries.next();
+                if (entry.deadlineMillis() <= nowMillis) {
+                    due.add(entry.item());
+                    entries.remove();
+                    size--;
+                }
+            }
+        }
+        currentTick = Math.max(currentTick, targetTick);
+        return due;
+    }
+
+    /**
+     * @return number of pending items
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private int slotIndex(long tick) {
+        return (int) Math.floorMod(tick, (long) slots.size());
+    }
+
+    private record Entry<T>(long deadlineMillis, T item) {
+    }
+}
@@ -0,0 +1,13 @@
+-- Processed events
+-- Description: Event IDs already applied by Kafka consumers, so redelivered
+-- events (consumer restarts, batch retries) are skipped.
+
+CREATE TABLE processed_events (
+    event_id VARCHAR(36) NOT NULL,
+    consumer VARCHAR(100) NOT NULL,
+    processed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_processed_events PRIMARY KEY (consumer, event_id)
+);
+
+CREATE INDEX idx_processed_events_processed_at ON processed_events (processed_at);
@@ -0,0 +1,17 @@
+-- Scheduled (future-dated) prices
+-- A SCHEDULED row is applied to products.price by the activation job once
+-- effective_from is reached; every other row is APPLIED when written.
+ALTER TABLE price_history
+    ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'APPLIED'
+        CONSTRAINT chk_price_history_status CHECK (status IN ('APPLIED', 'SCHEDULED'));
+
+-- Pending schedules, scanned by effective_from across tenants
+CREATE INDEX idx_price_history_scheduled ON price_history(effective_from)
+    WHERE status = 'SCHEDULED' AND deleted_at IS NULL;
+
+-- Point-in-time lookups: one descending range scan from the requested time
+CREATE INDEX idx_price_history_effective ON price_history(tenant_id, product_id, effective_from DESC)
+    INCLUDE (effective_to)
+    WHERE deleted_at IS NULL;
+
+COMMENT ON COLUMN price_history.status IS 'SCHEDULED until the activation job applies the price at effective_from';
@@ -0,0 +1,10 @@
+-- Outbox claims
+-- Description: The relay claims a batch in a short transaction, publishes it
+-- without a transaction open and deletes or releases the events afterwards.
+-- A claim expires at claimed_until, so a relay that dies mid-batch does not
+-- strand its events.
+
+ALTER TABLE outbox_events ADD COLUMN claimed_until TIMESTAMP;
+
+-- Claims skip keys with a live claim; only in-flight events are indexed
+CREATE INDEX idx_outbox_events_claimed ON outbox_events (aggregate_key) WHERE claimed_until IS NOT NULL;
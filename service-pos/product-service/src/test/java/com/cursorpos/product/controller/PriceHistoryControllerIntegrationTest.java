@@ -155,9 +155,9 @@ class PriceHistoryControllerIntegrationTest {
 
     @Test
     void testGetEffectivePrice_NotFound() {
-        // No price history exists
+        // No price history exists for that date
         ResponseEntity<String> response = restTemplate.exchange(
-                baseUrl + "/product/" + testProductId + "/effective",
+                baseUrl + "/product/" + testProductId + "/effective?date=" + LocalDateTime.now().minusDays(1),
                 HttpMethod.GET,
                 new HttpEntity<>(headers),
                 String.class);
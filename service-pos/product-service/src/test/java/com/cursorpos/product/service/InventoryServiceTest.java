@@ -6,17 +6,21 @@ import com.cursorpos.product.dto.StockAdjustmentRequest;
 import com.cursorpos.product.dto.StockAdjustmentRequest.AdjustmentType;
 import com.cursorpos.product.entity.Inventory;
 import com.cursorpos.product.entity.Product;
+import com.cursorpos.product.event.InventoryUpdatedEvent;
 import com.cursorpos.product.mapper.ProductMapper;
 import com.cursorpos.product.repository.InventoryRepository;
 import com.cursorpos.product.repository.ProductRepository;
 import com.cursorpos.shared.dto.PagedResponse;
+import com.cursorpos.shared.event.EventTopics;
 import com.cursorpos.shared.exception.ResourceNotFoundException;
+import com.cursorpos.shared.outbox.OutboxEventPublisher;
 import com.cursorpos.shared.security.TenantContext;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -57,6 +61,9 @@ class InventoryServiceTest {
         @Mock
         private ProductMapper productMapper;
 
+        @Mock
+        private OutboxEventPublisher outboxEventPublisher;
+
         @InjectMocks
         private InventoryService inventoryService;
 
@@ -237,6 +244,11 @@ class InventoryServiceTest {
                 assertThat(inventory.getQuantityOnHand()).isEqualTo(70);
 
                 verify(inventoryRepository).save(inventory);
+                ArgumentCaptor<InventoryUpdatedEvent> eventCaptor = ArgumentCaptor.forClass(InventoryUpdatedEvent.class);
+                verify(outboxEventPublisher).publish(eq(EventTopics.INVENTORY_UPDATED), eq("Inventory"),
+                                eq(productId + ":" + branchId), eventCaptor.capture());
+                assertThat(eventCaptor.getValue().getQuantityOnHand()).isEqualTo(70);
+                assertThat(eventCaptor.getValue().getReason()).isEqualTo("ADJUST_SUBTRACT");
         }
 
         @Test
@@ -260,6 +272,7 @@ class InventoryServiceTest {
                                 .hasMessageContaining("Insufficient stock");
 
                 verify(inventoryRepository, never()).save(any());
+                verifyNoInteractions(outboxEventPublisher);
         }
 
         @Test
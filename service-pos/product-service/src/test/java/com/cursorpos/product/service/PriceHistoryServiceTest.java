@@ -5,6 +5,7 @@ import com.cursorpos.product.entity.PriceHistory;
 import com.cursorpos.product.entity.Product;
 import com.cursorpos.product.mapper.ProductMapper;
 import com.cursorpos.product.repository.PriceHistoryRepository;
+import com.cursorpos.product.repository.ProductRepository;
 import com.cursorpos.shared.dto.PagedResponse;
 import com.cursorpos.shared.security.TenantContext;
 import org.junit.jupiter.api.AfterEach;
@@ -28,6 +29,7 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -42,6 +44,9 @@ class PriceHistoryServiceTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private ProductRepository productRepository;
+
     @InjectMocks
     private PriceHistoryService priceHistoryService;
 
@@ -161,4 +166,23 @@ class PriceHistoryServiceTest {
         assertThat(result).isEmpty();
         verify(priceHistoryRepository).findEffectivePrice(TEST_TENANT, productId, date);
     }
+
+    @Test
+    void testGetEffectivePrice_NowFromProduct() {
+        UUID productId = UUID.randomUUID();
+        Product product = new Product();
+        product.setId(productId);
+        product.setCode("P-001");
+        product.setPrice(BigDecimal.valueOf(120.00));
+
+        when(productRepository.findByIdAndTenantIdAndDeletedAtIsNull(productId, TEST_TENANT))
+                .thenReturn(Optional.of(product));
+
+        Optional<PriceHistoryResponse> result = priceHistoryService.getEffectivePrice(productId, null);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getProductCode()).isEqualTo("P-001");
+        assertThat(result.get().getNewPrice()).isEqualByComparingTo("120.00");
+        verifyNoInteractions(priceHistoryRepository);
+    }
 }
@@ -0,0 +1,181 @@
+package com.cursorpos.product.service;
+
+import com.cursorpos.product.dto.ProductImportResponse;
+import com.cursorpos.product.repository.ProductBulkRepository;
+import com.cursorpos.product.repository.ProductBulkRepository.ExistingKeys;
+import com.cursorpos.product.repository.ProductBulkRepository.NewProduct;
+import com.cursorpos.product.repository.ProductBulkRepository.NewStock;
+import com.cursorpos.shared.exception.CursorPosException;
+import com.cursorpos.shared.security.TenantContext;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ProductImportService.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-17
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({ "null", "unchecked", "PMD.AvoidDuplicateLiterals" })
+class ProductImportServiceTest {
+
+    private static final String TEST_TENANT = "tenant-test-001";
+    private static final String USER_ID = "user-001";
+    private static final UUID DRINKS_ID = UUID.randomUUID();
+    private static final UUID BRANCH_1 = UUID.randomUUID();
+    private static final UUID BRANCH_2 = UUID.randomUUID();
+
+    @Mock
+    private ProductBulkRepository productBulkRepository;
+
+    private MockedStatic<TenantContext> tenantContextMock;
+
+    @BeforeEach
+    void setUp() {
+        tenantContextMock = mockStatic(TenantContext.class);
+        tenantContextMock.when(TenantContext::getTenantId).thenReturn(TEST_TENANT);
+        tenantContextMock.when(TenantContext::getUserId).thenReturn(USER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tenantContextMock.close();
+    }
+
+    private ProductImportService newService(int chunkSize, int maxConcurrent) {
+        return new ProductImportService(productBulkRepository, TransactionOperations.withoutTransaction(),
+                Validation.buildDefaultValidatorFactory().getValidator(), chunkSize, 100, maxConcurrent);
+    }
+
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should validate, deduplicate and insert per chunk")
+    void shouldImportInChunks() {
+        when(productBulkRepository.findCategoryIds(TEST_TENANT)).thenReturn(Map.of("DRINKS", DRINKS_ID));
+        when(productBulkRepository.findExistingKeys(eq(TEST_TENANT), anyCollection(), anyCollection()))
+                .thenAnswer(invocation -> new ExistingKeys(
+                        ((Collection<String>) invocation.getArgument(1)).contains("P-005")
+                                ? Set.of("P-005")
+                                : Set.of(),
+                        Set.of()));
+        when(productBulkRepository.insertProducts(eq(TEST_TENANT), anyList(), eq(USER_ID)))
+                .thenAnswer(invocation -> ((List<NewProduct>) invocation.getArgument(1)).stream()
+                        .collect(Collectors.toMap(NewProduct::code, product -> UUID.randomUUID())));
+        when(productBulkRepository.insertStock(eq(TEST_TENANT), anyList(), eq(USER_ID)))
+                .thenAnswer(invocation -> ((List<NewStock>) invocation.getArgument(1)).size());
+
+        ProductImportResponse response = newService(3, 1).importProducts(csv("""
+                code,sku,name,price,category_code,branch_id,quantity
+                P-001,SKU-1,Cola,1.50,DRINKS,%1$s,10
+                P-002,SKU-2,Chips,0,,,
+                P-001,SKU-1,Cola,1.50,DRINKS,%2$s,5
+                P-003,SKU-3,Water,1,SNACKS,,
+                P-004,SKU-1,Other,2,,,
+                P-005,SKU-5,Tea,2,,,
+                P-001,SKU-1,Cola,1.50,DRINKS,%2$s,many
+                """.formatted(BRANCH_1, BRANCH_2)));
+
+        assertThat(response.getRowsRead()).isEqualTo(7);
+        assertThat(response.getProductsCreated()).isEqualTo(1);
+        assertThat(response.getStockRowsCreated()).isEqualTo(2);
+        assertThat(response.getDuplicates()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(response.isErrorsTruncated()).isFalse();
+        assertThat(response.getErrors()).extracting(ProductImportResponse.RowError::message).containsExactly(
+                "Price must be greater than 0", "Unknown category: SNACKS", "Invalid quantity: many");
+        assertThat(response.getErrors().get(1).row()).isEqualTo(4);
+        assertThat(response.getErrors().get(1).code()).isEqualTo("P-003");
+
+        ArgumentCaptor<List<NewProduct>> products = ArgumentCaptor.forClass(List.class);
+        verify(productBulkRepository, times(3)).insertProducts(eq(TEST_TENANT), products.capture(), eq(USER_ID));
+        NewProduct cola = products.getAllValues().get(0).get(0);
+        assertThat(cola.categoryId()).isEqualTo(DRINKS_ID);
+        assertThat(cola.price()).isEqualByComparingTo(new BigDecimal("1.50"));
+        assertThat(products.getAllValues().get(1)).isEmpty();
+
+        ArgumentCaptor<List<NewStock>> stock = ArgumentCaptor.forClass(List.class);
+        verify(productBulkRepository, times(3)).insertStock(eq(TEST_TENANT), stock.capture(), eq(USER_ID));
+        List<NewStock> opening = stock.getAllValues().get(0);
+        assertThat(opening).extracting(NewStock::branchId).containsExactly(BRANCH_1, BRANCH_2);
+        assertThat(opening).extracting(NewStock::quantity).containsExactly(10, 5);
+        assertThat(new HashSet<>(opening.stream().map(NewStock::productId).toList())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should count products taken between lookup and insert as duplicates")
+    void shouldCountConcurrentInsertsAsDuplicates() {
+        when(productBulkRepository.findExistingKeys(eq(TEST_TENANT), anyCollection(), anyCollection()))
+                .thenReturn(new ExistingKeys(Set.of(), Set.of()));
+        when(productBulkRepository.insertProducts(eq(TEST_TENANT), anyList(), eq(USER_ID)))
+                .thenReturn(Map.of("P-001", UUID.randomUUID()));
+
+        ProductImportResponse response = newService(10, 1).importProducts(csv("""
+                code,sku,name,price,branch_id
+                P-001,SKU-1,Cola,1.50,
+                P-002,SKU-2,Chips,2,%s
+                """.formatted(BRANCH_1)));
+
+        assertThat(response.getProductsCreated()).isEqualTo(1);
+        assertThat(response.getDuplicates()).isEqualTo(1);
+        verify(productBulkRepository).insertStock(TEST_TENANT, List.of(), USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should reject a header without required columns")
+    void shouldRejectHeaderWithoutRequiredColumns() {
+        ProductImportService service = newService(10, 1);
+
+        assertThatThrownBy(() -> service.importProducts(csv("code,name\nP-001,Cola\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("sku");
+        verify(productBulkRepository, never()).insertProducts(any(), anyList(), any());
+
+        // The import slot is released after a failure
+        ProductImportResponse response = service.importProducts(csv("code,sku,name,price\n"));
+        assertThat(response.getRowsRead()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should refuse imports beyond the concurrency limit")
+    void shouldRefuseImportsBeyondLimit() {
+        ProductImportService service = newService(10, 0);
+
+        assertThatThrownBy(() -> service.importProducts(csv("code,sku,name,price\n")))
+                .isInstanceOf(CursorPosException.class)
+                .extracting("status")
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        verifyNoInteractions(productBulkRepository);
+    }
+}
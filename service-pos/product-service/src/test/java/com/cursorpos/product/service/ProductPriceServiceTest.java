@@ -0,0 +1,183 @@
+package com.cursorpos.product.service;
+
+import com.cursorpos.product.dto.BulkPriceUpdateRequest;
+import com.cursorpos.product.dto.BulkPriceUpdateRequest.CategoryRule;
+import com.cursorpos.product.dto.BulkPriceUpdateRequest.PriceItem;
+import com.cursorpos.product.dto.BulkPriceUpdateResponse;
+import com.cursorpos.product.entity.Category;
+import com.cursorpos.product.event.PricesChangedEvent;
+import com.cursorpos.product.repository.CategoryRepository;
+import com.cursorpos.product.repository.ProductBulkRepository;
+import com.cursorpos.product.repository.ProductBulkRepository.AppliedPrice;
+import com.cursorpos.shared.event.EventTopics;
+import com.cursorpos.shared.exception.ResourceNotFoundException;
+import com.cursorpos.shared.outbox.OutboxEventPublisher;
+import com.cursorpos.shared.security.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ProductPriceService.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-17
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({ "null", "unchecked", "PMD.AvoidDuplicateLiterals" })
+class ProductPriceServiceTest {
+
+    private static final String TEST_TENANT = "tenant-test-001";
+    private static final String USER_ID = "user-001";
+    private static final UUID CATEGORY_ID = UUID.randomUUID();
+
+    @Mock
+    private ProductBulkRepository productBulkRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+
+    private MockedStatic<TenantContext> tenantContextMock;
+    private ProductPriceService service;
+
+    @BeforeEach
+    void setUp() {
+        tenantContextMock = mockStatic(TenantContext.class);
+        tenantContextMock.when(TenantContext::getTenantId).thenReturn(TEST_TENANT);
+        tenantContextMock.when(TenantContext::getUserId).thenReturn(USER_ID);
+        service = new ProductPriceService(productBulkRepository, categoryRepository, outboxEventPublisher,
+                TransactionOperations.withoutTransaction(), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tenantContextMock.close();
+    }
+
+    private static AppliedPrice applied(String code, String oldPrice, String newPrice, boolean changed) {
+        return new AppliedPrice(UUID.randomUUID(), code, new BigDecimal(oldPrice), new BigDecimal(newPrice),
+                changed);
+    }
+
+    @Test
+    @DisplayName("Should apply a price list in chunks with one event per changed chunk")
+    void shouldApplyPriceListInChunks() {
+        AppliedPrice cola = applied("P-001", "1.50", "1.20", true);
+        when(productBulkRepository.applyPriceList(eq(TEST_TENANT), anyMap(), eq("Promo"), eq(USER_ID)))
+                .thenReturn(List.of(cola, applied("P-002", "5.00", "5.00", false)))
+                .thenReturn(List.of());
+
+        BulkPriceUpdateResponse response = service.updatePrices(BulkPriceUpdateRequest.builder()
+                .prices(List.of(
+                        new PriceItem("P-001", new BigDecimal("1.00")),
+                        new PriceItem("P-002", new BigDecimal("5.00")),
+                        new PriceItem("P-003", new BigDecimal("7.00")),
+                        new PriceItem("P-001", new BigDecimal("1.20"))))
+                .reason("Promo")
+                .build());
+
+        assertThat(response.getMatched()).isEqualTo(2);
+        assertThat(response.getUpdated()).isEqualTo(1);
+        assertThat(response.getUnchanged()).isEqualTo(1);
+        assertThat(response.getNotFound()).isEqualTo(1);
+        assertThat(response.getNotFoundCodes()).containsExactly("P-003");
+        assertThat(response.getChunks()).isEqualTo(2);
+
+        ArgumentCaptor<Map<String, BigDecimal>> chunks = ArgumentCaptor.forClass(Map.class);
+        verify(productBulkRepository, times(2)).applyPriceList(eq(TEST_TENANT), chunks.capture(), eq("Promo"),
+                eq(USER_ID));
+        assertThat(chunks.getAllValues().get(0)).containsEntry("P-001", new BigDecimal("1.20")).hasSize(2);
+        assertThat(chunks.getAllValues().get(1)).containsOnlyKeys("P-003");
+
+        ArgumentCaptor<PricesChangedEvent> event = ArgumentCaptor.forClass(PricesChangedEvent.class);
+        verify(outboxEventPublisher).publish(eq(EventTopics.PRODUCT_UPDATED), eq("Product"), eq(TEST_TENANT),
+                event.capture());
+        assertThat(event.getValue().getChanges()).singleElement()
+                .satisfies(change -> {
+                    assertThat(change.productId()).isEqualTo(cola.productId());
+                    assertThat(change.newPrice()).isEqualByComparingTo("1.20");
+                });
+        assertThat(event.getValue().getReason()).isEqualTo("Promo");
+    }
+
+    @Test
+    @DisplayName("Should page through a category until a short page")
+    void shouldApplyCategoryRuleByPage() {
+        when(categoryRepository.findByIdAndTenantIdAndDeletedAtIsNull(CATEGORY_ID, TEST_TENANT))
+                .thenReturn(Optional.of(new Category()));
+        AppliedPrice last = applied("P-002", "2.00", "1.70", true);
+        when(productBulkRepository.applyCategoryFactor(eq(TEST_TENANT), eq(CATEGORY_ID), any(), eq(2), any(),
+                eq(2), eq("Bulk price update"), eq(USER_ID)))
+                .thenReturn(List.of(applied("P-001", "1.00", "0.85", true), last))
+                .thenReturn(List.of(applied("P-003", "0.00", "0.00", false)));
+
+        BulkPriceUpdateResponse response = service.updatePrices(BulkPriceUpdateRequest.builder()
+                .categoryRules(List.of(new CategoryRule(CATEGORY_ID, new BigDecimal("-15"))))
+                .build());
+
+        assertThat(response.getMatched()).isEqualTo(3);
+        assertThat(response.getUpdated()).isEqualTo(2);
+        assertThat(response.getChunks()).isEqualTo(2);
+
+        ArgumentCaptor<BigDecimal> factor = ArgumentCaptor.forClass(BigDecimal.class);
+        ArgumentCaptor<UUID> afterId = ArgumentCaptor.forClass(UUID.class);
+        verify(productBulkRepository, times(2)).applyCategoryFactor(eq(TEST_TENANT), eq(CATEGORY_ID),
+                factor.capture(), eq(2), afterId.capture(), eq(2), any(), any());
+        assertThat(factor.getValue()).isEqualByComparingTo("0.85");
+        assertThat(afterId.getAllValues()).containsExactly(null, last.productId());
+        verify(outboxEventPublisher, times(1)).publish(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown categories before changing any price")
+    void shouldRejectUnknownCategory() {
+        UUID unknown = UUID.randomUUID();
+        when(categoryRepository.findByIdAndTenantIdAndDeletedAtIsNull(CATEGORY_ID, TEST_TENANT))
+                .thenReturn(Optional.of(new Category()));
+        when(categoryRepository.findByIdAndTenantIdAndDeletedAtIsNull(unknown, TEST_TENANT))
+                .thenReturn(Optional.empty());
+        BulkPriceUpdateRequest request = BulkPriceUpdateRequest.builder()
+                .categoryRules(List.of(new CategoryRule(CATEGORY_ID, BigDecimal.TEN),
+                        new CategoryRule(unknown, BigDecimal.TEN)))
+                .build();
+
+        assertThatThrownBy(() -> service.updatePrices(request)).isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(productBulkRepository, outboxEventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should require exactly one of prices and category rules")
+    void shouldRequireOneMode() {
+        BulkPriceUpdateRequest neither = BulkPriceUpdateRequest.builder().build();
+        BulkPriceUpdateRequest both = BulkPriceUpdateRequest.builder()
+                .prices(List.of(new PriceItem("P-001", BigDecimal.ONE)))
+                .categoryRules(List.of(new CategoryRule(CATEGORY_ID, BigDecimal.TEN)))
+                .build();
+
+        assertThatThrownBy(() -> service.updatePrices(neither)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.updatePrices(both)).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(productBulkRepository);
+    }
+}
@@ -0,0 +1,179 @@
+package com.cursorpos.product.service;
+
+import com.cursorpos.product.event.SaleCompletedMessage;
+import com.cursorpos.product.repository.StockBatchRepository;
+import com.cursorpos.product.repository.StockBatchRepository.StockDelta;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SaleStockServiceTest {
+
+    private static final String TEST_TENANT = "tenant-test-001";
+    private static final UUID BRANCH_ID = UUID.randomUUID();
+    // Ordered: deltas are applied in (tenant, branch, product) order
+    private static final UUID PRODUCT_A = new UUID(0, 1);
+    private static final UUID PRODUCT_B = new UUID(0, 2);
+
+    @Mock
+    private StockBatchRepository stockBatchRepository;
+
+    @InjectMocks
+    private SaleStockService saleStockService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testApplySalesAggregatesLinesPerKey() {
+        List<SaleCompletedMessage> messages = List.of(
+                sale("e1", "SALE", line(PRODUCT_A, 2), line(PRODUCT_B, 1)),
+                sale("e2", "SALE", line(PRODUCT_A, 3)),
+                sale("e3", "RETURN", line(PRODUCT_A, 1)));
+        when(stockBatchRepository.claimEvents(eq(SaleStockService.CONSUMER), anyList()))
+                .thenReturn(Set.of("e1", "e2", "e3"));
+        when(stockBatchRepository.applyDeltas(anyList())).thenReturn(new int[] { 1, 1 });
+
+        int applied = saleStockService.applySales(messages);
+
+        assertThat(applied).isEqualTo(3);
+        ArgumentCaptor<List<StockDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockBatchRepository).applyDeltas(captor.capture());
+        assertThat(captor.getValue()).containsExactly(
+                new StockDelta(TEST_TENANT, BRANCH_ID, PRODUCT_A, -4),
+                new StockDelta(TEST_TENANT, BRANCH_ID, PRODUCT_B, -1));
+        verify(stockBatchRepository, never()).clampToReserved(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testApplySalesAppliesDeltasInKeyOrder() {
+        List<SaleCompletedMessage> messages = List.of(
+                sale("e1", "SALE", line(PRODUCT_B, 1)),
+                sale("e2", "SALE", line(PRODUCT_A, 1)));
+        when(stockBatchRepository.claimEvents(eq(SaleStockService.CONSUMER), anyList()))
+                .thenReturn(Set.of("e1", "e2"));
+        when(stockBatchRepository.applyDeltas(anyList())).thenReturn(new int[] { 1, 1 });
+
+        saleStockService.applySales(messages);
+
+        ArgumentCaptor<List<StockDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockBatchRepository).applyDeltas(captor.capture());
+        assertThat(captor.getValue()).extracting(StockDelta::productId).containsExactly(PRODUCT_A, PRODUCT_B);
+    }
+
+    @Test
+    void testApplySalesSkipsAlreadyProcessedEvents() {
+        List<SaleCompletedMessage> messages = List.of(
+                sale("e1", "SALE", line(PRODUCT_A, 2)),
+                sale("e1", "SALE", line(PRODUCT_A, 2)));
+        when(stockBatchRepository.claimEvents(eq(SaleStockService.CONSUMER), anyList()))
+                .thenReturn(Set.of());
+
+        int applied = saleStockService.applySales(messages);
+
+        assertThat(applied).isZero();
+        verify(stockBatchRepository, never()).applyDeltas(anyList());
+    }
+
+    @Test
+    void testApplySalesAppliesDuplicateWithinBatchOnce() {
+        List<SaleCompletedMessage> messages = List.of(
+                sale("e1", "SALE", line(PRODUCT_A, 2)),
+                sale("e1", "SALE", line(PRODUCT_A, 2)));
+        when(stockBatchRepository.claimEvents(eq(SaleStockService.CONSUMER), anyList()))
+                .thenReturn(Set.of("e1"));
+        when(stockBatchRepository.applyDeltas(anyList())).thenReturn(new int[] { 1 });
+
+        int applied = saleStockService.applySales(messages);
+
+        assertThat(applied).isEqualTo(1);
+        verify(stockBatchRepository).applyDeltas(List.of(new StockDelta(TEST_TENANT, BRANCH_ID, PRODUCT_A, -2)));
+    }
+
+    @Test
+    void testApplySalesClampsOversoldKeys() {
+        List<SaleCompletedMessage> messages = List.of(
+                sale("e1", "SALE", line(PRODUCT_A, 50), line(PRODUCT_B, 1)));
+        when(stockBatchRepository.claimEvents(eq(SaleStockService.CONSUMER), anyList()))
+                .thenReturn(Set.of("e1"));
+        when(stockBatchRepository.applyDeltas(anyList())).thenReturn(new int[] { 0, 1 });
+        when(stockBatchRepository.clampToReserved(anyList())).thenReturn(new int[] { 1 });
+
+        saleStockService.applySales(messages);
+
+        verify(stockBatchRepository).clampToReserved(List.of(new StockDelta(TEST_TENANT, BRANCH_ID, PRODUCT_A, -50)));
+    }
+
+    @Test
+    void testApplySalesIgnoresNonCompletedTransactions() {
+        SaleCompletedMessage pending = sale("e1", "SALE", line(PRODUCT_A, 2));
+        pending.setStatus("PENDING");
+        when(stockBatchRepository.claimEvents(eq(SaleStockService.CONSUMER), anyList()))
+                .thenReturn(Set.of("e1"));
+
+        int applied = saleStockService.applySales(List.of(pending));
+
+        assertThat(applied).isEqualTo(1);
+        verify(stockBatchRepository, never()).applyDeltas(any());
+    }
+
+    @Test
+    void testApplySalesRestoresStockOfCancelledSales() {
+        SaleCompletedMessage cancelled = sale("e2", "SALE", line(PRODUCT_A, 2));
+        cancelled.setEventType(SaleCompletedMessage.CANCELLED_EVENT_TYPE);
+        cancelled.setStatus("CANCELLED");
+        when(stockBatchRepository.claimEvents(eq(SaleStockService.CONSUMER), anyList()))
+                .thenReturn(Set.of("e1", "e2"));
+        when(stockBatchRepository.applyDeltas(anyList())).thenReturn(new int[] { 1 });
+
+        int applied = saleStockService.applySales(List.of(
+                sale("e1", "SALE", line(PRODUCT_A, 2), line(PRODUCT_B, 1)), cancelled));
+
+        assertThat(applied).isEqualTo(2);
+        verify(stockBatchRepository).applyDeltas(List.of(new StockDelta(TEST_TENANT, BRANCH_ID, PRODUCT_B, -1)));
+    }
+
+    @Test
+    void testApplySalesSkipsAlreadyProcessedCancellation() {
+        SaleCompletedMessage cancelled = sale("e2", "SALE", line(PRODUCT_A, 2));
+        cancelled.setEventType(SaleCompletedMessage.CANCELLED_EVENT_TYPE);
+        when(stockBatchRepository.claimEvents(eq(SaleStockService.CONSUMER), anyList()))
+                .thenReturn(Set.of());
+
+        int applied = saleStockService.applySales(List.of(cancelled));
+
+        assertThat(applied).isZero();
+        verify(stockBatchRepository, never()).applyDeltas(anyList());
+    }
+
+    private static SaleCompletedMessage sale(String eventId, String type, SaleCompletedMessage.Line... lines) {
+        return SaleCompletedMessage.builder()
+                .eventId(eventId)
+                .tenantId(TEST_TENANT)
+                .transactionId(UUID.randomUUID())
+                .branchId(BRANCH_ID)
+                .status("COMPLETED")
+                .type(type)
+                .items(List.of(lines))
+                .build();
+    }
+
+    private static SaleCompletedMessage.Line line(UUID productId, int quantity) {
+        return SaleCompletedMessage.Line.builder().productId(productId).quantity(quantity).build();
+    }
+}
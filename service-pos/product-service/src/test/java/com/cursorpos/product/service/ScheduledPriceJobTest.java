@@ -0,0 +1,121 @@
+package com.cursorpos.product.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ScheduledPriceJob.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-17
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class ScheduledPriceJobTest {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 11, 17, 9, 0);
+
+    @Mock
+    private ScheduledPriceService scheduledPriceService;
+
+    private MutableClock clock;
+    private ScheduledPriceJob job;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW.atZone(ZONE).toInstant());
+        job = new ScheduledPriceJob(scheduledPriceService, clock, Duration.ofSeconds(1), Duration.ofHours(1),
+                Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Should activate prices only when a loaded boundary is reached")
+    void shouldActivateAtBoundary() {
+        LocalDateTime boundary = NOW.plusMinutes(10);
+        when(scheduledPriceService.findScheduledBoundaries(NOW.plusHours(1))).thenReturn(List.of(boundary));
+
+        job.refresh();
+        verify(scheduledPriceService).activateDuePrices(NOW);
+        assertThat(job.pending()).isEqualTo(1);
+
+        clock.set(boundary.minusSeconds(1));
+        job.tick();
+        verify(scheduledPriceService, times(1)).activateDuePrices(any());
+
+        clock.set(boundary.plusNanos(300_000_000));
+        job.tick();
+        verify(scheduledPriceService).activateDuePrices(boundary.plusNanos(300_000_000));
+        assertThat(job.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should add newly scheduled boundaries within the lookahead only")
+    void shouldTrackNewBoundariesWithinLookahead() {
+        job.onScheduled(NOW.plusMinutes(30));
+        job.onScheduled(NOW.plusDays(1));
+
+        assertThat(job.pending()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should retry a boundary whose activation failed")
+    void shouldRetryFailedActivation() {
+        job.onScheduled(NOW.plusSeconds(2));
+        when(scheduledPriceService.activateDuePrices(any())).thenThrow(new IllegalStateException("down"))
+                .thenReturn(1);
+
+        clock.set(NOW.plusSeconds(3));
+        job.tick();
+        assertThat(job.pending()).isEqualTo(1);
+
+        job.tick();
+        verify(scheduledPriceService, times(2)).activateDuePrices(any());
+        assertThat(job.pending()).isZero();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(LocalDateTime time) {
+            instant = time.atZone(ZONE).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.cursorpos.product.service;
+
+import com.cursorpos.product.dto.BulkPriceUpdateRequest.PriceItem;
+import com.cursorpos.product.dto.ScheduledPriceRequest;
+import com.cursorpos.product.dto.ScheduledPriceResponse;
+import com.cursorpos.product.event.PricesChangedEvent;
+import com.cursorpos.product.repository.ScheduledPriceRepository;
+import com.cursorpos.product.repository.ScheduledPriceRepository.ActivatedPrice;
+import com.cursorpos.shared.event.EventTopics;
+import com.cursorpos.shared.exception.ResourceNotFoundException;
+import com.cursorpos.shared.outbox.OutboxEventPublisher;
+import com.cursorpos.shared.security.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ScheduledPriceService.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-17
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({ "null", "unchecked", "PMD.AvoidDuplicateLiterals" })
+class ScheduledPriceServiceTest {
+
+    private static final String TEST_TENANT = "tenant-test-001";
+    private static final String OTHER_TENANT = "tenant-test-002";
+    private static final String USER_ID = "user-001";
+
+    @Mock
+    private ScheduledPriceRepository scheduledPriceRepository;
+
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+
+    private MockedStatic<TenantContext> tenantContextMock;
+    private ScheduledPriceService service;
+
+    @BeforeEach
+    void setUp() {
+        tenantContextMock = mockStatic(TenantContext.class);
+        tenantContextMock.when(TenantContext::getTenantId).thenReturn(TEST_TENANT);
+        tenantContextMock.when(TenantContext::getUserId).thenReturn(USER_ID);
+        service = new ScheduledPriceService(scheduledPriceRepository, outboxEventPublisher,
+                TransactionOperations.withoutTransaction(), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tenantContextMock.close();
+    }
+
+    private static ActivatedPrice activated(String tenantId, String code, String oldPrice, String newPrice) {
+        return new ActivatedPrice(tenantId, UUID.randomUUID(), code,
+                oldPrice == null ? null : new BigDecimal(oldPrice), new BigDecimal(newPrice));
+    }
+
+    @Test
+    @DisplayName("Should schedule the last price per code and notify the scheduler")
+    void shouldSchedulePrices() {
+        LocalDateTime effectiveFrom = LocalDateTime.now().plusDays(1);
+        when(scheduledPriceRepository.schedule(eq(TEST_TENANT), anyMap(), eq(effectiveFrom), eq("Weekend promo"),
+                eq(USER_ID))).thenReturn(List.of("P-001"));
+        List<LocalDateTime> notified = new ArrayList<>();
+        service.setScheduleListener(notified::add);
+
+        ScheduledPriceResponse response = service.schedulePrices(ScheduledPriceRequest.builder()
+                .prices(List.of(
+                        new PriceItem("P-001", new BigDecimal("1.00")),
+                        new PriceItem("P-002", new BigDecimal("2.00")),
+                        new PriceItem("P-001", new BigDecimal("0.90"))))
+                .effectiveFrom(effectiveFrom)
+                .reason("Weekend promo")
+                .build());
+
+        assertThat(response.getScheduled()).isEqualTo(1);
+        assertThat(response.getNotFound()).isEqualTo(1);
+        assertThat(response.getNotFoundCodes()).containsExactly("P-002");
+        assertThat(notified).containsExactly(effectiveFrom);
+
+        ArgumentCaptor<Map<String, BigDecimal>> prices = ArgumentCaptor.forClass(Map.class);
+        verify(scheduledPriceRepository).schedule(eq(TEST_TENANT), prices.capture(), any(), any(), any());
+        assertThat(prices.getValue()).containsEntry("P-001", new BigDecimal("0.90")).hasSize(2);
+        verifyNoInteractions(outboxEventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should reject an effective time that is not in the future")
+    void shouldRejectPastEffectiveFrom() {
+        ScheduledPriceRequest request = ScheduledPriceRequest.builder()
+                .prices(List.of(new PriceItem("P-001", BigDecimal.ONE)))
+                .effectiveFrom(LocalDateTime.now().minusMinutes(1))
+                .build();
+
+        assertThatThrownBy(() -> service.schedulePrices(request)).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(scheduledPriceRepository);
+    }
+
+    @Test
+    @DisplayName("Should activate due prices in batches with one event per tenant and batch")
+    void shouldActivateDuePrices() {
+        LocalDateTime now = LocalDateTime.now();
+        when(scheduledPriceRepository.activateDue(now, 2))
+                .thenReturn(List.of(activated(TEST_TENANT, "P-001", "1.00", "0.90"),
+                        activated(OTHER_TENANT, "P-001", "5.00", "4.50")))
+                .thenReturn(List.of(activated(OTHER_TENANT, null, null, "3.00")))
+                .thenReturn(List.of());
+
+        int count = service.activateDuePrices(now);
+
+        assertThat(count).isEqualTo(2);
+        verify(scheduledPriceRepository, times(3)).activateDue(now, 2);
+        ArgumentCaptor<PricesChangedEvent> events = ArgumentCaptor.forClass(PricesChangedEvent.class);
+        verify(outboxEventPublisher).publish(eq(EventTopics.PRODUCT_UPDATED), eq("Product"), eq(TEST_TENANT),
+                events.capture());
+        verify(outboxEventPublisher).publish(eq(EventTopics.PRODUCT_UPDATED), eq("Product"), eq(OTHER_TENANT),
+                events.capture());
+        assertThat(events.getAllValues()).allSatisfy(event -> {
+            assertThat(event.getChanges()).hasSize(1);
+            assertThat(event.getReason()).isEqualTo(ScheduledPriceService.ACTIVATION_REASON);
+        });
+        assertThat(events.getAllValues().get(1).getChanges().get(0).oldPrice()).isEqualByComparingTo("5.00");
+    }
+
+    @Test
+    @DisplayName("Should report a missing pending price as not found")
+    void shouldRejectCancellingUnknownPrice() {
+        UUID id = UUID.randomUUID();
+        when(scheduledPriceRepository.cancel(TEST_TENANT, id, USER_ID)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.cancelScheduledPrice(id)).isInstanceOf(ResourceNotFoundException.class);
+    }
+}
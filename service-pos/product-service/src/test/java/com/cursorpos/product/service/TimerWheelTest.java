@@ -0,0 +1,63 @@
+package com.cursorpos.product.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TimerWheel.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-17
+ */
+class TimerWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("Should fire items once their deadline has passed, not before")
+    void shouldFireAtDeadline() {
+        TimerWheel<String> wheel = new TimerWheel<>(Duration.ofMillis(100), 10);
+        wheel.advance(START);
+        wheel.schedule(START + 250, "a");
+        wheel.schedule(START + 420, "b");
+
+        assertThat(wheel.advance(START + 200)).isEmpty();
+        assertThat(wheel.advance(START + 260)).containsExactly("a");
+        assertThat(wheel.advance(START + 410)).isEmpty();
+        assertThat(wheel.advance(START + 420)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep items more than one revolution ahead until their own deadline")
+    void shouldKeepItemsBeyondOneRevolution() {
+        TimerWheel<String> wheel = new TimerWheel<>(Duration.ofMillis(100), 10);
+        wheel.advance(START);
+        wheel.schedule(START + 150, "near");
+        wheel.schedule(START + 1_150, "far");
+
+        assertThat(wheel.advance(START + 160)).containsExactly("near");
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(START + 1_160)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("Should fire overdue items on the next advance and ignore duplicates")
+    void shouldFireOverdueItems() {
+        TimerWheel<String> wheel = new TimerWheel<>(Duration.ofMillis(100), 10);
+        wheel.advance(START);
+        wheel.schedule(START - 5_000, "late");
+        wheel.schedule(START + 300, "next");
+        wheel.schedule(START + 300, "next");
+
+        assertThat(wheel.size()).isEqualTo(2);
+        assertThat(wheel.advance(START + 10)).containsExactly("late");
+        // A long pause still reaches every slot
+        assertThat(wheel.advance(START + 60_000)).containsExactly("next");
+    }
+}
@@ -0,0 +1,230 @@
+package com.cursorpos.shared.event.serde;
+
+import com.cursorpos.shared.event.BaseEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the binary event format with the JSON serializer/deserializer
+ * pair configured in KafkaConfig.
+ * 
+ * <p>
+ * Measures ser/de time per event (encoded sizes are compared in
+ * BinaryEventSerializerTest). The event mirrors TransactionCreatedEvent with
+ * 1, 5 and 20 lines. The JSON path deserializes to {@code Map} (VALUE_DEFAULT_TYPE), the
+ * binary path binds to the event class.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventSerializationBenchmark {
+
+    private static final String TOPIC = "transaction.created";
+
+    @Param({ "1", "5", "20" })
+    private int lines;
+
+    private JsonSerializer<Object> jsonSerializer;
+    @SuppressWarnings("rawtypes")
+    private JsonDeserializer<Map> jsonDeserializer;
+    private BinaryEventSerializer binarySerializer;
+    private BinaryEventDeserializer binaryDeserializer;
+
+    private SaleEvent event;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+
+    @Setup
+    public void setUp() {
+        jsonSerializer = new JsonSerializer<>();
+        jsonSerializer.setAddTypeInfo(false);
+        jsonDeserializer = new JsonDeserializer<>(Map.class, false);
+        jsonDeserializer.addTrustedPackages("*");
+
+        EventSchemaRegistry registry = new EventSchemaRegistry(BinaryEventSerializer.defaultSmileMapper());
+        binarySerializer = new BinaryEventSerializer(registry);
+        binaryDeserializer = new BinaryEventDeserializer(registry);
+
+        event = new SaleEvent();
+        event.setEventType("TransactionCreated");
+        event.setTenantId("tenant-coffee-001");
+        event.setUserId(UUID.randomUUID().toString());
+        event.setTransactionId(UUID.randomUUID());
+        event.setTransactionNumber("TRX-20251113-000042");
+        event.setBranchId(UUID.randomUUID());
+        event.setStatus("COMPLETED");
+        event.setType("SALE");
+        event.setTotalAmount(new BigDecimal("123.45"));
+        List<Line> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            Line line = new Line();
+            line.setProductId(UUID.randomUUID());
+            line.setQuantity(i + 1);
+            line.setUnitPrice(new BigDecimal("4.50"));
+            line.setTotalAmount(new BigDecimal("4.50").multiply(BigDecimal.valueOf(i + 1L)));
+            items.add(line);
+        }
+        event.setItems(items);
+
+        jsonBytes = jsonSerializer.serialize(TOPIC, event);
+        binaryBytes = binarySerializer.serialize(TOPIC, event);
+    }
+
+    @TearDown
+    public void tearDown() {
+        jsonSerializer.close();
+        jsonDeserializer.close();
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return jsonSerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public byte[] binarySerialize() {
+        return binarySerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public Object jsonDeserialize() {
+        return jsonDeserializer.deserialize(TOPIC, jsonBytes);
+    }
+
+    @Benchmark
+    public Object binaryDeserialize() {
+        return binaryDeserializer.deserialize(TOPIC, binaryBytes);
+    }
+
+    /**
+     * Shape of TransactionCreatedEvent (the jmh source set has no Lombok).
+     */
+    public static class SaleEvent extends BaseEvent {
+        private UUID transactionId;
+        private String transactionNumber;
+        private UUID branchId;
+        private String status;
+        private String type;
+        private BigDecimal totalAmount;
+        private List<Line> items;
+
+        public UUID getTransactionId() {
+            return transactionId;
+        }
+
+        public void setTransactionId(UUID transactionId) {
+            this.transactionId = transactionId;
+        }
+
+        public String getTransactionNumber() {
+            return transactionNumber;
+        }
+
+        public void setTransactionNumber(String transactionNumber) {
+            this.transactionNumber = transactionNumber;
+        }
+
+        public UUID getBranchId() {
+            return branchId;
+        }
+
+        public void setBranchId(UUID branchId) {
+            this.branchId = branchId;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public void setType(String type) {
+            this.type = type;
+        }
+
+        public BigDecimal getTotalAmount() {
+            return totalAmount;
+        }
+
+        public void setTotalAmount(BigDecimal totalAmount) {
+            this.totalAmount = totalAmount;
+        }
+
+        public List<Line> getItems() {
+            return items;
+        }
+
+        public void setItems(List<Line> items) {
+            this.items = items;
+        }
+    }
+
+    /**
+     * Sold line.
+     */
+    public static class Line {
+        private UUID productId;
+        private int quantity;
+        private BigDecimal unitPrice;
+        private BigDecimal totalAmount;
+
+        public UUID getProductId() {
+            return productId;
+        }
+
+        public void setProductId(UUID productId) {
+            this.productId = productId;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+
+        public BigDecimal getUnitPrice() {
+            return unitPrice;
+        }
+
+        public void setUnitPrice(BigDecimal unitPrice) {
+            this.unitPrice = unitPrice;
+        }
+
+        public BigDecimal getTotalAmount() {
+            return totalAmount;
+        }
+
+        public void setTotalAmount(BigDecimal totalAmount) {
+            this.totalAmount = totalAmount;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.cursorpos.shared.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Compares {@link PathPrefixMatcher} with the per-request stream-reduced
+ * predicate chain previously used by the gateway authentication filter.
+ * 
+ * <p>
+ * Route table sizes cover the current public endpoint list (7), a fully
+ * populated gateway (64) and a large multi-tenant deployment (256).
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PathPrefixMatcherBenchmark {
+
+    @Param({ "7", "64", "256" })
+    private int routes;
+
+    private List<String> patterns;
+    private PathPrefixMatcher matcher;
+    private String[] paths;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        patterns = new ArrayList<>(routes);
+        patterns.add("/api/v1/auth/login");
+        patterns.add("/api/v1/auth/register");
+        patterns.add("/api/v1/auth/refresh");
+        patterns.add("/api/v1/auth/forgot-password");
+        patterns.add("/api/v1/tenants/signup");
+        patterns.add("/actuator/health");
+        patterns.add("/actuator/info");
+        for (int i = patterns.size(); i < routes; i++) {
+            patterns.add("/api/v1/public/resource-" + i + "/");
+        }
+        matcher = PathPrefixMatcher.compile(patterns);
+
+        // Mostly protected traffic, which is the worst case for a linear scan
+        paths = new String[] {
+                "/api/v1/products/3f6a9c1e-0f52-4c1d-9f0e-1b2c3d4e5f60",
+                "/api/v1/transactions",
+                "/api/v1/categories",
+                "/api/v1/auth/login",
+                "/api/v1/inventory/branch/7",
+                "/actuator/health",
+                "/api/v1/customers/phone/5551234",
+                "/api/v1/public/resource-" + (routes - 1) + "/x"
+        };
+    }
+
+    private String nextPath() {
+        String path = paths[cursor];
+        cursor = (cursor + 1) & (paths.length - 1);
+        return path;
+    }
+
+    @Benchmark
+    public boolean streamReducedPredicate() {
+        String path = nextPath();
+        Predicate<String> pathPredicate = patterns.stream()
+                .map(pattern -> (Predicate<String>) p -> p.startsWith(pattern))
+                .reduce(p -> false, Predicate::or);
+        return pathPredicate.test(path);
+    }
+
+    @Benchmark
+    public boolean startsWithChain() {
+        String path = nextPath();
+        for (String pattern : patterns) {
+            if (path.startsWith(pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean precompiledTrie() {
+        return matcher.matches(nextPath());
+    }
+}
@@ -0,0 +1,76 @@
+package com.cursorpos.shared.config;
+
+import com.cursorpos.shared.idempotency.IdempotencyFilter;
+import com.cursorpos.shared.idempotency.IdempotencyStore;
+import com.cursorpos.shared.idempotency.InMemoryIdempotencyStore;
+import com.cursorpos.shared.idempotency.RedisIdempotencyStore;
+import com.cursorpos.shared.util.PathPrefixMatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Idempotency-Key support for mutating endpoints.
+ * 
+ * <p>
+ * Each service lists the paths to protect under {@code idempotency.paths}
+ * (see {@link PathPrefixMatcher} for the syntax); with no paths configured the
+ * filter is a no-op. Keys are kept in memory by default, or in Redis with
+ * {@code idempotency.store=redis} so that all instances share them.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "idempotency.enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(
+            @Value("${idempotency.store:memory}") String storeType,
+            @Value("${idempotency.max-entries:100000}") int maxEntries,
+            ObjectProvider<StringRedisTemplate> redisTemplate) {
+        StringRedisTemplate template = redisTemplate.getIfAvailable();
+        if ("redis".equalsIgnoreCase(storeType) && template != null) {
+            log.info("Using Redis idempotency store");
+            return new RedisIdempotencyStore(template);
+        }
+        return new InMemoryIdempotencyStore(maxEntries);
+    }
+
+    /**
+     * Registers the filter after the Spring Security chain so the tenant
+     * context is available when keys are scoped.
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            IdempotencyStore idempotencyStore,
+            ObjectMapper objectMapper,
+            @Value("${idempotency.paths:}") List<String> paths,
+            @Value("${idempotency.ttl:24h}") Duration ttl,
+            @Value("${idempotency.lock-ttl:30s}") Duration lockTtl,
+            @Value("${idempotency.wait-timeout:0s}") Duration waitTimeout) {
+        IdempotencyFilter filter = new IdempotencyFilter(idempotencyStore, PathPrefixMatcher.compile(paths),
+                objectMapper);
+        filter.setTtl(ttl);
+        filter.setLockTtl(lockTtl);
+        filter.setWaitTimeout(waitTimeout);
+
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 10);
+        return registration;
+    }
+}
@@ -0,0 +1,90 @@
+package com.cursorpos.shared.config;
+
+import com.cursorpos.shared.event.serde.EventSchemaRegistry;
+import com.cursorpos.shared.outbox.InMemoryOutboxSink;
+import com.cursorpos.shared.outbox.KafkaOutboxSink;
+import com.cursorpos.shared.outbox.OutboxEventPublisher;
+import com.cursorpos.shared.outbox.OutboxRelay;
+import com.cursorpos.shared.outbox.OutboxRepository;
+import com.cursorpos.shared.outbox.OutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * Transactional outbox configuration.
+ * 
+ * <p>
+ * Services write domain events with {@link OutboxEventPublisher} inside their
+ * business transaction. When {@code outbox.relay.enabled=true} a background
+ * {@link OutboxRelay} drains the {@code outbox_events} table to the configured
+ * sink: {@code kafka} (default, if a KafkaTemplate is available) or
+ * {@code memory}.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Slf4j
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    public OutboxRepository outboxRepository(JdbcTemplate jdbcTemplate) {
+        return new OutboxRepository(jdbcTemplate);
+    }
+
+    @Bean
+    public OutboxEventPublisher outboxEventPublisher(OutboxRepository outboxRepository, ObjectMapper objectMapper,
+            ObjectProvider<EventSchemaRegistry> schemaRegistry) {
+        OutboxEventPublisher publisher = new OutboxEventPublisher(outboxRepository, objectMapper);
+        publisher.setSchemaRegistry(schemaRegistry.getIfAvailable());
+        return publisher;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    public OutboxSink outboxSink(
+            @Value("${outbox.sink:kafka}") String sinkType,
+            ObjectProvider<KafkaTemplate<String, Object>> kafkaTemplate,
+            ObjectMapper objectMapper) {
+        KafkaTemplate<String, Object> template = kafkaTemplate.getIfAvailable();
+        if ("kafka".equalsIgnoreCase(sinkType) && template != null) {
+            return new KafkaOutboxSink(template, objectMapper);
+        }
+        log.info("Outbox events are kept in memory (sink: {}, Kafka available: {})", sinkType, template != null);
+        return new InMemoryOutboxSink();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true")
+    public OutboxRelay outboxRelay(
+            OutboxRepository outboxRepository,
+            OutboxSink outboxSink,
+            PlatformTransactionManager transactionManager,
+            @Value("${outbox.relay.batch-size:200}") int batchSize,
+            @Value("${outbox.relay.poll-interval:200ms}") Duration pollInterval,
+            @Value("${outbox.relay.send-timeout:10s}") Duration sendTimeout,
+            @Value("${outbox.relay.claim-timeout:1m}") Duration claimTimeout,
+            @Value("${outbox.relay.max-attempts:10}") int maxAttempts) {
+        OutboxRelay relay = new OutboxRelay(outboxRepository, outboxSink, new TransactionTemplate(transactionManager));
+        relay.setBatchSize(batchSize);
+        relay.setPollInterval(pollInterval);
+        relay.setSendTimeout(sendTimeout);
+        relay.setClaimTimeout(claimTimeout);
+        relay.setMaxAttempts(maxAttempts);
+        return relay;
+    }
+}
@@ -1,6 +1,7 @@
 package com.cursorpos.shared.config;
 
 import com.cursorpos.shared.security.JwtAuthenticationFilter;
+import com.cursorpos.shared.security.ServiceTokenAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -18,7 +19,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * 
  * <p>
  * Configures JWT-based authentication, stateless session management,
- * and public endpoint access.
+ * and public endpoint access. {@code /internal/**} endpoints only accept
+ * other services authenticated by {@link ServiceTokenAuthenticationFilter}.
  * </p>
  * 
  * @author rjnat
@@ -33,6 +35,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
         private final JwtAuthenticationFilter jwtAuthenticationFilter;
+        private final ServiceTokenAuthenticationFilter serviceTokenAuthenticationFilter;
 
         @Bean
         public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -45,10 +48,15 @@ public class SecurityConfig {
                                                 .requestMatchers("/api/v1/health").permitAll()
                                                 .requestMatchers("/actuator/**").permitAll()
                                                 .requestMatchers("/favicon.ico").permitAll()
+                                                // Service-to-service endpoints, not routed by the gateway
+                                                .requestMatchers("/internal/**")
+                                                .hasRole(ServiceTokenAuthenticationFilter.SERVICE_ROLE)
                                                 // All other endpoints require authentication
                                                 .anyRequest().authenticated())
                                 .sessionManagement(session -> session
                                                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                                .addFilterBefore(serviceTokenAuthenticationFilter,
+                                                UsernamePasswordAuthenticationFilter.class)
                                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
                 return http.build();
@@ -27,6 +27,11 @@ import java.util.UUID;
 @AllArgsConstructor
 public abstract class BaseEvent {
 
+    /**
+     * Schema version of events that do not set one.
+     */
+    public static final String DEFAULT_VERSION = "1.0";
+
     /**
      * Unique event identifier.
      */
@@ -63,5 +68,5 @@ public abstract class BaseEvent {
      * Version of the event schema.
      */
     @Builder.Default
-    private String version = "1.0";
+    private String version = DEFAULT_VERSION;
 }
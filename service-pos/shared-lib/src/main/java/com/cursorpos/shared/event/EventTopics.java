@@ -0,0 +1,28 @@
+package com.cursorpos.shared.event;
+
+/**
+ * Kafka topic names shared by producers and consumers.
+ * 
+ * <p>
+ * Topics are declared in {@link com.cursorpos.shared.config.KafkaConfig}.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+public final class EventTopics {
+
+    public static final String TENANT_CREATED = "tenant.created";
+    public static final String USER_CREATED = "user.created";
+    public static final String PRODUCT_CREATED = "product.created";
+    public static final String PRODUCT_UPDATED = "product.updated";
+    public static final String INVENTORY_UPDATED = "inventory.updated";
+    public static final String TRANSACTION_CREATED = "transaction.created";
+    public static final String PAYMENT_PROCESSED = "payment.processed";
+    public static final String LOYALTY_POINTS_UPDATED = "loyalty.points.updated";
+    public static final String SETTINGS_CHANGED = "settings.changed";
+
+    private EventTopics() {
+    }
+}
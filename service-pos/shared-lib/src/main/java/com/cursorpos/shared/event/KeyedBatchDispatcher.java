@@ -0,0 +1,255 @@
+package com.cursorpos.shared.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Processes a batch of Kafka records in parallel while keeping per-key order.
+ *
+ * <p>
+ * Records are grouped by key (the aggregate ID set by the outbox relay); each
+ * group runs sequentially on its own virtual thread, so events of one
+ * aggregate are applied in offset order while different aggregates of the
+ * same partition proceed in parallel. {@link #dispatch} returns only after
+ * every group has finished, so the caller can acknowledge the whole batch
+ * with a single offset commit.
+ * </p>
+ *
+ * <p>
+ * {@link #dispatchGroups} hands each group to the handler as one list, for
+ * listeners that apply a group set-wise in one database transaction.
+ * </p>
+ *
+ * <p>
+ * If a record fails, its group stops and the dispatch throws a
+ * {@link BatchListenerFailedException} pointing at the earliest failed record.
+ * Every record before that index has been processed, so the container's
+ * error handler can commit up to it and redeliver the rest. Handlers must be
+ * idempotent, since later records of other keys may already have run. On
+ * timeout the running handlers are interrupted.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Slf4j
+public class KeyedBatchDispatcher implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final Duration timeout;
+
+    /**
+     * Creates a dispatcher backed by virtual threads.
+     *
+     * @param maxConcurrency maximum key groups processed at once (bounds
+     *                       pressure on downstream pools such as JDBC)
+     * @param timeout        maximum time to wait for a batch
+     */
+    public KeyedBatchDispatcher(int maxConcurrency, Duration timeout) {
+        this(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kafka-dispatch-", 0).factory()),
+                maxConcurrency, timeout);
+    }
+
+    KeyedBatchDispatcher(ExecutorService executor, int maxConcurrency, Duration timeout) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        }
+        this.executor = executor;
+        this.permits = new Semaphore(maxConcurrency);
+        this.timeout = Objects.requireNonNull(timeout, "timeout");
+    }
+
+    /**
+     * Processes records grouped by their Kafka key.
+     *
+     * @param records the batch, in poll order
+     * @param handler the per-record handler
+     * @param <K>     record key type
+     * @param <V>     record value type
+     */
+    public <K, V> void dispatch(List<ConsumerRecord<K, V>> records, Consumer<ConsumerRecord<K, V>> handler) {
+        dispatch(records, ConsumerRecord::key, handler);
+    }
+
+    /**
+     * Processes records grouped by a key derived from each record.
+     *
+     * <p>
+     * Records without a key are grouped by partition, which preserves the
+     * partition order Kafka would give a sequential consumer.
+     * </p>
+     *
+     * @param records   the batch, in poll order
+     * @param keyFn     extracts the ordering key (for example the aggregate ID)
+     * @param handler   the per-record handler
+     * @param <K>       record key type
+     * @param <V>       record value type
+     */
+    public <K, V> void dispatch(List<ConsumerRecord<K, V>> records,
+            Function<ConsumerRecord<K, V>, ?> keyFn, Consumer<ConsumerRecord<K, V>> handler) {
+        run(records, keyFn, (group, indexes) -> {
+            for (ConsumerRecord<K, V> consumerRecord : group) {
+                try {
+                    handler.accept(consumerRecord);
+                } catch (RuntimeException e) {
+                    log.warn("Record {}-{}@{} failed, skipping the rest of key {}: {}",
+                            consumerRecord.topic(), consumerRecord.partition(), consumerRecord.offset(),
+                            consumerRecord.key(), e.getMessage());
+                    throw new GroupFailedException(indexes.get(consumerRecord), e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Processes records grouped by a key derived from each record, handing
+     * each group to {@code groupHandler} as one list in offset order.
+     *
+     * <p>
+     * A failed group is reported at its first record, so the whole group is
+     * redelivered.
+     * </p>
+     *
+     * @param records      the batch, in poll order
+     * @param keyFn        extracts the grouping key; null groups by partition
+     * @param groupHandler applies one group
+     * @param <K>          record key type
+     * @param <V>          record value type
+     */
+    public <K, V> void dispatchGroups(List<ConsumerRecord<K, V>> records,
+            Function<ConsumerRecord<K, V>, ?> keyFn, Consumer<List<ConsumerRecord<K, V>>> groupHandler) {
+        run(records, keyFn, (group, indexes) -> {
+            try {
+                groupHandler.accept(group);
+            } catch (RuntimeException e) {
+                ConsumerRecord<K, V> first = group.get(0);
+                log.warn("Group of {} records from {}-{}@{} failed: {}", group.size(), first.topic(),
+                        first.partition(), first.offset(), e.getMessage());
+                throw new GroupFailedException(indexes.get(first), e);
+            }
+        });
+    }
+
+    private <K, V> void run(List<ConsumerRecord<K, V>> records, Function<ConsumerRecord<K, V>, ?> keyFn,
+            GroupRunner<K, V> runner) {
+        if (records.isEmpty()) {
+            return;
+        }
+        Map<ConsumerRecord<K, V>, Integer> indexes = new IdentityHashMap<>(records.size());
+        Map<Object, List<ConsumerRecord<K, V>>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<K, V> consumerRecord = records.get(i);
+            indexes.put(consumerRecord, i);
+            Object key = keyFn.apply(consumerRecord);
+            Object groupKey = key != null
+                    ? List.of(consumerRecord.topic(), key)
+                    : List.of(consumerRecord.topic(), consumerRecord.partition());
+            groups.computeIfAbsent(groupKey, k -> new ArrayList<>()).add(consumerRecord);
+        }
+
+        // Futures from submit() interrupt the handler thread when cancelled
+        List<Future<?>> futures = new ArrayList<>(groups.size());
+        for (List<ConsumerRecord<K, V>> group : groups.values()) {
+            futures.add(executor.submit(() -> runGroup(group, indexes, runner)));
+        }
+        awaitAll(futures, records.size());
+    }
+
+    /**
+     * Runs one key group once a concurrency permit is free.
+     */
+    private <K, V> void runGroup(List<ConsumerRecord<K, V>> group,
+            Map<ConsumerRecord<K, V>, Integer> indexes, GroupRunner<K, V> runner) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GroupFailedException(indexes.get(group.get(0)), e);
+        }
+        try {
+            runner.run(group, indexes);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void awaitAll(List<Future<?>> futures, int batchSize) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        int failedIndex = Integer.MAX_VALUE;
+        Throwable failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                int index = e.getCause() instanceof GroupFailedException groupFailure ? groupFailure.index : 0;
+                if (index < failedIndex) {
+                    failedIndex = index;
+                    failure = e.getCause() instanceof GroupFailedException ? e.getCause().getCause() : e.getCause();
+                }
+            } catch (TimeoutException e) {
+                futures.forEach(f -> f.cancel(true));
+                throw new BatchListenerFailedException("Batch of " + batchSize + " records not processed within "
+                        + timeout, e, 0);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BatchListenerFailedException("Interrupted while processing batch", e, 0);
+            }
+        }
+        if (failure != null) {
+            throw new BatchListenerFailedException("Record " + failedIndex + " of " + batchSize + " failed",
+                    failure, failedIndex);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface GroupRunner<K, V> {
+
+        void run(List<ConsumerRecord<K, V>> group, Map<ConsumerRecord<K, V>, Integer> indexes);
+    }
+
+    /**
+     * Carries the batch index of the first failed record in a group.
+     */
+    private static final class GroupFailedException extends RuntimeException {
+
+        private final int index;
+
+        private GroupFailedException(int index, Throwable cause) {
+            super(cause);
+            this.index = index;
+        }
+    }
+}
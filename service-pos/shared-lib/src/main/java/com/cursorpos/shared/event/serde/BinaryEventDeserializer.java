@@ -0,0 +1,103 @@
+package com.cursorpos.shared.event.serde;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Kafka deserializer for {@link BinaryEventSerializer} envelopes.
+ * 
+ * <p>
+ * Events whose fingerprint is registered locally are bound to their class.
+ * Otherwise the event type name in the envelope selects the projection the
+ * consumer registered, and events with neither are read as maps, like the
+ * JSON path. Values without the binary magic byte are parsed as JSON, so a
+ * topic can carry both formats while producers are switched over.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Slf4j
+public class BinaryEventDeserializer implements Deserializer<Object> {
+
+    private final EventSchemaRegistry registry;
+    private final ObjectMapper smileMapper;
+    private final ObjectMapper jsonMapper;
+
+    public BinaryEventDeserializer(EventSchemaRegistry registry) {
+        this(registry, BinaryEventSerializer.defaultSmileMapper(), JsonMapper.builder()
+                .findAndAddModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build());
+    }
+
+    BinaryEventDeserializer(EventSchemaRegistry registry, ObjectMapper smileMapper, ObjectMapper jsonMapper) {
+        this.registry = registry;
+        this.smileMapper = smileMapper;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            if (data.length < 11 || data[0] != BinaryEventSerializer.MAGIC) {
+                return jsonMapper.readValue(data, Map.class);
+            }
+            if (data[1] != BinaryEventSerializer.FORMAT_V1 && data[1] != BinaryEventSerializer.FORMAT_V2) {
+                throw new SerializationException("Unsupported binary event format " + data[1] + " on " + topic);
+            }
+            long fingerprint = readLong(data, 2);
+            int offset = 10;
+            String eventType = null;
+            if (data[1] == BinaryEventSerializer.FORMAT_V2) {
+                int typeLength = data[offset] & 0xff;
+                eventType = new String(data, offset + 1, typeLength, StandardCharsets.UTF_8);
+                offset += 1 + typeLength;
+            }
+            int versionLength = data[offset] & 0xff;
+            int payloadOffset = offset + 1 + versionLength;
+            int payloadLength = data.length - payloadOffset;
+            var schema = registry.find(fingerprint);
+            if (schema.isPresent()) {
+                return smileMapper.readValue(data, payloadOffset, payloadLength, schema.get().type());
+            }
+            var projection = registry.findProjection(eventType);
+            if (projection.isPresent()) {
+                return smileMapper.readValue(data, payloadOffset, payloadLength, projection.get());
+            }
+            if (fingerprint != BinaryEventSerializer.UNKNOWN_FINGERPRINT && log.isTraceEnabled()) {
+                log.trace("Unknown schema {} of {} (version {}) on {}, reading as map", Long.toHexString(fingerprint),
+                        eventType, new String(data, offset + 1, versionLength, StandardCharsets.UTF_8), topic);
+            }
+            return smileMapper.readValue(data, payloadOffset, payloadLength, Map.class);
+        } catch (IOException e) {
+            throw new SerializationException("Can't deserialize event from " + topic, e);
+        }
+    }
+
+    private static long readLong(byte[] data, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (data[offset + i] & 0xffL);
+        }
+        return value;
+    }
+}
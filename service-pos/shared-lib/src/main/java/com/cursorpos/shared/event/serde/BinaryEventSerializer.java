@@ -0,0 +1,125 @@
+package com.cursorpos.shared.event.serde;
+
+import com.cursorpos.shared.event.BaseEvent;
+import com.cursorpos.shared.outbox.KafkaOutboxSink;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Kafka serializer writing events in a compact binary envelope.
+ * 
+ * <p>
+ * Wire format:
+ * </p>
+ * 
+ * <pre>
+ * magic (0xC3) | format (0x02) | schema fingerprint (8 bytes)
+ *     | event type length (1) | event type | version length (1) | version | Smile payload
+ * </pre>
+ * 
+ * <p>
+ * The payload is Smile (binary JSON with back-referenced property names), so
+ * it decodes without the writer's schema and stays compatible with consumers
+ * that bind to their own projections of an event. Typed {@link BaseEvent}s
+ * register their schema on first use; pre-serialized payloads (outbox JSON
+ * trees) are matched to a schema by the {@code event_type} header, or carry
+ * fingerprint 0 when the type is unknown. The event type name is written even
+ * then, so consumers without the writer's schema can bind to a projection.
+ * Format 0x01 envelopes (without the event type) are still read.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+public class BinaryEventSerializer implements Serializer<Object> {
+
+    static final byte MAGIC = (byte) 0xC3;
+    static final byte FORMAT_V1 = 0x01;
+    static final byte FORMAT_V2 = 0x02;
+    static final long UNKNOWN_FINGERPRINT = 0L;
+
+    private final EventSchemaRegistry registry;
+    private final ObjectMapper smileMapper;
+
+    public BinaryEventSerializer(EventSchemaRegistry registry) {
+        this(registry, defaultSmileMapper());
+    }
+
+    BinaryEventSerializer(EventSchemaRegistry registry, ObjectMapper smileMapper) {
+        this.registry = registry;
+        this.smileMapper = smileMapper;
+    }
+
+    /**
+     * Smile mapper with the same module set as Spring Kafka's JSON serializer.
+     */
+    public static ObjectMapper defaultSmileMapper() {
+        return SmileMapper.builder()
+                .findAndAddModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return serialize(topic, null, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data == null) {
+            return null;
+        }
+        String eventType = data instanceof BaseEvent event ? event.getEventType() : eventType(headers);
+        EventSchema schema = data instanceof BaseEvent event
+                ? registry.schemaFor(event)
+                : registry.findLatest(eventType).orElse(null);
+        if (schema != null) {
+            eventType = schema.eventType();
+        }
+        byte[] payload;
+        try {
+            payload = smileMapper.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Can't serialize event for topic " + topic, e);
+        }
+        byte[] type = shortString(eventType);
+        byte[] version = shortString(schema != null ? schema.version() : null);
+        return ByteBuffer.allocate(12 + type.length + version.length + payload.length)
+                .put(MAGIC)
+                .put(FORMAT_V2)
+                .putLong(schema != null ? schema.fingerprint() : UNKNOWN_FINGERPRINT)
+                .put((byte) type.length)
+                .put(type)
+                .put((byte) version.length)
+                .put(version)
+                .put(payload)
+                .array();
+    }
+
+    private static byte[] shortString(String value) {
+        byte[] bytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        if (bytes.length > 255) {
+            throw new SerializationException("Envelope field too long: " + value);
+        }
+        return bytes;
+    }
+
+    private static String eventType(Headers headers) {
+        if (headers == null) {
+            return null;
+        }
+        Header header = headers.lastHeader(KafkaOutboxSink.EVENT_TYPE_HEADER);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.cursorpos.shared.event.serde;
+
+import com.cursorpos.shared.event.BaseEvent;
+
+/**
+ * Registered schema of one event class.
+ * 
+ * @param eventType   event type name (e.g. "TransactionCreated")
+ * @param version     schema version carried in {@link BaseEvent#getVersion()}
+ * @param fingerprint CRC-64 fingerprint of the canonical schema
+ * @param type        the event class
+ * @param canonical   canonical schema text the fingerprint was computed from
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+public record EventSchema(String eventType, String version, long fingerprint,
+        Class<? extends BaseEvent> type, String canonical) {
+}
@@ -0,0 +1,24 @@
+package com.cursorpos.shared.event.serde;
+
+/**
+ * Registers a service's event schemas and projections at startup.
+ * 
+ * <p>
+ * Every {@code EventSchemaRegistrar} bean is applied to the
+ * {@link EventSchemaRegistry} when it is created, so outbox payloads are
+ * stamped with their schema from the first record and consumers bind events
+ * they do not own to their own projections.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@FunctionalInterface
+public interface EventSchemaRegistrar {
+
+    /**
+     * @param registry the registry to add schemas and projections to
+     */
+    void registerSchemas(EventSchemaRegistry registry);
+}
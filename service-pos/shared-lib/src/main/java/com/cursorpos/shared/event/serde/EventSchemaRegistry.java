@@ -0,0 +1,214 @@
+package com.cursorpos.shared.event.serde;
+
+import com.cursorpos.shared.event.BaseEvent;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local stand-in for a schema registry.
+ * 
+ * <p>
+ * Schemas are derived from the event classes themselves (the properties
+ * Jackson serializes, recursively) and identified by a 64-bit fingerprint of
+ * their canonical text, using the CRC-64 polynomial of Avro's single-object
+ * encoding. Producers register their event classes at startup through
+ * {@link EventSchemaRegistrar} beans (or on first use). Consumers rarely have
+ * the producer's class, so they register a projection per event type name
+ * instead, which the envelope carries next to the fingerprint; events with
+ * neither a known fingerprint nor a projection are read as maps.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Slf4j
+public class EventSchemaRegistry {
+
+    private static final long EMPTY_FINGERPRINT = 0xc15d213aa4d7a795L;
+    private static final long[] FINGERPRINT_TABLE = new long[256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            long fp = i;
+            for (int j = 0; j < 8; j++) {
+                fp = (fp >>> 1) ^ (EMPTY_FINGERPRINT & -(fp & 1L));
+            }
+            FINGERPRINT_TABLE[i] = fp;
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, EventSchema> byClass = new ConcurrentHashMap<>();
+    private final Map<Long, EventSchema> byFingerprint = new ConcurrentHashMap<>();
+    private final Map<String, EventSchema> latestByEventType = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> projections = new ConcurrentHashMap<>();
+
+    /**
+     * @param objectMapper mapper whose serialization config defines the event
+     *                     properties
+     */
+    public EventSchemaRegistry(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+    }
+
+    /**
+     * Registers an event class.
+     * 
+     * @param type      the event class
+     * @param eventType event type name
+     * @param version   schema version
+     * @return the registered schema
+     */
+    public EventSchema register(Class<? extends BaseEvent> type, String eventType, String version) {
+        EventSchema existing = byClass.get(type);
+        if (existing != null && existing.eventType().equals(eventType) && existing.version().equals(version)) {
+            return existing;
+        }
+        String canonical = eventType + "@" + version + ":" + canonicalSchema(objectMapper.constructType(type));
+        EventSchema schema = new EventSchema(eventType, version, fingerprint(canonical), type, canonical);
+
+        EventSchema clash = byFingerprint.putIfAbsent(schema.fingerprint(), schema);
+        if (clash != null && !clash.type().equals(type)) {
+            throw new IllegalStateException("Schema fingerprint of " + type.getName() + " collides with "
+                    + clash.type().getName());
+        }
+        byClass.put(type, schema);
+        latestByEventType.put(eventType, schema);
+        log.debug("Registered event schema {}@{} ({}) with fingerprint {}", eventType, version, type.getSimpleName(),
+                Long.toHexString(schema.fingerprint()));
+        return schema;
+    }
+
+    /**
+     * Registers an event class at the default schema version.
+     * 
+     * @param type      the event class
+     * @param eventType event type name
+     * @return the registered schema
+     */
+    public EventSchema register(Class<? extends BaseEvent> type, String eventType) {
+        return register(type, eventType, BaseEvent.DEFAULT_VERSION);
+    }
+
+    /**
+     * Returns the schema of an event, registering its class on first use.
+     * 
+     * @param event the event
+     * @return the schema
+     */
+    public EventSchema schemaFor(BaseEvent event) {
+        EventSchema schema = byClass.get(event.getClass());
+        String eventType = event.getEventType() != null ? event.getEventType() : event.getClass().getSimpleName();
+        String version = event.getVersion() != null ? event.getVersion() : "";
+        if (schema != null && schema.eventType().equals(eventType) && schema.version().equals(version)) {
+            return schema;
+        }
+        return register(event.getClass(), eventType, version);
+    }
+
+    /**
+     * Looks up a schema by fingerprint.
+     * 
+     * @param fingerprint the schema fingerprint
+     * @return the schema, if this process knows it
+     */
+    public Optional<EventSchema> find(long fingerprint) {
+        return Optional.ofNullable(byFingerprint.get(fingerprint));
+    }
+
+    /**
+     * Looks up the most recently registered schema of an event type.
+     * 
+     * @param eventType event type name
+     * @return the schema, if registered
+     */
+    public Optional<EventSchema> findLatest(String eventType) {
+        return eventType == null ? Optional.empty() : Optional.ofNullable(latestByEventType.get(eventType));
+    }
+
+    /**
+     * Registers the class a consumer binds an event type to when the writer's
+     * schema is not known locally. The payload is matched by property name,
+     * so the projection may declare a subset of the event's fields.
+     * 
+     * @param eventType event type name
+     * @param type      the consumer's projection of the event
+     */
+    public void registerProjection(String eventType, Class<?> type) {
+        projections.put(Objects.requireNonNull(eventType, "eventType"), Objects.requireNonNull(type, "type"));
+    }
+
+    /**
+     * Looks up the projection registered for an event type.
+     * 
+     * @param eventType event type name
+     * @return the projection class, if registered
+     */
+    public Optional<Class<?>> findProjection(String eventType) {
+        return eventType == null ? Optional.empty() : Optional.ofNullable(projections.get(eventType));
+    }
+
+    /**
+     * CRC-64-AVRO fingerprint of a canonical schema.
+     */
+    static long fingerprint(String canonical) {
+        long fp = EMPTY_FINGERPRINT;
+        for (byte b : canonical.getBytes(StandardCharsets.UTF_8)) {
+            fp = (fp >>> 8) ^ FINGERPRINT_TABLE[(int) (fp ^ b) & 0xff];
+        }
+        return fp;
+    }
+
+    private String canonicalSchema(JavaType type) {
+        StringBuilder sb = new StringBuilder();
+        appendType(sb, type, new HashSet<>());
+        return sb.toString();
+    }
+
+    private void appendType(StringBuilder sb, JavaType type, Set<Class<?>> visiting) {
+        Class<?> raw = type.getRawClass();
+        if (type.isCollectionLikeType() || type.isArrayType()) {
+            sb.append("array<");
+            appendType(sb, type.getContentType(), visiting);
+            sb.append('>');
+        } else if (type.isMapLikeType()) {
+            sb.append("map<");
+            appendType(sb, type.getContentType(), visiting);
+            sb.append('>');
+        } else if (raw.isEnum() || !raw.getName().startsWith("com.cursorpos.")) {
+            // Scalars and library types are identified by name
+            sb.append(raw.isEnum() ? "enum:" + raw.getSimpleName() : raw.getSimpleName());
+        } else if (!visiting.add(raw)) {
+            sb.append("ref:").append(raw.getSimpleName());
+        } else {
+            List<BeanPropertyDefinition> properties = objectMapper.getSerializationConfig().introspect(type)
+                    .findProperties().stream()
+                    .filter(BeanPropertyDefinition::couldSerialize)
+                    .sorted(Comparator.comparing(BeanPropertyDefinition::getName))
+                    .toList();
+            sb.append(raw.getSimpleName()).append('{');
+            for (int i = 0; i < properties.size(); i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append(properties.get(i).getName()).append(':');
+                appendType(sb, properties.get(i).getPrimaryType(), visiting);
+            }
+            sb.append('}');
+            visiting.remove(raw);
+        }
+    }
+}
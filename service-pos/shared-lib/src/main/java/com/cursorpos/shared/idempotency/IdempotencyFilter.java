@@ -0,0 +1,291 @@
+package com.cursorpos.shared.idempotency;
+
+import com.cursorpos.shared.dto.ApiResponse;
+import com.cursorpos.shared.security.TenantContext;
+import com.cursorpos.shared.util.PathPrefixMatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Makes mutating endpoints safe to retry via the {@code Idempotency-Key}
+ * header.
+ * 
+ * <p>
+ * For configured paths, the first request carrying a given key (scoped to the
+ * current tenant) is executed and its response stored. Retries with the same
+ * key:
+ * </p>
+ * <ul>
+ * <li>replay the stored response once the first request completed, with
+ * {@code Idempotent-Replayed: true}</li>
+ * <li>wait up to {@code waitTimeout} and then get {@code 409 Conflict} while
+ * the first request is still in flight</li>
+ * <li>get {@code 422 Unprocessable Entity} if the method, path or body
+ * differ from the original request</li>
+ * </ul>
+ * 
+ * <p>
+ * Server errors (5xx) and exceptions release the key so the client can retry.
+ * Requests without the header are passed through unchanged.
+ * </p>
+ * 
+ * <p>
+ * Must run after {@link com.cursorpos.shared.security.JwtAuthenticationFilter}
+ * so {@link TenantContext} is populated.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+
+    private final IdempotencyStore store;
+    private final PathPrefixMatcher pathMatcher;
+    private final ObjectMapper objectMapper;
+
+    private Duration ttl = Duration.ofHours(24);
+    private Duration lockTtl = Duration.ofSeconds(30);
+    private Duration waitTimeout = Duration.ZERO;
+
+    public IdempotencyFilter(IdempotencyStore store, PathPrefixMatcher pathMatcher, ObjectMapper objectMapper) {
+        this.store = store;
+        this.pathMatcher = pathMatcher;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !MUTATING_METHODS.contains(request.getMethod())
+                || !pathMatcher.matches(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters",
+                    "INVALID_IDEMPOTENCY_KEY");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String key = scopedKey(idempotencyKey);
+        String fingerprint = fingerprint(request, cachedRequest.body);
+
+        Optional<IdempotencyRecord> existing = store.begin(key, fingerprint, lockTtl);
+        if (existing.isPresent()) {
+            handleDuplicate(key, fingerprint, existing.get(), response);
+            return;
+        }
+
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(cachedRequest, cachingResponse);
+            int status = cachingResponse.getStatus();
+            if (status < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                store.complete(key, IdempotencyRecord.completed(fingerprint, status,
+                        cachingResponse.getContentType(), cachingResponse.getContentAsByteArray()), ttl);
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.release(key);
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private void handleDuplicate(String key, String fingerprint, IdempotencyRecord record,
+            HttpServletResponse response) throws IOException {
+        IdempotencyRecord current = record.isCompleted() ? record : awaitCompletion(key, record);
+
+        if (!current.fingerprint().equals(fingerprint)) {
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Idempotency-Key was already used for a different request",
+                    "IDEMPOTENCY_KEY_REUSED");
+            return;
+        }
+        if (!current.isCompleted()) {
+            log.debug("Request with idempotency key {} is still in progress", key);
+            writeError(response, HttpStatus.CONFLICT,
+                    "A request with this Idempotency-Key is already in progress",
+                    "IDEMPOTENCY_KEY_IN_PROGRESS");
+            return;
+        }
+
+        log.debug("Replaying stored response for idempotency key {}", key);
+        response.setStatus(current.status());
+        if (current.contentType() != null) {
+            response.setContentType(current.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(current.body().length);
+        response.getOutputStream().write(current.body());
+    }
+
+    private IdempotencyRecord awaitCompletion(String key, IdempotencyRecord inProgress) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        IdempotencyRecord current = inProgress;
+        while (!current.isCompleted() && System.nanoTime() - deadline < 0) {
+            try {
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return current;
+            }
+            Optional<IdempotencyRecord> found = store.find(key);
+            if (found.isEmpty()) {
+                // Original request failed and released the key
+                return current;
+            }
+            current = found.get();
+        }
+        return current;
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message, String errorCode)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message, errorCode));
+    }
+
+    private static String scopedKey(String idempotencyKey) {
+        String tenantId = TenantContext.getTenantId();
+        return (tenantId != null ? tenantId : "-") + ":" + idempotencyKey;
+    }
+
+    static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public void setLockTtl(Duration lockTtl) {
+        this.lockTtl = lockTtl;
+    }
+
+    public void setWaitTimeout(Duration waitTimeout) {
+        this.waitTimeout = waitTimeout;
+    }
+
+    /**
+     * Request wrapper that reads the body up front so it can be fingerprinted
+     * and still be consumed by the controller.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = StreamUtils.copyToByteArray(request.getInputStream());
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // The body is already in memory, so all of it is available now
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? encoding : StandardCharsets.UTF_8.name()));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.cursorpos.shared.idempotency;
+
+/**
+ * State stored for an idempotency key.
+ * 
+ * <p>
+ * While the first request is being processed the record is
+ * {@link State#IN_PROGRESS}; once it completes, the response status, content
+ * type and body are kept so retries can be answered without re-executing the
+ * operation.
+ * </p>
+ * 
+ * @param state       processing state
+ * @param fingerprint hash of method, path and body of the original request
+ * @param status      HTTP status of the stored response (0 while in progress)
+ * @param contentType content type of the stored response, may be null
+ * @param body        stored response body (empty while in progress)
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+public record IdempotencyRecord(State state, String fingerprint, int status, String contentType, byte[] body) {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    /**
+     * Processing state of an idempotent request.
+     */
+    public enum State {
+        IN_PROGRESS,
+        COMPLETED
+    }
+
+    /**
+     * Creates an in-progress marker.
+     * 
+     * @param fingerprint request fingerprint
+     * @return the record
+     */
+    public static IdempotencyRecord inProgress(String fingerprint) {
+        return new IdempotencyRecord(State.IN_PROGRESS, fingerprint, 0, null, EMPTY);
+    }
+
+    /**
+     * Creates a completed record holding the response to replay.
+     * 
+     * @param fingerprint request fingerprint
+     * @param status      response status
+     * @param contentType response content type
+     * @param body        response body
+     * @return the record
+     */
+    public static IdempotencyRecord completed(String fingerprint, int status, String contentType, byte[] body) {
+        return new IdempotencyRecord(State.COMPLETED, fingerprint, status, contentType,
+                body != null ? body : EMPTY);
+    }
+
+    public boolean isCompleted() {
+        return state == State.COMPLETED;
+    }
+}
@@ -0,0 +1,50 @@
+package com.cursorpos.shared.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Storage for idempotency keys with expiry.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Atomically claims a key for processing.
+     * 
+     * @param key         the scoped idempotency key
+     * @param fingerprint fingerprint of the request
+     * @param lockTtl     how long the in-progress claim is held
+     * @return empty if the key was claimed by this call, otherwise the existing
+     *         record
+     */
+    Optional<IdempotencyRecord> begin(String key, String fingerprint, Duration lockTtl);
+
+    /**
+     * Returns the current record for a key.
+     * 
+     * @param key the scoped idempotency key
+     * @return the record, or empty if absent or expired
+     */
+    Optional<IdempotencyRecord> find(String key);
+
+    /**
+     * Stores the completed response for a claimed key.
+     * 
+     * @param key    the scoped idempotency key
+     * @param record the completed record
+     * @param ttl    how long the response is replayable
+     */
+    void complete(String key, IdempotencyRecord record, Duration ttl);
+
+    /**
+     * Releases a claim without storing a response, so the request can be
+     * retried.
+     * 
+     * @param key the scoped idempotency key
+     */
+    void release(String key);
+}
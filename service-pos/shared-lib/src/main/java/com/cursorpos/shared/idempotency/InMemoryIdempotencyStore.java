@@ -0,0 +1,94 @@
+package com.cursorpos.shared.idempotency;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node-local {@link IdempotencyStore} backed by a concurrent map.
+ * 
+ * <p>
+ * Suitable for single-instance deployments and tests. Expired entries are
+ * purged lazily on access and whenever the store grows past its capacity;
+ * if it is still full after purging, new keys are not remembered (the request
+ * proceeds without idempotency protection rather than failing).
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final Clock clock;
+
+    public InMemoryIdempotencyStore(int maxEntries) {
+        this(maxEntries, Clock.systemUTC());
+    }
+
+    InMemoryIdempotencyStore(int maxEntries, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> begin(String key, String fingerprint, Duration lockTtl) {
+        long now = clock.millis();
+        if (entries.size() >= maxEntries) {
+            purgeExpired(now);
+            if (entries.size() >= maxEntries) {
+                return Optional.empty();
+            }
+        }
+        Entry claim = new Entry(IdempotencyRecord.inProgress(fingerprint), now + lockTtl.toMillis());
+        Entry existing = entries.compute(key, (k, current) -> current == null || current.isExpired(now)
+                ? claim
+                : current);
+        return existing == claim ? Optional.empty() : Optional.of(existing.record());
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(String key) {
+        long now = clock.millis();
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isExpired(now)) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.record());
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record, Duration ttl) {
+        entries.put(key, new Entry(record, clock.millis() + ttl.toMillis()));
+    }
+
+    @Override
+    public void release(String key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Number of stored keys, including expired ones not yet purged.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    private void purgeExpired(long now) {
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    private record Entry(IdempotencyRecord record, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.cursorpos.shared.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * {@link IdempotencyStore} shared by all instances of a service through Redis.
+ * 
+ * <p>
+ * Claims use {@code SET NX PX}, so only one instance processes a given key.
+ * Records are stored as a single compact string:
+ * {@code state|status|fingerprint|contentType|base64(body)}.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final char SEPARATOR = '|';
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public Optional<IdempotencyRecord> begin(String key, String fingerprint, Duration lockTtl) {
+        Boolean claimed = redisTemplate.opsForValue()
+                .setIfAbsent(KEY_PREFIX + key, encode(IdempotencyRecord.inProgress(fingerprint)), lockTtl);
+        if (Boolean.TRUE.equals(claimed)) {
+            return Optional.empty();
+        }
+        Optional<IdempotencyRecord> existing = find(key);
+        if (existing.isEmpty()) {
+            // Expired between SETNX and GET; claim again
+            return begin(key, fingerprint, lockTtl);
+        }
+        return existing;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(String key) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        return Optional.ofNullable(value).map(RedisIdempotencyStore::decode);
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record, Duration ttl) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, encode(record), ttl);
+    }
+
+    @Override
+    public void release(String key) {
+        redisTemplate.delete(KEY_PREFIX + key);
+    }
+
+    static String encode(IdempotencyRecord record) {
+        return (record.isCompleted() ? 'C' : 'P') + String.valueOf(SEPARATOR)
+                + record.status() + SEPARATOR
+                + record.fingerprint() + SEPARATOR
+                + (record.contentType() != null ? record.contentType() : "") + SEPARATOR
+                + Base64.getEncoder().encodeToString(record.body());
+    }
+
+    static IdempotencyRecord decode(String value) {
+        String[] parts = value.split("\\|", 5);
+        String contentType = parts[3].isEmpty() ? null : parts[3];
+        if ("P".equals(parts[0])) {
+            return IdempotencyRecord.inProgress(parts[2]);
+        }
+        return IdempotencyRecord.completed(parts[2], Integer.parseInt(parts[1]), contentType,
+                Base64.getDecoder().decode(parts[4]));
+    }
+}
@@ -0,0 +1,45 @@
+package com.cursorpos.shared.outbox;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Outbox sink that keeps published messages in memory.
+ * 
+ * <p>
+ * Used in tests and in services running without a broker.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<OutboxMessage> messages = new CopyOnWriteArrayList<>();
+
+    @Override
+    public CompletableFuture<Void> send(OutboxMessage message) {
+        messages.add(message);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Returns all messages published so far, in publish order.
+     */
+    public List<OutboxMessage> getMessages() {
+        return List.copyOf(messages);
+    }
+
+    /**
+     * Returns the messages published to a topic, in publish order.
+     */
+    public List<OutboxMessage> getMessages(String topic) {
+        return messages.stream().filter(m -> m.topic().equals(topic)).toList();
+    }
+
+    public void clear() {
+        messages.clear();
+    }
+}
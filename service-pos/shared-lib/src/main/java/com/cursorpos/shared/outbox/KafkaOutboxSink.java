@@ -0,0 +1,49 @@
+package com.cursorpos.shared.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Publishes outbox messages to Kafka, keyed by aggregate key so events of one
+ * aggregate land on the same partition in order.
+ * 
+ * <p>
+ * The stored JSON is sent as a tree so the template's JSON serializer writes
+ * it unchanged. Event ID and type are also sent as record headers.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@RequiredArgsConstructor
+public class KafkaOutboxSink implements OutboxSink {
+
+    public static final String EVENT_ID_HEADER = "event_id";
+    public static final String EVENT_TYPE_HEADER = "event_type";
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public CompletableFuture<Void> send(OutboxMessage message) {
+        JsonNode value;
+        try {
+            value = objectMapper.readTree(message.payload());
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        ProducerRecord<String, Object> producerRecord = new ProducerRecord<>(message.topic(),
+                message.aggregateKey(), value);
+        producerRecord.headers().add(EVENT_ID_HEADER, message.eventId().getBytes(StandardCharsets.UTF_8));
+        producerRecord.headers().add(EVENT_TYPE_HEADER, message.eventType().getBytes(StandardCharsets.UTF_8));
+        return kafkaTemplate.send(producerRecord).thenApply(result -> null);
+    }
+}
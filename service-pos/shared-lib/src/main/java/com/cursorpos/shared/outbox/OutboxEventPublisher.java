@@ -0,0 +1,76 @@
+package com.cursorpos.shared.outbox;
+
+import com.cursorpos.shared.event.BaseEvent;
+import com.cursorpos.shared.event.serde.EventSchemaRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+/**
+ * Records domain events in the outbox as part of the caller's transaction.
+ * 
+ * <p>
+ * The event is committed atomically with the business change and published
+ * later by {@link OutboxRelay}, so request latency never includes broker I/O.
+ * </p>
+ * 
+ * <p>
+ * Usage:
+ * </p>
+ * 
+ * <pre>
+ * outboxEventPublisher.publish("transaction.created", "Transaction", saved.getId().toString(), event);
+ * </pre>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    private EventSchemaRegistry schemaRegistry;
+
+    /**
+     * Writes an event to the outbox. Must be called inside a transaction.
+     * 
+     * @param topic         destination topic
+     * @param aggregateType type of the aggregate the event belongs to
+     * @param aggregateKey  ordering key (events with the same key are
+     *                      published in order)
+     * @param event         the event
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String topic, String aggregateType, String aggregateKey, BaseEvent event) {
+        Objects.requireNonNull(topic, "topic");
+        Objects.requireNonNull(aggregateKey, "aggregateKey");
+        Objects.requireNonNull(event, "event");
+        if (schemaRegistry != null) {
+            // Lets the relay's binary serializer stamp the schema of the stored JSON
+            schemaRegistry.schemaFor(event);
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Event cannot be serialized: " + event.getEventType(), e);
+        }
+        outboxRepository.insert(event.getTenantId(), aggregateType, aggregateKey, topic, event.getEventId(),
+                event.getEventType(), payload, event.getTimestamp());
+        log.debug("Outbox event {} ({}) recorded for {} {}", event.getEventId(), event.getEventType(),
+                aggregateType, aggregateKey);
+    }
+
+    public void setSchemaRegistry(EventSchemaRegistry schemaRegistry) {
+        this.schemaRegistry = schemaRegistry;
+    }
+}
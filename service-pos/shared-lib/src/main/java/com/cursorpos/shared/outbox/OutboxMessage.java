@@ -0,0 +1,33 @@
+package com.cursorpos.shared.outbox;
+
+import java.time.Instant;
+
+/**
+ * Event stored in the outbox table, waiting to be relayed.
+ * 
+ * @param id            outbox sequence number; defines relay order
+ * @param tenantId      tenant the event belongs to
+ * @param aggregateType type of the aggregate (e.g. "Transaction")
+ * @param aggregateKey  key events are ordered by; used as the message key
+ * @param topic         destination topic
+ * @param eventId       unique event identifier, for consumer deduplication
+ * @param eventType     event type (e.g. "TransactionCreated")
+ * @param payload       JSON-serialized event
+ * @param attempts      failed relay attempts so far
+ * @param createdAt     when the event was written
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+public record OutboxMessage(
+        long id,
+        String tenantId,
+        String aggregateType,
+        String aggregateKey,
+        String topic,
+        String eventId,
+        String eventType,
+        String payload,
+        int attempts,
+        Instant createdAt) {
+}
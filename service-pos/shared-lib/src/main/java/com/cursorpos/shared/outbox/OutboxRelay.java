@@ -0,0 +1,213 @@
+package com.cursorpos.shared.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Background relay draining the outbox to an {@link OutboxSink}.
+ * 
+ * <p>
+ * Each run claims the oldest pending events in a short transaction,
+ * publishes them with no transaction or lock held, and then in a second
+ * short transaction deletes the ones that were accepted and releases the
+ * rest. A claim lasts {@code claimTimeout}, so events of a relay that died
+ * are picked up again; other instances skip keys with a live claim. Events
+ * of different aggregate keys are published concurrently; events of the
+ * same key are published one after another and the chain stops at the first
+ * failure, so a key's events are never delivered out of order. Failed
+ * events stay pending and are retried on the next run until
+ * {@code maxAttempts}, after which they are parked as {@code FAILED}.
+ * </p>
+ * 
+ * <p>
+ * A full batch triggers the next run immediately; otherwise the relay sleeps
+ * for {@code pollInterval}.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxSink sink;
+    private final TransactionOperations transactionOperations;
+
+    private int batchSize = 200;
+    private int maxAttempts = 10;
+    private Duration pollInterval = Duration.ofMillis(200);
+    private Duration sendTimeout = Duration.ofSeconds(10);
+    private Duration claimTimeout = Duration.ofMinutes(1);
+
+    private ScheduledExecutorService executor;
+
+    public OutboxRelay(OutboxRepository outboxRepository, OutboxSink sink,
+            TransactionOperations transactionOperations) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.transactionOperations = transactionOperations;
+    }
+
+    /**
+     * Starts the background relay.
+     */
+    public void start() {
+        if (claimTimeout.compareTo(sendTimeout) <= 0) {
+            throw new IllegalStateException("outbox.relay.claim-timeout must be longer than the send timeout");
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.schedule(this::run, 0, TimeUnit.MILLISECONDS);
+        log.info("Outbox relay started (batch size {}, poll interval {})", batchSize, pollInterval);
+    }
+
+    /**
+     * Stops the background relay.
+     */
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void run() {
+        int relayed = 0;
+        try {
+            relayed = drain();
+        } catch (Exception e) {
+            log.warn("Outbox relay run failed: {}", e.getMessage());
+        }
+        if (!executor.isShutdown()) {
+            long delay = relayed >= batchSize ? 0 : pollInterval.toMillis();
+            executor.schedule(this::run, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Relays one batch of pending events.
+     * 
+     * @return number of events fetched in this run
+     */
+    public int drain() {
+        List<OutboxMessage> batch = transactionOperations.execute(status -> outboxRepository.tryLockRelay()
+                ? outboxRepository.claimPending(batchSize, claimTimeout)
+                : List.<OutboxMessage>of());
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+        relay(batch);
+        return batch.size();
+    }
+
+    private void relay(List<OutboxMessage> batch) {
+        Map<String, List<OutboxMessage>> byKey = new LinkedHashMap<>();
+        for (OutboxMessage message : batch) {
+            byKey.computeIfAbsent(message.aggregateKey(), k -> new ArrayList<>()).add(message);
+        }
+
+        ConcurrentLinkedQueue<Long> published = new ConcurrentLinkedQueue<>();
+        Map<Long, String> failed = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] chains = byKey.values().stream()
+                .map(messages -> sendInOrder(messages, published, failed))
+                .toArray(CompletableFuture[]::new);
+
+        try {
+            CompletableFuture.allOf(chains).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Outbox relay timed out after {}; unacknowledged events will be retried", sendTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Per-message failures are recorded below
+        }
+
+        List<Long> publishedIds = new ArrayList<>(published);
+        Map<Long, String> failedIds = new HashMap<>(failed);
+        Set<Long> acknowledged = new HashSet<>(publishedIds);
+        acknowledged.addAll(failedIds.keySet());
+        // Still in flight after the send timeout; the next claim retries them
+        List<Long> unacknowledged = batch.stream()
+                .map(OutboxMessage::id)
+                .filter(id -> !acknowledged.contains(id))
+                .toList();
+        transactionOperations.executeWithoutResult(status -> {
+            if (!publishedIds.isEmpty()) {
+                outboxRepository.deleteAll(publishedIds);
+            }
+            failedIds.forEach((id, error) -> outboxRepository.markFailed(id, error, maxAttempts));
+            if (!unacknowledged.isEmpty()) {
+                outboxRepository.release(unacknowledged);
+            }
+        });
+        if (!failedIds.isEmpty()) {
+            log.warn("Outbox relay published {} events, {} failed", publishedIds.size(), failedIds.size());
+        } else {
+            log.debug("Outbox relay published {} events", publishedIds.size());
+        }
+    }
+
+    private CompletableFuture<Void> sendInOrder(List<OutboxMessage> messages,
+            ConcurrentLinkedQueue<Long> published, Map<Long, String> failed) {
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        for (OutboxMessage message : messages) {
+            chain = chain.thenCompose(ignored -> send(message)
+                    .whenComplete((result, error) -> {
+                        if (error == null) {
+                            published.add(message.id());
+                        } else {
+                            failed.put(message.id(), String.valueOf(error.getMessage()));
+                        }
+                    }));
+        }
+        return chain;
+    }
+
+    private CompletableFuture<Void> send(OutboxMessage message) {
+        try {
+            return sink.send(message);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public void setSendTimeout(Duration sendTimeout) {
+        this.sendTimeout = sendTimeout;
+    }
+
+    public void setClaimTimeout(Duration claimTimeout) {
+        this.claimTimeout = claimTimeout;
+    }
+}
@@ -0,0 +1,131 @@
+package com.cursorpos.shared.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * JDBC access to the {@code outbox_events} table.
+ * 
+ * <p>
+ * Plain JDBC keeps the outbox independent of each service's entity scan and
+ * joins the caller's JPA transaction through the shared data source.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    /**
+     * Advisory lock key held by the draining relay ("outbox" in ASCII).
+     */
+    static final long RELAY_LOCK_KEY = 0x6F7574626F78L;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO outbox_events
+                (tenant_id, aggregate_type, aggregate_key, topic, event_id, event_type, payload, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    /**
+     * Claims the oldest pending events that are not claimed, skipping keys
+     * with a live claim so another relay's in-flight events of the same key
+     * are never overtaken. Expired claims are taken over.
+     */
+    private static final String CLAIM_PENDING_SQL = """
+            UPDATE outbox_events
+            SET claimed_until = CURRENT_TIMESTAMP + make_interval(secs => ?)
+            WHERE id IN (
+                SELECT e.id
+                FROM outbox_events e
+                WHERE e.status = 'PENDING'
+                  AND NOT EXISTS (
+                      SELECT 1 FROM outbox_events c
+                      WHERE c.aggregate_key = e.aggregate_key
+                        AND c.claimed_until >= CURRENT_TIMESTAMP)
+                ORDER BY e.id
+                LIMIT ?)
+            RETURNING id, tenant_id, aggregate_type, aggregate_key, topic, event_id, event_type, payload,
+                      attempts, created_at
+            """;
+
+    private static final String MARK_FAILED_SQL = """
+            UPDATE outbox_events
+            SET attempts = attempts + 1,
+                last_error = ?,
+                claimed_until = NULL,
+                status = CASE WHEN attempts + 1 >= ? THEN 'FAILED' ELSE status END
+            WHERE id = ?
+            """;
+
+    private static final RowMapper<OutboxMessage> ROW_MAPPER = (rs, rowNum) -> new OutboxMessage(
+            rs.getLong("id"),
+            rs.getString("tenant_id"),
+            rs.getString("aggregate_type"),
+            rs.getString("aggregate_key"),
+            rs.getString("topic"),
+            rs.getString("event_id"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getInt("attempts"),
+            rs.getTimestamp("created_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(String tenantId, String aggregateType, String aggregateKey, String topic,
+            String eventId, String eventType, String payload, Instant createdAt) {
+        jdbcTemplate.update(INSERT_SQL, tenantId, aggregateType, aggregateKey, topic, eventId, eventType,
+                payload, Timestamp.from(createdAt));
+    }
+
+    /**
+     * Takes the relay lock for the current transaction, so claims of
+     * different instances do not interleave.
+     * 
+     * @return true if the lock was acquired
+     */
+    public boolean tryLockRelay() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, RELAY_LOCK_KEY));
+    }
+
+    /**
+     * Claims up to {@code limit} pending events for {@code claimTimeout}.
+     * 
+     * @return the claimed events in id order
+     */
+    public List<OutboxMessage> claimPending(int limit, Duration claimTimeout) {
+        List<OutboxMessage> claimed = new ArrayList<>(jdbcTemplate.query(CLAIM_PENDING_SQL, ROW_MAPPER,
+                claimTimeout.toMillis() / 1000.0, limit));
+        claimed.sort(Comparator.comparingLong(OutboxMessage::id));
+        return claimed;
+    }
+
+    /**
+     * Returns claimed events that were neither published nor failed to the
+     * pending pool.
+     */
+    public void release(List<Long> ids) {
+        jdbcTemplate.batchUpdate("UPDATE outbox_events SET claimed_until = NULL WHERE id = ?", ids, ids.size(),
+                (ps, id) -> ps.setLong(1, id));
+    }
+
+    public void deleteAll(List<Long> ids) {
+        jdbcTemplate.batchUpdate("DELETE FROM outbox_events WHERE id = ?", ids, ids.size(),
+                (ps, id) -> ps.setLong(1, id));
+    }
+
+    public void markFailed(long id, String error, int maxAttempts) {
+        jdbcTemplate.update(MARK_FAILED_SQL, error, maxAttempts, id);
+    }
+}
@@ -0,0 +1,23 @@
+package com.cursorpos.shared.outbox;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Destination the outbox relay publishes to.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@FunctionalInterface
+public interface OutboxSink {
+
+    /**
+     * Publishes one message.
+     * 
+     * @param message the message to publish
+     * @return completes when the message is durably accepted, or exceptionally
+     *         if it was not
+     */
+    CompletableFuture<Void> send(OutboxMessage message);
+}
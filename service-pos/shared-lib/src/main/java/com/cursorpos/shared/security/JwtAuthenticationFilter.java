@@ -5,7 +5,9 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import com.cursorpos.shared.util.PathPrefixMatcher;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -46,8 +48,26 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * Default public paths, used when {@code security.public-paths} is not set.
+     */
+    static final String DEFAULT_PUBLIC_PATHS = "/api/v1/auth/,/actuator/,/swagger-ui,/v3/api-docs,/favicon.ico$";
+
     private final JwtUtil jwtUtil;
 
+    private PathPrefixMatcher publicPathMatcher = PathPrefixMatcher.compile(DEFAULT_PUBLIC_PATHS.split(","));
+
+    /**
+     * Compiles the configured public paths once at startup.
+     *
+     * @param publicPaths path patterns, see {@link PathPrefixMatcher}
+     */
+    @Value("${security.public-paths:" + DEFAULT_PUBLIC_PATHS + "}")
+    public void setPublicPaths(List<String> publicPaths) {
+        this.publicPathMatcher = PathPrefixMatcher.compile(publicPaths);
+        log.debug("Public paths compiled: {}", publicPathMatcher.getPatterns());
+    }
+
     @Override
     protected void doFilterInternal(
             @NonNull HttpServletRequest request,
@@ -142,12 +162,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     @Override
     protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
-        // Skip authentication for public endpoints
-        String path = request.getRequestURI();
-        return path.startsWith("/api/v1/auth/") ||
-                path.startsWith("/actuator/") ||
-                path.startsWith("/swagger-ui") ||
-                path.startsWith("/v3/api-docs") ||
-                path.equals("/favicon.ico");
+        // Skip authentication for public endpoints; internal endpoints only take service tokens
+        return publicPathMatcher.matches(request.getRequestURI())
+                || ServiceTokenAuthenticationFilter.isInternalPath(request);
     }
 }
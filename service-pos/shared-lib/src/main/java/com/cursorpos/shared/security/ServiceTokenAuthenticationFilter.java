@@ -0,0 +1,99 @@
+package com.cursorpos.shared.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Service-to-service authentication for {@code /internal/**} endpoints.
+ *
+ * <p>
+ * Internal endpoints are not routed by the gateway and do not accept user
+ * JWTs. A caller authenticates by sending the shared secret configured as
+ * {@code security.internal.token} in the {@value #SERVICE_TOKEN_HEADER}
+ * header, and is granted {@value #SERVICE_ROLE}. A service that does not
+ * configure a token rejects every internal request, so only services that
+ * expose internal endpoints opt in.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@Slf4j
+@Component
+public class ServiceTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String SERVICE_TOKEN_HEADER = "X-Service-Token";
+
+    /**
+     * Role granted to authenticated services, checked by {@code SecurityConfig}.
+     */
+    public static final String SERVICE_ROLE = "INTERNAL_SERVICE";
+
+    private static final String INTERNAL_PREFIX = "/internal/";
+
+    private final byte[] token;
+
+    public ServiceTokenAuthenticationFilter(@Value("${security.internal.token:}") String token) {
+        this.token = token == null || token.isBlank() ? null : token.getBytes(StandardCharsets.UTF_8);
+        if (this.token == null) {
+            log.debug("No security.internal.token configured, internal endpoints are disabled");
+        }
+    }
+
+    /**
+     * @param request current request
+     * @return whether the request targets an internal endpoint of this
+     *         service, regardless of its context path
+     */
+    public static boolean isInternalPath(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        if (contextPath != null && !contextPath.isEmpty() && path.startsWith(contextPath)) {
+            path = path.substring(contextPath.length());
+        }
+        return path.startsWith(INTERNAL_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String presented = request.getHeader(SERVICE_TOKEN_HEADER);
+        if (token == null || presented == null
+                || !MessageDigest.isEqual(token, presented.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("Rejected internal request to {} without a valid service token", request.getRequestURI());
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.getWriter().write("Invalid service token");
+            return;
+        }
+        try {
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    "service", null, List.of(new SimpleGrantedAuthority("ROLE_" + SERVICE_ROLE))));
+            filterChain.doFilter(request, response);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !isInternalPath(request);
+    }
+}
@@ -0,0 +1,178 @@
+package com.cursorpos.shared.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Precompiled request path matcher backed by an immutable character trie.
+ *
+ * <p>
+ * Patterns are compiled once (typically at startup from configuration) and
+ * matched with a single left-to-right walk of the request path, without
+ * allocating per request. Used by both the reactive gateway filter and the
+ * servlet JWT filter to decide which endpoints are public.
+ * </p>
+ *
+ * <p>
+ * Pattern syntax:
+ * </p>
+ * <ul>
+ * <li>{@code /api/v1/auth/} - matches any path starting with the
+ * pattern</li>
+ * <li>{@code /favicon.ico$} - matches the path exactly</li>
+ * </ul>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+public final class PathPrefixMatcher {
+
+    private static final char EXACT_SUFFIX = '$';
+
+    private static final PathPrefixMatcher EMPTY = new PathPrefixMatcher(Node.LEAF, List.of());
+
+    private final Node root;
+    private final List<String> patterns;
+
+    private PathPrefixMatcher(Node root, List<String> patterns) {
+        this.root = root;
+        this.patterns = patterns;
+    }
+
+    /**
+     * Compiles the given patterns into a matcher.
+     *
+     * @param patterns path patterns; blank entries are ignored
+     * @return the compiled matcher
+     */
+    public static PathPrefixMatcher compile(Collection<String> patterns) {
+        if (patterns == null || patterns.isEmpty()) {
+            return EMPTY;
+        }
+        MutableNode root = new MutableNode();
+        List<String> accepted = patterns.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(p -> !p.isEmpty())
+                .distinct()
+                .toList();
+        for (String pattern : accepted) {
+            boolean exact = pattern.charAt(pattern.length() - 1) == EXACT_SUFFIX;
+            String literal = exact ? pattern.substring(0, pattern.length() - 1) : pattern;
+            root.insert(literal, exact);
+        }
+        return new PathPrefixMatcher(root.freeze(), accepted);
+    }
+
+    /**
+     * Compiles the given patterns into a matcher.
+     *
+     * @param patterns path patterns
+     * @return the compiled matcher
+     */
+    public static PathPrefixMatcher compile(String... patterns) {
+        return compile(Arrays.asList(patterns));
+    }
+
+    /**
+     * Checks whether the path matches any compiled pattern.
+     *
+     * @param path the request path (without query string)
+     * @return true if a prefix or exact pattern matches
+     */
+    public boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+        Node node = root;
+        int length = path.length();
+        for (int i = 0; i < length; i++) {
+            if (node.prefix) {
+                return true;
+            }
+            node = node.child(path.charAt(i));
+            if (node == null) {
+                return false;
+            }
+        }
+        return node.prefix || node.exact;
+    }
+
+    /**
+     * Returns the patterns this matcher was compiled from.
+     *
+     * @return immutable list of patterns
+     */
+    public List<String> getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * Frozen trie node. Children are kept in parallel sorted arrays so a lookup
+     * is a binary search over a handful of chars.
+     */
+    private static final class Node {
+
+        private static final Node LEAF = new Node(new char[0], new Node[0], false, false);
+
+        private final char[] labels;
+        private final Node[] children;
+        private final boolean prefix;
+        private final boolean exact;
+
+        private Node(char[] labels, Node[] children, boolean prefix, boolean exact) {
+            this.labels = labels;
+            this.children = children;
+            this.prefix = prefix;
+            this.exact = exact;
+        }
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(labels, c);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    /**
+     * Build-time trie node.
+     */
+    private static final class MutableNode {
+
+        private final Map<Character, MutableNode> children = new TreeMap<>();
+        private boolean prefix;
+        private boolean exact;
+
+        private void insert(String literal, boolean exactMatch) {
+            MutableNode node = this;
+            for (int i = 0; i < literal.length(); i++) {
+                node = node.children.computeIfAbsent(literal.charAt(i), c -> new MutableNode());
+            }
+            if (exactMatch) {
+                node.exact = true;
+            } else {
+                node.prefix = true;
+            }
+        }
+
+        private Node freeze() {
+            if (prefix) {
+                // Anything below a prefix terminal is unreachable
+                return new Node(new char[0], new Node[0], true, exact);
+            }
+            char[] labels = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, MutableNode> entry : children.entrySet()) {
+                labels[i] = entry.getKey();
+                frozen[i] = entry.getValue().freeze();
+                i++;
+            }
+            return new Node(labels, frozen, false, exact);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.cursorpos.shared.event;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for KeyedBatchDispatcher.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@DisplayName("KeyedBatchDispatcher Unit Tests")
+class KeyedBatchDispatcherTest {
+
+        private KeyedBatchDispatcher dispatcher;
+
+        @BeforeEach
+        void setUp() {
+                dispatcher = new KeyedBatchDispatcher(16, Duration.ofSeconds(5));
+        }
+
+        @AfterEach
+        void tearDown() {
+                dispatcher.close();
+        }
+
+        private static ConsumerRecord<String, String> consumerRecord(long offset, String key) {
+                return new ConsumerRecord<>("transaction.created", 0, offset, key, key + "-" + offset);
+        }
+
+        @Test
+        @DisplayName("Should process records of the same key in offset order")
+        void shouldKeepPerKeyOrder() {
+                // Arrange
+                List<ConsumerRecord<String, String>> batch = new ArrayList<>();
+                for (int i = 0; i < 100; i++) {
+                        batch.add(consumerRecord(i, "key-" + (i % 5)));
+                }
+                Map<String, List<Long>> seen = new ConcurrentHashMap<>();
+
+                // Act
+                dispatcher.dispatch(batch, r -> seen
+                                .computeIfAbsent(r.key(), k -> Collections.synchronizedList(new ArrayList<>()))
+                                .add(r.offset()));
+
+                // Assert
+                assertThat(seen).hasSize(5);
+                seen.forEach((key, offsets) -> assertThat(offsets).isSorted().hasSize(20));
+        }
+
+        @Test
+        @DisplayName("Should process different keys in parallel")
+        void shouldRunKeysInParallel() {
+                // Arrange - each key blocks until both keys are running
+                CountDownLatch bothStarted = new CountDownLatch(2);
+                List<ConsumerRecord<String, String>> batch = List.of(consumerRecord(0, "A"), consumerRecord(1, "B"));
+
+                // Act
+                dispatcher.dispatch(batch, r -> {
+                        bothStarted.countDown();
+                        try {
+                                assertThat(bothStarted.await(2, TimeUnit.SECONDS)).isTrue();
+                        } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                        }
+                });
+
+                // Assert
+                assertThat(bothStarted.getCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should report the earliest failed record and skip the rest of its key")
+        void shouldReportEarliestFailure() {
+                // Arrange
+                List<ConsumerRecord<String, String>> batch = List.of(
+                                consumerRecord(0, "A"), consumerRecord(1, "B"), consumerRecord(2, "A"),
+                                consumerRecord(3, "B"), consumerRecord(4, "A"));
+                List<Long> processed = Collections.synchronizedList(new ArrayList<>());
+
+                // Act & Assert
+                assertThatThrownBy(() -> dispatcher.dispatch(batch, r -> {
+                        if (r.offset() == 2) {
+                                throw new IllegalStateException("boom");
+                        }
+                        processed.add(r.offset());
+                }))
+                                .isInstanceOf(BatchListenerFailedException.class)
+                                .satisfies(e -> assertThat(((BatchListenerFailedException) e).getIndex())
+                                                .isEqualTo(2))
+                                .hasRootCauseMessage("boom");
+                assertThat(processed).containsExactlyInAnyOrder(0L, 1L, 3L);
+        }
+
+        @Test
+        @DisplayName("Should hand each key's records to the group handler as one list in offset order")
+        void shouldDispatchGroupsInOrder() {
+                // Arrange
+                List<ConsumerRecord<String, String>> batch = new ArrayList<>();
+                for (int i = 0; i < 30; i++) {
+                        batch.add(consumerRecord(i, "key-" + (i % 3)));
+                }
+                Map<String, List<Long>> groups = new ConcurrentHashMap<>();
+
+                // Act
+                dispatcher.dispatchGroups(batch, ConsumerRecord::key, group -> groups.put(group.get(0).key(),
+                                group.stream().map(ConsumerRecord::offset).toList()));
+
+                // Assert
+                assertThat(groups).hasSize(3);
+                groups.forEach((key, offsets) -> assertThat(offsets).isSorted().hasSize(10));
+        }
+
+        @Test
+        @DisplayName("Should return only after every group has finished, so the batch can be committed")
+        void shouldReturnAfterAllGroupsComplete() {
+                // Arrange - one group is slow
+                List<ConsumerRecord<String, String>> batch = List.of(consumerRecord(0, "slow"),
+                                consumerRecord(1, "fast"), consumerRecord(2, "slow"));
+                AtomicInteger finished = new AtomicInteger();
+
+                // Act
+                dispatcher.dispatchGroups(batch, ConsumerRecord::key, group -> {
+                        if ("slow".equals(group.get(0).key())) {
+                                try {
+                                        Thread.sleep(200);
+                                } catch (InterruptedException e) {
+                                        Thread.currentThread().interrupt();
+                                }
+                        }
+                        finished.incrementAndGet();
+                });
+
+                // Assert - a listener acknowledging here commits only completed work
+                assertThat(finished.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should report a failed group at its first record")
+        void shouldReportFailedGroupAtFirstRecord() {
+                // Arrange
+                List<ConsumerRecord<String, String>> batch = List.of(
+                                consumerRecord(0, "A"), consumerRecord(1, "B"), consumerRecord(2, "B"));
+
+                // Act & Assert
+                assertThatThrownBy(() -> dispatcher.dispatchGroups(batch, ConsumerRecord::key, group -> {
+                        if ("B".equals(group.get(0).key())) {
+                                throw new IllegalStateException("database down");
+                        }
+                }))
+                                .isInstanceOf(BatchListenerFailedException.class)
+                                .satisfies(e -> assertThat(((BatchListenerFailedException) e).getIndex())
+                                                .isEqualTo(1))
+                                .hasRootCauseMessage("database down");
+        }
+
+        @Test
+        @DisplayName("Should interrupt running handlers when the batch times out")
+        void shouldInterruptOnTimeout() throws InterruptedException {
+                // Arrange
+                KeyedBatchDispatcher slow = new KeyedBatchDispatcher(4, Duration.ofMillis(100));
+                CountDownLatch interrupted = new CountDownLatch(1);
+
+                // Act & Assert
+                try {
+                        assertThatThrownBy(() -> slow.dispatch(List.of(consumerRecord(0, "A")), r -> {
+                                try {
+                                        Thread.sleep(5_000);
+                                } catch (InterruptedException e) {
+                                        interrupted.countDown();
+                                }
+                        })).isInstanceOf(BatchListenerFailedException.class);
+                        assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+                } finally {
+                        slow.close();
+                }
+        }
+
+        @Test
+        @DisplayName("Should group records without a key by partition")
+        void shouldGroupNullKeysByPartition() {
+                // Arrange
+                List<ConsumerRecord<String, String>> batch = List.of(
+                                consumerRecord(0, null), consumerRecord(1, null), consumerRecord(2, null));
+                List<Long> processed = Collections.synchronizedList(new ArrayList<>());
+
+                // Act
+                dispatcher.dispatch(batch, r -> processed.add(r.offset()));
+
+                // Assert
+                assertThat(processed).containsExactly(0L, 1L, 2L);
+        }
+}
@@ -0,0 +1,225 @@
+package com.cursorpos.shared.event.serde;
+
+import com.cursorpos.shared.event.BaseEvent;
+import com.cursorpos.shared.outbox.KafkaOutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for BinaryEventSerializer and BinaryEventDeserializer.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@DisplayName("Binary event serialization Unit Tests")
+class BinaryEventSerializerTest {
+
+        private EventSchemaRegistry registry;
+        private BinaryEventSerializer serializer;
+        private BinaryEventDeserializer deserializer;
+
+        /**
+         * Minimal event with a nested list, like TransactionCreatedEvent.
+         */
+        static class SaleEvent extends BaseEvent {
+                private BigDecimal totalAmount;
+                private List<Line> items;
+
+                public BigDecimal getTotalAmount() {
+                        return totalAmount;
+                }
+
+                public void setTotalAmount(BigDecimal totalAmount) {
+                        this.totalAmount = totalAmount;
+                }
+
+                public List<Line> getItems() {
+                        return items;
+                }
+
+                public void setItems(List<Line> items) {
+                        this.items = items;
+                }
+        }
+
+        record Line(String sku, int quantity) {
+        }
+
+        @BeforeEach
+        void setUp() {
+                registry = new EventSchemaRegistry(BinaryEventSerializer.defaultSmileMapper());
+                serializer = new BinaryEventSerializer(registry);
+                deserializer = new BinaryEventDeserializer(registry);
+        }
+
+        private static SaleEvent sale() {
+                SaleEvent event = new SaleEvent();
+                event.setEventType("SaleCompleted");
+                event.setTenantId("tenant-001");
+                event.setTotalAmount(new BigDecimal("12.50"));
+                event.setItems(List.of(new Line("SKU-1", 2), new Line("SKU-2", 1)));
+                return event;
+        }
+
+        @Test
+        @DisplayName("Should round-trip a registered event to its class with an embedded fingerprint")
+        void shouldRoundTripTypedEvent() {
+                // Arrange
+                SaleEvent event = sale();
+
+                // Act
+                byte[] bytes = serializer.serialize("sales", event);
+                Object decoded = deserializer.deserialize("sales", bytes);
+
+                // Assert
+                EventSchema schema = registry.findLatest("SaleCompleted").orElseThrow();
+                assertThat(bytes[0]).isEqualTo(BinaryEventSerializer.MAGIC);
+                assertThat(ByteBuffer.wrap(bytes, 2, 8).getLong()).isEqualTo(schema.fingerprint());
+                assertThat(schema.version()).isEqualTo("1.0");
+                assertThat(decoded).isInstanceOf(SaleEvent.class);
+                SaleEvent copy = (SaleEvent) decoded;
+                assertThat(copy.getEventId()).isEqualTo(event.getEventId());
+                assertThat(copy.getTimestamp()).isEqualTo(event.getTimestamp());
+                assertThat(copy.getTotalAmount()).isEqualByComparingTo("12.50");
+                assertThat(copy.getItems()).containsExactly(new Line("SKU-1", 2), new Line("SKU-2", 1));
+        }
+
+        @Test
+        @DisplayName("Should be smaller than the JSON encoding")
+        void shouldBeSmallerThanJson() throws Exception {
+                // Arrange
+                SaleEvent event = sale();
+
+                // Act
+                byte[] binary = serializer.serialize("sales", event);
+                byte[] json = new ObjectMapper().findAndRegisterModules().writeValueAsBytes(event);
+
+                // Assert
+                assertThat(binary.length).isLessThan(json.length);
+        }
+
+        @Test
+        @DisplayName("Should stamp outbox JSON trees with the schema named in the event_type header")
+        void shouldUseEventTypeHeaderForTrees() throws Exception {
+                // Arrange
+                EventSchema schema = registry.schemaFor(sale());
+                ObjectMapper json = new ObjectMapper().findAndRegisterModules();
+                var tree = json.readTree(json.writeValueAsString(sale()));
+                RecordHeaders headers = new RecordHeaders();
+                headers.add(KafkaOutboxSink.EVENT_TYPE_HEADER, "SaleCompleted".getBytes(StandardCharsets.UTF_8));
+
+                // Act
+                byte[] bytes = serializer.serialize("sales", headers, tree);
+
+                // Assert
+                assertThat(ByteBuffer.wrap(bytes, 2, 8).getLong()).isEqualTo(schema.fingerprint());
+                assertThat(deserializer.deserialize("sales", headers, bytes)).isInstanceOf(SaleEvent.class);
+        }
+
+        @Test
+        @DisplayName("Should read unknown schemas as maps and plain JSON values as before")
+        void shouldFallBackToMaps() {
+                // Arrange
+                byte[] bytes = serializer.serialize("sales", sale());
+                BinaryEventDeserializer otherService = new BinaryEventDeserializer(
+                                new EventSchemaRegistry(BinaryEventSerializer.defaultSmileMapper()));
+                byte[] json = "{\"eventType\":\"SaleCompleted\",\"tenantId\":\"tenant-001\"}"
+                                .getBytes(StandardCharsets.UTF_8);
+
+                // Act
+                Object unknown = otherService.deserialize("sales", bytes);
+                Object legacy = otherService.deserialize("sales", json);
+
+                // Assert
+                assertThat(unknown).isInstanceOf(Map.class);
+                assertThat(((Map<?, ?>) unknown).get("tenantId")).isEqualTo("tenant-001");
+                assertThat(((Map<?, ?>) legacy).get("eventType")).isEqualTo("SaleCompleted");
+        }
+
+        @Test
+        @DisplayName("Should change the fingerprint when the version or fields change")
+        void shouldFingerprintSchemaChanges() {
+                // Act
+                EventSchema v1 = registry.register(SaleEvent.class, "SaleCompleted", "1.0");
+                EventSchema v2 = registry.register(SaleEvent.class, "SaleCompleted", "2.0");
+
+                // Assert
+                assertThat(v1.fingerprint()).isNotEqualTo(v2.fingerprint());
+                assertThat(v1.canonical()).contains("items:array<Line{quantity:int,sku:String}>");
+                assertThat(registry.find(v1.fingerprint())).contains(v1);
+                assertThat(registry.findLatest("SaleCompleted")).contains(v2);
+        }
+
+        /**
+         * Consumer-side view of SaleEvent, as another service would declare it.
+         */
+        static class SaleProjection {
+                private BigDecimal totalAmount;
+
+                public BigDecimal getTotalAmount() {
+                        return totalAmount;
+                }
+
+                public void setTotalAmount(BigDecimal totalAmount) {
+                        this.totalAmount = totalAmount;
+                }
+        }
+
+        @Test
+        @DisplayName("Should bind events of unknown schemas to the projection registered for their type")
+        void shouldBindToProjectionByEventType() throws Exception {
+                // Arrange - the producer only publishes JSON trees, so it never saw the class
+                ObjectMapper json = new ObjectMapper().findAndRegisterModules();
+                var tree = json.readTree(json.writeValueAsString(sale()));
+                RecordHeaders headers = new RecordHeaders();
+                headers.add(KafkaOutboxSink.EVENT_TYPE_HEADER, "SaleCompleted".getBytes(StandardCharsets.UTF_8));
+                EventSchemaRegistry consumerRegistry = new EventSchemaRegistry(
+                                BinaryEventSerializer.defaultSmileMapper());
+                consumerRegistry.registerProjection("SaleCompleted", SaleProjection.class);
+
+                // Act
+                byte[] bytes = serializer.serialize("sales", headers, tree);
+                Object decoded = new BinaryEventDeserializer(consumerRegistry).deserialize("sales", bytes);
+
+                // Assert
+                assertThat(ByteBuffer.wrap(bytes, 2, 8).getLong()).isEqualTo(BinaryEventSerializer.UNKNOWN_FINGERPRINT);
+                assertThat(decoded).isInstanceOf(SaleProjection.class);
+                assertThat(((SaleProjection) decoded).getTotalAmount()).isEqualByComparingTo("12.50");
+        }
+
+        @Test
+        @DisplayName("Should still read format 0x01 envelopes")
+        void shouldReadVersionOneEnvelopes() throws Exception {
+                // Arrange
+                EventSchema schema = registry.schemaFor(sale());
+                byte[] payload = BinaryEventSerializer.defaultSmileMapper().writeValueAsBytes(sale());
+                byte[] version = schema.version().getBytes(StandardCharsets.UTF_8);
+                byte[] bytes = ByteBuffer.allocate(11 + version.length + payload.length)
+                                .put(BinaryEventSerializer.MAGIC)
+                                .put(BinaryEventSerializer.FORMAT_V1)
+                                .putLong(schema.fingerprint())
+                                .put((byte) version.length)
+                                .put(version)
+                                .put(payload)
+                                .array();
+
+                // Act
+                Object decoded = deserializer.deserialize("sales", bytes);
+
+                // Assert
+                assertThat(decoded).isInstanceOf(SaleEvent.class);
+                assertThat(((SaleEvent) decoded).getTotalAmount()).isEqualByComparingTo("12.50");
+        }
+}
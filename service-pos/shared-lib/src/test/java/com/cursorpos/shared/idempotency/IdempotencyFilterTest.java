@@ -0,0 +1,294 @@
+package com.cursorpos.shared.idempotency;
+
+import com.cursorpos.shared.security.TenantContext;
+import com.cursorpos.shared.util.PathPrefixMatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for IdempotencyFilter.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@DisplayName("IdempotencyFilter Unit Tests")
+class IdempotencyFilterTest {
+
+        private static final String PATH = "/api/transactions";
+        private static final String BODY = "{\"total\":100}";
+
+        private InMemoryIdempotencyStore store;
+        private IdempotencyFilter filter;
+        private AtomicInteger executions;
+
+        @BeforeEach
+        void setUp() {
+                store = new InMemoryIdempotencyStore(100);
+                filter = new IdempotencyFilter(store, PathPrefixMatcher.compile(PATH + "$"),
+                                new ObjectMapper().findAndRegisterModules());
+                executions = new AtomicInteger();
+                TenantContext.setTenantId("tenant-001");
+        }
+
+        @AfterEach
+        void tearDown() {
+                TenantContext.clear();
+        }
+
+        private MockHttpServletRequest request(String key, String body) {
+                MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH);
+                request.setContentType("application/json");
+                request.setContent(body.getBytes(StandardCharsets.UTF_8));
+                if (key != null) {
+                        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+                }
+                return request;
+        }
+
+        private FilterChain createdChain() {
+                return (req, res) -> {
+                        executions.incrementAndGet();
+                        String body = StreamUtils.copyToString(req.getInputStream(), StandardCharsets.UTF_8);
+                        HttpServletResponse response = (HttpServletResponse) res;
+                        response.setStatus(201);
+                        response.setContentType("application/json");
+                        response.getWriter().write("{\"id\":" + executions.get() + ",\"echo\":" + body + "}");
+                };
+        }
+
+        @Test
+        @DisplayName("Should execute once and replay the stored response for the same key")
+        void shouldReplayCompletedRequest() throws Exception {
+                // Arrange
+                MockHttpServletResponse first = new MockHttpServletResponse();
+                MockHttpServletResponse second = new MockHttpServletResponse();
+
+                // Act
+                filter.doFilter(request("key-1", BODY), first, createdChain());
+                filter.doFilter(request("key-1", BODY), second, createdChain());
+
+                // Assert
+                assertThat(executions.get()).isEqualTo(1);
+                assertThat(first.getStatus()).isEqualTo(201);
+                assertThat(first.getContentAsString()).isEqualTo("{\"id\":1,\"echo\":" + BODY + "}");
+                assertThat(second.getStatus()).isEqualTo(201);
+                assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+                assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        }
+
+        @Test
+        @DisplayName("Should pass requests without the header straight through")
+        void shouldIgnoreRequestsWithoutKey() throws Exception {
+                // Act
+                filter.doFilter(request(null, BODY), new MockHttpServletResponse(), createdChain());
+                filter.doFilter(request(null, BODY), new MockHttpServletResponse(), createdChain());
+
+                // Assert
+                assertThat(executions.get()).isEqualTo(2);
+                assertThat(store.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should not apply to paths that are not configured")
+        void shouldIgnoreUnconfiguredPaths() throws Exception {
+                // Arrange
+                MockHttpServletRequest request = request("key-1", BODY);
+                request.setRequestURI("/api/transactions/123/cancel");
+
+                // Act
+                filter.doFilter(request, new MockHttpServletResponse(), createdChain());
+
+                // Assert
+                assertThat(executions.get()).isEqualTo(1);
+                assertThat(store.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should scope keys by tenant")
+        void shouldScopeKeysByTenant() throws Exception {
+                // Act
+                filter.doFilter(request("key-1", BODY), new MockHttpServletResponse(), createdChain());
+                TenantContext.setTenantId("tenant-002");
+                filter.doFilter(request("key-1", BODY), new MockHttpServletResponse(), createdChain());
+
+                // Assert
+                assertThat(executions.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should reject a reused key with a different body")
+        void shouldRejectKeyReuseWithDifferentBody() throws Exception {
+                // Arrange
+                MockHttpServletResponse second = new MockHttpServletResponse();
+                filter.doFilter(request("key-1", BODY), new MockHttpServletResponse(), createdChain());
+
+                // Act
+                filter.doFilter(request("key-1", "{\"total\":999}"), second, createdChain());
+
+                // Assert
+                assertThat(executions.get()).isEqualTo(1);
+                assertThat(second.getStatus()).isEqualTo(422);
+                assertThat(second.getContentAsString()).contains("IDEMPOTENCY_KEY_REUSED");
+        }
+
+        @Test
+        @DisplayName("Should return 409 while the original request is still in flight")
+        void shouldRejectConcurrentDuplicate() throws Exception {
+                // Arrange
+                MockHttpServletResponse duplicate = new MockHttpServletResponse();
+                FilterChain reentrant = (req, res) -> {
+                        executions.incrementAndGet();
+                        filter.doFilter(request("key-1", BODY), duplicate, createdChain());
+                        ((HttpServletResponse) res).setStatus(201);
+                };
+
+                // Act
+                filter.doFilter(request("key-1", BODY), new MockHttpServletResponse(), reentrant);
+
+                // Assert
+                assertThat(executions.get()).isEqualTo(1);
+                assertThat(duplicate.getStatus()).isEqualTo(409);
+                assertThat(duplicate.getContentAsString()).contains("IDEMPOTENCY_KEY_IN_PROGRESS");
+        }
+
+        @Test
+        @DisplayName("Should wait for the original request when a wait timeout is configured")
+        void shouldWaitForInFlightRequest() throws Exception {
+                // Arrange
+                filter.setWaitTimeout(Duration.ofSeconds(5));
+                String key = "tenant-001:key-1";
+                String fingerprint = IdempotencyFilter.fingerprint(request("key-1", BODY),
+                                BODY.getBytes(StandardCharsets.UTF_8));
+                store.begin(key, fingerprint, Duration.ofSeconds(30));
+                Thread completer = new Thread(() -> {
+                        try {
+                                Thread.sleep(100);
+                        } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                        }
+                        store.complete(key, IdempotencyRecord.completed(fingerprint, 201, "application/json",
+                                        "{\"id\":42}".getBytes(StandardCharsets.UTF_8)), Duration.ofHours(1));
+                });
+                MockHttpServletResponse response = new MockHttpServletResponse();
+
+                // Act
+                completer.start();
+                filter.doFilter(request("key-1", BODY), response, createdChain());
+                completer.join();
+
+                // Assert
+                assertThat(executions.get()).isZero();
+                assertThat(response.getStatus()).isEqualTo(201);
+                assertThat(response.getContentAsString()).isEqualTo("{\"id\":42}");
+        }
+
+        @Test
+        @DisplayName("Should release the key after a server error so the client can retry")
+        void shouldReleaseKeyOnServerError() throws Exception {
+                // Arrange
+                FilterChain failing = (req, res) -> {
+                        executions.incrementAndGet();
+                        ((HttpServletResponse) res).setStatus(503);
+                };
+
+                // Act
+                filter.doFilter(request("key-1", BODY), new MockHttpServletResponse(), failing);
+                MockHttpServletResponse retry = new MockHttpServletResponse();
+                filter.doFilter(request("key-1", BODY), retry, createdChain());
+
+                // Assert
+                assertThat(executions.get()).isEqualTo(2);
+                assertThat(retry.getStatus()).isEqualTo(201);
+        }
+
+        @Test
+        @DisplayName("Should release the key when the handler throws")
+        void shouldReleaseKeyOnException() {
+                // Arrange
+                FilterChain throwing = (req, res) -> {
+                        throw new IllegalStateException("boom");
+                };
+
+                // Act & Assert
+                assertThatThrownBy(() -> filter.doFilter(request("key-1", BODY), new MockHttpServletResponse(),
+                                throwing)).isInstanceOf(IllegalStateException.class);
+                assertThat(store.find("tenant-001:key-1")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should deliver the cached body to a read listener")
+        void shouldDeliverBodyToReadListener() throws Exception {
+                // Arrange
+                ByteArrayOutputStream received = new ByteArrayOutputStream();
+                AtomicBoolean allDataRead = new AtomicBoolean();
+                FilterChain asyncChain = (req, res) -> {
+                        ServletInputStream input = req.getInputStream();
+                        input.setReadListener(new ReadListener() {
+                                @Override
+                                public void onDataAvailable() throws IOException {
+                                        byte[] buffer = new byte[4];
+                                        while (input.isReady() && !input.isFinished()) {
+                                                int read = input.read(buffer);
+                                                if (read > 0) {
+                                                        received.write(buffer, 0, read);
+                                                }
+                                        }
+                                }
+
+                                @Override
+                                public void onAllDataRead() {
+                                        allDataRead.set(true);
+                                }
+
+                                @Override
+                                public void onError(Throwable t) {
+                                        throw new AssertionError(t);
+                                }
+                        });
+                        ((HttpServletResponse) res).setStatus(201);
+                };
+
+                // Act
+                filter.doFilter(request("key-1", BODY), new MockHttpServletResponse(), asyncChain);
+
+                // Assert
+                assertThat(received.toString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+                assertThat(allDataRead.get()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should reject keys longer than the maximum length")
+        void shouldRejectOversizedKey() throws Exception {
+                // Arrange
+                MockHttpServletResponse response = new MockHttpServletResponse();
+
+                // Act
+                filter.doFilter(request("k".repeat(IdempotencyFilter.MAX_KEY_LENGTH + 1), BODY), response,
+                                createdChain());
+
+                // Assert
+                assertThat(executions.get()).isZero();
+                assertThat(response.getStatus()).isEqualTo(400);
+        }
+}
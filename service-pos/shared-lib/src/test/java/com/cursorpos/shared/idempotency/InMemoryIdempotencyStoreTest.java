@@ -0,0 +1,102 @@
+package com.cursorpos.shared.idempotency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for InMemoryIdempotencyStore.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@DisplayName("InMemoryIdempotencyStore Unit Tests")
+class InMemoryIdempotencyStoreTest {
+
+        private final AtomicLong millis = new AtomicLong(1_000_000L);
+
+        private final Clock clock = new Clock() {
+                @Override
+                public ZoneOffset getZone() {
+                        return ZoneOffset.UTC;
+                }
+
+                @Override
+                public Clock withZone(java.time.ZoneId zone) {
+                        return this;
+                }
+
+                @Override
+                public Instant instant() {
+                        return Instant.ofEpochMilli(millis.get());
+                }
+        };
+
+        @Test
+        @DisplayName("Should claim a key only once")
+        void shouldClaimOnce() {
+                // Arrange
+                InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(10, clock);
+
+                // Act & Assert
+                assertThat(store.begin("k", "fp", Duration.ofSeconds(30))).isEmpty();
+                assertThat(store.begin("k", "fp", Duration.ofSeconds(30)))
+                                .hasValueSatisfying(r -> assertThat(r.isCompleted()).isFalse());
+        }
+
+        @Test
+        @DisplayName("Should allow reclaiming a key after its lock expires")
+        void shouldReclaimExpiredLock() {
+                // Arrange
+                InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(10, clock);
+                store.begin("k", "fp", Duration.ofSeconds(30));
+
+                // Act
+                millis.addAndGet(30_000);
+
+                // Assert
+                assertThat(store.begin("k", "fp", Duration.ofSeconds(30))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should keep completed records until the TTL elapses")
+        void shouldExpireCompletedRecords() {
+                // Arrange
+                InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(10, clock);
+                store.begin("k", "fp", Duration.ofSeconds(30));
+                store.complete("k", IdempotencyRecord.completed("fp", 201, null, new byte[] { 1 }),
+                                Duration.ofMinutes(1));
+
+                // Act & Assert
+                assertThat(store.find("k")).hasValueSatisfying(r -> assertThat(r.status()).isEqualTo(201));
+                millis.addAndGet(60_000);
+                assertThat(store.find("k")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should purge expired entries when full and stop tracking when still full")
+        void shouldBoundEntries() {
+                // Arrange
+                InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(2, clock);
+                store.begin("a", "fp", Duration.ofSeconds(1));
+                store.begin("b", "fp", Duration.ofSeconds(60));
+
+                // Act
+                millis.addAndGet(1_000);
+                boolean claimedC = store.begin("c", "fp", Duration.ofSeconds(60)).isEmpty();
+
+                // Assert
+                assertThat(claimedC).isTrue();
+                assertThat(store.size()).isEqualTo(2);
+                assertThat(store.begin("d", "fp", Duration.ofSeconds(60))).isEmpty();
+                assertThat(store.find("d")).isEmpty();
+        }
+}
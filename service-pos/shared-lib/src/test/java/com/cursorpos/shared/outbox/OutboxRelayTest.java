@@ -0,0 +1,198 @@
+package com.cursorpos.shared.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for OutboxRelay.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay Unit Tests")
+class OutboxRelayTest {
+
+        @Mock
+        private OutboxRepository outboxRepository;
+
+        private InMemoryOutboxSink sink;
+        private OutboxRelay relay;
+
+        @BeforeEach
+        void setUp() {
+                sink = new InMemoryOutboxSink();
+                relay = new OutboxRelay(outboxRepository, sink, TransactionOperations.withoutTransaction());
+                relay.setMaxAttempts(3);
+        }
+
+        private static OutboxMessage message(long id, String key) {
+                return new OutboxMessage(id, "tenant-001", "Transaction", key, "transaction.created",
+                                "event-" + id, "TransactionCreated", "{}", 0, Instant.now());
+        }
+
+        @Test
+        @DisplayName("Should publish each key's events in order and delete the published events")
+        void shouldPublishAndDelete() {
+                // Arrange
+                List<OutboxMessage> batch = List.of(message(1, "A"), message(2, "B"), message(3, "A"));
+                when(outboxRepository.tryLockRelay()).thenReturn(true);
+                when(outboxRepository.claimPending(anyInt(), any(Duration.class))).thenReturn(batch);
+
+                // Act
+                int relayed = relay.drain();
+
+                // Assert
+                assertThat(relayed).isEqualTo(3);
+                // Keys are published concurrently, so only the order within a key is fixed
+                assertThat(sink.getMessages()).extracting(OutboxMessage::id).containsExactlyInAnyOrder(1L, 2L, 3L);
+                assertThat(sink.getMessages()).filteredOn(message -> message.aggregateKey().equals("A"))
+                                .extracting(OutboxMessage::id).containsExactly(1L, 3L);
+                verify(outboxRepository).deleteAll(argThat(
+                                ids -> ids.size() == 3 && ids.containsAll(List.of(1L, 2L, 3L))));
+                verify(outboxRepository, never()).markFailed(anyLong(), anyString(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should stop a key's chain at the first failure and keep later events pending")
+        void shouldPreserveOrderPerKeyOnFailure() {
+                // Arrange
+                List<OutboxMessage> sent = new ArrayList<>();
+                OutboxSink failingForA = message -> {
+                        if (message.id() == 1) {
+                                return CompletableFuture.failedFuture(new IllegalStateException("broker down"));
+                        }
+                        sent.add(message);
+                        return CompletableFuture.completedFuture(null);
+                };
+                relay = new OutboxRelay(outboxRepository, failingForA, TransactionOperations.withoutTransaction());
+                relay.setMaxAttempts(3);
+                when(outboxRepository.tryLockRelay()).thenReturn(true);
+                when(outboxRepository.claimPending(anyInt(), any(Duration.class)))
+                                .thenReturn(List.of(message(1, "A"), message(2, "B"), message(3, "A")));
+
+                // Act
+                relay.drain();
+
+                // Assert - event 3 (key A) is not sent after event 1 failed
+                assertThat(sent).extracting(OutboxMessage::id).containsExactly(2L);
+                verify(outboxRepository).deleteAll(List.of(2L));
+                verify(outboxRepository).markFailed(eq(1L), eq("broker down"), eq(3));
+                verify(outboxRepository, never()).markFailed(eq(3L), anyString(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should treat a sink that throws like a failed send")
+        void shouldHandleThrowingSink() {
+                // Arrange
+                relay = new OutboxRelay(outboxRepository, message -> {
+                        throw new IllegalStateException("serializer failed");
+                }, TransactionOperations.withoutTransaction());
+                relay.setMaxAttempts(3);
+                when(outboxRepository.tryLockRelay()).thenReturn(true);
+                when(outboxRepository.claimPending(anyInt(), any(Duration.class))).thenReturn(List.of(message(1, "A")));
+
+                // Act
+                relay.drain();
+
+                // Assert
+                verify(outboxRepository).markFailed(1L, "serializer failed", 3);
+                verify(outboxRepository, never()).deleteAll(anyList());
+        }
+
+        @Test
+        @DisplayName("Should publish outside the claim and completion transactions")
+        void shouldSendOutsideTransaction() {
+                // Arrange
+                AtomicBoolean inTransaction = new AtomicBoolean();
+                TransactionOperations tracking = new TransactionOperations() {
+                        @Override
+                        public <T> T execute(TransactionCallback<T> action) {
+                                inTransaction.set(true);
+                                try {
+                                        return action.doInTransaction(null);
+                                } finally {
+                                        inTransaction.set(false);
+                                }
+                        }
+                };
+                List<Boolean> sentInTransaction = new ArrayList<>();
+                relay = new OutboxRelay(outboxRepository, message -> {
+                        sentInTransaction.add(inTransaction.get());
+                        return CompletableFuture.completedFuture(null);
+                }, tracking);
+                when(outboxRepository.tryLockRelay()).thenReturn(true);
+                when(outboxRepository.claimPending(anyInt(), any(Duration.class)))
+                                .thenReturn(List.of(message(1, "A"), message(2, "B")));
+
+                // Act
+                relay.drain();
+
+                // Assert
+                assertThat(sentInTransaction).containsExactly(false, false);
+                verify(outboxRepository).deleteAll(argThat(ids -> ids.size() == 2));
+        }
+
+        @Test
+        @DisplayName("Should release events still in flight when the send times out")
+        void shouldReleaseUnacknowledgedOnTimeout() {
+                // Arrange
+                relay = new OutboxRelay(outboxRepository, message -> message.id() == 1
+                                ? new CompletableFuture<>()
+                                : CompletableFuture.completedFuture(null),
+                                TransactionOperations.withoutTransaction());
+                relay.setSendTimeout(Duration.ofMillis(50));
+                when(outboxRepository.tryLockRelay()).thenReturn(true);
+                when(outboxRepository.claimPending(anyInt(), any(Duration.class)))
+                                .thenReturn(List.of(message(1, "A"), message(2, "B"), message(3, "A")));
+
+                // Act
+                relay.drain();
+
+                // Assert
+                verify(outboxRepository).deleteAll(List.of(2L));
+                verify(outboxRepository).release(List.of(1L, 3L));
+                verify(outboxRepository, never()).markFailed(anyLong(), anyString(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should skip the run when another instance holds the relay lock")
+        void shouldSkipWhenLocked() {
+                // Arrange
+                when(outboxRepository.tryLockRelay()).thenReturn(false);
+
+                // Act
+                int relayed = relay.drain();
+
+                // Assert
+                assertThat(relayed).isZero();
+                verify(outboxRepository, never()).claimPending(anyInt(), any(Duration.class));
+                assertThat(sink.getMessages()).isEmpty();
+        }
+}
@@ -0,0 +1,93 @@
+package com.cursorpos.shared.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ServiceTokenAuthenticationFilter.
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@DisplayName("ServiceTokenAuthenticationFilter Unit Tests")
+class ServiceTokenAuthenticationFilterTest {
+
+        private static final String TOKEN = "service-secret";
+
+        private static MockHttpServletRequest request(String uri, String token) {
+                MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+                request.setContextPath("/api/v1");
+                if (token != null) {
+                        request.addHeader(ServiceTokenAuthenticationFilter.SERVICE_TOKEN_HEADER, token);
+                }
+                return request;
+        }
+
+        @Test
+        @DisplayName("Should authenticate internal requests carrying the service token")
+        void shouldAuthenticateWithToken() throws Exception {
+                ServiceTokenAuthenticationFilter filter = new ServiceTokenAuthenticationFilter(TOKEN);
+                AtomicReference<Authentication> seen = new AtomicReference<>();
+                FilterChain chain = (req, res) -> seen.set(SecurityContextHolder.getContext().getAuthentication());
+                MockHttpServletResponse response = new MockHttpServletResponse();
+
+                filter.doFilter(request("/api/v1/internal/tenant-descriptors/t-1", TOKEN), response, chain);
+
+                assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+                assertThat(seen.get().getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                                .containsExactly("ROLE_" + ServiceTokenAuthenticationFilter.SERVICE_ROLE);
+                assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should reject internal requests with a missing or wrong token")
+        void shouldRejectWithoutToken() throws Exception {
+                ServiceTokenAuthenticationFilter filter = new ServiceTokenAuthenticationFilter(TOKEN);
+                FilterChain chain = (req, res) -> {
+                        throw new AssertionError("chain must not run");
+                };
+
+                for (String token : new String[] { null, "wrong" }) {
+                        MockHttpServletResponse response = new MockHttpServletResponse();
+                        filter.doFilter(request("/api/v1/internal/rate-limit-profiles", token), response, chain);
+                        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+                }
+        }
+
+        @Test
+        @DisplayName("Should reject every internal request when no token is configured")
+        void shouldRejectWhenNotConfigured() throws Exception {
+                ServiceTokenAuthenticationFilter filter = new ServiceTokenAuthenticationFilter("");
+                MockHttpServletResponse response = new MockHttpServletResponse();
+
+                filter.doFilter(request("/api/v1/internal/rate-limit-profiles", ""), response, (req, res) -> {
+                });
+
+                assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+        }
+
+        @Test
+        @DisplayName("Should leave other paths to the JWT filter")
+        void shouldIgnoreOtherPaths() throws Exception {
+                ServiceTokenAuthenticationFilter filter = new ServiceTokenAuthenticationFilter(TOKEN);
+                AtomicReference<Boolean> ran = new AtomicReference<>(false);
+                MockHttpServletResponse response = new MockHttpServletResponse();
+
+                filter.doFilter(request("/api/v1/tenants", null), response, (req, res) -> ran.set(true));
+
+                assertThat(ran.get()).isTrue();
+                assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        }
+}
@@ -0,0 +1,87 @@
+package com.cursorpos.shared.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for PathPrefixMatcher.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-13
+ */
+@DisplayName("PathPrefixMatcher Unit Tests")
+class PathPrefixMatcherTest {
+
+        private final PathPrefixMatcher matcher = PathPrefixMatcher.compile(
+                        "/api/v1/auth/", "/actuator/", "/swagger-ui", "/favicon.ico$");
+
+        @Test
+        @DisplayName("Should match paths starting with a prefix pattern")
+        void shouldMatchPrefix() {
+                assertThat(matcher.matches("/api/v1/auth/login")).isTrue();
+                assertThat(matcher.matches("/api/v1/auth/")).isTrue();
+                assertThat(matcher.matches("/actuator/health")).isTrue();
+                assertThat(matcher.matches("/swagger-ui/index.html")).isTrue();
+                assertThat(matcher.matches("/swagger-ui")).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should not match paths that only share part of a prefix")
+        void shouldNotMatchPartialPrefix() {
+                assertThat(matcher.matches("/api/v1/auth")).isFalse();
+                assertThat(matcher.matches("/api/v1/products")).isFalse();
+                assertThat(matcher.matches("/actuator")).isFalse();
+                assertThat(matcher.matches("")).isFalse();
+                assertThat(matcher.matches(null)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should require exact match for patterns ending with $")
+        void shouldMatchExactPattern() {
+                assertThat(matcher.matches("/favicon.ico")).isTrue();
+                assertThat(matcher.matches("/favicon.ico/x")).isFalse();
+                assertThat(matcher.matches("/favicon.ic")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should behave like startsWith for every pattern in a large table")
+        void shouldAgreeWithStartsWith() {
+                List<String> patterns = Arrays.asList(new String[200]);
+                for (int i = 0; i < patterns.size(); i++) {
+                        patterns.set(i, "/api/v1/route" + i + "/");
+                }
+                PathPrefixMatcher large = PathPrefixMatcher.compile(patterns);
+
+                for (int i = 0; i < 250; i++) {
+                        String path = "/api/v1/route" + i + "/items";
+                        boolean expected = patterns.stream().anyMatch(path::startsWith);
+                        assertThat(large.matches(path)).isEqualTo(expected);
+                }
+        }
+
+        @Test
+        @DisplayName("Should ignore blank patterns and match nothing when empty")
+        void shouldIgnoreBlankPatterns() {
+                PathPrefixMatcher empty = PathPrefixMatcher.compile(List.of("", "  "));
+
+                assertThat(empty.getPatterns()).isEmpty();
+                assertThat(empty.matches("/api/v1/auth/login")).isFalse();
+                assertThat(PathPrefixMatcher.compile(List.of()).matches("/")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should let a shorter prefix win over longer patterns")
+        void shouldLetShorterPrefixWin() {
+                PathPrefixMatcher nested = PathPrefixMatcher.compile("/api/v1/auth/login$", "/api/");
+
+                assertThat(nested.matches("/api/v1/auth/login")).isTrue();
+                assertThat(nested.matches("/api/anything")).isTrue();
+                assertThat(nested.getPatterns()).containsExactly("/api/v1/auth/login$", "/api/");
+        }
+}
@@ -0,0 +1,130 @@
+package com.cursorpos.transaction.receipt;
+
+import com.cursorpos.transaction.entity.Payment;
+import com.cursorpos.transaction.entity.Transaction;
+import com.cursorpos.transaction.entity.TransactionItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ReceiptLayout} with the {@code String.format}-based
+ * renderer previously used by {@code ReceiptService}.
+ * 
+ * <p>
+ * Run with the {@code gc} profiler (configured in {@code build.gradle}) and
+ * read {@code gc.alloc.rate.norm} for bytes allocated per receipt. Basket
+ * sizes cover a quick sale (3 items), a typical basket (15) and a large
+ * grocery run (60).
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReceiptRenderingBenchmark {
+
+    private static final String RECEIPT_BORDER = "========================================%n";
+
+    @Param({ "3", "15", "60" })
+    private int items;
+
+    private Transaction transaction;
+    private ReceiptLayout layout;
+
+    @Setup
+    public void setUp() {
+        transaction = Transaction.builder()
+                .transactionNumber("TRX-20251120-120000-4F2A9C1B")
+                .transactionDate(LocalDateTime.of(2025, 11, 20, 12, 0, 5))
+                .cashierName("John Doe")
+                .subtotal(BigDecimal.ZERO)
+                .taxAmount(BigDecimal.ZERO)
+                .discountAmount(BigDecimal.ZERO)
+                .build();
+        BigDecimal subtotal = BigDecimal.ZERO;
+        for (int i = 0; i < items; i++) {
+            BigDecimal price = new BigDecimal("12.5000").add(BigDecimal.valueOf(i));
+            BigDecimal total = price.multiply(BigDecimal.valueOf(i % 3 + 1L));
+            transaction.addItem(TransactionItem.builder()
+                    .productName("Product number " + i)
+                    .quantity(i % 3 + 1)
+                    .unitPrice(price)
+                    .totalAmount(total)
+                    .build());
+            subtotal = subtotal.add(total);
+        }
+        BigDecimal tax = subtotal.multiply(new BigDecimal("0.1000"));
+        BigDecimal total = subtotal.add(tax);
+        BigDecimal paid = total.add(new BigDecimal("5.0000"));
+        transaction.setSubtotal(subtotal);
+        transaction.setTaxAmount(tax);
+        transaction.setTotalAmount(total);
+        transaction.setPaidAmount(paid);
+        transaction.setChangeAmount(paid.subtract(total));
+        transaction.addPayment(Payment.builder()
+                .paymentMethod(Payment.PaymentMethod.CASH)
+                .amount(paid)
+                .build());
+
+        layout = ReceiptLayout.DEFAULT;
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        return legacyContent(transaction);
+    }
+
+    @Benchmark
+    public String precompiledLayout() {
+        return layout.render(transaction);
+    }
+
+    /**
+     * Verbatim copy of the former {@code ReceiptService.generateReceiptContent}.
+     */
+    private static String legacyContent(Transaction transaction) {
+        StringBuilder content = new StringBuilder();
+        content.append(String.format(RECEIPT_BORDER));
+        content.append(String.format("           SALES RECEIPT%n"));
+        content.append(String.format(RECEIPT_BORDER));
+        content.append(String.format("Transaction: %s%n", transaction.getTransactionNumber()));
+        content.append(String.format("Date: %s%n",
+                transaction.getTransactionDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
+        content.append(String.format("Cashier: %s%n", transaction.getCashierName()));
+        content.append(String.format(RECEIPT_BORDER + "%n"));
+
+        content.append(String.format("ITEMS:%n"));
+        transaction.getItems().forEach(item -> {
+            content.append(String.format("%-20s x%d%n", item.getProductName(), item.getQuantity()));
+            content.append(String.format("  @ %s = %s%n",
+                    item.getUnitPrice(), item.getTotalAmount()));
+        });
+
+        content.append(String.format("%n" + RECEIPT_BORDER));
+        content.append(String.format("Subtotal:     %s%n", transaction.getSubtotal()));
+        content.append(String.format("Tax:          %s%n", transaction.getTaxAmount()));
+        content.append(String.format("Discount:     %s%n", transaction.getDiscountAmount()));
+        content.append(String.format("TOTAL:        %s%n", transaction.getTotalAmount()));
+        content.append(String.format("Paid:         %s%n", transaction.getPaidAmount()));
+        content.append(String.format("Change:       %s%n", transaction.getChangeAmount()));
+        content.append(String.format(RECEIPT_BORDER));
+        content.append(String.format("%n    Thank you for your purchase!%n"));
+        content.append(String.format(RECEIPT_BORDER));
+
+        return content.toString();
+    }
+}
@@ -0,0 +1,31 @@
+package com.cursorpos.transaction.config;
+
+import com.cursorpos.shared.event.serde.EventSchemaRegistrar;
+import com.cursorpos.transaction.event.TransactionCancelledEvent;
+import com.cursorpos.transaction.event.TransactionCreatedEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Event schema configuration.
+ * 
+ * <p>
+ * Registers the events this service publishes, so the outbox relay stamps
+ * their schema fingerprint from the first record after a restart.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Configuration
+public class EventSchemaConfig {
+
+    @Bean
+    public EventSchemaRegistrar transactionEventSchemas() {
+        return registry -> {
+            registry.register(TransactionCreatedEvent.class, TransactionCreatedEvent.EVENT_TYPE);
+            registry.register(TransactionCancelledEvent.class, TransactionCancelledEvent.EVENT_TYPE);
+        };
+    }
+}
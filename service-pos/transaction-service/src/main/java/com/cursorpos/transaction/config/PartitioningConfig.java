@@ -0,0 +1,44 @@
+package com.cursorpos.transaction.config;
+
+import com.cursorpos.transaction.repository.TransactionPartitionRepository;
+import com.cursorpos.transaction.service.TransactionPartitionJob;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * Partition maintenance configuration.
+ * 
+ * <p>
+ * When {@code transactions.partitioning.enabled=true} a background
+ * {@link TransactionPartitionJob} creates future monthly partitions of the
+ * transaction tables and archives partitions past the retention period.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Configuration
+public class PartitioningConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "transactions.partitioning.enabled", havingValue = "true")
+    public TransactionPartitionJob transactionPartitionJob(
+            TransactionPartitionRepository transactionPartitionRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${transactions.partitioning.interval:6h}") Duration interval,
+            @Value("${transactions.partitioning.months-ahead:3}") int monthsAhead,
+            @Value("${transactions.partitioning.retention-months:24}") int retentionMonths) {
+        TransactionPartitionJob job = new TransactionPartitionJob(transactionPartitionRepository,
+                new TransactionTemplate(transactionManager), interval);
+        job.setMonthsAhead(monthsAhead);
+        job.setRetentionMonths(retentionMonths);
+        return job;
+    }
+}
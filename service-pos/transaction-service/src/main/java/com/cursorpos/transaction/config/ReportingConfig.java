@@ -0,0 +1,34 @@
+package com.cursorpos.transaction.config;
+
+import com.cursorpos.transaction.service.DailySalesSummaryJob;
+import com.cursorpos.transaction.service.DailySalesSummaryService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Reporting configuration.
+ * 
+ * <p>
+ * When {@code reports.daily-summary.enabled=true} a background
+ * {@link DailySalesSummaryJob} keeps the daily sales summary up to date.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Configuration
+public class ReportingConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "reports.daily-summary.enabled", havingValue = "true")
+    public DailySalesSummaryJob dailySalesSummaryJob(
+            DailySalesSummaryService dailySalesSummaryService,
+            @Value("${reports.daily-summary.interval:1m}") Duration interval) {
+        return new DailySalesSummaryJob(dailySalesSummaryService, interval);
+    }
+}
@@ -2,7 +2,10 @@ package com.cursorpos.transaction.controller;
 
 import com.cursorpos.shared.dto.ApiResponse;
 import com.cursorpos.transaction.dto.ReceiptResponse;
+import com.cursorpos.transaction.dto.ReceiptTemplateRequest;
+import com.cursorpos.transaction.dto.ReceiptTemplateResponse;
 import com.cursorpos.transaction.service.ReceiptService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
@@ -43,4 +46,15 @@ public class ReceiptController {
     public ApiResponse<ReceiptResponse> printReceipt(@PathVariable UUID id) {
         return ApiResponse.success(receiptService.printReceipt(id), "Receipt printed successfully");
     }
+
+    @GetMapping("/template")
+    public ApiResponse<ReceiptTemplateResponse> getReceiptTemplate() {
+        return ApiResponse.success(receiptService.getReceiptTemplate());
+    }
+
+    @PutMapping("/template")
+    public ApiResponse<ReceiptTemplateResponse> updateReceiptTemplate(
+            @Valid @RequestBody ReceiptTemplateRequest request) {
+        return ApiResponse.success(receiptService.updateReceiptTemplate(request), "Receipt template updated");
+    }
 }
@@ -0,0 +1,52 @@
+package com.cursorpos.transaction.controller;
+
+import com.cursorpos.shared.dto.ApiResponse;
+import com.cursorpos.transaction.dto.DailySalesReportResponse;
+import com.cursorpos.transaction.dto.ProductSalesResponse;
+import com.cursorpos.transaction.service.DailySalesSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST controller for sales reports backed by the daily sales summary.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final DailySalesSummaryService dailySalesSummaryService;
+
+    @GetMapping("/daily-sales")
+    public ApiResponse<DailySalesReportResponse> getDailySales(
+            @RequestParam(required = false) UUID branchId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ApiResponse.success(dailySalesSummaryService.getDailySales(branchId, from, to));
+    }
+
+    @GetMapping("/product-sales")
+    public ApiResponse<List<ProductSalesResponse>> getProductSales(
+            @RequestParam(required = false) UUID branchId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ApiResponse.success(dailySalesSummaryService.getProductSales(branchId, from, to, limit));
+    }
+
+    @PostMapping("/daily-sales/backfill")
+    public ApiResponse<Integer> backfillDailySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ApiResponse.success(dailySalesSummaryService.backfill(from, to), "Daily sales summary rebuilt");
+    }
+}
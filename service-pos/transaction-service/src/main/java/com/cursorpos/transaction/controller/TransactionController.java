@@ -2,13 +2,17 @@ package com.cursorpos.transaction.controller;
 
 import com.cursorpos.shared.dto.ApiResponse;
 import com.cursorpos.shared.dto.PagedResponse;
+import com.cursorpos.transaction.dto.SalesSummaryResponse;
 import com.cursorpos.transaction.dto.TransactionRequest;
 import com.cursorpos.transaction.dto.TransactionResponse;
 import com.cursorpos.transaction.entity.Transaction;
+import com.cursorpos.transaction.service.SalesRollupService;
 import com.cursorpos.transaction.service.TransactionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
@@ -29,7 +33,14 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class TransactionController {
 
+    /**
+     * Default sort of paged listings: newest first, which lets each monthly
+     * partition be read in index order instead of sorted in full.
+     */
+    private static final String TRANSACTION_DATE = "transactionDate";
+
     private final TransactionService transactionService;
+    private final SalesRollupService salesRollupService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -37,6 +48,14 @@ public class TransactionController {
         return ApiResponse.success(transactionService.createTransaction(request), "Transaction created successfully");
     }
 
+    @GetMapping("/summary")
+    public ApiResponse<SalesSummaryResponse> getSummary(
+            @RequestParam(required = false) UUID branchId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ApiResponse.success(salesRollupService.getSummary(branchId, from, to));
+    }
+
     @GetMapping("/{id}")
     public ApiResponse<TransactionResponse> getTransactionById(@PathVariable UUID id) {
         return ApiResponse.success(transactionService.getTransactionById(id));
@@ -48,28 +67,29 @@ public class TransactionController {
     }
 
     @GetMapping
-    public PagedResponse<TransactionResponse> getAllTransactions(Pageable pageable) {
+    public PagedResponse<TransactionResponse> getAllTransactions(
+            @PageableDefault(sort = TRANSACTION_DATE, direction = Sort.Direction.DESC) Pageable pageable) {
         return transactionService.getAllTransactions(pageable);
     }
 
     @GetMapping("/branch/{branchId}")
     public PagedResponse<TransactionResponse> getTransactionsByBranch(
             @PathVariable UUID branchId,
-            Pageable pageable) {
+            @PageableDefault(sort = TRANSACTION_DATE, direction = Sort.Direction.DESC) Pageable pageable) {
         return transactionService.getTransactionsByBranch(branchId, pageable);
     }
 
     @GetMapping("/customer/{customerId}")
     public PagedResponse<TransactionResponse> getTransactionsByCustomer(
             @PathVariable UUID customerId,
-            Pageable pageable) {
+            @PageableDefault(sort = TRANSACTION_DATE, direction = Sort.Direction.DESC) Pageable pageable) {
         return transactionService.getTransactionsByCustomer(customerId, pageable);
     }
 
     @GetMapping("/status/{status}")
     public PagedResponse<TransactionResponse> getTransactionsByStatus(
             @PathVariable Transaction.TransactionStatus status,
-            Pageable pageable) {
+            @PageableDefault(sort = TRANSACTION_DATE, direction = Sort.Direction.DESC) Pageable pageable) {
         return transactionService.getTransactionsByStatus(status, pageable);
     }
 
@@ -0,0 +1,52 @@
+package com.cursorpos.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for the daily sales report.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailySalesReportResponse {
+
+    private UUID branchId;
+    private LocalDate from;
+    private LocalDate to;
+    private long quantity;
+    private BigDecimal grossAmount;
+    private BigDecimal discountAmount;
+    private BigDecimal taxAmount;
+    private BigDecimal revenue;
+    private List<Day> days;
+
+    /**
+     * Totals for one day.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Day {
+
+        private LocalDate date;
+        private long quantity;
+        private BigDecimal grossAmount;
+        private BigDecimal discountAmount;
+        private BigDecimal taxAmount;
+        private BigDecimal revenue;
+    }
+}
@@ -0,0 +1,32 @@
+package com.cursorpos.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Response DTO for per-product sales over a date range.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductSalesResponse {
+
+    private UUID productId;
+    private String productCode;
+    private String productName;
+    private long quantity;
+    private BigDecimal grossAmount;
+    private BigDecimal discountAmount;
+    private BigDecimal taxAmount;
+    private BigDecimal revenue;
+}
@@ -0,0 +1,34 @@
+package com.cursorpos.transaction.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for a tenant's receipt templates. Omitted sections use the
+ * default layout.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReceiptTemplateRequest {
+
+    @Size(max = 4000, message = "Header template must not exceed 4000 characters")
+    private String header;
+
+    @Size(max = 1000, message = "Item template must not exceed 1000 characters")
+    private String item;
+
+    @Size(max = 1000, message = "Payment template must not exceed 1000 characters")
+    private String payment;
+
+    @Size(max = 4000, message = "Footer template must not exceed 4000 characters")
+    private String footer;
+}
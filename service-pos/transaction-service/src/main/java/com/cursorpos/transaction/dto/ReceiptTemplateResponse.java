@@ -0,0 +1,25 @@
+package com.cursorpos.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for the receipt templates in effect for a tenant.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReceiptTemplateResponse {
+
+    private String header;
+    private String item;
+    private String payment;
+    private String footer;
+}
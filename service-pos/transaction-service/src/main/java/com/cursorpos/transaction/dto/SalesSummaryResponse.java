@@ -0,0 +1,69 @@
+package com.cursorpos.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for the sales dashboard summary.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesSummaryResponse {
+
+    private UUID branchId;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private int transactionCount;
+    private int returnCount;
+    private BigDecimal subtotal;
+    private BigDecimal taxAmount;
+    private BigDecimal discountAmount;
+    private BigDecimal totalAmount;
+    private List<PaymentMethodTotal> paymentMethods;
+    private List<HourlyBucket> hourly;
+
+    /**
+     * Collected amount for one payment method.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class PaymentMethodTotal {
+
+        private String paymentMethod;
+        private int count;
+        private BigDecimal amount;
+    }
+
+    /**
+     * Totals for one hour.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class HourlyBucket {
+
+        private LocalDateTime hour;
+        private int transactionCount;
+        private int returnCount;
+        private BigDecimal subtotal;
+        private BigDecimal taxAmount;
+        private BigDecimal discountAmount;
+        private BigDecimal totalAmount;
+    }
+}
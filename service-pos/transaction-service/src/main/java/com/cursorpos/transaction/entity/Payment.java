@@ -3,6 +3,7 @@ package com.cursorpos.transaction.entity;
 import com.cursorpos.shared.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.PartitionKey;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -35,6 +36,14 @@ public class Payment extends BaseEntity {
     @JoinColumn(name = "transaction_id", nullable = false)
     private Transaction transaction;
 
+    /**
+     * Copy of the parent's transaction date; the partition key shared with
+     * {@code transactions}.
+     */
+    @PartitionKey
+    @Column(name = "transaction_date", nullable = false)
+    private LocalDateTime transactionDate;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "payment_method", nullable = false, length = 20)
     private PaymentMethod paymentMethod;
@@ -10,6 +10,12 @@ import java.util.UUID;
 /**
  * Receipt entity representing a printed/generated receipt.
  * 
+ * <p>
+ * Only the receipt's metadata is stored; its text is rendered from the
+ * referenced transaction, with the template version it was issued with, when
+ * the receipt is read or printed.
+ * </p>
+ * 
  * @author rjnat
  * @version 1.0.0
  * @since 2025-11-14
@@ -42,13 +48,18 @@ public class Receipt extends BaseEntity {
     @Column(name = "receipt_type", length = 20)
     private String receiptType;
 
-    @Column(columnDefinition = "TEXT")
-    private String content;
-
     @Column(name = "print_count")
     @Builder.Default
     private Integer printCount = 0;
 
     @Column(name = "last_printed_at")
     private LocalDateTime lastPrintedAt;
+
+    /**
+     * Receipt template version the receipt is rendered with; 0 is the
+     * built-in default layout.
+     */
+    @Column(name = "layout_version", nullable = false)
+    @Builder.Default
+    private Integer layoutVersion = 0;
 }
@@ -4,6 +4,7 @@ import com.cursorpos.shared.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.PartitionKey;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -24,7 +25,8 @@ import java.util.UUID;
         @Index(name = "idx_transaction_branch", columnList = "tenant_id,branch_id"),
         @Index(name = "idx_transaction_customer", columnList = "tenant_id,customer_id"),
         @Index(name = "idx_transaction_date", columnList = "tenant_id,transaction_date"),
-        @Index(name = "idx_transaction_status", columnList = "tenant_id,status")
+        @Index(name = "idx_transaction_status", columnList = "tenant_id,status"),
+        @Index(name = "idx_transaction_number", columnList = "tenant_id,transaction_number")
 })
 @Data
 @NoArgsConstructor
@@ -37,7 +39,7 @@ public class Transaction extends BaseEntity {
     @Column(name = "tenant_id", nullable = false, length = 100)
     private String tenantId;
 
-    @Column(name = "transaction_number", nullable = false, unique = true, length = 50)
+    @Column(name = "transaction_number", nullable = false, length = 50)
     private String transactionNumber;
 
     @Column(name = "branch_id", nullable = false)
@@ -46,6 +48,11 @@ public class Transaction extends BaseEntity {
     @Column(name = "customer_id")
     private UUID customerId;
 
+    /**
+     * Partition key; updates and deletes are qualified by it so they touch
+     * one monthly partition.
+     */
+    @PartitionKey
     @Column(name = "transaction_date", nullable = false)
     private LocalDateTime transactionDate;
 
@@ -108,23 +115,25 @@ public class Transaction extends BaseEntity {
     @PrePersist
     @PreUpdate
     protected void propagateTenantId() {
-        if (this.tenantId != null) {
-            for (TransactionItem item : items) {
-                if (item.getTenantId() == null) {
-                    item.setTenantId(this.tenantId);
-                }
+        for (TransactionItem item : items) {
+            if (this.tenantId != null && item.getTenantId() == null) {
+                item.setTenantId(this.tenantId);
             }
-            for (Payment payment : payments) {
-                if (payment.getTenantId() == null) {
-                    payment.setTenantId(this.tenantId);
-                }
+            // Children share the transaction's monthly partition
+            item.setTransactionDate(this.transactionDate);
+        }
+        for (Payment payment : payments) {
+            if (this.tenantId != null && payment.getTenantId() == null) {
+                payment.setTenantId(this.tenantId);
             }
+            payment.setTransactionDate(this.transactionDate);
         }
     }
 
     public void addItem(TransactionItem item) {
         items.add(item);
         item.setTransaction(this);
+        item.setTransactionDate(transactionDate);
     }
 
     public void removeItem(TransactionItem item) {
@@ -135,6 +144,7 @@ public class Transaction extends BaseEntity {
     public void addPayment(Payment payment) {
         payments.add(payment);
         payment.setTransaction(this);
+        payment.setTransactionDate(transactionDate);
     }
 
     public void removePayment(Payment payment) {
@@ -3,8 +3,10 @@ package com.cursorpos.transaction.entity;
 import com.cursorpos.shared.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.PartitionKey;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -34,6 +36,14 @@ public class TransactionItem extends BaseEntity {
     @JoinColumn(name = "transaction_id", nullable = false)
     private Transaction transaction;
 
+    /**
+     * Copy of the parent's transaction date; the partition key shared with
+     * {@code transactions}.
+     */
+    @PartitionKey
+    @Column(name = "transaction_date", nullable = false)
+    private LocalDateTime transactionDate;
+
     @Column(name = "product_id", nullable = false)
     private UUID productId;
 
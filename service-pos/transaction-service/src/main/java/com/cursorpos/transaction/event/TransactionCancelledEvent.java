@@ -0,0 +1,80 @@
+package com.cursorpos.transaction.event;
+
+import com.cursorpos.shared.event.BaseEvent;
+import com.cursorpos.transaction.entity.Transaction;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published to {@code transaction.created} when a completed transaction is
+ * cancelled, so consumers can undo what they applied for it.
+ *
+ * <p>
+ * It goes to the same topic and key as the {@link TransactionCreatedEvent} it
+ * reverses, so consumers always see it after the original. It repeats the
+ * original lines (stock is put back per line) and carries the original event
+ * ID in {@code originalEventId} (loyalty debits what that event earned).
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class TransactionCancelledEvent extends BaseEvent {
+
+    public static final String EVENT_TYPE = "TransactionCancelled";
+
+    private String originalEventId;
+    private UUID transactionId;
+    private String transactionNumber;
+    private UUID branchId;
+    private UUID customerId;
+    private String status;
+    private String type;
+    private LocalDateTime transactionDate;
+    private BigDecimal totalAmount;
+    private List<TransactionCreatedEvent.Line> items;
+
+    /**
+     * Builds the event for a cancelled transaction.
+     *
+     * @param transaction the cancelled transaction
+     * @param userId      the user who cancelled it
+     * @return the event
+     */
+    public static TransactionCancelledEvent from(Transaction transaction, String userId) {
+        TransactionCreatedEvent original = TransactionCreatedEvent.from(transaction, userId);
+        return TransactionCancelledEvent.builder()
+                // A transaction is cancelled at most once, so a retried cancel reuses the ID
+                .eventId(UUID.nameUUIDFromBytes((EVENT_TYPE + ":" + transaction.getId())
+                        .getBytes(StandardCharsets.UTF_8)).toString())
+                .eventType(EVENT_TYPE)
+                .tenantId(transaction.getTenantId())
+                .userId(userId)
+                .originalEventId(original.getEventId())
+                .transactionId(original.getTransactionId())
+                .transactionNumber(original.getTransactionNumber())
+                .branchId(original.getBranchId())
+                .customerId(original.getCustomerId())
+                .status(original.getStatus())
+                .type(original.getType())
+                .transactionDate(original.getTransactionDate())
+                .totalAmount(original.getTotalAmount())
+                .items(original.getItems())
+                .build();
+    }
+}
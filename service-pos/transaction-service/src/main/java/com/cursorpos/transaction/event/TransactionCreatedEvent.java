@@ -0,0 +1,108 @@
+package com.cursorpos.transaction.event;
+
+import com.cursorpos.shared.event.BaseEvent;
+import com.cursorpos.transaction.entity.Transaction;
+import com.cursorpos.transaction.entity.TransactionItem;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published to {@code transaction.created} when a sale is recorded.
+ * 
+ * <p>
+ * The event ID is derived from the transaction ID, so a later
+ * {@link TransactionCancelledEvent} can refer to it without storing it.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class TransactionCreatedEvent extends BaseEvent {
+
+    public static final String EVENT_TYPE = "TransactionCreated";
+
+    private UUID transactionId;
+    private String transactionNumber;
+    private UUID branchId;
+    private UUID customerId;
+    private String status;
+    private String type;
+    private LocalDateTime transactionDate;
+    private BigDecimal totalAmount;
+    private List<Line> items;
+
+    /**
+     * Sold line, enough for stock and loyalty consumers.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Line {
+        private UUID productId;
+        private Integer quantity;
+        private BigDecimal unitPrice;
+        private BigDecimal totalAmount;
+    }
+
+    /**
+     * Builds the event for a saved transaction.
+     * 
+     * @param transaction the saved transaction
+     * @param userId      the user who recorded it
+     * @return the event
+     */
+    public static TransactionCreatedEvent from(Transaction transaction, String userId) {
+        return TransactionCreatedEvent.builder()
+                .eventId(eventIdFor(transaction.getId()))
+                .eventType(EVENT_TYPE)
+                .tenantId(transaction.getTenantId())
+                .userId(userId)
+                .transactionId(transaction.getId())
+                .transactionNumber(transaction.getTransactionNumber())
+                .branchId(transaction.getBranchId())
+                .customerId(transaction.getCustomerId())
+                .status(transaction.getStatus() != null ? transaction.getStatus().name() : null)
+                .type(transaction.getType() != null ? transaction.getType().name() : null)
+                .transactionDate(transaction.getTransactionDate())
+                .totalAmount(transaction.getTotalAmount())
+                .items(transaction.getItems() != null
+                        ? transaction.getItems().stream().map(TransactionCreatedEvent::line).toList()
+                        : List.of())
+                .build();
+    }
+
+    /**
+     * @param transactionId the transaction
+     * @return ID of the event published when the transaction was created
+     */
+    public static String eventIdFor(UUID transactionId) {
+        return UUID.nameUUIDFromBytes((EVENT_TYPE + ":" + transactionId).getBytes(StandardCharsets.UTF_8))
+                .toString();
+    }
+
+    private static Line line(TransactionItem item) {
+        return Line.builder()
+                .productId(item.getProductId())
+                .quantity(item.getQuantity())
+                .unitPrice(item.getUnitPrice())
+                .totalAmount(item.getTotalAmount())
+                .build();
+    }
+}
@@ -0,0 +1,175 @@
+package com.cursorpos.transaction.receipt;
+
+import com.cursorpos.transaction.entity.Payment;
+import com.cursorpos.transaction.entity.Transaction;
+import com.cursorpos.transaction.entity.TransactionItem;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Values that can be placed in a receipt template.
+ *
+ * <p>
+ * Transaction fields are available in every section; item fields only in the
+ * item line and payment fields only in the payment line. Values are appended
+ * straight into the output buffer so rendering does not build intermediate
+ * strings.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+public enum ReceiptField {
+
+    NUMBER("number", Scope.TRANSACTION),
+    DATE("date", Scope.TRANSACTION),
+    TYPE("type", Scope.TRANSACTION),
+    CASHIER("cashier", Scope.TRANSACTION),
+    SUBTOTAL("subtotal", Scope.TRANSACTION),
+    TAX("tax", Scope.TRANSACTION),
+    DISCOUNT("discount", Scope.TRANSACTION),
+    TOTAL("total", Scope.TRANSACTION),
+    PAID("paid", Scope.TRANSACTION),
+    CHANGE("change", Scope.TRANSACTION),
+    NOTES("notes", Scope.TRANSACTION),
+    ITEM_NAME("item.name", Scope.ITEM),
+    ITEM_CODE("item.code", Scope.ITEM),
+    ITEM_QUANTITY("item.quantity", Scope.ITEM),
+    ITEM_UNIT_PRICE("item.unitPrice", Scope.ITEM),
+    ITEM_DISCOUNT("item.discount", Scope.ITEM),
+    ITEM_TAX("item.tax", Scope.ITEM),
+    ITEM_TOTAL("item.total", Scope.ITEM),
+    PAYMENT_METHOD("payment.method", Scope.PAYMENT),
+    PAYMENT_AMOUNT("payment.amount", Scope.PAYMENT),
+    PAYMENT_REFERENCE("payment.reference", Scope.PAYMENT);
+
+    /**
+     * Template section a field belongs to.
+     */
+    public enum Scope {
+        TRANSACTION, ITEM, PAYMENT
+    }
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int MONEY_SCALE = 2;
+    private static final Map<String, ReceiptField> BY_NAME = new HashMap<>();
+
+    static {
+        for (ReceiptField field : values()) {
+            BY_NAME.put(field.fieldName, field);
+        }
+    }
+
+    private final String fieldName;
+    private final Scope scope;
+
+    ReceiptField(String fieldName, Scope scope) {
+        this.fieldName = fieldName;
+        this.scope = scope;
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+
+    public Scope scope() {
+        return scope;
+    }
+
+    /**
+     * Whether the field can be used in a template of the given section.
+     */
+    public boolean isAvailableIn(Scope section) {
+        return scope == Scope.TRANSACTION || scope == section;
+    }
+
+    /**
+     * Looks up a field by its template name.
+     *
+     * @return the field, or null if unknown
+     */
+    public static ReceiptField byName(String fieldName) {
+        return BY_NAME.get(fieldName);
+    }
+
+    /**
+     * Appends this field's value; null values append nothing.
+     */
+    void appendTo(StringBuilder out, Transaction transaction, TransactionItem item, Payment payment) {
+        switch (this) {
+            case NUMBER -> appendText(out, transaction.getTransactionNumber());
+            case DATE -> {
+                if (transaction.getTransactionDate() != null) {
+                    DATE_TIME.formatTo(transaction.getTransactionDate(), out);
+                }
+            }
+            case TYPE -> appendEnum(out, transaction.getType());
+            case CASHIER -> appendText(out, transaction.getCashierName());
+            case SUBTOTAL -> appendMoney(out, transaction.getSubtotal());
+            case TAX -> appendMoney(out, transaction.getTaxAmount());
+            case DISCOUNT -> appendMoney(out, transaction.getDiscountAmount());
+            case TOTAL -> appendMoney(out, transaction.getTotalAmount());
+            case PAID -> appendMoney(out, transaction.getPaidAmount());
+            case CHANGE -> appendMoney(out, transaction.getChangeAmount());
+            case NOTES -> appendText(out, transaction.getNotes());
+            case ITEM_NAME -> appendText(out, item.getProductName());
+            case ITEM_CODE -> appendText(out, item.getProductCode());
+            case ITEM_QUANTITY -> {
+                if (item.getQuantity() != null) {
+                    out.append(item.getQuantity().intValue());
+                }
+            }
+            case ITEM_UNIT_PRICE -> appendMoney(out, item.getUnitPrice());
+            case ITEM_DISCOUNT -> appendMoney(out, item.getDiscountAmount());
+            case ITEM_TAX -> appendMoney(out, item.getTaxAmount());
+            case ITEM_TOTAL -> appendMoney(out, item.getTotalAmount());
+            case PAYMENT_METHOD -> appendEnum(out, payment.getPaymentMethod());
+            case PAYMENT_AMOUNT -> appendMoney(out, payment.getAmount());
+            case PAYMENT_REFERENCE -> appendText(out, payment.getReferenceNumber());
+        }
+    }
+
+    private static void appendText(StringBuilder out, String value) {
+        if (value != null) {
+            out.append(value);
+        }
+    }
+
+    private static void appendEnum(StringBuilder out, Enum<?> value) {
+        if (value != null) {
+            out.append(value.name());
+        }
+    }
+
+    /**
+     * Appends an amount with two decimals, writing the digits directly rather
+     * than going through {@link BigDecimal#toPlainString()}.
+     */
+    static void appendMoney(StringBuilder out, BigDecimal value) {
+        if (value == null) {
+            return;
+        }
+        BigInteger unscaled = value.setScale(MONEY_SCALE, RoundingMode.HALF_UP).unscaledValue();
+        if (unscaled.bitLength() > 62) {
+            out.append(value.setScale(MONEY_SCALE, RoundingMode.HALF_UP).toPlainString());
+            return;
+        }
+        long cents = unscaled.longValue();
+        if (cents < 0) {
+            out.append('-');
+            cents = -cents;
+        }
+        long fraction = cents % 100;
+        out.append(cents / 100).append('.');
+        if (fraction < 10) {
+            out.append('0');
+        }
+        out.append(fraction);
+    }
+}
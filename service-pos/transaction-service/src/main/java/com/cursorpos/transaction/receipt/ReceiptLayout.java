@@ -0,0 +1,134 @@
+package com.cursorpos.transaction.receipt;
+
+import com.cursorpos.transaction.entity.Payment;
+import com.cursorpos.transaction.entity.Transaction;
+import com.cursorpos.transaction.entity.TransactionItem;
+
+/**
+ * A compiled receipt layout: a header, one line per item, one line per
+ * payment and a footer.
+ *
+ * <p>
+ * Layouts are immutable and shared across threads. {@link #render} writes
+ * into a per-thread buffer that is reused between receipts, so the only
+ * allocation proportional to the receipt is the final string.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+public final class ReceiptLayout {
+
+    private static final String BORDER = "========================================\n";
+
+    public static final String DEFAULT_HEADER = BORDER
+            + "           SALES RECEIPT\n"
+            + BORDER
+            + "Transaction: {number}\n"
+            + "Date: {date}\n"
+            + "Cashier: {cashier}\n"
+            + BORDER
+            + "\n"
+            + "ITEMS:\n";
+
+    public static final String DEFAULT_ITEM = "{item.name:<20} x{item.quantity}\n"
+            + "  @ {item.unitPrice} = {item.total}\n";
+
+    public static final String DEFAULT_PAYMENT = "";
+
+    public static final String DEFAULT_FOOTER = "\n"
+            + BORDER
+            + "Subtotal:     {subtotal}\n"
+            + "Tax:          {tax}\n"
+            + "Discount:     {discount}\n"
+            + "TOTAL:        {total}\n"
+            + "Paid:         {paid}\n"
+            + "Change:       {change}\n"
+            + BORDER
+            + "\n"
+            + "    Thank you for your purchase!\n"
+            + BORDER;
+
+    public static final ReceiptLayout DEFAULT = compile(DEFAULT_HEADER, DEFAULT_ITEM, DEFAULT_PAYMENT,
+            DEFAULT_FOOTER);
+
+    private static final int INITIAL_BUFFER_CAPACITY = 1024;
+    private static final int MAX_RETAINED_BUFFER_CAPACITY = 16 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal
+            .withInitial(() -> new StringBuilder(INITIAL_BUFFER_CAPACITY));
+
+    private final ReceiptTemplate header;
+    private final ReceiptTemplate item;
+    private final ReceiptTemplate payment;
+    private final ReceiptTemplate footer;
+
+    private ReceiptLayout(ReceiptTemplate header, ReceiptTemplate item, ReceiptTemplate payment,
+            ReceiptTemplate footer) {
+        this.header = header;
+        this.item = item;
+        this.payment = payment;
+        this.footer = footer;
+    }
+
+    /**
+     * Compiles a layout; null sections fall back to the default layout.
+     *
+     * @throws IllegalArgumentException if any section is invalid
+     */
+    public static ReceiptLayout compile(String header, String item, String payment, String footer) {
+        return new ReceiptLayout(
+                ReceiptTemplate.compile(header != null ? header : DEFAULT_HEADER, ReceiptField.Scope.TRANSACTION),
+                ReceiptTemplate.compile(item != null ? item : DEFAULT_ITEM, ReceiptField.Scope.ITEM),
+                ReceiptTemplate.compile(payment != null ? payment : DEFAULT_PAYMENT, ReceiptField.Scope.PAYMENT),
+                ReceiptTemplate.compile(footer != null ? footer : DEFAULT_FOOTER, ReceiptField.Scope.TRANSACTION));
+    }
+
+    /**
+     * Renders a transaction's receipt.
+     *
+     * @param transaction the transaction, with items and payments loaded
+     * @return the receipt text
+     */
+    public String render(Transaction transaction) {
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        renderTo(transaction, out);
+        String content = out.toString();
+        if (out.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+            // Don't pin an unusually large receipt's buffer to the thread
+            BUFFER.remove();
+        }
+        return content;
+    }
+
+    /**
+     * Appends a transaction's receipt to {@code out}.
+     */
+    public void renderTo(Transaction transaction, StringBuilder out) {
+        header.renderTo(out, transaction, null, null);
+        for (TransactionItem transactionItem : transaction.getItems()) {
+            item.renderTo(out, transaction, transactionItem, null);
+        }
+        for (Payment transactionPayment : transaction.getPayments()) {
+            payment.renderTo(out, transaction, null, transactionPayment);
+        }
+        footer.renderTo(out, transaction, null, null);
+    }
+
+    public String headerSource() {
+        return header.source();
+    }
+
+    public String itemSource() {
+        return item.source();
+    }
+
+    public String paymentSource() {
+        return payment.source();
+    }
+
+    public String footerSource() {
+        return footer.source();
+    }
+}
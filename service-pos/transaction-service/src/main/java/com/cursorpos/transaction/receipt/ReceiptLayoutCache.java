@@ -0,0 +1,169 @@
+package com.cursorpos.transaction.receipt;
+
+import com.cursorpos.transaction.repository.ReceiptTemplateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-tenant cache of compiled {@link ReceiptLayout}s.
+ * 
+ * <p>
+ * Templates are parsed when a tenant's layout is first needed and reused for
+ * every receipt until the entry expires or the tenant changes its templates.
+ * Each template change is a new version; receipts record the version they
+ * were issued with and are rendered with it, so older versions are kept in
+ * a small LRU. Version 0 and tenants without overrides use
+ * {@link ReceiptLayout#DEFAULT}.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Slf4j
+@Component
+public class ReceiptLayoutCache {
+
+    private static final int MAX_VERSIONS = 256;
+
+    private final ReceiptTemplateRepository receiptTemplateRepository;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<VersionKey, ReceiptLayout> versions = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<VersionKey, ReceiptLayout> eldest) {
+            return size() > MAX_VERSIONS;
+        }
+    };
+
+    @Autowired
+    public ReceiptLayoutCache(ReceiptTemplateRepository receiptTemplateRepository,
+            @Value("${receipts.layout-cache-ttl:5m}") Duration ttl) {
+        this(receiptTemplateRepository, ttl, System::nanoTime);
+    }
+
+    ReceiptLayoutCache(ReceiptTemplateRepository receiptTemplateRepository, Duration ttl, LongSupplier nanoClock) {
+        this.receiptTemplateRepository = receiptTemplateRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns the tenant's current layout, loading and compiling it on a miss.
+     * 
+     * @param tenantId the tenant ID
+     * @return the compiled layout
+     */
+    public ReceiptLayout get(String tenantId) {
+        return current(tenantId).layout();
+    }
+
+    /**
+     * Returns the tenant's current layout with its version, for issuing a
+     * receipt.
+     * 
+     * @param tenantId the tenant ID
+     * @return the current version and its compiled layout
+     */
+    public Current current(String tenantId) {
+        long now = nanoClock.getAsLong();
+        Entry entry = entries.get(tenantId);
+        if (entry != null && now - entry.expiresAt() < 0) {
+            return entry.current();
+        }
+        Current current = load(tenantId, entry != null ? entry.current() : null);
+        entries.put(tenantId, new Entry(current, now + ttlNanos));
+        return current;
+    }
+
+    /**
+     * Returns the layout of a given version of the tenant's templates.
+     * 
+     * @param tenantId the tenant ID
+     * @param version  the version a receipt was issued with
+     * @return the compiled layout
+     */
+    public ReceiptLayout get(String tenantId, int version) {
+        if (version == 0) {
+            return ReceiptLayout.DEFAULT;
+        }
+        Entry entry = entries.get(tenantId);
+        if (entry != null && entry.current().version() == version) {
+            return entry.current().layout();
+        }
+        VersionKey key = new VersionKey(tenantId, version);
+        synchronized (versions) {
+            ReceiptLayout layout = versions.get(key);
+            if (layout != null) {
+                return layout;
+            }
+        }
+        ReceiptLayout layout = receiptTemplateRepository.findVersion(tenantId, version)
+                .map(definition -> compile(tenantId, definition))
+                .orElseGet(() -> {
+                    log.warn("Receipt template version {} of tenant {} not found, using the default layout",
+                            version, tenantId);
+                    return ReceiptLayout.DEFAULT;
+                });
+        synchronized (versions) {
+            versions.put(key, layout);
+        }
+        return layout;
+    }
+
+    /**
+     * Replaces the cached layout after the tenant's templates were changed.
+     * 
+     * @param tenantId the tenant ID
+     * @param version  the version the new templates were saved as
+     * @param layout   the newly compiled layout
+     */
+    public void put(String tenantId, int version, ReceiptLayout layout) {
+        entries.put(tenantId, new Entry(new Current(version, layout), nanoClock.getAsLong() + ttlNanos));
+    }
+
+    /**
+     * Loads the tenant's current templates, keeping the previous layout
+     * instance when the version has not changed so renders cached against it
+     * stay valid.
+     */
+    private Current load(String tenantId, Current previous) {
+        return receiptTemplateRepository.findByTenantId(tenantId)
+                .map(found -> previous != null && previous.version() == found.version()
+                        ? previous
+                        : new Current(found.version(), compile(tenantId, found.definition())))
+                .orElse(new Current(0, ReceiptLayout.DEFAULT));
+    }
+
+    private static ReceiptLayout compile(String tenantId, ReceiptTemplateRepository.Definition definition) {
+        try {
+            return ReceiptLayout.compile(definition.header(), definition.item(), definition.payment(),
+                    definition.footer());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid receipt templates for tenant {}, using the default layout: {}",
+                    tenantId, e.getMessage());
+            return ReceiptLayout.DEFAULT;
+        }
+    }
+
+    /**
+     * A version of a tenant's templates and its compiled layout.
+     */
+    public record Current(int version, ReceiptLayout layout) {
+    }
+
+    private record Entry(Current current, long expiresAt) {
+    }
+
+    private record VersionKey(String tenantId, int version) {
+    }
+}
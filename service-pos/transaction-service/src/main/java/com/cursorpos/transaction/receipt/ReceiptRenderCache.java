@@ -0,0 +1,77 @@
+package com.cursorpos.transaction.receipt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * LRU cache of recently rendered receipt text, keyed by receipt ID.
+ * 
+ * <p>
+ * Receipts are rendered on demand from their transaction; reprints and
+ * repeated reads of recent receipts are served from here. Each entry
+ * remembers the layout it was rendered with and is re-rendered when the
+ * receipt's layout version is compiled again.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Component
+public class ReceiptRenderCache {
+
+    private final Map<UUID, Entry> entries;
+
+    public ReceiptRenderCache(@Value("${receipts.render-cache-size:1000}") int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("receipts.render-cache-size must be at least 1");
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached text for a receipt, rendering it on a miss. Rendering
+     * happens outside the lock.
+     * 
+     * @param receiptId the receipt ID
+     * @param layout    the layout the receipt was issued with
+     * @param renderer  renders the receipt with {@code layout}
+     * @return the receipt text
+     */
+    public String get(UUID receiptId, ReceiptLayout layout, Supplier<String> renderer) {
+        synchronized (entries) {
+            Entry entry = entries.get(receiptId);
+            if (entry != null && entry.layout() == layout) {
+                return entry.content();
+            }
+        }
+        String content = renderer.get();
+        put(receiptId, layout, content);
+        return content;
+    }
+
+    public void put(UUID receiptId, ReceiptLayout layout, String content) {
+        synchronized (entries) {
+            entries.put(receiptId, new Entry(layout, content));
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Entry(ReceiptLayout layout, String content) {
+    }
+}
@@ -0,0 +1,192 @@
+package com.cursorpos.transaction.receipt;
+
+import com.cursorpos.transaction.entity.Payment;
+import com.cursorpos.transaction.entity.Transaction;
+import com.cursorpos.transaction.entity.TransactionItem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * One section of a receipt layout, parsed once into literal and field
+ * segments.
+ *
+ * <p>
+ * Placeholders are written {@code {field}} or {@code {field:<N}},
+ * {@code {field:>N}}, {@code {field:^N}} for a fixed-width column that is
+ * left-aligned, right-aligned or centered; like a {@code %-20s} format,
+ * values longer than the column are written whole. A doubled opening brace writes a literal brace. See
+ * {@link ReceiptField} for the field names.
+ * </p>
+ *
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+public final class ReceiptTemplate {
+
+    private static final int MAX_WIDTH = 200;
+    private static final char[] SPACES = new char[MAX_WIDTH];
+
+    static {
+        Arrays.fill(SPACES, ' ');
+    }
+
+    private final String source;
+    private final Segment[] segments;
+
+    private ReceiptTemplate(String source, Segment[] segments) {
+        this.source = source;
+        this.segments = segments;
+    }
+
+    /**
+     * Parses a template for one section.
+     *
+     * @param source  the template text
+     * @param section the section the template renders, which limits the
+     *                fields it may use
+     * @return the compiled template
+     * @throws IllegalArgumentException if the template is malformed or uses a
+     *                                  field not available in the section
+     */
+    public static ReceiptTemplate compile(String source, ReceiptField.Scope section) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c != '{') {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            if (i + 1 < source.length() && source.charAt(i + 1) == '{') {
+                literal.append('{');
+                i += 2;
+                continue;
+            }
+            int end = source.indexOf('}', i);
+            if (end < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at position " + i + " in receipt template");
+            }
+            if (!literal.isEmpty()) {
+                segments.add(Segment.literal(literal.toString()));
+                literal.setLength(0);
+            }
+            segments.add(parsePlaceholder(source.substring(i + 1, end), section));
+            i = end + 1;
+        }
+        if (!literal.isEmpty()) {
+            segments.add(Segment.literal(literal.toString()));
+        }
+        return new ReceiptTemplate(source, segments.toArray(Segment[]::new));
+    }
+
+    private static Segment parsePlaceholder(String placeholder, ReceiptField.Scope section) {
+        int colon = placeholder.indexOf(':');
+        String name = (colon < 0 ? placeholder : placeholder.substring(0, colon)).trim();
+        ReceiptField field = ReceiptField.byName(name);
+        if (field == null) {
+            throw new IllegalArgumentException("Unknown receipt field: " + name);
+        }
+        if (!field.isAvailableIn(section)) {
+            throw new IllegalArgumentException("Receipt field " + name + " cannot be used in the "
+                    + section.name().toLowerCase(Locale.ROOT) + " section");
+        }
+        if (colon < 0) {
+            return Segment.field(field, Align.NONE, 0);
+        }
+
+        String spec = placeholder.substring(colon + 1).trim();
+        Align align = Align.LEFT;
+        if (!spec.isEmpty() && Align.of(spec.charAt(0)) != null) {
+            align = Align.of(spec.charAt(0));
+            spec = spec.substring(1);
+        }
+        int width;
+        try {
+            width = Integer.parseInt(spec);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid width for receipt field " + name + ": " + spec, e);
+        }
+        if (width < 1 || width > MAX_WIDTH) {
+            throw new IllegalArgumentException("Width for receipt field " + name + " must be between 1 and "
+                    + MAX_WIDTH);
+        }
+        return Segment.field(field, align, width);
+    }
+
+    /**
+     * The template text this was compiled from.
+     */
+    public String source() {
+        return source;
+    }
+
+    /**
+     * Appends the rendered section to {@code out}.
+     *
+     * @param item    the current item, or null outside the item section
+     * @param payment the current payment, or null outside the payment section
+     */
+    public void renderTo(StringBuilder out, Transaction transaction, TransactionItem item, Payment payment) {
+        for (Segment segment : segments) {
+            if (segment.literal != null) {
+                out.append(segment.literal);
+                continue;
+            }
+            int start = out.length();
+            segment.field.appendTo(out, transaction, item, payment);
+            if (segment.align != Align.NONE) {
+                pad(out, start, segment.width, segment.align);
+            }
+        }
+    }
+
+    /**
+     * Pads the value written since {@code start} to at least {@code width}
+     * characters.
+     */
+    private static void pad(StringBuilder out, int start, int width, Align align) {
+        int length = out.length() - start;
+        if (length >= width) {
+            return;
+        }
+        int fill = width - length;
+        switch (align) {
+            case RIGHT -> out.insert(start, SPACES, 0, fill);
+            case CENTER -> {
+                out.insert(start, SPACES, 0, fill / 2);
+                out.append(SPACES, 0, fill - fill / 2);
+            }
+            default -> out.append(SPACES, 0, fill);
+        }
+    }
+
+    private enum Align {
+        NONE, LEFT, RIGHT, CENTER;
+
+        static Align of(char c) {
+            return switch (c) {
+                case '<' -> LEFT;
+                case '>' -> RIGHT;
+                case '^' -> CENTER;
+                default -> null;
+            };
+        }
+    }
+
+    private record Segment(String literal, ReceiptField field, Align align, int width) {
+
+        static Segment literal(String text) {
+            return new Segment(text, null, Align.NONE, 0);
+        }
+
+        static Segment field(ReceiptField field, Align align, int width) {
+            return new Segment(null, field, align, width);
+        }
+    }
+}
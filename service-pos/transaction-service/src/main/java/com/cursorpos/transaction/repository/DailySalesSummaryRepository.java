@@ -0,0 +1,194 @@
+package com.cursorpos.transaction.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maintains and reads the {@code daily_sales_summary} fact table.
+ * 
+ * <p>
+ * The unit of rebuild is a (tenant, day) partition: its rows are deleted and
+ * re-aggregated from completed transactions, hot or archived, in one
+ * statement pair, under a transaction-scoped advisory lock so the incremental
+ * job and a backfill never rebuild the same partition at once.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailySalesSummaryRepository {
+
+    public static final String JOB_NAME = "daily-sales-summary";
+
+    private static final String FIND_DIRTY_PARTITIONS_SQL = """
+            SELECT DISTINCT tenant_id, CAST(transaction_date AS DATE) AS sales_date
+            FROM transactions
+            WHERE updated_at > ? AND updated_at <= ?
+            ORDER BY tenant_id, sales_date
+            """;
+
+    private static final String DELETE_PARTITION_SQL = """
+            DELETE FROM daily_sales_summary WHERE tenant_id = ? AND sales_date = ?
+            """;
+
+    /**
+     * Days of closed months live in the archive tier, so both tiers are read;
+     * the date bounds prune each side to the one partition holding the day.
+     */
+    private static final String INSERT_PARTITION_SQL = """
+            INSERT INTO daily_sales_summary (tenant_id, branch_id, sales_date, product_id, product_code,
+                product_name, quantity, transaction_count, gross_amount, discount_amount, tax_amount, revenue)
+            SELECT t.tenant_id, t.branch_id, CAST(t.transaction_date AS DATE), i.product_id,
+                MAX(i.product_code), MAX(i.product_name),
+                SUM(s.sign * i.quantity),
+                COUNT(DISTINCT t.id),
+                SUM(s.sign * i.subtotal),
+                SUM(s.sign * COALESCE(i.discount_amount, 0)),
+                SUM(s.sign * COALESCE(i.tax_amount, 0)),
+                SUM(s.sign * i.total_amount)
+            FROM (
+                SELECT id, tenant_id, branch_id, transaction_date, transaction_type FROM transactions
+                WHERE tenant_id = ? AND transaction_date >= ? AND transaction_date < ?
+                    AND status = 'COMPLETED' AND deleted_at IS NULL
+                UNION ALL
+                SELECT id, tenant_id, branch_id, transaction_date, transaction_type
+                FROM transaction_archive.transactions
+                WHERE tenant_id = ? AND transaction_date >= ? AND transaction_date < ?
+                    AND status = 'COMPLETED' AND deleted_at IS NULL
+            ) t
+            JOIN (
+                SELECT transaction_id, product_id, product_code, product_name, quantity, subtotal,
+                    discount_amount, tax_amount, total_amount
+                FROM transaction_items
+                WHERE transaction_date >= ? AND transaction_date < ? AND deleted_at IS NULL
+                UNION ALL
+                SELECT transaction_id, product_id, product_code, product_name, quantity, subtotal,
+                    discount_amount, tax_amount, total_amount
+                FROM transaction_archive.transaction_items
+                WHERE transaction_date >= ? AND transaction_date < ? AND deleted_at IS NULL
+            ) i ON i.transaction_id = t.id
+            CROSS JOIN LATERAL (SELECT CASE WHEN t.transaction_type = 'RETURN' THEN -1 ELSE 1 END AS sign) s
+            GROUP BY t.tenant_id, t.branch_id, CAST(t.transaction_date AS DATE), i.product_id
+            """;
+
+    private static final String FIND_DAILY_TOTALS_SQL = """
+            SELECT sales_date, SUM(quantity), SUM(gross_amount), SUM(discount_amount), SUM(tax_amount), SUM(revenue)
+            FROM daily_sales_summary
+            WHERE tenant_id = ? AND sales_date >= ? AND sales_date <= ? AND (?::uuid IS NULL OR branch_id = ?)
+            GROUP BY sales_date
+            ORDER BY sales_date
+            """;
+
+    private static final String FIND_PRODUCT_TOTALS_SQL = """
+            SELECT product_id, MAX(product_code), MAX(product_name), SUM(quantity), SUM(gross_amount),
+                SUM(discount_amount), SUM(tax_amount), SUM(revenue)
+            FROM daily_sales_summary
+            WHERE tenant_id = ? AND sales_date >= ? AND sales_date <= ? AND (?::uuid IS NULL OR branch_id = ?)
+            GROUP BY product_id
+            ORDER BY SUM(revenue) DESC, product_id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Reads the job watermark, locking its row until the surrounding
+     * transaction ends so only one node runs the incremental job at a time.
+     * 
+     * @return the watermark, or null if another node holds the lock
+     */
+    public LocalDateTime lockWatermark() {
+        List<Timestamp> rows = jdbcTemplate.queryForList(
+                "SELECT watermark FROM daily_sales_summary_watermark WHERE job_name = ? FOR UPDATE SKIP LOCKED",
+                Timestamp.class, JOB_NAME);
+        return rows.isEmpty() ? null : rows.get(0).toLocalDateTime();
+    }
+
+    /**
+     * Reads the database clock, the one clock all nodes share. Inside a
+     * transaction this is the time the transaction started.
+     */
+    public LocalDateTime currentTimestamp() {
+        return jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP", Timestamp.class).toLocalDateTime();
+    }
+
+    public void updateWatermark(LocalDateTime watermark) {
+        jdbcTemplate.update(
+                "UPDATE daily_sales_summary_watermark SET watermark = ?, updated_at = CURRENT_TIMESTAMP "
+                        + "WHERE job_name = ?",
+                Timestamp.valueOf(watermark), JOB_NAME);
+    }
+
+    /**
+     * Finds the (tenant, day) partitions touched by transactions updated in
+     * {@code (after, upTo]}.
+     */
+    public List<Partition> findDirtyPartitions(LocalDateTime after, LocalDateTime upTo) {
+        return jdbcTemplate.query(FIND_DIRTY_PARTITIONS_SQL,
+                (rs, rowNum) -> new Partition(rs.getString(1), rs.getDate(2).toLocalDate()),
+                Timestamp.valueOf(after), Timestamp.valueOf(upTo));
+    }
+
+    /**
+     * Re-aggregates one partition. Must run inside a transaction.
+     * 
+     * @return number of summary rows written
+     */
+    public int rebuild(Partition partition) {
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(hashtext(?))", Object.class,
+                JOB_NAME + ":" + partition.tenantId() + ":" + partition.salesDate());
+        jdbcTemplate.update(DELETE_PARTITION_SQL, partition.tenantId(), Date.valueOf(partition.salesDate()));
+        Timestamp from = Timestamp.valueOf(partition.salesDate().atStartOfDay());
+        Timestamp to = Timestamp.valueOf(partition.salesDate().plusDays(1).atStartOfDay());
+        return jdbcTemplate.update(INSERT_PARTITION_SQL, partition.tenantId(), from, to, partition.tenantId(), from,
+                to, from, to, from, to);
+    }
+
+    public List<DailyTotal> findDailyTotals(String tenantId, UUID branchId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(FIND_DAILY_TOTALS_SQL,
+                (rs, rowNum) -> new DailyTotal(rs.getDate(1).toLocalDate(), rs.getLong(2), rs.getBigDecimal(3),
+                        rs.getBigDecimal(4), rs.getBigDecimal(5), rs.getBigDecimal(6)),
+                tenantId, Date.valueOf(from), Date.valueOf(to), branchId, branchId);
+    }
+
+    public List<ProductTotal> findProductTotals(String tenantId, UUID branchId, LocalDate from, LocalDate to,
+            int limit) {
+        return jdbcTemplate.query(FIND_PRODUCT_TOTALS_SQL,
+                (rs, rowNum) -> new ProductTotal(rs.getObject(1, UUID.class), rs.getString(2), rs.getString(3),
+                        rs.getLong(4), rs.getBigDecimal(5), rs.getBigDecimal(6), rs.getBigDecimal(7),
+                        rs.getBigDecimal(8)),
+                tenantId, Date.valueOf(from), Date.valueOf(to), branchId, branchId, limit);
+    }
+
+    /**
+     * One tenant's sales on one day; the unit of rebuild.
+     */
+    public record Partition(String tenantId, LocalDate salesDate) {
+    }
+
+    /**
+     * Summary totals for one day.
+     */
+    public record DailyTotal(LocalDate salesDate, long quantity, BigDecimal grossAmount, BigDecimal discountAmount,
+            BigDecimal taxAmount, BigDecimal revenue) {
+    }
+
+    /**
+     * Summary totals for one product over a date range.
+     */
+    public record ProductTotal(UUID productId, String productCode, String productName, long quantity,
+            BigDecimal grossAmount, BigDecimal discountAmount, BigDecimal taxAmount, BigDecimal revenue) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.cursorpos.transaction.repository;
+
+import com.cursorpos.transaction.entity.Receipt;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Records receipt prints with a single in-place counter update.
+ * 
+ * <p>
+ * Concurrent reprints of the same receipt each add one without a lost update,
+ * and the row is never loaded into the persistence context and written back.
+ * Reprints of archived receipts go to {@code archived_receipt_prints}.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReceiptPrintRepository {
+
+    private static final String RECORD_PRINT_SQL = """
+            UPDATE receipts
+            SET print_count = COALESCE(print_count, 0) + 1, last_printed_at = ?, updated_at = CURRENT_TIMESTAMP
+            WHERE id = ? AND tenant_id = ? AND deleted_at IS NULL
+            RETURNING id, tenant_id, transaction_id, receipt_number, issued_date, receipt_type, print_count,
+                last_printed_at, layout_version, created_at, updated_at
+            """;
+
+    /**
+     * Archived receipts are append-only; their reprints are counted beside
+     * them. Inserts nothing if no such archived receipt exists.
+     */
+    private static final String RECORD_ARCHIVED_PRINT_SQL = """
+            INSERT INTO archived_receipt_prints (receipt_id, tenant_id, print_count, last_printed_at)
+            SELECT id, tenant_id, 1, ?
+            FROM transaction_archive.receipts
+            WHERE id = ? AND tenant_id = ? AND deleted_at IS NULL
+            ON CONFLICT (receipt_id) DO UPDATE
+            SET print_count = archived_receipt_prints.print_count + 1, last_printed_at = EXCLUDED.last_printed_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Increments a receipt's print count.
+     * 
+     * @param printedAt the print time
+     * @return the receipt after the update, or empty if it does not exist
+     */
+    public Optional<Receipt> recordPrint(UUID id, String tenantId, LocalDateTime printedAt) {
+        return jdbcTemplate.query(RECORD_PRINT_SQL, TransactionArchiveRepository.RECEIPT_ROW_MAPPER,
+                Timestamp.valueOf(printedAt), id, tenantId).stream()
+                .findFirst();
+    }
+
+    /**
+     * Counts a reprint of an archived receipt.
+     * 
+     * @param printedAt the print time
+     * @return whether the archived receipt exists
+     */
+    public boolean recordArchivedPrint(UUID id, String tenantId, LocalDateTime printedAt) {
+        return jdbcTemplate.update(RECORD_ARCHIVED_PRINT_SQL, Timestamp.valueOf(printedAt), id, tenantId) > 0;
+    }
+}
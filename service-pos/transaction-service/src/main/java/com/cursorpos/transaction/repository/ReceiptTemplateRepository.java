@@ -0,0 +1,109 @@
+package com.cursorpos.transaction.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stores per-tenant receipt layout overrides in {@code receipt_templates},
+ * with every saved set kept as an immutable version in
+ * {@code receipt_template_versions}.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReceiptTemplateRepository {
+
+    private static final String FIND_SQL = """
+            SELECT header_template, item_template, payment_template, footer_template, version
+            FROM receipt_templates
+            WHERE tenant_id = ?
+            """;
+
+    private static final String FIND_VERSION_SQL = """
+            SELECT header_template, item_template, payment_template, footer_template
+            FROM receipt_template_versions
+            WHERE tenant_id = ? AND version = ?
+            """;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO receipt_templates (tenant_id, header_template, item_template, payment_template,
+                footer_template, version)
+            VALUES (?, ?, ?, ?, ?, 1)
+            ON CONFLICT (tenant_id) DO UPDATE SET
+                header_template = EXCLUDED.header_template,
+                item_template = EXCLUDED.item_template,
+                payment_template = EXCLUDED.payment_template,
+                footer_template = EXCLUDED.footer_template,
+                version = receipt_templates.version + 1,
+                updated_at = CURRENT_TIMESTAMP
+            RETURNING version
+            """;
+
+    private static final String INSERT_VERSION_SQL = """
+            INSERT INTO receipt_template_versions (tenant_id, version, header_template, item_template,
+                payment_template, footer_template)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final RowMapper<Definition> DEFINITION_ROW_MAPPER = (rs, rowNum) -> new Definition(
+            rs.getString("header_template"), rs.getString("item_template"), rs.getString("payment_template"),
+            rs.getString("footer_template"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param tenantId the tenant ID
+     * @return the tenant's current templates, if it has overrides
+     */
+    public Optional<Version> findByTenantId(String tenantId) {
+        List<Version> rows = jdbcTemplate.query(FIND_SQL,
+                (rs, rowNum) -> new Version(rs.getInt("version"), DEFINITION_ROW_MAPPER.mapRow(rs, rowNum)),
+                tenantId);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * @param tenantId the tenant ID
+     * @param version  a version returned by {@link #save}
+     * @return the templates of that version
+     */
+    public Optional<Definition> findVersion(String tenantId, int version) {
+        return jdbcTemplate.query(FIND_VERSION_SQL, DEFINITION_ROW_MAPPER, tenantId, version).stream()
+                .findFirst();
+    }
+
+    /**
+     * Makes the templates the tenant's current version. Must run inside a
+     * transaction so the version and its history row are written together.
+     * 
+     * @return the new version
+     */
+    public int save(String tenantId, Definition definition) {
+        Integer version = jdbcTemplate.queryForObject(UPSERT_SQL, Integer.class, tenantId, definition.header(),
+                definition.item(), definition.payment(), definition.footer());
+        int saved = version != null ? version : 1;
+        jdbcTemplate.update(INSERT_VERSION_SQL, tenantId, saved, definition.header(), definition.item(),
+                definition.payment(), definition.footer());
+        return saved;
+    }
+
+    /**
+     * Template text per section; null sections use the default layout.
+     */
+    public record Definition(String header, String item, String payment, String footer) {
+    }
+
+    /**
+     * Templates of one version.
+     */
+    public record Version(int version, Definition definition) {
+    }
+}
@@ -0,0 +1,156 @@
+package com.cursorpos.transaction.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Upserts and reads hourly sales rollups.
+ * 
+ * <p>
+ * Each bucket is split into slots so concurrent checkouts of one branch
+ * update different rows; reads sum over slots.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Repository
+@RequiredArgsConstructor
+public class SalesRollupRepository {
+
+    private static final String UPSERT_ROLLUP_SQL = """
+            INSERT INTO sales_hourly_rollups (tenant_id, branch_id, bucket_start, slot, transaction_count,
+                return_count, subtotal, tax_amount, discount_amount, total_amount)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (tenant_id, branch_id, bucket_start, slot) DO UPDATE SET
+                transaction_count = sales_hourly_rollups.transaction_count + EXCLUDED.transaction_count,
+                return_count = sales_hourly_rollups.return_count + EXCLUDED.return_count,
+                subtotal = sales_hourly_rollups.subtotal + EXCLUDED.subtotal,
+                tax_amount = sales_hourly_rollups.tax_amount + EXCLUDED.tax_amount,
+                discount_amount = sales_hourly_rollups.discount_amount + EXCLUDED.discount_amount,
+                total_amount = sales_hourly_rollups.total_amount + EXCLUDED.total_amount,
+                updated_at = CURRENT_TIMESTAMP
+            """;
+
+    private static final String UPSERT_PAYMENT_SQL = """
+            INSERT INTO sales_hourly_payment_rollups (tenant_id, branch_id, bucket_start, payment_method, slot,
+                payment_count, amount)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (tenant_id, branch_id, bucket_start, payment_method, slot) DO UPDATE SET
+                payment_count = sales_hourly_payment_rollups.payment_count + EXCLUDED.payment_count,
+                amount = sales_hourly_payment_rollups.amount + EXCLUDED.amount
+            """;
+
+    private static final String FIND_BUCKETS_SQL = """
+            SELECT bucket_start, SUM(transaction_count), SUM(return_count), SUM(subtotal), SUM(tax_amount),
+                SUM(discount_amount), SUM(total_amount)
+            FROM sales_hourly_rollups
+            WHERE tenant_id = ? AND bucket_start >= ? AND bucket_start < ? AND (?::uuid IS NULL OR branch_id = ?)
+            GROUP BY bucket_start
+            ORDER BY bucket_start
+            """;
+
+    private static final String FIND_PAYMENTS_SQL = """
+            SELECT payment_method, SUM(payment_count), SUM(amount)
+            FROM sales_hourly_payment_rollups
+            WHERE tenant_id = ? AND bucket_start >= ? AND bucket_start < ? AND (?::uuid IS NULL OR branch_id = ?)
+            GROUP BY payment_method
+            ORDER BY payment_method
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds a delta to one slot of an hourly bucket and its payment breakdown.
+     * 
+     * @param delta the change to apply (negative values reverse a sale)
+     */
+    public void apply(RollupDelta delta) {
+        Timestamp bucket = Timestamp.valueOf(delta.bucketStart());
+        jdbcTemplate.update(UPSERT_ROLLUP_SQL, delta.tenantId(), delta.branchId(), bucket, delta.slot(),
+                delta.transactionCount(), delta.returnCount(), delta.subtotal(), delta.taxAmount(),
+                delta.discountAmount(), delta.totalAmount());
+        if (delta.payments().isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, PaymentDelta>> payments = new ArrayList<>(delta.payments().entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_PAYMENT_SQL, payments, payments.size(), (ps, entry) -> {
+            ps.setString(1, delta.tenantId());
+            ps.setObject(2, delta.branchId());
+            ps.setTimestamp(3, bucket);
+            ps.setString(4, entry.getKey());
+            ps.setInt(5, delta.slot());
+            ps.setInt(6, entry.getValue().count());
+            ps.setBigDecimal(7, entry.getValue().amount());
+        });
+    }
+
+    /**
+     * Hourly buckets in a time range, summed over branches when no branch is
+     * given.
+     * 
+     * @param tenantId tenant
+     * @param branchId branch, or null for all branches
+     * @param from     inclusive start
+     * @param to       exclusive end
+     * @return buckets in time order
+     */
+    public List<Bucket> findBuckets(String tenantId, UUID branchId, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(FIND_BUCKETS_SQL,
+                (rs, rowNum) -> new Bucket(rs.getTimestamp(1).toLocalDateTime(), rs.getInt(2), rs.getInt(3),
+                        rs.getBigDecimal(4), rs.getBigDecimal(5), rs.getBigDecimal(6), rs.getBigDecimal(7)),
+                tenantId, Timestamp.valueOf(from), Timestamp.valueOf(to), branchId, branchId);
+    }
+
+    /**
+     * Collected amounts per payment method in a time range.
+     * 
+     * @param tenantId tenant
+     * @param branchId branch, or null for all branches
+     * @param from     inclusive start
+     * @param to       exclusive end
+     * @return one entry per payment method
+     */
+    public List<PaymentTotal> findPayments(String tenantId, UUID branchId, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(FIND_PAYMENTS_SQL,
+                (rs, rowNum) -> new PaymentTotal(rs.getString(1), rs.getInt(2), rs.getBigDecimal(3)),
+                tenantId, Timestamp.valueOf(from), Timestamp.valueOf(to), branchId, branchId);
+    }
+
+    /**
+     * Change to one slot of an hourly bucket.
+     */
+    public record RollupDelta(String tenantId, UUID branchId, LocalDateTime bucketStart, int slot,
+            int transactionCount, int returnCount, BigDecimal subtotal, BigDecimal taxAmount, BigDecimal discountAmount,
+            BigDecimal totalAmount, Map<String, PaymentDelta> payments) {
+    }
+
+    /**
+     * Change to one payment method within a bucket.
+     */
+    public record PaymentDelta(int count, BigDecimal amount) {
+    }
+
+    /**
+     * Totals of one hourly bucket.
+     */
+    public record Bucket(LocalDateTime bucketStart, int transactionCount, int returnCount, BigDecimal subtotal,
+            BigDecimal taxAmount, BigDecimal discountAmount, BigDecimal totalAmount) {
+    }
+
+    /**
+     * Totals of one payment method.
+     */
+    public record PaymentTotal(String paymentMethod, int count, BigDecimal amount) {
+    }
+}
@@ -0,0 +1,198 @@
+package com.cursorpos.transaction.repository;
+
+import com.cursorpos.transaction.entity.Payment;
+import com.cursorpos.transaction.entity.Receipt;
+import com.cursorpos.transaction.entity.Transaction;
+import com.cursorpos.transaction.entity.TransactionItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-only access to the {@code transaction_archive} tier.
+ * 
+ * <p>
+ * Returned entities are detached snapshots rebuilt from the archive tables;
+ * they are never managed by JPA and must not be saved.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionArchiveRepository {
+
+    private static final String TRANSACTION_COLUMNS = """
+            id, tenant_id, transaction_number, branch_id, customer_id, transaction_date, status, transaction_type,
+            subtotal, tax_amount, discount_amount, total_amount, paid_amount, change_amount, notes,
+            cashier_id, cashier_name, created_at, created_by, updated_at, updated_by, version
+            """;
+
+    private static final String FIND_BY_ID_SQL = "SELECT " + TRANSACTION_COLUMNS
+            + " FROM transaction_archive.transactions WHERE id = ? AND tenant_id = ? AND deleted_at IS NULL";
+
+    private static final String FIND_ITEMS_SQL = """
+            SELECT id, tenant_id, transaction_date, product_id, product_code, product_name, quantity, unit_price,
+                discount_amount, tax_rate, tax_amount, subtotal, total_amount, notes, created_at, updated_at
+            FROM transaction_archive.transaction_items
+            WHERE transaction_id = ? AND transaction_date = ? AND deleted_at IS NULL
+            ORDER BY created_at, id
+            """;
+
+    private static final String FIND_PAYMENTS_SQL = """
+            SELECT id, tenant_id, transaction_date, payment_method, amount, payment_date, reference_number, notes,
+                created_at, updated_at
+            FROM transaction_archive.payments
+            WHERE transaction_id = ? AND transaction_date = ? AND deleted_at IS NULL
+            ORDER BY payment_date, id
+            """;
+
+    /**
+     * Reprints after archiving are kept in {@code archived_receipt_prints} and
+     * added to the archived counter.
+     */
+    private static final String RECEIPT_SELECT = """
+            SELECT r.id, r.tenant_id, r.transaction_id, r.receipt_number, r.issued_date, r.receipt_type,
+                COALESCE(r.print_count, 0) + COALESCE(p.print_count, 0) AS print_count,
+                COALESCE(p.last_printed_at, r.last_printed_at) AS last_printed_at, r.layout_version,
+                r.created_at, r.updated_at
+            FROM transaction_archive.receipts r
+            LEFT JOIN archived_receipt_prints p ON p.receipt_id = r.id
+            """;
+
+    private static final String FIND_RECEIPT_SQL = RECEIPT_SELECT
+            + " WHERE r.tenant_id = ? AND r.transaction_id = ? AND r.deleted_at IS NULL";
+
+    private static final String FIND_RECEIPT_BY_ID_SQL = RECEIPT_SELECT
+            + " WHERE r.id = ? AND r.tenant_id = ? AND r.deleted_at IS NULL";
+
+    private static final RowMapper<Transaction> TRANSACTION_ROW_MAPPER = (rs, rowNum) -> {
+        Transaction transaction = Transaction.builder()
+                .tenantId(rs.getString("tenant_id"))
+                .transactionNumber(rs.getString("transaction_number"))
+                .branchId(rs.getObject("branch_id", UUID.class))
+                .customerId(rs.getObject("customer_id", UUID.class))
+                .transactionDate(rs.getTimestamp("transaction_date").toLocalDateTime())
+                .status(Transaction.TransactionStatus.valueOf(rs.getString("status")))
+                .type(Transaction.TransactionType.valueOf(rs.getString("transaction_type")))
+                .subtotal(rs.getBigDecimal("subtotal"))
+                .taxAmount(rs.getBigDecimal("tax_amount"))
+                .discountAmount(rs.getBigDecimal("discount_amount"))
+                .totalAmount(rs.getBigDecimal("total_amount"))
+                .paidAmount(rs.getBigDecimal("paid_amount"))
+                .changeAmount(rs.getBigDecimal("change_amount"))
+                .notes(rs.getString("notes"))
+                .cashierId(rs.getObject("cashier_id", UUID.class))
+                .cashierName(rs.getString("cashier_name"))
+                .build();
+        transaction.setId(rs.getObject("id", UUID.class));
+        transaction.setCreatedAt(toInstant(rs.getTimestamp("created_at")));
+        transaction.setCreatedBy(rs.getString("created_by"));
+        transaction.setUpdatedAt(toInstant(rs.getTimestamp("updated_at")));
+        transaction.setUpdatedBy(rs.getString("updated_by"));
+        transaction.setVersion(rs.getLong("version"));
+        return transaction;
+    };
+
+    private static final RowMapper<TransactionItem> ITEM_ROW_MAPPER = (rs, rowNum) -> {
+        TransactionItem item = TransactionItem.builder()
+                .tenantId(rs.getString("tenant_id"))
+                .transactionDate(rs.getTimestamp("transaction_date").toLocalDateTime())
+                .productId(rs.getObject("product_id", UUID.class))
+                .productCode(rs.getString("product_code"))
+                .productName(rs.getString("product_name"))
+                .quantity(rs.getInt("quantity"))
+                .unitPrice(rs.getBigDecimal("unit_price"))
+                .discountAmount(rs.getBigDecimal("discount_amount"))
+                .taxRate(rs.getBigDecimal("tax_rate"))
+                .taxAmount(rs.getBigDecimal("tax_amount"))
+                .subtotal(rs.getBigDecimal("subtotal"))
+                .totalAmount(rs.getBigDecimal("total_amount"))
+                .notes(rs.getString("notes"))
+                .build();
+        item.setId(rs.getObject("id", UUID.class));
+        item.setCreatedAt(toInstant(rs.getTimestamp("created_at")));
+        item.setUpdatedAt(toInstant(rs.getTimestamp("updated_at")));
+        return item;
+    };
+
+    private static final RowMapper<Payment> PAYMENT_ROW_MAPPER = (rs, rowNum) -> {
+        Payment payment = Payment.builder()
+                .tenantId(rs.getString("tenant_id"))
+                .transactionDate(rs.getTimestamp("transaction_date").toLocalDateTime())
+                .paymentMethod(Payment.PaymentMethod.valueOf(rs.getString("payment_method")))
+                .amount(rs.getBigDecimal("amount"))
+                .paymentDate(rs.getTimestamp("payment_date").toLocalDateTime())
+                .referenceNumber(rs.getString("reference_number"))
+                .notes(rs.getString("notes"))
+                .build();
+        payment.setId(rs.getObject("id", UUID.class));
+        payment.setCreatedAt(toInstant(rs.getTimestamp("created_at")));
+        payment.setUpdatedAt(toInstant(rs.getTimestamp("updated_at")));
+        return payment;
+    };
+
+    static final RowMapper<Receipt> RECEIPT_ROW_MAPPER = (rs, rowNum) -> {
+        Receipt receipt = Receipt.builder()
+                .tenantId(rs.getString("tenant_id"))
+                .transactionId(rs.getObject("transaction_id", UUID.class))
+                .receiptNumber(rs.getString("receipt_number"))
+                .issuedDate(rs.getTimestamp("issued_date").toLocalDateTime())
+                .receiptType(rs.getString("receipt_type"))
+                .printCount(rs.getInt("print_count"))
+                .lastPrintedAt(toLocalDateTime(rs.getTimestamp("last_printed_at")))
+                .layoutVersion(rs.getInt("layout_version"))
+                .build();
+        receipt.setId(rs.getObject("id", UUID.class));
+        receipt.setCreatedAt(toInstant(rs.getTimestamp("created_at")));
+        receipt.setUpdatedAt(toInstant(rs.getTimestamp("updated_at")));
+        return receipt;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<Transaction> findById(UUID id, String tenantId) {
+        return withChildren(jdbcTemplate.query(FIND_BY_ID_SQL, TRANSACTION_ROW_MAPPER, id, tenantId));
+    }
+
+    public Optional<Receipt> findReceiptByTransactionId(String tenantId, UUID transactionId) {
+        return jdbcTemplate.query(FIND_RECEIPT_SQL, RECEIPT_ROW_MAPPER, tenantId, transactionId).stream()
+                .findFirst();
+    }
+
+    public Optional<Receipt> findReceiptById(UUID id, String tenantId) {
+        return jdbcTemplate.query(FIND_RECEIPT_BY_ID_SQL, RECEIPT_ROW_MAPPER, id, tenantId).stream()
+                .findFirst();
+    }
+
+    private Optional<Transaction> withChildren(List<Transaction> rows) {
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Transaction transaction = rows.get(0);
+        Timestamp partitionKey = Timestamp.valueOf(transaction.getTransactionDate());
+        jdbcTemplate.query(FIND_ITEMS_SQL, ITEM_ROW_MAPPER, transaction.getId(), partitionKey)
+                .forEach(transaction::addItem);
+        jdbcTemplate.query(FIND_PAYMENTS_SQL, PAYMENT_ROW_MAPPER, transaction.getId(), partitionKey)
+                .forEach(transaction::addPayment);
+        return Optional.of(transaction);
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,49 @@
+package com.cursorpos.transaction.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Calls the partition maintenance functions created by
+ * {@code V6__Partition_Transaction_Tables.sql}.
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionPartitionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates missing monthly partitions of the transaction tables.
+     * 
+     * @param from first month to cover
+     * @param to   last month to cover
+     * @return number of partitions created
+     */
+    public int ensurePartitions(LocalDate from, LocalDate to) {
+        Integer created = jdbcTemplate.queryForObject("SELECT ensure_transaction_partitions(?, ?)", Integer.class,
+                Date.valueOf(from), Date.valueOf(to));
+        return created != null ? created : 0;
+    }
+
+    /**
+     * Detaches monthly partitions that ended on or before the given date and
+     * moves them to the {@code transaction_archive} schema.
+     * 
+     * @param before exclusive upper bound of the months to archive
+     * @return names of the archived {@code transactions} partitions
+     */
+    public List<String> archivePartitionsBefore(LocalDate before) {
+        return jdbcTemplate.queryForList("SELECT archive_transaction_partitions(?)", String.class,
+                Date.valueOf(before));
+    }
+}
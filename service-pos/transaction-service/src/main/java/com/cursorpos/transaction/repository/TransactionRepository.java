@@ -16,6 +16,12 @@ import java.util.UUID;
 /**
  * Repository for Transaction entity.
  * 
+ * <p>
+ * Transactions are partitioned by month of {@code transactionDate}, so
+ * lookups by id go through {@link #findActiveById} and paged listings are
+ * expected to be sorted by {@code transactionDate}.
+ * </p>
+ * 
  * @author rjnat
  * @version 1.0.0
  * @since 2025-11-14
@@ -23,10 +29,43 @@ import java.util.UUID;
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, UUID> {
 
-    Optional<Transaction> findByIdAndTenantIdAndDeletedAtIsNull(UUID id, String tenantId);
+    /**
+     * Looks up an active transaction by id in the one partition that holds
+     * it, using the partition key recorded in {@code transaction_keys}.
+     * 
+     * @param id       transaction id
+     * @param tenantId tenant of the transaction
+     * @return the transaction, unless unknown, archived or deleted
+     */
+    default Optional<Transaction> findActiveById(UUID id, String tenantId) {
+        return findTransactionDateById(id, tenantId)
+                .flatMap(transactionDate -> findByIdAndTransactionDate(id, tenantId, transactionDate));
+    }
+
+    @Query(value = "SELECT transaction_date FROM transaction_keys WHERE id = :id AND tenant_id = :tenantId",
+            nativeQuery = true)
+    Optional<LocalDateTime> findTransactionDateById(@Param("id") UUID id, @Param("tenantId") String tenantId);
+
+    @Query("SELECT t FROM Transaction t WHERE t.id = :id AND t.tenantId = :tenantId " +
+            "AND t.transactionDate = :transactionDate " +
+            "AND t.deletedAt IS NULL")
+    Optional<Transaction> findByIdAndTransactionDate(@Param("id") UUID id, @Param("tenantId") String tenantId,
+            @Param("transactionDate") LocalDateTime transactionDate);
 
-    Optional<Transaction> findByTenantIdAndTransactionNumberAndDeletedAtIsNull(String tenantId,
-            String transactionNumber);
+    /**
+     * Resolves a transaction number to the transaction's id and partition key
+     * through {@code transaction_keys}, which also covers archived
+     * transactions.
+     * 
+     * @param tenantId          tenant of the transaction
+     * @param transactionNumber transaction number
+     * @return the key, unless the number is unknown
+     */
+    @Query(value = "SELECT id, transaction_date AS \"transactionDate\" FROM transaction_keys " +
+            "WHERE tenant_id = :tenantId AND transaction_number = :transactionNumber",
+            nativeQuery = true)
+    Optional<TransactionKey> findKeyByNumber(@Param("tenantId") String tenantId,
+            @Param("transactionNumber") String transactionNumber);
 
     Page<Transaction> findByTenantIdAndDeletedAtIsNull(String tenantId, Pageable pageable);
 
@@ -53,4 +92,14 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>
             @Param("branchId") UUID branchId,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * A row of {@code transaction_keys}.
+     */
+    interface TransactionKey {
+
+        UUID getId();
+
+        LocalDateTime getTransactionDate();
+    }
 }
@@ -0,0 +1,65 @@
+package com.cursorpos.transaction.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background job running {@link DailySalesSummaryService#refresh()} at a
+ * fixed delay.
+ * 
+ * <p>
+ * Several nodes may run the job; the watermark row lock lets only one of them
+ * refresh per run and the others skip.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Slf4j
+public class DailySalesSummaryJob {
+
+    private final DailySalesSummaryService summaryService;
+    private final Duration interval;
+
+    private ScheduledExecutorService executor;
+
+    public DailySalesSummaryJob(DailySalesSummaryService summaryService, Duration interval) {
+        this.summaryService = summaryService;
+        this.interval = interval;
+    }
+
+    /**
+     * Starts the background job.
+     */
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "daily-sales-summary");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::run, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Daily sales summary job started (interval {})", interval);
+    }
+
+    /**
+     * Stops the background job.
+     */
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void run() {
+        try {
+            summaryService.refresh();
+        } catch (Exception e) {
+            log.warn("Daily sales summary refresh failed: {}", e.getMessage());
+        }
+    }
+}
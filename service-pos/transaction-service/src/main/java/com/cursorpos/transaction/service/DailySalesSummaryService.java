@@ -0,0 +1,236 @@
+package com.cursorpos.transaction.service;
+
+import com.cursorpos.shared.security.TenantContext;
+import com.cursorpos.transaction.dto.DailySalesReportResponse;
+import com.cursorpos.transaction.dto.ProductSalesResponse;
+import com.cursorpos.transaction.repository.DailySalesSummaryRepository;
+import com.cursorpos.transaction.repository.DailySalesSummaryRepository.DailyTotal;
+import com.cursorpos.transaction.repository.DailySalesSummaryRepository.Partition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Maintains the daily sales summary and serves reports from it.
+ * 
+ * <p>
+ * {@link #refresh()} is the incremental step: it rebuilds only the
+ * (tenant, day) partitions touched by transactions updated since the stored
+ * watermark, then advances the watermark to the database clock, all in one
+ * database transaction. Each run also re-scans {@code overlap} before the
+ * watermark, so a transaction that commits after the watermark has passed its
+ * {@code updated_at} (a long transaction, or a node whose clock runs behind)
+ * is still picked up. Rebuilding a partition again is harmless.
+ * </p>
+ * 
+ * <p>
+ * {@link #backfill} rebuilds a date range for the current tenant with one
+ * transaction per day, running up to {@code backfillParallelism} days at
+ * once.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Service
+@Slf4j
+public class DailySalesSummaryService {
+
+    private static final int MAX_BACKFILL_DAYS = 366;
+
+    private final DailySalesSummaryRepository summaryRepository;
+    private final TransactionOperations transactionOperations;
+    private final Duration overlap;
+    private final int backfillParallelism;
+
+    @Autowired
+    public DailySalesSummaryService(DailySalesSummaryRepository summaryRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${reports.daily-summary.overlap:2m}") Duration overlap,
+            @Value("${reports.daily-summary.backfill-parallelism:4}") int backfillParallelism) {
+        this(summaryRepository, new TransactionTemplate(transactionManager), overlap, backfillParallelism);
+    }
+
+    DailySalesSummaryService(DailySalesSummaryRepository summaryRepository,
+            TransactionOperations transactionOperations, Duration overlap, int backfillParallelism) {
+        if (backfillParallelism < 1) {
+            throw new IllegalArgumentException("backfillParallelism must be at least 1");
+        }
+        this.summaryRepository = summaryRepository;
+        this.transactionOperations = transactionOperations;
+        this.overlap = overlap;
+        this.backfillParallelism = backfillParallelism;
+    }
+
+    /**
+     * Folds transactions changed since the last run into the summary.
+     * 
+     * @return number of partitions rebuilt
+     */
+    public int refresh() {
+        Integer rebuilt = transactionOperations.execute(status -> {
+            LocalDateTime watermark = summaryRepository.lockWatermark();
+            if (watermark == null) {
+                return 0;
+            }
+            LocalDateTime upTo = summaryRepository.currentTimestamp();
+            if (!upTo.isAfter(watermark)) {
+                return 0;
+            }
+            List<Partition> dirty = summaryRepository.findDirtyPartitions(watermark.minus(overlap), upTo);
+            dirty.forEach(summaryRepository::rebuild);
+            summaryRepository.updateWatermark(upTo);
+            return dirty.size();
+        });
+        int count = rebuilt != null ? rebuilt : 0;
+        if (count > 0) {
+            log.debug("Daily sales summary refreshed {} partitions", count);
+        }
+        return count;
+    }
+
+    /**
+     * Rebuilds the summary of the current tenant for a date range.
+     * 
+     * @param from first day, inclusive
+     * @param to   last day, inclusive
+     * @return number of summary rows written
+     */
+    public int backfill(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        String tenantId = TenantContext.getTenantId();
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > MAX_BACKFILL_DAYS) {
+            throw new IllegalArgumentException("Backfill range cannot exceed " + MAX_BACKFILL_DAYS + " days");
+        }
+        log.info("Backfilling daily sales summary for tenant {} from {} to {}", tenantId, from, to);
+
+        List<Future<Integer>> results = new ArrayList<>((int) days);
+        try (ExecutorService executor = Executors.newFixedThreadPool(
+                (int) Math.min(backfillParallelism, days),
+                Thread.ofPlatform().name("sales-summary-backfill-", 0).factory())) {
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                Partition partition = new Partition(tenantId, date);
+                results.add(executor.submit(() -> transactionOperations.execute(
+                        status -> summaryRepository.rebuild(partition))));
+            }
+        }
+
+        int rows = 0;
+        for (Future<Integer> result : results) {
+            try {
+                Integer written = result.get();
+                rows += written != null ? written : 0;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Daily sales summary backfill failed: " + e.getCause().getMessage(),
+                        e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Daily sales summary backfill interrupted", e);
+            }
+        }
+        log.info("Backfilled {} days ({} rows) of daily sales summary for tenant {}", days, rows, tenantId);
+        return rows;
+    }
+
+    /**
+     * Daily totals for the current tenant, read from the summary only.
+     * 
+     * @param branchId branch to filter by, or null for all branches
+     * @param from     first day, inclusive
+     * @param to       last day, inclusive
+     * @return per-day totals and their sum
+     */
+    @Transactional(readOnly = true)
+    public DailySalesReportResponse getDailySales(UUID branchId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        List<DailyTotal> totals = summaryRepository.findDailyTotals(TenantContext.getTenantId(), branchId, from,
+                to);
+
+        long quantity = 0;
+        BigDecimal grossAmount = BigDecimal.ZERO;
+        BigDecimal discountAmount = BigDecimal.ZERO;
+        BigDecimal taxAmount = BigDecimal.ZERO;
+        BigDecimal revenue = BigDecimal.ZERO;
+        List<DailySalesReportResponse.Day> days = new ArrayList<>(totals.size());
+        for (DailyTotal total : totals) {
+            quantity += total.quantity();
+            grossAmount = grossAmount.add(total.grossAmount());
+            discountAmount = discountAmount.add(total.discountAmount());
+            taxAmount = taxAmount.add(total.taxAmount());
+            revenue = revenue.add(total.revenue());
+            days.add(new DailySalesReportResponse.Day(total.salesDate(), total.quantity(), total.grossAmount(),
+                    total.discountAmount(), total.taxAmount(), total.revenue()));
+        }
+
+        return DailySalesReportResponse.builder()
+                .branchId(branchId)
+                .from(from)
+                .to(to)
+                .quantity(quantity)
+                .grossAmount(grossAmount)
+                .discountAmount(discountAmount)
+                .taxAmount(taxAmount)
+                .revenue(revenue)
+                .days(days)
+                .build();
+    }
+
+    /**
+     * Top products by revenue for the current tenant, read from the summary
+     * only.
+     * 
+     * @param branchId branch to filter by, or null for all branches
+     * @param from     first day, inclusive
+     * @param to       last day, inclusive
+     * @param limit    maximum number of products
+     * @return products ordered by revenue, highest first
+     */
+    @Transactional(readOnly = true)
+    public List<ProductSalesResponse> getProductSales(UUID branchId, LocalDate from, LocalDate to, int limit) {
+        validateRange(from, to);
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        return summaryRepository.findProductTotals(TenantContext.getTenantId(), branchId, from, to, limit).stream()
+                .map(p -> ProductSalesResponse.builder()
+                        .productId(p.productId())
+                        .productCode(p.productCode())
+                        .productName(p.productName())
+                        .quantity(p.quantity())
+                        .grossAmount(p.grossAmount())
+                        .discountAmount(p.discountAmount())
+                        .taxAmount(p.taxAmount())
+                        .revenue(p.revenue())
+                        .build())
+                .toList();
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        Objects.requireNonNull(from, "from");
+        Objects.requireNonNull(to, "to");
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Report end date must not be before start date");
+        }
+    }
+}
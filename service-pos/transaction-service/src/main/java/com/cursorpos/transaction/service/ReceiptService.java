@@ -3,10 +3,18 @@ package com.cursorpos.transaction.service;
 import com.cursorpos.shared.exception.ResourceNotFoundException;
 import com.cursorpos.shared.security.TenantContext;
 import com.cursorpos.transaction.dto.ReceiptResponse;
+import com.cursorpos.transaction.dto.ReceiptTemplateRequest;
+import com.cursorpos.transaction.dto.ReceiptTemplateResponse;
 import com.cursorpos.transaction.entity.Receipt;
 import com.cursorpos.transaction.entity.Transaction;
 import com.cursorpos.transaction.mapper.TransactionMapper;
+import com.cursorpos.transaction.receipt.ReceiptLayout;
+import com.cursorpos.transaction.receipt.ReceiptLayoutCache;
+import com.cursorpos.transaction.receipt.ReceiptRenderCache;
+import com.cursorpos.transaction.repository.ReceiptPrintRepository;
 import com.cursorpos.transaction.repository.ReceiptRepository;
+import com.cursorpos.transaction.repository.ReceiptTemplateRepository;
+import com.cursorpos.transaction.repository.TransactionArchiveRepository;
 import com.cursorpos.transaction.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +30,12 @@ import java.util.UUID;
 /**
  * Service for managing receipts.
  * 
+ * <p>
+ * Receipts store metadata only. Their text is rendered from the transaction
+ * when read, with the version of the tenant's layout the receipt was issued
+ * with, and kept in a {@link ReceiptRenderCache} for reprints.
+ * </p>
+ * 
  * @author rjnat
  * @version 1.0.0
  * @since 2025-11-14
@@ -32,13 +46,18 @@ import java.util.UUID;
 public class ReceiptService {
 
     private static final String RECEIPT_NOT_FOUND_MSG = "Receipt not found with ID: ";
-    private static final String RECEIPT_BORDER = "========================================%n";
     private static final String NON_NULL_RECEIPT = "receipt";
     private static final String NON_NULL_SAVED = "saved";
+    private static final DateTimeFormatter RECEIPT_NUMBER_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
 
     private final ReceiptRepository receiptRepository;
     private final TransactionRepository transactionRepository;
     private final TransactionMapper transactionMapper;
+    private final TransactionArchiveRepository transactionArchiveRepository;
+    private final ReceiptTemplateRepository receiptTemplateRepository;
+    private final ReceiptLayoutCache receiptLayoutCache;
+    private final ReceiptRenderCache receiptRenderCache;
+    private final ReceiptPrintRepository receiptPrintRepository;
 
     @Transactional
     public ReceiptResponse generateReceipt(UUID transactionId) {
@@ -46,7 +65,7 @@ public class ReceiptService {
         String tenantId = TenantContext.getTenantId();
         log.info("Generating receipt for transaction ID: {}", transactionId);
 
-        Transaction transaction = transactionRepository.findByIdAndTenantIdAndDeletedAtIsNull(transactionId, tenantId)
+        Transaction transaction = transactionRepository.findActiveById(transactionId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction not found with ID: " + transactionId));
 
         // Check if receipt already exists
@@ -56,21 +75,25 @@ public class ReceiptService {
             throw new IllegalStateException("Receipt already exists for this transaction");
         }
 
+        ReceiptLayoutCache.Current layout = receiptLayoutCache.current(tenantId);
         Receipt receipt = Receipt.builder()
                 .tenantId(tenantId)
                 .transactionId(transactionId)
                 .receiptNumber(generateReceiptNumber())
                 .issuedDate(LocalDateTime.now())
                 .receiptType("SALE")
-                .content(generateReceiptContent(transaction))
                 .printCount(0)
+                .layoutVersion(layout.version())
                 .build();
 
         @SuppressWarnings("null")
         Receipt saved = Objects.requireNonNull(receiptRepository.save(receipt), NON_NULL_SAVED);
 
+        String content = layout.layout().render(transaction);
+        receiptRenderCache.put(saved.getId(), layout.layout(), content);
+
         log.info("Receipt generated successfully with number: {}", saved.getReceiptNumber());
-        return transactionMapper.toReceiptResponse(saved);
+        return toResponse(saved, content);
     }
 
     @Transactional(readOnly = true)
@@ -79,9 +102,10 @@ public class ReceiptService {
         String tenantId = TenantContext.getTenantId();
         Receipt receipt = Objects.requireNonNull(
                 receiptRepository.findByIdAndTenantIdAndDeletedAtIsNull(id, tenantId)
+                        .or(() -> transactionArchiveRepository.findReceiptById(id, tenantId))
                         .orElseThrow(() -> new ResourceNotFoundException(RECEIPT_NOT_FOUND_MSG + id)),
                 NON_NULL_RECEIPT);
-        return transactionMapper.toReceiptResponse(receipt);
+        return toResponse(receipt, renderContent(receipt));
     }
 
     @Transactional(readOnly = true)
@@ -90,69 +114,94 @@ public class ReceiptService {
         String tenantId = TenantContext.getTenantId();
         Receipt receipt = Objects.requireNonNull(
                 receiptRepository.findByTenantIdAndTransactionIdAndDeletedAtIsNull(tenantId, transactionId)
+                        .or(() -> transactionArchiveRepository.findReceiptByTransactionId(tenantId, transactionId))
                         .orElseThrow(() -> new ResourceNotFoundException(
                                 "Receipt not found for transaction ID: " + transactionId)),
                 NON_NULL_RECEIPT);
-        return transactionMapper.toReceiptResponse(receipt);
+        return toResponse(receipt, renderContent(receipt));
     }
 
+    /**
+     * Records a print with an in-place counter update; the receipt row is not
+     * rewritten. Archived receipts are read-only, so their reprints are counted
+     * separately and included in the returned count.
+     */
     @Transactional
     public ReceiptResponse printReceipt(UUID id) {
         Objects.requireNonNull(id, "id");
         String tenantId = TenantContext.getTenantId();
         log.info("Printing receipt with ID: {}", id);
 
-        Receipt receipt = Objects.requireNonNull(
-                receiptRepository.findByIdAndTenantIdAndDeletedAtIsNull(id, tenantId)
+        LocalDateTime now = LocalDateTime.now();
+        Receipt updated = Objects.requireNonNull(
+                receiptPrintRepository.recordPrint(id, tenantId, now)
+                        .or(() -> receiptPrintRepository.recordArchivedPrint(id, tenantId, now)
+                                ? transactionArchiveRepository.findReceiptById(id, tenantId)
+                                : Optional.empty())
                         .orElseThrow(() -> new ResourceNotFoundException(RECEIPT_NOT_FOUND_MSG + id)),
-                NON_NULL_RECEIPT);
+                "updated");
 
-        receipt.setPrintCount(receipt.getPrintCount() + 1);
-        receipt.setLastPrintedAt(LocalDateTime.now());
+        log.info("Receipt printed. Print count: {}", updated.getPrintCount());
+        return toResponse(updated, renderContent(updated));
+    }
 
-        Receipt updated = Objects.requireNonNull(receiptRepository.save(receipt), "updated");
+    @Transactional(readOnly = true)
+    public ReceiptTemplateResponse getReceiptTemplate() {
+        return toTemplateResponse(receiptLayoutCache.get(TenantContext.getTenantId()));
+    }
 
-        log.info("Receipt printed. Print count: {}", updated.getPrintCount());
-        return transactionMapper.toReceiptResponse(updated);
+    /**
+     * Replaces the current tenant's receipt templates. The templates are
+     * compiled before saving, so invalid ones are rejected with a 400. They are
+     * saved as a new version; existing receipts keep rendering with theirs.
+     */
+    @Transactional
+    public ReceiptTemplateResponse updateReceiptTemplate(ReceiptTemplateRequest request) {
+        Objects.requireNonNull(request, "request");
+        String tenantId = TenantContext.getTenantId();
+        ReceiptLayout layout = ReceiptLayout.compile(request.getHeader(), request.getItem(), request.getPayment(),
+                request.getFooter());
+        int version = receiptTemplateRepository.save(tenantId, new ReceiptTemplateRepository.Definition(
+                request.getHeader(), request.getItem(), request.getPayment(), request.getFooter()));
+        receiptLayoutCache.put(tenantId, version, layout);
+        log.info("Receipt templates updated for tenant {}", tenantId);
+        return toTemplateResponse(layout);
+    }
+
+    private ReceiptResponse toResponse(Receipt receipt, String content) {
+        ReceiptResponse response = transactionMapper.toReceiptResponse(receipt);
+        response.setContent(content);
+        return response;
+    }
+
+    /**
+     * Renders a receipt from its transaction, active or archived, with the
+     * layout version it was issued with, reusing a recent render.
+     */
+    private String renderContent(Receipt receipt) {
+        String tenantId = receipt.getTenantId();
+        UUID transactionId = receipt.getTransactionId();
+        ReceiptLayout layout = receiptLayoutCache.get(tenantId, receipt.getLayoutVersion());
+        return receiptRenderCache.get(receipt.getId(), layout, () -> layout.render(
+                transactionRepository.findActiveById(transactionId, tenantId)
+                        .or(() -> transactionArchiveRepository.findById(transactionId, tenantId))
+                        .orElseThrow(() -> new ResourceNotFoundException(
+                                "Transaction not found with ID: " + transactionId))));
+    }
+
+    private ReceiptTemplateResponse toTemplateResponse(ReceiptLayout layout) {
+        return ReceiptTemplateResponse.builder()
+                .header(layout.headerSource())
+                .item(layout.itemSource())
+                .payment(layout.paymentSource())
+                .footer(layout.footerSource())
+                .build();
     }
 
     private String generateReceiptNumber() {
         // Generate receipt number: RCP-YYYYMMDD-HHMMSS-UUID(8)
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        String timestamp = LocalDateTime.now().format(RECEIPT_NUMBER_TIMESTAMP);
         String uuid = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
         return String.format("RCP-%s-%s", timestamp, uuid);
     }
-
-    private String generateReceiptContent(Transaction transaction) {
-        // Simple text-based receipt content
-        StringBuilder content = new StringBuilder();
-        content.append(String.format(RECEIPT_BORDER));
-        content.append(String.format("           SALES RECEIPT%n"));
-        content.append(String.format(RECEIPT_BORDER));
-        content.append(String.format("Transaction: %s%n", transaction.getTransactionNumber()));
-        content.append(String.format("Date: %s%n",
-                transaction.getTransactionDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
-        content.append(String.format("Cashier: %s%n", transaction.getCashierName()));
-        content.append(String.format(RECEIPT_BORDER + "%n"));
-
-        content.append(String.format("ITEMS:%n"));
-        transaction.getItems().forEach(item -> {
-            content.append(String.format("%-20s x%d%n", item.getProductName(), item.getQuantity()));
-            content.append(String.format("  @ %s = %s%n",
-                    item.getUnitPrice(), item.getTotalAmount()));
-        });
-
-        content.append(String.format("%n" + RECEIPT_BORDER));
-        content.append(String.format("Subtotal:     %s%n", transaction.getSubtotal()));
-        content.append(String.format("Tax:          %s%n", transaction.getTaxAmount()));
-        content.append(String.format("Discount:     %s%n", transaction.getDiscountAmount()));
-        content.append(String.format("TOTAL:        %s%n", transaction.getTotalAmount()));
-        content.append(String.format("Paid:         %s%n", transaction.getPaidAmount()));
-        content.append(String.format("Change:       %s%n", transaction.getChangeAmount()));
-        content.append(String.format(RECEIPT_BORDER));
-        content.append(String.format("%n    Thank you for your purchase!%n"));
-        content.append(String.format(RECEIPT_BORDER));
-
-        return content.toString();
-    }
 }
@@ -0,0 +1,112 @@
+package com.cursorpos.transaction.service;
+
+import com.cursorpos.transaction.repository.TransactionPartitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background job maintaining the monthly partitions of the transaction
+ * tables.
+ * 
+ * <p>
+ * Each run creates the partitions for the current month and the next
+ * {@code monthsAhead} months. There is no default partition, so an insert
+ * into a month without a partition fails; running ahead keeps checkout
+ * clear of that. When {@code retentionMonths} is positive, partitions that ended
+ * more than that many months ago are detached and moved to the
+ * {@code transaction_archive} schema. Dashboards and reports are unaffected
+ * because they read the rollup and summary tables.
+ * </p>
+ * 
+ * @author rjnat
+ * @version 1.0.0
+ * @since 2025-11-14
+ */
+@Slf4j
+public class TransactionPartitionJob {
+
+    private final TransactionPartitionRepository partitionRepository;
+    private final TransactionOperations transactionOperations;
+    private final Duration interval;
+
+    private int monthsAhead = 3;
+    private int retentionMonths = 24;
+
+    private ScheduledExecutorService executor;
+
+    public TransactionPartitionJob(TransactionPartitionRepository partitionRepository,
+            TransactionOperations transactionOperations, Duration interval) {
+        this.partitionRepository = partitionRepository;
+        this.transactionOperations = transactionOperations;
+        this.interval = interval;
+    }
+
+    /**
+     * Starts the background job; the first run happens immediately.
+     */
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "transaction-partitions");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::run, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Transaction partition job started (months ahead {}, retention {} months, interval {})",
+                monthsAhead, retentionMonths, interval);
+    }
+
+    /**
+     * Stops the background job.
+     */
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void run() {
+        try {
+            maintain(LocalDate.now());
+        } catch (Exception e) {
+            log.warn("Transaction partition maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Creates upcoming partitions and archives expired ones.
+     * 
+     * @param today the current date
+     */
+    public void maintain(LocalDate today) {
+        LocalDate currentMonth = today.withDayOfMonth(1);
+        Integer created = transactionOperations.execute(
+                status -> partitionRepository.ensurePartitions(currentMonth, currentMonth.plusMonths(monthsAhead)));
+        if (created != null && created > 0) {
+            log.info("Created {} transaction partitions up to {}", created, currentMonth.plusMonths(monthsAhead));
+        }
+
+        if (retentionMonths > 0) {
+            LocalDate archiveBefore = currentMonth.minusMonths(retentionMonths);
+            List<String> archived = transactionOperations.execute(
+                    status -> partitionRepository.archivePartitionsBefore(archiveBefore));
+            if (archived != null && !archived.isEmpty()) {
+                log.info("Archived transaction partitions before {}: {}", archiveBefore, archived);
+            }
+        }
+    }
+
+    public void setMonthsAhead(int monthsAhead) {
+        this.monthsAhead = monthsAhead;
+    }
+
+    public void setRetentionMonths(int retentionMonths) {
+        this.retentionMonths = retentionMonths;
+    }
+}
@@ -1,7 +1,9 @@
 package com.cursorpos.transaction.service;
 
 import com.cursorpos.shared.dto.PagedResponse;
+import com.cursorpos.shared.event.EventTopics;
 import com.cursorpos.shared.exception.ResourceNotFoundException;
+import com.cursorpos.shared.outbox.OutboxEventPublisher;
 import com.cursorpos.shared.security.TenantContext;
 import com.cursorpos.transaction.dto.PaymentRequest;
 import com.cursorpos.transaction.dto.TransactionItemRequest;
@@ -10,7 +12,10 @@ import com.cursorpos.transaction.dto.TransactionResponse;
 import com.cursorpos.transaction.entity.Payment;
 import com.cursorpos.transaction.entity.Transaction;
 import com.cursorpos.transaction.entity.TransactionItem;
+import com.cursorpos.transaction.event.TransactionCancelledEvent;
+import com.cursorpos.transaction.event.TransactionCreatedEvent;
 import com.cursorpos.transaction.mapper.TransactionMapper;
+import com.cursorpos.transaction.repository.TransactionArchiveRepository;
 import com.cursorpos.transaction.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,9 +45,13 @@ public class TransactionService {
 
     private static final String TRANSACTION_NOT_FOUND_MSG = "Transaction not found with ID: ";
     private static final String ENTITY_NAME = "transaction";
+    private static final String TRANSACTION_NUMBER_PREFIX = "TRX-";
 
     private final TransactionRepository transactionRepository;
     private final TransactionMapper transactionMapper;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final SalesRollupService salesRollupService;
+    private final TransactionArchiveRepository transactionArchiveRepository;
 
     @Transactional
     public TransactionResponse createTransaction(TransactionRequest request) {
@@ -52,8 +61,10 @@ public class TransactionService {
 
         Transaction transaction = transactionMapper.toTransaction(request);
         transaction.setTenantId(tenantId);
-        transaction.setTransactionNumber(generateTransactionNumber());
-        transaction.setTransactionDate(LocalDateTime.now());
+        // The number embeds the transaction date, which lets lookups by number prune partitions
+        LocalDateTime now = LocalDateTime.now();
+        transaction.setTransactionNumber(generateTransactionNumber(now));
+        transaction.setTransactionDate(now);
         transaction.setStatus(Transaction.TransactionStatus.PENDING);
 
         // Process items and calculate amounts
@@ -128,6 +139,11 @@ public class TransactionService {
 
         Objects.requireNonNull(transaction, ENTITY_NAME);
         Transaction saved = transactionRepository.save(transaction);
+        salesRollupService.record(saved);
+
+        // Relayed to Kafka after commit; checkout does not wait on the broker
+        outboxEventPublisher.publish(EventTopics.TRANSACTION_CREATED, "Transaction", saved.getTransactionNumber(),
+                TransactionCreatedEvent.from(saved, TenantContext.getUserId()));
 
         log.info("Transaction created successfully with ID: {} and number: {}",
                 saved.getId(), saved.getTransactionNumber());
@@ -138,7 +154,8 @@ public class TransactionService {
     public TransactionResponse getTransactionById(UUID id) {
         Objects.requireNonNull(id, "id");
         String tenantId = TenantContext.getTenantId();
-        Transaction transaction = transactionRepository.findByIdAndTenantIdAndDeletedAtIsNull(id, tenantId)
+        Transaction transaction = transactionRepository.findActiveById(id, tenantId)
+                .or(() -> transactionArchiveRepository.findById(id, tenantId))
                 .orElseThrow(() -> new ResourceNotFoundException(TRANSACTION_NOT_FOUND_MSG + id));
         return transactionMapper.toTransactionResponse(transaction);
     }
@@ -146,8 +163,11 @@ public class TransactionService {
     @Transactional(readOnly = true)
     public TransactionResponse getTransactionByNumber(String transactionNumber) {
         String tenantId = TenantContext.getTenantId();
-        Transaction transaction = transactionRepository
-                .findByTenantIdAndTransactionNumberAndDeletedAtIsNull(tenantId, transactionNumber)
+        Transaction transaction = transactionRepository.findKeyByNumber(tenantId, transactionNumber)
+                .flatMap(key -> transactionRepository
+                        .findByIdAndTransactionDate(key.getId(), tenantId, key.getTransactionDate())
+                        // Closed months live in the archive tier; refunds still look them up by number
+                        .or(() -> transactionArchiveRepository.findById(key.getId(), tenantId)))
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Transaction not found with number: " + transactionNumber));
         return transactionMapper.toTransactionResponse(transaction);
@@ -205,25 +225,35 @@ public class TransactionService {
         String tenantId = TenantContext.getTenantId();
         log.info("Cancelling transaction with ID: {} for tenant: {}", id, tenantId);
 
-        Transaction transaction = transactionRepository.findByIdAndTenantIdAndDeletedAtIsNull(id, tenantId)
+        Transaction transaction = transactionRepository.findActiveById(id, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException(TRANSACTION_NOT_FOUND_MSG + id));
 
         if (transaction.getStatus() == Transaction.TransactionStatus.CANCELLED) {
             throw new IllegalStateException("Transaction is already cancelled");
         }
 
+        boolean wasCompleted = transaction.getStatus() == Transaction.TransactionStatus.COMPLETED;
         transaction.setStatus(Transaction.TransactionStatus.CANCELLED);
         Objects.requireNonNull(transaction, ENTITY_NAME);
         Transaction updated = transactionRepository.save(transaction);
+        if (wasCompleted) {
+            salesRollupService.reverse(updated);
+            // Stock and loyalty were only applied for completed transactions. Same topic
+            // and key as the creation so consumers see both in order; they dispatch on
+            // the event_type header
+            outboxEventPublisher.publish(EventTopics.TRANSACTION_CREATED, "Transaction",
+                    updated.getTransactionNumber(),
+                    TransactionCancelledEvent.from(updated, TenantContext.getUserId()));
+        }
 
         log.info("Transaction cancelled successfully with ID: {}", updated.getId());
         return transactionMapper.toTransactionResponse(updated);
     }
 
-    private String generateTransactionNumber() {
+    private String generateTransactionNumber(LocalDateTime now) {
         // Generate transaction number: TRX-YYYYMMDD-HHMMSS-UUID(8)
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        String timestamp = now.format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
         String uuid = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        return String.format("TRX-%s-%s", timestamp, uuid);
+        return TRANSACTION_NUMBER_PREFIX + timestamp + "-" + uuid;
     }
 }
@@ -0,0 +1,18 @@
+-- ==============================================================================
+-- Transaction Service - Reprints Of Archived Receipts
+-- ==============================================================================
+-- Archived receipts are append-only, so their print counter cannot be
+-- updated in place. Reprints after archiving are counted here instead and
+-- added to the archived counter whenever an archived receipt is read.
+-- ==============================================================================
+
+CREATE TABLE archived_receipt_prints (
+    receipt_id UUID NOT NULL,
+    tenant_id VARCHAR(100) NOT NULL,
+    print_count INTEGER NOT NULL,
+    last_printed_at TIMESTAMP NOT NULL,
+    CONSTRAINT pk_archived_receipt_prints PRIMARY KEY (receipt_id)
+);
+
+COMMENT ON TABLE archived_receipt_prints IS 'Reprints of archived receipts since they were archived';
+COMMENT ON COLUMN archived_receipt_prints.print_count IS 'Added to transaction_archive.receipts.print_count';
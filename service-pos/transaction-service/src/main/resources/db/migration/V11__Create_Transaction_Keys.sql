@@ -0,0 +1,63 @@
+-- ==============================================================================
+-- Transaction Service - Global Transaction Keys
+-- ==============================================================================
+-- The partitioned transactions table can only enforce uniqueness together
+-- with the partition key, and a lookup by id alone has to probe every
+-- monthly partition. transaction_keys is a plain table with one row per
+-- transaction, live or archived:
+--
+--   id                  -> transaction_date, so id lookups prune to one
+--                          partition
+--   transaction_number  -> unique across all partitions and the archive
+--
+-- Rows are maintained by trigger on transactions. Archiving detaches
+-- partitions without deleting rows, so keys of archived transactions stay
+-- and their numbers remain taken.
+-- ==============================================================================
+
+CREATE TABLE transaction_keys (
+    id UUID NOT NULL,
+    tenant_id VARCHAR(100) NOT NULL,
+    transaction_number VARCHAR(50) NOT NULL,
+    transaction_date TIMESTAMP NOT NULL,
+    CONSTRAINT pk_transaction_keys PRIMARY KEY (id),
+    CONSTRAINT uk_transaction_keys_number UNIQUE (transaction_number)
+);
+
+COMMENT ON TABLE transaction_keys IS 'Global id and number index over partitioned and archived transactions';
+COMMENT ON COLUMN transaction_keys.transaction_date IS 'Partition key of the transaction, for pruned lookups by id';
+
+INSERT INTO transaction_keys (id, tenant_id, transaction_number, transaction_date)
+SELECT id, tenant_id, transaction_number, transaction_date FROM transactions
+UNION ALL
+SELECT id, tenant_id, transaction_number, transaction_date FROM transaction_archive.transactions;
+
+CREATE OR REPLACE FUNCTION maintain_transaction_keys()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        DELETE FROM transaction_keys WHERE id = OLD.id;
+        RETURN OLD;
+    END IF;
+    -- Fails with a unique violation on uk_transaction_keys_number when the
+    -- number is taken in any partition
+    INSERT INTO transaction_keys (id, tenant_id, transaction_number, transaction_date)
+    VALUES (NEW.id, NEW.tenant_id, NEW.transaction_number, NEW.transaction_date);
+    RETURN NEW;
+END;
+$$;
+
+CREATE TRIGGER trg_transactions_keys AFTER INSERT OR DELETE ON transactions
+    FOR EACH ROW EXECUTE FUNCTION maintain_transaction_keys();
+
+-- ------------------------------------------------------------------------------
+-- Paged listings are ordered by transaction_date; with the date trailing each
+-- filter, every partition contributes an ordered index range and the merge
+-- stops after one page instead of sorting all matches
+-- ------------------------------------------------------------------------------
+
+CREATE INDEX idx_transaction_branch_date ON transactions(tenant_id, branch_id, transaction_date);
+CREATE INDEX idx_transaction_customer_date ON transactions(tenant_id, customer_id, transaction_date);
+CREATE INDEX idx_transaction_status_date ON transactions(tenant_id, status, transaction_date);
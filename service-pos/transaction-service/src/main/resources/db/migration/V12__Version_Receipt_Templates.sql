@@ -0,0 +1,54 @@
+-- ==============================================================================
+-- Transaction Service - Versioned Receipt Templates
+-- ==============================================================================
+-- Receipts are rendered on demand, so a template change must not rewrite
+-- receipts already issued. Every saved template set becomes an immutable
+-- version in receipt_template_versions, and each receipt records the version
+-- it was issued with. Version 0 is the built-in default layout.
+--
+-- The other inputs of a receipt (transaction header, lines and payments) do
+-- not change once the transaction is created, so the layout version is the
+-- only part of a render that needs a snapshot.
+--
+-- Receipts issued before this migration are pinned to their tenant's current
+-- templates, the closest record of what they were issued with.
+-- ==============================================================================
+
+CREATE TABLE receipt_template_versions (
+    tenant_id VARCHAR(100) NOT NULL,
+    version INTEGER NOT NULL,
+    header_template TEXT,
+    item_template TEXT,
+    payment_template TEXT,
+    footer_template TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_receipt_template_versions PRIMARY KEY (tenant_id, version)
+);
+
+COMMENT ON TABLE receipt_template_versions IS 'Immutable history of per-tenant receipt templates';
+
+ALTER TABLE receipt_templates ADD COLUMN version INTEGER NOT NULL DEFAULT 0;
+COMMENT ON COLUMN receipt_templates.version IS 'Current version in receipt_template_versions';
+
+INSERT INTO receipt_template_versions (tenant_id, version, header_template, item_template, payment_template,
+    footer_template, created_at)
+SELECT tenant_id, 1, header_template, item_template, payment_template, footer_template, updated_at
+FROM receipt_templates;
+
+UPDATE receipt_templates SET version = 1;
+
+-- Same column on the archive copy: archive_transaction_partitions moves
+-- receipts with INSERT ... SELECT * and needs identical columns
+ALTER TABLE receipts ADD COLUMN layout_version INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE transaction_archive.receipts ADD COLUMN layout_version INTEGER NOT NULL DEFAULT 0;
+COMMENT ON COLUMN receipts.layout_version IS 'Receipt template version the receipt is rendered with (0 = default)';
+
+UPDATE receipts r SET layout_version = t.version
+FROM receipt_templates t
+WHERE t.tenant_id = r.tenant_id;
+
+ALTER TABLE transaction_archive.receipts DISABLE TRIGGER trg_archive_receipts_append_only;
+UPDATE transaction_archive.receipts r SET layout_version = t.version
+FROM receipt_templates t
+WHERE t.tenant_id = r.tenant_id;
+ALTER TABLE transaction_archive.receipts ENABLE TRIGGER trg_archive_receipts_append_only;
@@ -0,0 +1,15 @@
+-- ==============================================================================
+-- Transaction Service - Outbox Claims
+-- ==============================================================================
+-- The relay claims a batch in a short transaction, publishes it without a
+-- transaction open and deletes or releases the events afterwards. A claim
+-- expires at claimed_until, so a relay that dies mid-batch does not strand
+-- its events.
+-- ==============================================================================
+
+ALTER TABLE outbox_events ADD COLUMN claimed_until TIMESTAMP;
+
+COMMENT ON COLUMN outbox_events.claimed_until IS 'Set while a relay is publishing the event';
+
+-- Claims skip keys with a live claim; only in-flight events are indexed
+CREATE INDEX idx_outbox_events_claimed ON outbox_events (aggregate_key) WHERE claimed_until IS NOT NULL;
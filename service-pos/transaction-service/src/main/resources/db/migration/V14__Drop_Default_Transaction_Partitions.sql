@@ -0,0 +1,29 @@
+-- ==============================================================================
+-- Transaction Service - Drop Default Transaction Partitions
+-- ==============================================================================
+-- CREATE TABLE ... PARTITION OF fails when the DEFAULT partition holds rows
+-- in the new partition's range, so a single row that landed in a default
+-- partition stopped ensure_transaction_partitions for good. The partition
+-- job creates months ahead of time, so the default partitions are dropped:
+-- any rows they hold move to monthly partitions created for them, and an
+-- insert outside every partition now fails instead of blocking maintenance.
+-- ==============================================================================
+
+CREATE TEMP TABLE default_transactions ON COMMIT DROP AS SELECT * FROM transactions_default;
+CREATE TEMP TABLE default_transaction_items ON COMMIT DROP AS SELECT * FROM transaction_items_default;
+CREATE TEMP TABLE default_payments ON COMMIT DROP AS SELECT * FROM payments_default;
+
+-- Cascades to items and payments; the keys trigger re-adds the moved rows
+DELETE FROM transactions_default;
+
+DROP TABLE payments_default;
+DROP TABLE transaction_items_default;
+DROP TABLE transactions_default;
+
+SELECT ensure_transaction_partitions(MIN(transaction_date)::date, MAX(transaction_date)::date)
+FROM default_transactions
+HAVING COUNT(*) > 0;
+
+INSERT INTO transactions SELECT * FROM default_transactions;
+INSERT INTO transaction_items SELECT * FROM default_transaction_items;
+INSERT INTO payments SELECT * FROM default_payments;
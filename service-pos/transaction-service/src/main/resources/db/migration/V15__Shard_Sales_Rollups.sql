@@ -0,0 +1,22 @@
+-- ==============================================================================
+-- Transaction Service - Sharded Hourly Sales Rollups
+-- ==============================================================================
+-- Every checkout of a branch upserted the same (tenant, branch, hour) row,
+-- so concurrent checkouts queued on its row lock until each committed. Each
+-- bucket is now split into slots chosen by transaction id; checkouts spread
+-- over the slots and reads sum them, as they already sum over branches.
+-- Existing totals stay in slot 0.
+-- ==============================================================================
+
+ALTER TABLE sales_hourly_rollups ADD COLUMN slot SMALLINT NOT NULL DEFAULT 0;
+ALTER TABLE sales_hourly_rollups DROP CONSTRAINT pk_sales_hourly_rollups;
+ALTER TABLE sales_hourly_rollups ADD CONSTRAINT pk_sales_hourly_rollups
+    PRIMARY KEY (tenant_id, branch_id, bucket_start, slot);
+
+ALTER TABLE sales_hourly_payment_rollups ADD COLUMN slot SMALLINT NOT NULL DEFAULT 0;
+ALTER TABLE sales_hourly_payment_rollups DROP CONSTRAINT pk_sales_hourly_payment_rollups;
+ALTER TABLE sales_hourly_payment_rollups ADD CONSTRAINT pk_sales_hourly_payment_rollups
+    PRIMARY KEY (tenant_id, branch_id, bucket_start, payment_method, slot);
+
+COMMENT ON COLUMN sales_hourly_rollups.slot IS 'Shard of the bucket chosen by transaction id; reads sum all slots';
+COMMENT ON COLUMN sales_hourly_payment_rollups.slot IS 'Shard of the bucket chosen by transaction id; reads sum all slots';
@@ -0,0 +1,41 @@
+-- ==============================================================================
+-- Transaction Service - Hourly Sales Rollups
+-- ==============================================================================
+-- Per-tenant, per-branch, per-hour running totals of completed transactions,
+-- updated in the same database transaction as the sale (and reversed on
+-- cancellation), so dashboards read a handful of rows instead of scanning
+-- transactions.
+-- ==============================================================================
+
+CREATE TABLE sales_hourly_rollups (
+    tenant_id VARCHAR(100) NOT NULL,
+    branch_id UUID NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    transaction_count INTEGER NOT NULL DEFAULT 0,
+    return_count INTEGER NOT NULL DEFAULT 0,
+    subtotal DECIMAL(19, 4) NOT NULL DEFAULT 0,
+    tax_amount DECIMAL(19, 4) NOT NULL DEFAULT 0,
+    discount_amount DECIMAL(19, 4) NOT NULL DEFAULT 0,
+    total_amount DECIMAL(19, 4) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_sales_hourly_rollups PRIMARY KEY (tenant_id, branch_id, bucket_start)
+);
+
+COMMENT ON TABLE sales_hourly_rollups IS 'Hourly totals of completed transactions per branch';
+COMMENT ON COLUMN sales_hourly_rollups.bucket_start IS 'Start of the hour (transaction_date truncated)';
+COMMENT ON COLUMN sales_hourly_rollups.total_amount IS 'Net total: sales and exchanges minus returns';
+
+CREATE TABLE sales_hourly_payment_rollups (
+    tenant_id VARCHAR(100) NOT NULL,
+    branch_id UUID NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    payment_method VARCHAR(20) NOT NULL,
+    payment_count INTEGER NOT NULL DEFAULT 0,
+    amount DECIMAL(19, 4) NOT NULL DEFAULT 0,
+    CONSTRAINT pk_sales_hourly_payment_rollups PRIMARY KEY (tenant_id, branch_id, bucket_start, payment_method)
+);
+
+COMMENT ON TABLE sales_hourly_payment_rollups IS 'Hourly collected amounts per payment method (cash net of change)';
+
+CREATE INDEX idx_sales_hourly_rollups_tenant_bucket ON sales_hourly_rollups(tenant_id, bucket_start);
+CREATE INDEX idx_sales_hourly_payment_rollups_tenant_bucket ON sales_hourly_payment_rollups(tenant_id, bucket_start);
@@ -0,0 +1,272 @@
+-- ==============================================================================
+-- Transaction Service - Monthly Partitioning of Transaction Tables
+-- ==============================================================================
+-- Converts transactions, transaction_items and payments into tables
+-- range-partitioned by month on transaction_date. Items and payments carry
+-- the parent's transaction_date so all three tables share partition bounds
+-- and the foreign keys stay partition-local.
+--
+-- Partitioned tables require the partition key in every unique constraint:
+-- primary keys become (id, transaction_date) and the transaction number is
+-- unique per (transaction_number, transaction_date). Transaction numbers
+-- embed their creation timestamp, so this keeps them unique in practice.
+--
+-- Maintenance (see TransactionPartitionJob):
+--   ensure_transaction_partitions(from, to)  creates missing monthly partitions
+--   archive_transaction_partitions(before)   detaches partitions that ended
+--                                            before the given date and moves
+--                                            them to the transaction_archive
+--                                            schema
+-- ==============================================================================
+
+CREATE SCHEMA IF NOT EXISTS transaction_archive;
+
+-- ------------------------------------------------------------------------------
+-- Partitioned tables
+-- ------------------------------------------------------------------------------
+
+CREATE TABLE transactions_partitioned (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    tenant_id VARCHAR(100) NOT NULL,
+    transaction_number VARCHAR(50) NOT NULL,
+    branch_id UUID NOT NULL,
+    customer_id UUID,
+    transaction_date TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    transaction_type VARCHAR(20) NOT NULL,
+    subtotal DECIMAL(19, 4) NOT NULL,
+    tax_amount DECIMAL(19, 4) NOT NULL DEFAULT 0,
+    discount_amount DECIMAL(19, 4) DEFAULT 0,
+    total_amount DECIMAL(19, 4) NOT NULL,
+    paid_amount DECIMAL(19, 4) DEFAULT 0,
+    change_amount DECIMAL(19, 4) DEFAULT 0,
+    notes VARCHAR(500),
+    cashier_id UUID,
+    cashier_name VARCHAR(100),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_by VARCHAR(100),
+    deleted_at TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_transactions PRIMARY KEY (id, transaction_date),
+    CONSTRAINT uk_transactions_number UNIQUE (transaction_number, transaction_date)
+) PARTITION BY RANGE (transaction_date);
+
+CREATE TABLE transaction_items_partitioned (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    tenant_id VARCHAR(100) NOT NULL,
+    transaction_id UUID NOT NULL,
+    transaction_date TIMESTAMP NOT NULL,
+    product_id UUID NOT NULL,
+    product_code VARCHAR(50),
+    product_name VARCHAR(200) NOT NULL,
+    quantity INTEGER NOT NULL,
+    unit_price DECIMAL(19, 4) NOT NULL,
+    discount_amount DECIMAL(19, 4) DEFAULT 0,
+    tax_rate DECIMAL(5, 2) DEFAULT 0,
+    tax_amount DECIMAL(19, 4) DEFAULT 0,
+    subtotal DECIMAL(19, 4) NOT NULL,
+    total_amount DECIMAL(19, 4) NOT NULL,
+    notes VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_by VARCHAR(100),
+    deleted_at TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_transaction_items PRIMARY KEY (id, transaction_date),
+    CONSTRAINT fk_transaction_items_transaction FOREIGN KEY (transaction_id, transaction_date)
+        REFERENCES transactions_partitioned(id, transaction_date) ON DELETE CASCADE
+) PARTITION BY RANGE (transaction_date);
+
+CREATE TABLE payments_partitioned (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    tenant_id VARCHAR(100) NOT NULL,
+    transaction_id UUID NOT NULL,
+    transaction_date TIMESTAMP NOT NULL,
+    payment_method VARCHAR(20) NOT NULL,
+    amount DECIMAL(19, 4) NOT NULL,
+    payment_date TIMESTAMP NOT NULL,
+    reference_number VARCHAR(100),
+    notes VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_by VARCHAR(100),
+    deleted_at TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_payments PRIMARY KEY (id, transaction_date),
+    CONSTRAINT fk_payments_transaction FOREIGN KEY (transaction_id, transaction_date)
+        REFERENCES transactions_partitioned(id, transaction_date) ON DELETE CASCADE
+) PARTITION BY RANGE (transaction_date);
+
+-- ------------------------------------------------------------------------------
+-- Swap the partitioned tables in
+-- ------------------------------------------------------------------------------
+
+ALTER TABLE transactions RENAME TO transactions_legacy;
+ALTER TABLE transaction_items RENAME TO transaction_items_legacy;
+ALTER TABLE payments RENAME TO payments_legacy;
+
+ALTER TABLE transactions_partitioned RENAME TO transactions;
+ALTER TABLE transaction_items_partitioned RENAME TO transaction_items;
+ALTER TABLE payments_partitioned RENAME TO payments;
+
+COMMENT ON TABLE transactions IS 'Sales transactions, partitioned by month of transaction_date';
+COMMENT ON COLUMN transactions.tenant_id IS 'Tenant identifier for multi-tenancy';
+COMMENT ON COLUMN transactions.transaction_number IS 'Unique transaction number';
+COMMENT ON COLUMN transactions.status IS 'Transaction status: PENDING, COMPLETED, CANCELLED, REFUNDED';
+COMMENT ON COLUMN transactions.transaction_type IS 'Transaction type: SALE, RETURN, EXCHANGE';
+COMMENT ON TABLE transaction_items IS 'Items in a transaction, partitioned with their transaction';
+COMMENT ON COLUMN transaction_items.transaction_date IS 'Copy of the parent transaction date (partition key)';
+COMMENT ON TABLE payments IS 'Payment records for transactions, partitioned with their transaction';
+COMMENT ON COLUMN payments.transaction_date IS 'Copy of the parent transaction date (partition key)';
+COMMENT ON COLUMN payments.payment_method IS 'Payment method: CASH, CREDIT_CARD, DEBIT_CARD, E_WALLET, BANK_TRANSFER, CHECK';
+
+-- ------------------------------------------------------------------------------
+-- Partition maintenance
+-- ------------------------------------------------------------------------------
+
+CREATE OR REPLACE FUNCTION ensure_transaction_partitions(p_from DATE, p_to DATE)
+RETURNS INTEGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_month DATE := date_trunc('month', p_from)::date;
+    v_table TEXT;
+    v_partition TEXT;
+    v_created INTEGER := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('transaction-partitions'));
+    WHILE v_month <= p_to LOOP
+        FOREACH v_table IN ARRAY ARRAY['transactions', 'transaction_items', 'payments'] LOOP
+            v_partition := format('%s_p%s', v_table, to_char(v_month, 'YYYY_MM'));
+            IF to_regclass(v_partition) IS NULL THEN
+                EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                    v_partition, v_table, v_month, (v_month + INTERVAL '1 month')::date);
+                v_created := v_created + 1;
+            END IF;
+        END LOOP;
+        v_month := (v_month + INTERVAL '1 month')::date;
+    END LOOP;
+    RETURN v_created;
+END;
+$$;
+
+COMMENT ON FUNCTION ensure_transaction_partitions(DATE, DATE) IS
+    'Creates missing monthly partitions of transactions, transaction_items and payments covering [p_from, p_to]';
+
+CREATE OR REPLACE FUNCTION archive_transaction_partitions(p_before DATE)
+RETURNS SETOF TEXT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_partition RECORD;
+    v_suffix TEXT;
+    v_table TEXT;
+    v_child TEXT;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('transaction-partitions'));
+    FOR v_partition IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'transactions'::regclass
+            AND c.relname ~ '^transactions_p[0-9]{4}_[0-9]{2}$'
+        ORDER BY c.relname
+    LOOP
+        v_suffix := substring(v_partition.relname FROM '[0-9]{4}_[0-9]{2}$');
+        CONTINUE WHEN (to_date(v_suffix, 'YYYY_MM') + INTERVAL '1 month')::date > p_before;
+
+        -- Children first: a referenced partition cannot be detached while
+        -- attached rows still point at it
+        FOREACH v_table IN ARRAY ARRAY['transaction_items', 'payments'] LOOP
+            v_child := format('%s_p%s', v_table, v_suffix);
+            IF to_regclass(v_child) IS NOT NULL THEN
+                EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', v_table, v_child);
+                EXECUTE format('ALTER TABLE %I DROP CONSTRAINT IF EXISTS %I', v_child,
+                    CASE v_table WHEN 'payments' THEN 'fk_payments_transaction'
+                        ELSE 'fk_transaction_items_transaction' END);
+                EXECUTE format('ALTER TABLE %I SET SCHEMA transaction_archive', v_child);
+            END IF;
+        END LOOP;
+        EXECUTE format('ALTER TABLE transactions DETACH PARTITION %I', v_partition.relname);
+        EXECUTE format('ALTER TABLE %I SET SCHEMA transaction_archive', v_partition.relname);
+        RETURN NEXT v_partition.relname;
+    END LOOP;
+END;
+$$;
+
+COMMENT ON FUNCTION archive_transaction_partitions(DATE) IS
+    'Detaches monthly partitions ending on or before p_before and moves them to the transaction_archive schema';
+
+-- Rows outside every monthly partition land here; the maintenance job keeps
+-- future months created ahead of time so these stay empty
+CREATE TABLE transactions_default PARTITION OF transactions DEFAULT;
+CREATE TABLE transaction_items_default PARTITION OF transaction_items DEFAULT;
+CREATE TABLE payments_default PARTITION OF payments DEFAULT;
+
+-- Cover existing history plus the next three months
+SELECT ensure_transaction_partitions(
+    LEAST(COALESCE((SELECT MIN(transaction_date) FROM transactions_legacy)::date, CURRENT_DATE), CURRENT_DATE),
+    (date_trunc('month', CURRENT_DATE) + INTERVAL '3 months')::date);
+
+-- ------------------------------------------------------------------------------
+-- Move existing rows
+-- ------------------------------------------------------------------------------
+
+INSERT INTO transactions (
+    id, tenant_id, transaction_number, branch_id, customer_id, transaction_date, status, transaction_type,
+    subtotal, tax_amount, discount_amount, total_amount, paid_amount, change_amount, notes,
+    cashier_id, cashier_name, created_at, created_by, updated_at, updated_by, deleted_at, version)
+SELECT
+    id, tenant_id, transaction_number, branch_id, customer_id, transaction_date, status, transaction_type,
+    subtotal, tax_amount, discount_amount, total_amount, paid_amount, change_amount, notes,
+    cashier_id, cashier_name, created_at, created_by, updated_at, updated_by, deleted_at, version
+FROM transactions_legacy;
+
+INSERT INTO transaction_items (
+    id, tenant_id, transaction_id, transaction_date, product_id, product_code, product_name, quantity,
+    unit_price, discount_amount, tax_rate, tax_amount, subtotal, total_amount, notes,
+    created_at, created_by, updated_at, updated_by, deleted_at, version)
+SELECT
+    i.id, i.tenant_id, i.transaction_id, t.transaction_date, i.product_id, i.product_code, i.product_name,
+    i.quantity, i.unit_price, i.discount_amount, i.tax_rate, i.tax_amount, i.subtotal, i.total_amount, i.notes,
+    i.created_at, i.created_by, i.updated_at, i.updated_by, i.deleted_at, i.version
+FROM transaction_items_legacy i
+JOIN transactions_legacy t ON t.id = i.transaction_id;
+
+INSERT INTO payments (
+    id, tenant_id, transaction_id, transaction_date, payment_method, amount, payment_date, reference_number,
+    notes, created_at, created_by, updated_at, updated_by, deleted_at, version)
+SELECT
+    p.id, p.tenant_id, p.transaction_id, t.transaction_date, p.payment_method, p.amount, p.payment_date,
+    p.reference_number, p.notes, p.created_at, p.created_by, p.updated_at, p.updated_by, p.deleted_at, p.version
+FROM payments_legacy p
+JOIN transactions_legacy t ON t.id = p.transaction_id;
+
+DROP TABLE payments_legacy;
+DROP TABLE transaction_items_legacy;
+DROP TABLE transactions_legacy;
+
+-- ------------------------------------------------------------------------------
+-- Indexes (created on the parents, propagated to every partition)
+-- ------------------------------------------------------------------------------
+
+CREATE INDEX idx_transaction_tenant ON transactions(tenant_id);
+CREATE INDEX idx_transaction_branch ON transactions(tenant_id, branch_id);
+CREATE INDEX idx_transaction_customer ON transactions(tenant_id, customer_id);
+CREATE INDEX idx_transaction_date ON transactions(tenant_id, transaction_date);
+CREATE INDEX idx_transaction_status ON transactions(tenant_id, status);
+CREATE INDEX idx_transaction_updated_at ON transactions(updated_at);
+CREATE INDEX idx_transaction_number ON transactions(tenant_id, transaction_number);
+
+CREATE INDEX idx_transaction_item_tenant ON transaction_items(tenant_id);
+CREATE INDEX idx_transaction_item_transaction ON transaction_items(tenant_id, transaction_id);
+CREATE INDEX idx_transaction_item_product ON transaction_items(tenant_id, product_id);
+
+CREATE INDEX idx_payment_tenant ON payments(tenant_id);
+CREATE INDEX idx_payment_transaction ON payments(tenant_id, transaction_id);
+CREATE INDEX idx_payment_date ON payments(tenant_id, payment_date);
+CREATE INDEX idx_payment_method ON payments(tenant_id, payment_method);
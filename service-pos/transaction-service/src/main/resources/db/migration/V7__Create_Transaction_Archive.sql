@@ -0,0 +1,167 @@
+-- ==============================================================================
+-- Transaction Service - Cold Archive Tier
+-- ==============================================================================
+-- Closed monthly partitions detached by archive_transaction_partitions are
+-- re-attached under read-only parents in the transaction_archive schema:
+--
+--   transaction_archive.transactions       (partitioned by transaction_date)
+--   transaction_archive.transaction_items  (partitioned by transaction_date)
+--   transaction_archive.payments           (partitioned by transaction_date)
+--   transaction_archive.receipts           (receipts of archived transactions)
+--
+-- Archived partitions keep only the indexes needed to look a transaction up
+-- by id or number (and its items, payments and receipt by transaction id).
+-- Rows are append-only: UPDATE and DELETE are rejected by trigger.
+-- ==============================================================================
+
+CREATE TABLE transaction_archive.transactions (LIKE transactions INCLUDING DEFAULTS)
+    PARTITION BY RANGE (transaction_date);
+ALTER TABLE transaction_archive.transactions
+    ADD CONSTRAINT pk_archive_transactions PRIMARY KEY (id, transaction_date);
+CREATE INDEX idx_archive_transaction_number ON transaction_archive.transactions(tenant_id, transaction_number);
+
+CREATE TABLE transaction_archive.transaction_items (LIKE transaction_items INCLUDING DEFAULTS)
+    PARTITION BY RANGE (transaction_date);
+ALTER TABLE transaction_archive.transaction_items
+    ADD CONSTRAINT pk_archive_transaction_items PRIMARY KEY (id, transaction_date);
+CREATE INDEX idx_archive_transaction_item_transaction ON transaction_archive.transaction_items(transaction_id);
+
+CREATE TABLE transaction_archive.payments (LIKE payments INCLUDING DEFAULTS)
+    PARTITION BY RANGE (transaction_date);
+ALTER TABLE transaction_archive.payments
+    ADD CONSTRAINT pk_archive_payments PRIMARY KEY (id, transaction_date);
+CREATE INDEX idx_archive_payment_transaction ON transaction_archive.payments(transaction_id);
+
+CREATE TABLE transaction_archive.receipts (LIKE receipts INCLUDING DEFAULTS);
+ALTER TABLE transaction_archive.receipts ADD CONSTRAINT pk_archive_receipts PRIMARY KEY (id);
+CREATE INDEX idx_archive_receipt_transaction ON transaction_archive.receipts(tenant_id, transaction_id);
+
+COMMENT ON TABLE transaction_archive.transactions IS 'Archived (read-only) transactions of closed months';
+COMMENT ON TABLE transaction_archive.transaction_items IS 'Archived (read-only) transaction items of closed months';
+COMMENT ON TABLE transaction_archive.payments IS 'Archived (read-only) payments of closed months';
+COMMENT ON TABLE transaction_archive.receipts IS 'Archived (read-only) receipts of archived transactions';
+
+-- ------------------------------------------------------------------------------
+-- Append-only enforcement
+-- ------------------------------------------------------------------------------
+
+CREATE OR REPLACE FUNCTION transaction_archive.reject_modification()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    RAISE EXCEPTION 'Transaction archive is append-only: % on %', TG_OP, TG_TABLE_NAME;
+END;
+$$;
+
+CREATE TRIGGER trg_archive_transactions_append_only BEFORE UPDATE OR DELETE ON transaction_archive.transactions
+    FOR EACH ROW EXECUTE FUNCTION transaction_archive.reject_modification();
+CREATE TRIGGER trg_archive_transaction_items_append_only BEFORE UPDATE OR DELETE
+    ON transaction_archive.transaction_items
+    FOR EACH ROW EXECUTE FUNCTION transaction_archive.reject_modification();
+CREATE TRIGGER trg_archive_payments_append_only BEFORE UPDATE OR DELETE ON transaction_archive.payments
+    FOR EACH ROW EXECUTE FUNCTION transaction_archive.reject_modification();
+CREATE TRIGGER trg_archive_receipts_append_only BEFORE UPDATE OR DELETE ON transaction_archive.receipts
+    FOR EACH ROW EXECUTE FUNCTION transaction_archive.reject_modification();
+
+-- ------------------------------------------------------------------------------
+-- Archiving
+-- ------------------------------------------------------------------------------
+
+-- Attaches a partition that is already in the archive schema to its archive
+-- parent, dropping constraints and indexes the archive does not need first
+CREATE OR REPLACE FUNCTION transaction_archive.attach_archived_partition(p_table TEXT, p_suffix TEXT)
+RETURNS VOID
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_partition TEXT := format('%s_p%s', p_table, p_suffix);
+    v_month DATE := to_date(p_suffix, 'YYYY_MM');
+    v_constraint RECORD;
+    v_index RECORD;
+BEGIN
+    FOR v_constraint IN
+        SELECT conname FROM pg_constraint
+        WHERE conrelid = format('transaction_archive.%I', v_partition)::regclass AND contype IN ('f', 'u')
+    LOOP
+        EXECUTE format('ALTER TABLE transaction_archive.%I DROP CONSTRAINT %I', v_partition, v_constraint.conname);
+    END LOOP;
+    FOR v_index IN
+        SELECT i.indexrelid::regclass::text AS name
+        FROM pg_index i
+        WHERE i.indrelid = format('transaction_archive.%I', v_partition)::regclass
+            AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = i.indexrelid)
+    LOOP
+        EXECUTE format('DROP INDEX %s', v_index.name);
+    END LOOP;
+    EXECUTE format('ALTER TABLE transaction_archive.%I ATTACH PARTITION transaction_archive.%I FOR VALUES FROM (%L) TO (%L)',
+        p_table, v_partition, v_month, (v_month + INTERVAL '1 month')::date);
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION archive_transaction_partitions(p_before DATE)
+RETURNS SETOF TEXT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_partition RECORD;
+    v_suffix TEXT;
+    v_table TEXT;
+    v_child TEXT;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('transaction-partitions'));
+    FOR v_partition IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'transactions'::regclass
+            AND c.relname ~ '^transactions_p[0-9]{4}_[0-9]{2}$'
+        ORDER BY c.relname
+    LOOP
+        v_suffix := substring(v_partition.relname FROM '[0-9]{4}_[0-9]{2}$');
+        CONTINUE WHEN (to_date(v_suffix, 'YYYY_MM') + INTERVAL '1 month')::date > p_before;
+
+        EXECUTE format(
+            'WITH moved AS (DELETE FROM receipts r USING %I t '
+            || 'WHERE r.tenant_id = t.tenant_id AND r.transaction_id = t.id RETURNING r.*) '
+            || 'INSERT INTO transaction_archive.receipts SELECT * FROM moved', v_partition.relname);
+
+        -- Children first: a referenced partition cannot be detached while
+        -- attached rows still point at it
+        FOREACH v_table IN ARRAY ARRAY['transaction_items', 'payments', 'transactions'] LOOP
+            v_child := format('%s_p%s', v_table, v_suffix);
+            IF to_regclass(v_child) IS NOT NULL THEN
+                EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', v_table, v_child);
+                EXECUTE format('ALTER TABLE %I SET SCHEMA transaction_archive', v_child);
+                PERFORM transaction_archive.attach_archived_partition(v_table, v_suffix);
+            END IF;
+        END LOOP;
+        RETURN NEXT v_partition.relname;
+    END LOOP;
+END;
+$$;
+
+COMMENT ON FUNCTION archive_transaction_partitions(DATE) IS
+    'Moves monthly partitions ending on or before p_before, and their receipts, into the transaction_archive tier';
+
+-- Partitions archived by the V6 version of the function were only moved to
+-- the archive schema; attach them to the new parents
+DO $$
+DECLARE
+    v_partition RECORD;
+BEGIN
+    FOR v_partition IN
+        SELECT substring(c.relname FROM '^(.*)_p[0-9]{4}_[0-9]{2}$') AS parent,
+            substring(c.relname FROM '[0-9]{4}_[0-9]{2}$') AS suffix
+        FROM pg_class c
+        JOIN pg_namespace n ON n.oid = c.relnamespace
+        WHERE n.nspname = 'transaction_archive'
+            AND c.relkind = 'r'
+            AND NOT c.relispartition
+            AND c.relname ~ '^(transactions|transaction_items|payments)_p[0-9]{4}_[0-9]{2}$'
+        ORDER BY c.relname
+    LOOP
+        PERFORM transaction_archive.attach_archived_partition(v_partition.parent, v_partition.suffix);
+    END LOOP;
+END;
+$$;
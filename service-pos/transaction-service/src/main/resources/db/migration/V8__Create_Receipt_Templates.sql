@@ -0,0 +1,21 @@
+-- ==============================================================================
+-- Transaction Service - Receipt Templates
+-- ==============================================================================
+-- Per-tenant receipt layout overrides. Each column holds the template text of
+-- one section; NULL means the built-in default for that section.
+-- ==============================================================================
+
+CREATE TABLE receipt_templates (
+    tenant_id VARCHAR(100) NOT NULL,
+    header_template TEXT,
+    item_template TEXT,
+    payment_template TEXT,
+    footer_template TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_receipt_templates PRIMARY KEY (tenant_id)
+);
+
+COMMENT ON TABLE receipt_templates IS 'Per-tenant receipt layout overrides';
+COMMENT ON COLUMN receipt_templates.item_template IS 'Rendered once per transaction item';
+COMMENT ON COLUMN receipt_templates.payment_template IS 'Rendered once per payment';
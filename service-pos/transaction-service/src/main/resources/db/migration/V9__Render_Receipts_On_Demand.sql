@@ -0,0 +1,13 @@
+-- ==============================================================================
+-- Transaction Service - Receipts Rendered On Demand
+-- ==============================================================================
+-- Receipts keep only their metadata and a reference to the transaction; the
+-- text is rendered from the transaction when a receipt is read or printed.
+-- The archive copy is changed too, since archive_transaction_partitions moves
+-- receipts with INSERT ... SELECT * and needs identical columns.
+-- ==============================================================================
+
+ALTER TABLE receipts DROP COLUMN content;
+ALTER TABLE transaction_archive.receipts DROP COLUMN content;
+
+COMMENT ON TABLE receipts IS 'Issued receipts; content is rendered from the referenced transaction';
@@ -244,6 +244,7 @@ class ReceiptControllerIntegrationTest {
         ReceiptResponse data = response.getBody().getData();
         assertThat(data.getPrintCount()).isEqualTo(initialPrintCount + 1);
         assertThat(data.getLastPrintedAt()).isNotNull();
+        assertThat(data.getContent()).contains(transaction.getTransactionNumber());
 
         // Verify database
         Receipt updated = receiptRepository.findById(receipt.getId()).orElseThrow();
@@ -363,7 +364,6 @@ class ReceiptControllerIntegrationTest {
         receipt.setReceiptNumber("RCP-" + System.currentTimeMillis());
         receipt.setIssuedDate(LocalDateTime.now());
         receipt.setReceiptType("SALE");
-        receipt.setContent("Test receipt content");
         receipt.setPrintCount(0);
 
         return receiptRepository.save(receipt);
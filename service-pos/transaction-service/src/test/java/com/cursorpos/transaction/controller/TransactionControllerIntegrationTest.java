@@ -16,6 +16,7 @@ import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -32,6 +33,7 @@ import java.util.UUID;
 import com.cursorpos.transaction.config.TestSecurityConfig;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Integration tests for TransactionController.
@@ -378,6 +380,39 @@ class TransactionControllerIntegrationTest {
                 assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
         }
 
+        @Test
+        void getTransactionByIdFromEarlierMonthSuccess() {
+                // Arrange
+                Transaction transaction = createAndSaveTransaction(LocalDateTime.now().minusMonths(2),
+                                "TRX-EARLIER-" + System.currentTimeMillis());
+
+                // Act
+                ResponseEntity<ApiResponse<TransactionResponse>> response = restTemplate.exchange(
+                                baseUrl + "/" + transaction.getId(),
+                                HttpMethod.GET,
+                                new HttpEntity<>(headers),
+                                new ParameterizedTypeReference<ApiResponse<TransactionResponse>>() {
+                                });
+
+                // Assert
+                assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+                assertThat(response.getBody().getData().getTransactionNumber())
+                                .isEqualTo(transaction.getTransactionNumber());
+        }
+
+        @Test
+        void duplicateTransactionNumberInAnotherMonthIsRejected() {
+                // Arrange
+                Transaction existing = createAndSaveTransaction();
+                Transaction duplicate = newTransaction(LocalDateTime.now().minusMonths(2),
+                                existing.getTransactionNumber());
+
+                // Act & Assert
+                // Numbers are unique across partitions through transaction_keys
+                assertThatThrownBy(() -> transactionRepository.saveAndFlush(duplicate))
+                                .isInstanceOf(DataIntegrityViolationException.class);
+        }
+
         // Helper methods
         private TransactionRequest createTransactionRequest() {
                 TransactionItemRequest item = TransactionItemRequest.builder()
@@ -405,12 +440,20 @@ class TransactionControllerIntegrationTest {
         }
 
         private Transaction createAndSaveTransaction() {
+                return createAndSaveTransaction(LocalDateTime.now(), "TRX-" + System.currentTimeMillis());
+        }
+
+        private Transaction createAndSaveTransaction(LocalDateTime transactionDate, String transactionNumber) {
+                return transactionRepository.save(newTransaction(transactionDate, transactionNumber));
+        }
+
+        private Transaction newTransaction(LocalDateTime transactionDate, String transactionNumber) {
                 Transaction transaction = new Transaction();
                 transaction.setTenantId(TENANT_ID);
-                transaction.setTransactionNumber("TRX-" + System.currentTimeMillis());
+                transaction.setTransactionNumber(transactionNumber);
                 transaction.setBranchId(BRANCH_ID);
                 transaction.setCustomerId(CUSTOMER_ID);
-                transaction.setTransactionDate(LocalDateTime.now());
+                transaction.setTransactionDate(transactionDate);
                 transaction.setStatus(Transaction.TransactionStatus.COMPLETED);
                 transaction.setType(Transaction.TransactionType.SALE);
                 transaction.setSubtotal(AMOUNT_200);
@@ -419,7 +462,6 @@ class TransactionControllerIntegrationTest {
                 transaction.setTotalAmount(AMOUNT_200);
                 transaction.setPaidAmount(AMOUNT_220);
                 transaction.setChangeAmount(new BigDecimal("20.00"));
-
-                return transactionRepository.save(transaction);
+                return transaction;
         }
 }
@@ -197,4 +197,23 @@ class TransactionTest {
         // Assert - should remain null (tests the outer if branch)
         assertThat(item.getTenantId()).isNull();
     }
+
+    @Test
+    void propagateTenantIdCopiesTransactionDateToChildren() throws Exception {
+        // Arrange
+        TransactionItem item = new TransactionItem();
+        Payment payment = new Payment();
+        transaction.addItem(item);
+        transaction.addPayment(payment);
+        LocalDateTime backdated = LocalDateTime.of(2025, 10, 31, 23, 59);
+        transaction.setTransactionDate(backdated);
+
+        // Act
+        Method method = Transaction.class.getDeclaredMethod(METHOD_NAME_PROPAGATE);
+        method.invoke(transaction);
+
+        // Assert - children must land in the same monthly partition
+        assertThat(item.getTransactionDate()).isEqualTo(backdated);
+        assertThat(payment.getTransactionDate()).isEqualTo(backdated);
+    }
 }
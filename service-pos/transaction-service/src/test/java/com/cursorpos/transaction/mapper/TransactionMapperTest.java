@@ -256,7 +256,6 @@ class TransactionMapperTest {
         receipt.setTenantId(TEST_TENANT);
         receipt.setReceiptNumber("REC-001");
         receipt.setIssuedDate(LocalDateTime.now());
-        receipt.setContent("Receipt content");
         receipt.setPrintCount(1);
         receipt.setLastPrintedAt(LocalDateTime.now());
 
@@ -267,7 +266,7 @@ class TransactionMapperTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(receipt.getId());
         assertThat(result.getReceiptNumber()).isEqualTo(receipt.getReceiptNumber());
-        assertThat(result.getContent()).isEqualTo(receipt.getContent());
+        assertThat(result.getContent()).isNull();
         assertThat(result.getPrintCount()).isEqualTo(receipt.getPrintCount());
     }
 
@@ -0,0 +1,51 @@
+package com.cursorpos.transaction.receipt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ReceiptRenderCache.
+ */
+class ReceiptRenderCacheTest {
+
+        @Test
+        void rendersOnceAndServesRepeatReadsFromCache() {
+                // Arrange
+                ReceiptRenderCache cache = new ReceiptRenderCache(4);
+                UUID receiptId = UUID.randomUUID();
+                AtomicInteger renders = new AtomicInteger();
+
+                // Act
+                String first = cache.get(receiptId, ReceiptLayout.DEFAULT, () -> "text-" + renders.incrementAndGet());
+                String second = cache.get(receiptId, ReceiptLayout.DEFAULT, () -> "text-" + renders.incrementAndGet());
+
+                // Assert
+                assertThat(first).isEqualTo("text-1");
+                assertThat(second).isEqualTo("text-1");
+                assertThat(renders).hasValue(1);
+        }
+
+        @Test
+        void evictsLeastRecentlyUsedReceipt() {
+                // Arrange
+                ReceiptRenderCache cache = new ReceiptRenderCache(2);
+                UUID a = UUID.randomUUID();
+                UUID b = UUID.randomUUID();
+                UUID c = UUID.randomUUID();
+                cache.put(a, ReceiptLayout.DEFAULT, "a");
+                cache.put(b, ReceiptLayout.DEFAULT, "b");
+                cache.get(a, ReceiptLayout.DEFAULT, () -> "a-rendered");
+
+                // Act
+                cache.put(c, ReceiptLayout.DEFAULT, "c");
+
+                // Assert
+                assertThat(cache.size()).isEqualTo(2);
+                assertThat(cache.get(a, ReceiptLayout.DEFAULT, () -> "a-rendered")).isEqualTo("a");
+                assertThat(cache.get(b, ReceiptLayout.DEFAULT, () -> "b-rendered")).isEqualTo("b-rendered");
+        }
+}
@@ -0,0 +1,149 @@
+package com.cursorpos.transaction.receipt;
+
+import com.cursorpos.transaction.entity.Payment;
+import com.cursorpos.transaction.entity.Transaction;
+import com.cursorpos.transaction.entity.TransactionItem;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ReceiptTemplate and ReceiptLayout.
+ */
+class ReceiptTemplateTest {
+
+        private static final ReceiptField.Scope ITEM = ReceiptField.Scope.ITEM;
+
+        @Test
+        void rendersFixedWidthColumns() {
+                // Arrange
+                ReceiptTemplate template = ReceiptTemplate.compile(
+                                "[{item.name:<8}|{item.quantity:>4}|{item.total:^10}]", ITEM);
+                TransactionItem item = item("Coffee", 3, "4.5");
+
+                // Act
+                String rendered = render(template, transaction(), item);
+
+                // Assert
+                assertThat(rendered).isEqualTo("[Coffee  |   3|  13.50   ]");
+        }
+
+        @Test
+        void keepsValuesWiderThanColumnWhole() {
+                // Arrange
+                ReceiptTemplate template = ReceiptTemplate.compile("{item.name:<5}|{item.name:>5}|", ITEM);
+
+                // Act
+                String rendered = render(template, transaction(), item("Cappuccino", 1, "1"));
+
+                // Assert
+                assertThat(rendered).isEqualTo("Cappuccino|Cappuccino|");
+        }
+
+        @Test
+        void writesEscapedBracesAndEmptyNullValues() {
+                // Arrange
+                ReceiptTemplate template = ReceiptTemplate.compile("{{{notes}} {cashier:>4}", ITEM);
+                Transaction transaction = transaction();
+
+                // Act
+                String rendered = render(template, transaction, item("Tea", 1, "1"));
+
+                // Assert
+                assertThat(rendered).isEqualTo("{} " + "    ");
+        }
+
+        @Test
+        void formatsMoneyWithTwoDecimals() {
+                // Arrange
+                StringBuilder out = new StringBuilder();
+
+                // Act
+                ReceiptField.appendMoney(out, new BigDecimal("1234.5650"));
+                out.append(' ');
+                ReceiptField.appendMoney(out, new BigDecimal("-0.05"));
+                out.append(' ');
+                ReceiptField.appendMoney(out, BigDecimal.ZERO);
+
+                // Assert
+                assertThat(out).hasToString("1234.57 -0.05 0.00");
+        }
+
+        @Test
+        void rejectsUnknownFieldsAndFieldsOutsideTheirSection() {
+                assertThatThrownBy(() -> ReceiptTemplate.compile("{loyalty}", ReceiptField.Scope.TRANSACTION))
+                                .isInstanceOf(IllegalArgumentException.class)
+                                .hasMessageContaining("Unknown receipt field: loyalty");
+                assertThatThrownBy(() -> ReceiptTemplate.compile("{item.name}", ReceiptField.Scope.PAYMENT))
+                                .isInstanceOf(IllegalArgumentException.class)
+                                .hasMessageContaining("payment section");
+                assertThatThrownBy(() -> ReceiptTemplate.compile("{total:>wide}", ReceiptField.Scope.TRANSACTION))
+                                .isInstanceOf(IllegalArgumentException.class)
+                                .hasMessageContaining("Invalid width");
+                assertThatThrownBy(() -> ReceiptTemplate.compile("Total {total", ReceiptField.Scope.TRANSACTION))
+                                .isInstanceOf(IllegalArgumentException.class)
+                                .hasMessageContaining("Unclosed placeholder");
+        }
+
+        @Test
+        void defaultLayoutRendersEverySection() {
+                // Arrange
+                Transaction transaction = transaction();
+                transaction.addItem(item("Test Product", 2, "50"));
+                transaction.addPayment(Payment.builder()
+                                .paymentMethod(Payment.PaymentMethod.CASH)
+                                .amount(new BigDecimal("120"))
+                                .build());
+                ReceiptLayout layout = ReceiptLayout.compile(null, null, "{payment.method:<10}{payment.amount:>10}\n",
+                                null);
+
+                // Act
+                String first = layout.render(transaction);
+                String second = layout.render(transaction);
+
+                // Assert
+                assertThat(first)
+                                .startsWith("========================================\n           SALES RECEIPT\n")
+                                .contains("Transaction: TRX-20251120-120000-TEST\n")
+                                .contains("Date: 2025-11-20 12:00:00\n")
+                                .contains("Test Product         x2\n  @ 50.00 = 100.00\n")
+                                .contains("CASH          120.00\n")
+                                .contains("TOTAL:        110.00\n")
+                                .endsWith("    Thank you for your purchase!\n"
+                                                + "========================================\n");
+                assertThat(second).isEqualTo(first);
+        }
+
+        private static String render(ReceiptTemplate template, Transaction transaction, TransactionItem item) {
+                StringBuilder out = new StringBuilder();
+                template.renderTo(out, transaction, item, null);
+                return out.toString();
+        }
+
+        private static Transaction transaction() {
+                return Transaction.builder()
+                                .transactionNumber("TRX-20251120-120000-TEST")
+                                .transactionDate(LocalDateTime.of(2025, 11, 20, 12, 0))
+                                .subtotal(new BigDecimal("100.0000"))
+                                .taxAmount(new BigDecimal("10.0000"))
+                                .discountAmount(BigDecimal.ZERO)
+                                .totalAmount(new BigDecimal("110.0000"))
+                                .paidAmount(new BigDecimal("120.0000"))
+                                .changeAmount(new BigDecimal("10.0000"))
+                                .build();
+        }
+
+        private static TransactionItem item(String name, int quantity, String unitPrice) {
+                BigDecimal price = new BigDecimal(unitPrice);
+                return TransactionItem.builder()
+                                .productName(name)
+                                .quantity(quantity)
+                                .unitPrice(price)
+                                .totalAmount(price.multiply(BigDecimal.valueOf(quantity)))
+                                .build();
+        }
+}
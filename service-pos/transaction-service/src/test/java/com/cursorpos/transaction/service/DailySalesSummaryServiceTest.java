@@ -0,0 +1,164 @@
+package com.cursorpos.transaction.service;
+
+import com.cursorpos.shared.security.TenantContext;
+import com.cursorpos.transaction.dto.DailySalesReportResponse;
+import com.cursorpos.transaction.repository.DailySalesSummaryRepository;
+import com.cursorpos.transaction.repository.DailySalesSummaryRepository.DailyTotal;
+import com.cursorpos.transaction.repository.DailySalesSummaryRepository.Partition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DailySalesSummaryService.
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null") // Test code - suppress null safety warnings for Mockito mocks
+class DailySalesSummaryServiceTest {
+
+        @Mock
+        private DailySalesSummaryRepository summaryRepository;
+
+        private DailySalesSummaryService summaryService;
+
+        private static final String TENANT_ID = "tenant-coffee-001";
+        private static final LocalDate DAY = LocalDate.of(2025, 11, 14);
+        private static final Duration OVERLAP = Duration.ofMinutes(2);
+
+        @BeforeEach
+        void setUp() {
+                summaryService = new DailySalesSummaryService(summaryRepository,
+                                TransactionOperations.withoutTransaction(), OVERLAP, 3);
+                TenantContext.setTenantId(TENANT_ID);
+        }
+
+        @AfterEach
+        void tearDown() {
+                TenantContext.clear();
+        }
+
+        @Test
+        void refreshRebuildsDirtyPartitionsAndAdvancesWatermark() {
+                // Arrange
+                LocalDateTime watermark = LocalDateTime.of(2025, 11, 14, 10, 0);
+                LocalDateTime databaseNow = watermark.plusMinutes(1);
+                List<Partition> dirty = List.of(new Partition(TENANT_ID, DAY), new Partition("tenant-b", DAY));
+                when(summaryRepository.lockWatermark()).thenReturn(watermark);
+                when(summaryRepository.currentTimestamp()).thenReturn(databaseNow);
+                when(summaryRepository.findDirtyPartitions(watermark.minus(OVERLAP), databaseNow))
+                                .thenReturn(dirty);
+
+                // Act
+                int rebuilt = summaryService.refresh();
+
+                // Assert - the overlap before the watermark is scanned again
+                assertThat(rebuilt).isEqualTo(2);
+                verify(summaryRepository).rebuild(dirty.get(0));
+                verify(summaryRepository).rebuild(dirty.get(1));
+                verify(summaryRepository).updateWatermark(databaseNow);
+        }
+
+        @Test
+        void refreshSkipsWhenDatabaseClockHasNotPassedWatermark() {
+                // Arrange
+                LocalDateTime watermark = LocalDateTime.of(2025, 11, 14, 10, 0);
+                when(summaryRepository.lockWatermark()).thenReturn(watermark);
+                when(summaryRepository.currentTimestamp()).thenReturn(watermark);
+
+                // Act
+                int rebuilt = summaryService.refresh();
+
+                // Assert
+                assertThat(rebuilt).isZero();
+                verify(summaryRepository, never()).findDirtyPartitions(any(), any());
+                verify(summaryRepository, never()).updateWatermark(any());
+        }
+
+        @Test
+        void refreshSkipsWhenAnotherNodeHoldsWatermark() {
+                // Arrange
+                when(summaryRepository.lockWatermark()).thenReturn(null);
+
+                // Act
+                int rebuilt = summaryService.refresh();
+
+                // Assert
+                assertThat(rebuilt).isZero();
+                verify(summaryRepository, never()).findDirtyPartitions(any(), any());
+                verify(summaryRepository, never()).updateWatermark(any());
+        }
+
+        @Test
+        void backfillRebuildsEveryDayOfTenant() {
+                // Arrange
+                when(summaryRepository.rebuild(any(Partition.class))).thenReturn(4);
+
+                // Act
+                int rows = summaryService.backfill(DAY, DAY.plusDays(6));
+
+                // Assert
+                assertThat(rows).isEqualTo(28);
+                ArgumentCaptor<Partition> partitions = ArgumentCaptor.forClass(Partition.class);
+                verify(summaryRepository, times(7)).rebuild(partitions.capture());
+                assertThat(partitions.getAllValues())
+                                .allSatisfy(p -> assertThat(p.tenantId()).isEqualTo(TENANT_ID))
+                                .extracting(Partition::salesDate)
+                                .containsExactlyInAnyOrderElementsOf(DAY.datesUntil(DAY.plusDays(7)).toList());
+        }
+
+        @Test
+        void backfillSurfacesPartitionFailure() {
+                // Arrange
+                when(summaryRepository.rebuild(any(Partition.class))).thenThrow(new IllegalStateException("boom"));
+
+                // Act & Assert
+                assertThatThrownBy(() -> summaryService.backfill(DAY, DAY.plusDays(1)))
+                                .isInstanceOf(IllegalStateException.class)
+                                .hasMessageContaining("boom");
+        }
+
+        @Test
+        void backfillRejectsInvalidRange() {
+                assertThatThrownBy(() -> summaryService.backfill(DAY, DAY.minusDays(1)))
+                                .isInstanceOf(IllegalArgumentException.class);
+                assertThatThrownBy(() -> summaryService.backfill(DAY, DAY.plusDays(400)))
+                                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void getDailySalesSumsSummaryRows() {
+                // Arrange
+                when(summaryRepository.findDailyTotals(TENANT_ID, null, DAY, DAY.plusDays(1))).thenReturn(List.of(
+                                new DailyTotal(DAY, 10, new BigDecimal("100"), new BigDecimal("5"),
+                                                new BigDecimal("9.5"), new BigDecimal("104.5")),
+                                new DailyTotal(DAY.plusDays(1), 4, new BigDecimal("40"), BigDecimal.ZERO,
+                                                new BigDecimal("4"), new BigDecimal("44"))));
+
+                // Act
+                DailySalesReportResponse report = summaryService.getDailySales(null, DAY, DAY.plusDays(1));
+
+                // Assert
+                assertThat(report.getQuantity()).isEqualTo(14);
+                assertThat(report.getGrossAmount()).isEqualByComparingTo("140");
+                assertThat(report.getDiscountAmount()).isEqualByComparingTo("5");
+                assertThat(report.getTaxAmount()).isEqualByComparingTo("13.5");
+                assertThat(report.getRevenue()).isEqualByComparingTo("148.5");
+                assertThat(report.getDays()).hasSize(2);
+        }
+}
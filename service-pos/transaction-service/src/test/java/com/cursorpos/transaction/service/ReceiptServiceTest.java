@@ -3,11 +3,19 @@ package com.cursorpos.transaction.service;
 import com.cursorpos.shared.exception.ResourceNotFoundException;
 import com.cursorpos.shared.security.TenantContext;
 import com.cursorpos.transaction.dto.ReceiptResponse;
+import com.cursorpos.transaction.dto.ReceiptTemplateRequest;
+import com.cursorpos.transaction.dto.ReceiptTemplateResponse;
 import com.cursorpos.transaction.entity.Receipt;
 import com.cursorpos.transaction.entity.Transaction;
 import com.cursorpos.transaction.entity.TransactionItem;
 import com.cursorpos.transaction.mapper.TransactionMapper;
+import com.cursorpos.transaction.receipt.ReceiptLayout;
+import com.cursorpos.transaction.receipt.ReceiptLayoutCache;
+import com.cursorpos.transaction.receipt.ReceiptRenderCache;
+import com.cursorpos.transaction.repository.ReceiptPrintRepository;
 import com.cursorpos.transaction.repository.ReceiptRepository;
+import com.cursorpos.transaction.repository.ReceiptTemplateRepository;
+import com.cursorpos.transaction.repository.TransactionArchiveRepository;
 import com.cursorpos.transaction.repository.TransactionRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +25,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -28,6 +37,7 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -46,6 +56,21 @@ class ReceiptServiceTest {
         @Mock
         private TransactionMapper transactionMapper;
 
+        @Mock
+        private TransactionArchiveRepository transactionArchiveRepository;
+
+        @Mock
+        private ReceiptTemplateRepository receiptTemplateRepository;
+
+        @Mock
+        private ReceiptLayoutCache receiptLayoutCache;
+
+        @Mock
+        private ReceiptPrintRepository receiptPrintRepository;
+
+        @Spy
+        private ReceiptRenderCache receiptRenderCache = new ReceiptRenderCache(16);
+
         @InjectMocks
         private ReceiptService receiptService;
 
@@ -73,10 +98,12 @@ class ReceiptServiceTest {
                 Receipt savedReceipt = createReceipt();
                 ReceiptResponse expectedResponse = createReceiptResponse();
 
-                when(transactionRepository.findByIdAndTenantIdAndDeletedAtIsNull(TRANSACTION_ID, TENANT_ID))
+                when(transactionRepository.findActiveById(TRANSACTION_ID, TENANT_ID))
                                 .thenReturn(Optional.of(transaction));
                 when(receiptRepository.findByTenantIdAndTransactionIdAndDeletedAtIsNull(TENANT_ID, TRANSACTION_ID))
                                 .thenReturn(Optional.empty());
+                when(receiptLayoutCache.current(TENANT_ID))
+                                .thenReturn(new ReceiptLayoutCache.Current(3, ReceiptLayout.DEFAULT));
                 when(receiptRepository.save(any(Receipt.class))).thenReturn(savedReceipt);
                 when(transactionMapper.toReceiptResponse(savedReceipt)).thenReturn(expectedResponse);
 
@@ -87,6 +114,9 @@ class ReceiptServiceTest {
                 assertThat(result).isNotNull();
                 assertThat(result.getId()).isEqualTo(RECEIPT_ID);
                 assertThat(result.getReceiptNumber()).startsWith("RCP-");
+                assertThat(result.getContent()).contains("SALES RECEIPT");
+                assertThat(result.getContent()).contains("Test Product");
+                assertThat(result.getContent()).contains("TRX-20251120-120000-TEST");
 
                 verify(receiptRepository).save(receiptCaptor.capture());
                 Receipt capturedReceipt = receiptCaptor.getValue();
@@ -94,14 +124,14 @@ class ReceiptServiceTest {
                 assertThat(capturedReceipt.getTransactionId()).isEqualTo(TRANSACTION_ID);
                 assertThat(capturedReceipt.getReceiptType()).isEqualTo("SALE");
                 assertThat(capturedReceipt.getPrintCount()).isZero();
-                assertThat(capturedReceipt.getContent()).contains("SALES RECEIPT");
-                assertThat(capturedReceipt.getContent()).contains("Test Product");
+                assertThat(capturedReceipt.getLayoutVersion()).isEqualTo(3);
+                verify(receiptRenderCache).put(RECEIPT_ID, ReceiptLayout.DEFAULT, result.getContent());
         }
 
         @Test
         void generateReceiptTransactionNotFound() {
                 // Arrange
-                when(transactionRepository.findByIdAndTenantIdAndDeletedAtIsNull(TRANSACTION_ID, TENANT_ID))
+                when(transactionRepository.findActiveById(TRANSACTION_ID, TENANT_ID))
                                 .thenReturn(Optional.empty());
 
                 // Act & Assert
@@ -118,7 +148,7 @@ class ReceiptServiceTest {
                 Transaction transaction = createTransaction();
                 Receipt existingReceipt = createReceipt();
 
-                when(transactionRepository.findByIdAndTenantIdAndDeletedAtIsNull(TRANSACTION_ID, TENANT_ID))
+                when(transactionRepository.findActiveById(TRANSACTION_ID, TENANT_ID))
                                 .thenReturn(Optional.of(transaction));
                 when(receiptRepository.findByTenantIdAndTransactionIdAndDeletedAtIsNull(TENANT_ID, TRANSACTION_ID))
                                 .thenReturn(Optional.of(existingReceipt));
@@ -146,6 +176,9 @@ class ReceiptServiceTest {
 
                 when(receiptRepository.findByIdAndTenantIdAndDeletedAtIsNull(RECEIPT_ID, TENANT_ID))
                                 .thenReturn(Optional.of(receipt));
+                when(receiptLayoutCache.get(TENANT_ID, 0)).thenReturn(ReceiptLayout.DEFAULT);
+                when(transactionRepository.findActiveById(TRANSACTION_ID, TENANT_ID))
+                                .thenReturn(Optional.of(createTransaction()));
                 when(transactionMapper.toReceiptResponse(receipt)).thenReturn(expectedResponse);
 
                 // Act
@@ -154,6 +187,46 @@ class ReceiptServiceTest {
                 // Assert
                 assertThat(result).isNotNull();
                 assertThat(result.getId()).isEqualTo(RECEIPT_ID);
+                assertThat(result.getContent()).contains("TRX-20251120-120000-TEST");
+        }
+
+        @Test
+        void getReceiptByIdServesRecentRenderFromCache() {
+                // Arrange
+                Receipt receipt = createReceipt();
+                receiptRenderCache.put(RECEIPT_ID, ReceiptLayout.DEFAULT, "cached receipt");
+                when(receiptRepository.findByIdAndTenantIdAndDeletedAtIsNull(RECEIPT_ID, TENANT_ID))
+                                .thenReturn(Optional.of(receipt));
+                when(receiptLayoutCache.get(TENANT_ID, 0)).thenReturn(ReceiptLayout.DEFAULT);
+                when(transactionMapper.toReceiptResponse(receipt)).thenReturn(createReceiptResponse());
+
+                // Act
+                ReceiptResponse result = receiptService.getReceiptById(RECEIPT_ID);
+
+                // Assert
+                assertThat(result.getContent()).isEqualTo("cached receipt");
+                verify(transactionRepository, never()).findActiveById(any(), any());
+        }
+
+        @Test
+        void getReceiptByIdRendersWithIssuedLayoutVersion() {
+                // Arrange
+                Receipt receipt = createReceipt();
+                receipt.setLayoutVersion(2);
+                ReceiptLayout issued = ReceiptLayout.compile("STORE {number}\n", "", "", "");
+                receiptRenderCache.put(RECEIPT_ID, ReceiptLayout.DEFAULT, "other layout");
+                when(receiptRepository.findByIdAndTenantIdAndDeletedAtIsNull(RECEIPT_ID, TENANT_ID))
+                                .thenReturn(Optional.of(receipt));
+                when(receiptLayoutCache.get(TENANT_ID, 2)).thenReturn(issued);
+                when(transactionRepository.findActiveById(TRANSACTION_ID, TENANT_ID))
+                                .thenReturn(Optional.of(createTransaction()));
+                when(transactionMapper.toReceiptResponse(receipt)).thenReturn(createReceiptResponse());
+
+                // Act
+                ReceiptResponse result = receiptService.getReceiptById(RECEIPT_ID);
+
+                // Assert
+                assertThat(result.getContent()).isEqualTo("STORE TRX-20251120-120000-TEST\n");
         }
 
         @Test
@@ -183,6 +256,9 @@ class ReceiptServiceTest {
 
                 when(receiptRepository.findByTenantIdAndTransactionIdAndDeletedAtIsNull(TENANT_ID, TRANSACTION_ID))
                                 .thenReturn(Optional.of(receipt));
+                when(receiptLayoutCache.get(TENANT_ID, 0)).thenReturn(ReceiptLayout.DEFAULT);
+                when(transactionRepository.findActiveById(TRANSACTION_ID, TENANT_ID))
+                                .thenReturn(Optional.of(createTransaction()));
                 when(transactionMapper.toReceiptResponse(receipt)).thenReturn(expectedResponse);
 
                 // Act
@@ -205,6 +281,56 @@ class ReceiptServiceTest {
                                 .hasMessageContaining("Receipt not found for transaction");
         }
 
+        @Test
+        void getReceiptByTransactionFallsBackToArchive() {
+                // Arrange
+                Receipt archived = Receipt.builder()
+                                .tenantId(TENANT_ID)
+                                .transactionId(TRANSACTION_ID)
+                                .receiptNumber("RCP-20230115-101500-ABCDEF12")
+                                .build();
+                archived.setId(RECEIPT_ID);
+                ReceiptResponse expected = new ReceiptResponse();
+                when(receiptRepository.findByTenantIdAndTransactionIdAndDeletedAtIsNull(TENANT_ID, TRANSACTION_ID))
+                                .thenReturn(Optional.empty());
+                when(transactionArchiveRepository.findReceiptByTransactionId(TENANT_ID, TRANSACTION_ID))
+                                .thenReturn(Optional.of(archived));
+                when(receiptLayoutCache.get(TENANT_ID, 0)).thenReturn(ReceiptLayout.DEFAULT);
+                when(transactionRepository.findActiveById(TRANSACTION_ID, TENANT_ID))
+                                .thenReturn(Optional.empty());
+                when(transactionArchiveRepository.findById(TRANSACTION_ID, TENANT_ID))
+                                .thenReturn(Optional.of(createTransaction()));
+                when(transactionMapper.toReceiptResponse(archived)).thenReturn(expected);
+
+                // Act
+                ReceiptResponse response = receiptService.getReceiptByTransaction(TRANSACTION_ID);
+
+                // Assert
+                assertThat(response).isSameAs(expected);
+                assertThat(response.getContent()).contains("TRX-20251120-120000-TEST");
+        }
+
+        @Test
+        void getReceiptByIdFallsBackToArchive() {
+                // Arrange
+                Receipt archived = createReceipt();
+                ReceiptResponse expected = new ReceiptResponse();
+                receiptRenderCache.put(RECEIPT_ID, ReceiptLayout.DEFAULT, "archived receipt");
+                when(receiptRepository.findByIdAndTenantIdAndDeletedAtIsNull(RECEIPT_ID, TENANT_ID))
+                                .thenReturn(Optional.empty());
+                when(transactionArchiveRepository.findReceiptById(RECEIPT_ID, TENANT_ID))
+                                .thenReturn(Optional.of(archived));
+                when(receiptLayoutCache.get(TENANT_ID, 0)).thenReturn(ReceiptLayout.DEFAULT);
+                when(transactionMapper.toReceiptResponse(archived)).thenReturn(expected);
+
+                // Act
+                ReceiptResponse response = receiptService.getReceiptById(RECEIPT_ID);
+
+                // Assert
+                assertThat(response).isSameAs(expected);
+                assertThat(response.getContent()).isEqualTo("archived receipt");
+        }
+
         @Test
         void getReceiptByTransactionNullTransactionId() {
                 // Act & Assert
@@ -213,69 +339,58 @@ class ReceiptServiceTest {
         }
 
         @Test
-        void printReceiptSuccess() {
+        void printReceiptIncrementsCountInPlace() {
                 // Arrange
-                Receipt receipt = createReceipt();
-                receipt.setPrintCount(2);
-                receipt.setLastPrintedAt(LocalDateTime.now().minusHours(1));
-
                 Receipt updatedReceipt = createReceipt();
                 updatedReceipt.setPrintCount(3);
                 updatedReceipt.setLastPrintedAt(LocalDateTime.now());
-
                 ReceiptResponse expectedResponse = createReceiptResponse();
+                receiptRenderCache.put(RECEIPT_ID, ReceiptLayout.DEFAULT, "cached receipt");
 
-                when(receiptRepository.findByIdAndTenantIdAndDeletedAtIsNull(RECEIPT_ID, TENANT_ID))
-                                .thenReturn(Optional.of(receipt));
-                when(receiptRepository.save(any(Receipt.class))).thenReturn(updatedReceipt);
+                when(receiptPrintRepository.recordPrint(eq(RECEIPT_ID), eq(TENANT_ID), any(LocalDateTime.class)))
+                                .thenReturn(Optional.of(updatedReceipt));
+                when(receiptLayoutCache.get(TENANT_ID, 0)).thenReturn(ReceiptLayout.DEFAULT);
                 when(transactionMapper.toReceiptResponse(updatedReceipt)).thenReturn(expectedResponse);
 
                 // Act
                 ReceiptResponse result = receiptService.printReceipt(RECEIPT_ID);
 
                 // Assert
-                assertThat(result).isNotNull();
-
-                verify(receiptRepository).save(receiptCaptor.capture());
-                Receipt capturedReceipt = receiptCaptor.getValue();
-                assertThat(capturedReceipt.getPrintCount()).isEqualTo(3);
-                assertThat(capturedReceipt.getLastPrintedAt()).isNotNull();
+                assertThat(result).isSameAs(expectedResponse);
+                assertThat(result.getContent()).isEqualTo("cached receipt");
+                verify(receiptRepository, never()).save(any());
+                verify(receiptRepository, never()).findByIdAndTenantIdAndDeletedAtIsNull(any(), any());
         }
 
         @Test
-        void printReceiptFirstPrint() {
+        void printReceiptCountsReprintOfArchivedReceipt() {
                 // Arrange
-                Receipt receipt = createReceipt();
-                receipt.setPrintCount(0);
-                receipt.setLastPrintedAt(null);
-
-                Receipt updatedReceipt = createReceipt();
-                updatedReceipt.setPrintCount(1);
-                updatedReceipt.setLastPrintedAt(LocalDateTime.now());
-
+                Receipt archived = createReceipt();
+                archived.setPrintCount(2);
                 ReceiptResponse expectedResponse = createReceiptResponse();
+                receiptRenderCache.put(RECEIPT_ID, ReceiptLayout.DEFAULT, "archived receipt");
 
-                when(receiptRepository.findByIdAndTenantIdAndDeletedAtIsNull(RECEIPT_ID, TENANT_ID))
-                                .thenReturn(Optional.of(receipt));
-                when(receiptRepository.save(any(Receipt.class))).thenReturn(updatedReceipt);
-                when(transactionMapper.toReceiptResponse(updatedReceipt)).thenReturn(expectedResponse);
+                when(receiptPrintRepository.recordPrint(eq(RECEIPT_ID), eq(TENANT_ID), any(LocalDateTime.class)))
+                                .thenReturn(Optional.empty());
+                when(receiptPrintRepository.recordArchivedPrint(eq(RECEIPT_ID), eq(TENANT_ID),
+                                any(LocalDateTime.class))).thenReturn(true);
+                when(transactionArchiveRepository.findReceiptById(RECEIPT_ID, TENANT_ID))
+                                .thenReturn(Optional.of(archived));
+                when(receiptLayoutCache.get(TENANT_ID, 0)).thenReturn(ReceiptLayout.DEFAULT);
+                when(transactionMapper.toReceiptResponse(archived)).thenReturn(expectedResponse);
 
                 // Act
                 ReceiptResponse result = receiptService.printReceipt(RECEIPT_ID);
 
                 // Assert
-                assertThat(result).isNotNull();
-
-                verify(receiptRepository).save(receiptCaptor.capture());
-                Receipt capturedReceipt = receiptCaptor.getValue();
-                assertThat(capturedReceipt.getPrintCount()).isEqualTo(1);
-                assertThat(capturedReceipt.getLastPrintedAt()).isNotNull();
+                assertThat(result).isSameAs(expectedResponse);
+                assertThat(result.getContent()).isEqualTo("archived receipt");
         }
 
         @Test
         void printReceiptNotFound() {
                 // Arrange
-                when(receiptRepository.findByIdAndTenantIdAndDeletedAtIsNull(RECEIPT_ID, TENANT_ID))
+                when(receiptPrintRepository.recordPrint(eq(RECEIPT_ID), eq(TENANT_ID), any(LocalDateTime.class)))
                                 .thenReturn(Optional.empty());
 
                 // Act & Assert
@@ -293,6 +408,43 @@ class ReceiptServiceTest {
                                 .isInstanceOf(NullPointerException.class);
         }
 
+        @Test
+        void updateReceiptTemplateSavesAndCachesCompiledLayout() {
+                // Arrange
+                ReceiptTemplateRequest request = ReceiptTemplateRequest.builder()
+                                .header("ACME STORE {number}\n")
+                                .item("{item.name:<10}{item.total:>10}\n")
+                                .build();
+
+                when(receiptTemplateRepository.save(eq(TENANT_ID), any())).thenReturn(4);
+
+                // Act
+                ReceiptTemplateResponse response = receiptService.updateReceiptTemplate(request);
+
+                // Assert
+                assertThat(response.getHeader()).isEqualTo("ACME STORE {number}\n");
+                assertThat(response.getFooter()).isEqualTo(ReceiptLayout.DEFAULT_FOOTER);
+                verify(receiptTemplateRepository).save(TENANT_ID, new ReceiptTemplateRepository.Definition(
+                                "ACME STORE {number}\n", "{item.name:<10}{item.total:>10}\n", null, null));
+                verify(receiptLayoutCache).put(eq(TENANT_ID), eq(4), any(ReceiptLayout.class));
+        }
+
+        @Test
+        void updateReceiptTemplateRejectsUnknownField() {
+                // Arrange
+                ReceiptTemplateRequest request = ReceiptTemplateRequest.builder()
+                                .footer("Points: {loyaltyPoints}\n")
+                                .build();
+
+                // Act & Assert
+                assertThatThrownBy(() -> receiptService.updateReceiptTemplate(request))
+                                .isInstanceOf(IllegalArgumentException.class)
+                                .hasMessageContaining("loyaltyPoints");
+
+                verify(receiptTemplateRepository, never()).save(any(), any());
+                verify(receiptLayoutCache, never()).put(any(), anyInt(), any());
+        }
+
         // Helper methods
         private Transaction createTransaction() {
                 Transaction transaction = new Transaction();
@@ -319,6 +471,7 @@ class ReceiptServiceTest {
                 items.add(item);
 
                 transaction.setItems(items);
+                transaction.setPayments(new ArrayList<>());
 
                 return transaction;
         }
@@ -331,7 +484,6 @@ class ReceiptServiceTest {
                 receipt.setReceiptNumber("RCP-20251120-120000-TEST");
                 receipt.setIssuedDate(LocalDateTime.now());
                 receipt.setReceiptType("SALE");
-                receipt.setContent("Test receipt content");
                 receipt.setPrintCount(0);
                 return receipt;
         }
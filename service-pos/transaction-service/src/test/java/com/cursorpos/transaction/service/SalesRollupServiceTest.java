@@ -0,0 +1,235 @@
+package com.cursorpos.transaction.service;
+
+import com.cursorpos.shared.security.TenantContext;
+import com.cursorpos.transaction.dto.SalesSummaryResponse;
+import com.cursorpos.transaction.entity.Payment;
+import com.cursorpos.transaction.entity.Transaction;
+import com.cursorpos.transaction.repository.SalesRollupRepository;
+import com.cursorpos.transaction.repository.SalesRollupRepository.Bucket;
+import com.cursorpos.transaction.repository.SalesRollupRepository.PaymentTotal;
+import com.cursorpos.transaction.repository.SalesRollupRepository.RollupDelta;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SalesRollupService.
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null") // Test code - suppress null safety warnings for Mockito mocks
+class SalesRollupServiceTest {
+
+        @Mock
+        private SalesRollupRepository salesRollupRepository;
+
+        @InjectMocks
+        private SalesRollupService salesRollupService;
+
+        @Captor
+        private ArgumentCaptor<RollupDelta> deltaCaptor;
+
+        private static final String TENANT_ID = "tenant-coffee-001";
+        private static final UUID BRANCH_ID = UUID.randomUUID();
+        private static final UUID TRANSACTION_ID = UUID.randomUUID();
+        private static final LocalDateTime SALE_TIME = LocalDateTime.of(2025, 11, 14, 10, 37, 12);
+        private static final LocalDateTime SALE_HOUR = LocalDateTime.of(2025, 11, 14, 10, 0);
+
+        @BeforeEach
+        void setUp() {
+                TenantContext.setTenantId(TENANT_ID);
+        }
+
+        @AfterEach
+        void tearDown() {
+                TenantContext.clear();
+        }
+
+        @Test
+        void recordCompletedSaleAddsToHourlyBucket() {
+                // Arrange
+                Transaction sale = createTransaction(Transaction.TransactionType.SALE,
+                                Transaction.TransactionStatus.COMPLETED);
+
+                // Act
+                salesRollupService.record(sale);
+
+                // Assert
+                verify(salesRollupRepository).apply(deltaCaptor.capture());
+                RollupDelta delta = deltaCaptor.getValue();
+                assertThat(delta.tenantId()).isEqualTo(TENANT_ID);
+                assertThat(delta.branchId()).isEqualTo(BRANCH_ID);
+                assertThat(delta.bucketStart()).isEqualTo(SALE_HOUR);
+                assertThat(delta.slot()).isBetween(0, SalesRollupService.SLOTS - 1);
+                assertThat(delta.transactionCount()).isEqualTo(1);
+                assertThat(delta.returnCount()).isZero();
+                assertThat(delta.subtotal()).isEqualByComparingTo("200.00");
+                assertThat(delta.taxAmount()).isEqualByComparingTo("20.00");
+                assertThat(delta.discountAmount()).isEqualByComparingTo("10.00");
+                assertThat(delta.totalAmount()).isEqualByComparingTo("210.00");
+                assertThat(delta.payments()).containsOnlyKeys("CASH", "CREDIT_CARD");
+                // 150 cash tendered against 40 change leaves 110 in the drawer
+                assertThat(delta.payments().get("CASH").amount()).isEqualByComparingTo("110.00");
+                assertThat(delta.payments().get("CREDIT_CARD").amount()).isEqualByComparingTo("100.00");
+        }
+
+        @Test
+        void recordPendingTransactionIsIgnored() {
+                // Arrange
+                Transaction pending = createTransaction(Transaction.TransactionType.SALE,
+                                Transaction.TransactionStatus.PENDING);
+
+                // Act
+                salesRollupService.record(pending);
+
+                // Assert
+                verify(salesRollupRepository, never()).apply(any(RollupDelta.class));
+        }
+
+        @Test
+        void recordReturnSubtractsAmounts() {
+                // Arrange
+                Transaction refund = createTransaction(Transaction.TransactionType.RETURN,
+                                Transaction.TransactionStatus.COMPLETED);
+
+                // Act
+                salesRollupService.record(refund);
+
+                // Assert
+                verify(salesRollupRepository).apply(deltaCaptor.capture());
+                RollupDelta delta = deltaCaptor.getValue();
+                assertThat(delta.transactionCount()).isZero();
+                assertThat(delta.returnCount()).isEqualTo(1);
+                assertThat(delta.totalAmount()).isEqualByComparingTo("-210.00");
+                assertThat(delta.payments().get("CREDIT_CARD").amount()).isEqualByComparingTo("-100.00");
+        }
+
+        @Test
+        void reverseUndoesRecordedSale() {
+                // Arrange
+                Transaction sale = createTransaction(Transaction.TransactionType.SALE,
+                                Transaction.TransactionStatus.COMPLETED);
+
+                // Act
+                salesRollupService.reverse(sale);
+
+                // Assert
+                verify(salesRollupRepository).apply(deltaCaptor.capture());
+                RollupDelta delta = deltaCaptor.getValue();
+                assertThat(delta.transactionCount()).isEqualTo(-1);
+                assertThat(delta.totalAmount()).isEqualByComparingTo("-210.00");
+                assertThat(delta.payments().get("CASH").count()).isEqualTo(-1);
+                assertThat(delta.payments().get("CASH").amount()).isEqualByComparingTo("-110.00");
+        }
+
+        @Test
+        void reverseUsesSlotOfRecordedSale() {
+                // Arrange
+                Transaction sale = createTransaction(Transaction.TransactionType.SALE,
+                                Transaction.TransactionStatus.COMPLETED);
+
+                // Act
+                salesRollupService.record(sale);
+                salesRollupService.reverse(sale);
+
+                // Assert
+                verify(salesRollupRepository, times(2)).apply(deltaCaptor.capture());
+                assertThat(deltaCaptor.getAllValues()).extracting(RollupDelta::slot)
+                                .containsOnly(deltaCaptor.getAllValues().get(0).slot());
+        }
+
+        @Test
+        void getSummaryAggregatesBuckets() {
+                // Arrange
+                LocalDateTime from = SALE_HOUR.withHour(0);
+                LocalDateTime to = from.plusDays(1);
+                when(salesRollupRepository.findBuckets(TENANT_ID, BRANCH_ID, from, to)).thenReturn(List.of(
+                                new Bucket(SALE_HOUR, 3, 0, new BigDecimal("300"), new BigDecimal("30"),
+                                                BigDecimal.ZERO, new BigDecimal("330")),
+                                new Bucket(SALE_HOUR.plusHours(1), 2, 1, new BigDecimal("100"),
+                                                new BigDecimal("10"), new BigDecimal("5"), new BigDecimal("105"))));
+                when(salesRollupRepository.findPayments(TENANT_ID, BRANCH_ID, from, to)).thenReturn(List.of(
+                                new PaymentTotal("CASH", 5, new BigDecimal("435"))));
+
+                // Act
+                SalesSummaryResponse summary = salesRollupService.getSummary(BRANCH_ID, from, to);
+
+                // Assert
+                assertThat(summary.getTransactionCount()).isEqualTo(5);
+                assertThat(summary.getReturnCount()).isEqualTo(1);
+                assertThat(summary.getSubtotal()).isEqualByComparingTo("400");
+                assertThat(summary.getTaxAmount()).isEqualByComparingTo("40");
+                assertThat(summary.getDiscountAmount()).isEqualByComparingTo("5");
+                assertThat(summary.getTotalAmount()).isEqualByComparingTo("435");
+                assertThat(summary.getHourly()).hasSize(2);
+                assertThat(summary.getPaymentMethods()).singleElement()
+                                .satisfies(p -> assertThat(p.getPaymentMethod()).isEqualTo("CASH"));
+        }
+
+        @Test
+        void getSummaryDefaultsToToday() {
+                // Arrange
+                when(salesRollupRepository.findBuckets(eq(TENANT_ID), isNull(), any(), any()))
+                                .thenReturn(List.of());
+                when(salesRollupRepository.findPayments(eq(TENANT_ID), isNull(), any(), any()))
+                                .thenReturn(List.of());
+
+                // Act
+                SalesSummaryResponse summary = salesRollupService.getSummary(null, null, null);
+
+                // Assert
+                assertThat(summary.getFrom()).isEqualTo(summary.getFrom().toLocalDate().atStartOfDay());
+                assertThat(summary.getTo()).isEqualTo(summary.getFrom().plusDays(1));
+                assertThat(summary.getTotalAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+        }
+
+        @Test
+        void getSummaryRejectsEmptyRange() {
+                // Act & Assert
+                assertThatThrownBy(() -> salesRollupService.getSummary(null, SALE_HOUR, SALE_HOUR))
+                                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        private Transaction createTransaction(Transaction.TransactionType type,
+                        Transaction.TransactionStatus status) {
+                Transaction transaction = Transaction.builder()
+                                .tenantId(TENANT_ID)
+                                .branchId(BRANCH_ID)
+                                .transactionDate(SALE_TIME)
+                                .type(type)
+                                .status(status)
+                                .subtotal(new BigDecimal("200.00"))
+                                .taxAmount(new BigDecimal("20.00"))
+                                .discountAmount(new BigDecimal("10.00"))
+                                .totalAmount(new BigDecimal("210.00"))
+                                .paidAmount(new BigDecimal("250.00"))
+                                .changeAmount(new BigDecimal("40.00"))
+                                .build();
+                transaction.setId(TRANSACTION_ID);
+                transaction.addPayment(payment(Payment.PaymentMethod.CASH, "150.00"));
+                transaction.addPayment(payment(Payment.PaymentMethod.CREDIT_CARD, "100.00"));
+                return transaction;
+        }
+
+        private static Payment payment(Payment.PaymentMethod method, String amount) {
+                Payment payment = new Payment();
+                payment.setPaymentMethod(method);
+                payment.setAmount(new BigDecimal(amount));
+                return payment;
+        }
+}
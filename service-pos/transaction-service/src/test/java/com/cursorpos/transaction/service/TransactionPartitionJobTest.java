@@ -0,0 +1,67 @@
+package com.cursorpos.transaction.service;
+
+import com.cursorpos.transaction.repository.TransactionPartitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TransactionPartitionJob.
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null") // Test code - suppress null safety warnings for Mockito mocks
+class TransactionPartitionJobTest {
+
+        @Mock
+        private TransactionPartitionRepository partitionRepository;
+
+        private TransactionPartitionJob job;
+
+        private static final LocalDate TODAY = LocalDate.of(2025, 11, 14);
+
+        @BeforeEach
+        void setUp() {
+                job = new TransactionPartitionJob(partitionRepository, TransactionOperations.withoutTransaction(),
+                                Duration.ofHours(6));
+                job.setMonthsAhead(3);
+        }
+
+        @Test
+        void maintainCreatesPartitionsFromCurrentMonthAhead() {
+                // Arrange - retention 0 keeps every partition
+                job.setRetentionMonths(0);
+                when(partitionRepository.ensurePartitions(any(), any())).thenReturn(3);
+
+                // Act
+                job.maintain(TODAY);
+
+                // Assert
+                verify(partitionRepository).ensurePartitions(LocalDate.of(2025, 11, 1), LocalDate.of(2026, 2, 1));
+                verify(partitionRepository, never()).archivePartitionsBefore(any());
+        }
+
+        @Test
+        void maintainArchivesPartitionsPastRetention() {
+                // Arrange
+                job.setRetentionMonths(24);
+                when(partitionRepository.ensurePartitions(any(), any())).thenReturn(0);
+                when(partitionRepository.archivePartitionsBefore(any()))
+                                .thenReturn(List.of("transactions_p2023_10"));
+
+                // Act
+                job.maintain(TODAY);
+
+                // Assert - everything ending on or before 2023-11-01 is archived
+                verify(partitionRepository).archivePartitionsBefore(LocalDate.of(2023, 11, 1));
+        }
+}
@@ -1,13 +1,18 @@
 package com.cursorpos.transaction.service;
 
 import com.cursorpos.shared.dto.PagedResponse;
+import com.cursorpos.shared.event.EventTopics;
 import com.cursorpos.shared.exception.ResourceNotFoundException;
+import com.cursorpos.shared.outbox.OutboxEventPublisher;
 import com.cursorpos.shared.security.TenantContext;
 import com.cursorpos.transaction.dto.*;
 import com.cursorpos.transaction.entity.Payment;
 import com.cursorpos.transaction.entity.Transaction;
 import com.cursorpos.transaction.entity.TransactionItem;
+import com.cursorpos.transaction.event.TransactionCancelledEvent;
+import com.cursorpos.transaction.event.TransactionCreatedEvent;
 import com.cursorpos.transaction.mapper.TransactionMapper;
+import com.cursorpos.transaction.repository.TransactionArchiveRepository;
 import com.cursorpos.transaction.repository.TransactionRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -48,6 +53,15 @@ class TransactionServiceTest {
         @Mock
         private TransactionMapper transactionMapper;
 
+        @Mock
+        private OutboxEventPublisher outboxEventPublisher;
+
+        @Mock
+        private SalesRollupService salesRollupService;
+
+        @Mock
+        private TransactionArchiveRepository transactionArchiveRepository;
+
         @InjectMocks
         private TransactionService transactionService;
 
@@ -120,6 +134,15 @@ class TransactionServiceTest {
                 assertThat(savedTransaction.getTotalAmount()).isEqualByComparingTo(AMOUNT_200);
                 assertThat(savedTransaction.getPaidAmount()).isEqualByComparingTo(AMOUNT_220);
                 assertThat(savedTransaction.getChangeAmount()).isEqualByComparingTo(AMOUNT_20);
+
+                ArgumentCaptor<TransactionCreatedEvent> eventCaptor = ArgumentCaptor
+                                .forClass(TransactionCreatedEvent.class);
+                verify(outboxEventPublisher).publish(eq(EventTopics.TRANSACTION_CREATED), eq("Transaction"),
+                                eq(savedTransaction.getTransactionNumber()), eventCaptor.capture());
+                assertThat(eventCaptor.getValue().getTenantId()).isEqualTo(TENANT_ID);
+                assertThat(eventCaptor.getValue().getItems()).hasSize(1);
+                assertThat(eventCaptor.getValue().getItems().get(0).getProductId()).isEqualTo(PRODUCT_ID);
+                verify(salesRollupService).record(transaction);
         }
 
         @Test
@@ -235,7 +258,7 @@ class TransactionServiceTest {
                 Transaction transaction = createTransaction();
                 TransactionResponse expectedResponse = createTransactionResponse();
 
-                when(transactionRepository.findByIdAndTenantIdAndDeletedAtIsNull(TRANSACTION_ID, TENANT_ID))
+                when(transactionRepository.findActiveById(TRANSACTION_ID, TENANT_ID))
                                 .thenReturn(Optional.of(transaction));
                 when(transactionMapper.toTransactionResponse(transaction)).thenReturn(expectedResponse);
 
@@ -245,13 +268,13 @@ class TransactionServiceTest {
                 // Assert
                 assertThat(response).isNotNull();
                 assertThat(response.getId()).isEqualTo(TRANSACTION_ID);
-                verify(transactionRepository).findByIdAndTenantIdAndDeletedAtIsNull(TRANSACTION_ID, TENANT_ID);
+                verify(transactionRepository).findActiveById(TRANSACTION_ID, TENANT_ID);
         }
 
         @Test
         void getTransactionByIdNotFoundThrowsException() {
                 // Arrange
-                when(transactionRepository.findByIdAndTenantIdAndDeletedAtIsNull(TRANSACTION_ID, TENANT_ID))
+                when(transactionRepository.findActiveById(TRANSACTION_ID, TENANT_ID))
                                 .thenReturn(Optional.empty());
 
                 // Act & Assert
@@ -261,45 +284,75 @@ class TransactionServiceTest {
         }
 
         @Test
-        void getTransactionByIdNullIdThrowsException() {
-                assertThatThrownBy(() -> transactionService.getTransactionById(null))
-                                .isInstanceOf(NullPointerException.class);
+        void getTransactionByIdFallsBackToArchive() {
+                // Arrange
+                Transaction archived = createTransaction();
+                TransactionResponse expectedResponse = createTransactionResponse();
+                when(transactionRepository.findActiveById(TRANSACTION_ID, TENANT_ID))
+                                .thenReturn(Optional.empty());
+                when(transactionArchiveRepository.findById(TRANSACTION_ID, TENANT_ID))
+                                .thenReturn(Optional.of(archived));
+                when(transactionMapper.toTransactionResponse(archived)).thenReturn(expectedResponse);
+
+                // Act
+                TransactionResponse response = transactionService.getTransactionById(TRANSACTION_ID);
+
+                // Assert
+                assertThat(response).isSameAs(expectedResponse);
         }
 
         @Test
         void getTransactionByNumberSuccess() {
-                // Arrange
-                String transactionNumber = TEST_TRANSACTION_NUMBER;
+                // Arrange - the number resolves to its partition through transaction_keys
+                LocalDateTime transactionDate = LocalDateTime.of(2025, 1, 1, 10, 30);
                 Transaction transaction = createTransaction();
-                transaction.setTransactionNumber(transactionNumber);
+                transaction.setTransactionNumber(TEST_TRANSACTION_NUMBER);
                 TransactionResponse expectedResponse = createTransactionResponse();
-
-                when(transactionRepository.findByTenantIdAndTransactionNumberAndDeletedAtIsNull(TENANT_ID,
-                                transactionNumber))
+                when(transactionRepository.findKeyByNumber(TENANT_ID, TEST_TRANSACTION_NUMBER))
+                                .thenReturn(Optional.of(transactionKey(TRANSACTION_ID, transactionDate)));
+                when(transactionRepository.findByIdAndTransactionDate(TRANSACTION_ID, TENANT_ID, transactionDate))
                                 .thenReturn(Optional.of(transaction));
                 when(transactionMapper.toTransactionResponse(transaction)).thenReturn(expectedResponse);
 
                 // Act
-                TransactionResponse response = transactionService.getTransactionByNumber(transactionNumber);
+                TransactionResponse response = transactionService.getTransactionByNumber(TEST_TRANSACTION_NUMBER);
+
+                // Assert
+                assertThat(response).isSameAs(expectedResponse);
+                verifyNoInteractions(transactionArchiveRepository);
+        }
+
+        @Test
+        void getTransactionByNumberFallsBackToArchive() {
+                // Arrange
+                LocalDateTime transactionDate = LocalDateTime.of(2023, 1, 1, 10, 30);
+                Transaction archived = createTransaction();
+                when(transactionRepository.findKeyByNumber(TENANT_ID, TEST_TRANSACTION_NUMBER))
+                                .thenReturn(Optional.of(transactionKey(TRANSACTION_ID, transactionDate)));
+                when(transactionRepository.findByIdAndTransactionDate(TRANSACTION_ID, TENANT_ID, transactionDate))
+                                .thenReturn(Optional.empty());
+                when(transactionArchiveRepository.findById(TRANSACTION_ID, TENANT_ID))
+                                .thenReturn(Optional.of(archived));
+                when(transactionMapper.toTransactionResponse(archived)).thenReturn(createTransactionResponse());
+
+                // Act
+                TransactionResponse response = transactionService.getTransactionByNumber(TEST_TRANSACTION_NUMBER);
 
                 // Assert
                 assertThat(response).isNotNull();
-                verify(transactionRepository).findByTenantIdAndTransactionNumberAndDeletedAtIsNull(TENANT_ID,
-                                transactionNumber);
         }
 
         @Test
         void getTransactionByNumberNotFoundThrowsException() {
                 // Arrange
-                String transactionNumber = TEST_TRANSACTION_NUMBER;
-                when(transactionRepository.findByTenantIdAndTransactionNumberAndDeletedAtIsNull(TENANT_ID,
-                                transactionNumber))
+                when(transactionRepository.findKeyByNumber(TENANT_ID, TEST_TRANSACTION_NUMBER))
                                 .thenReturn(Optional.empty());
 
                 // Act & Assert
-                assertThatThrownBy(() -> transactionService.getTransactionByNumber(transactionNumber))
+                assertThatThrownBy(() -> transactionService.getTransactionByNumber(TEST_TRANSACTION_NUMBER))
                                 .isInstanceOf(ResourceNotFoundException.class)
                                 .hasMessageContaining("Transaction not found with number:");
+                verify(transactionRepository, never()).findByIdAndTransactionDate(any(), anyString(), any());
         }
 
         @Test
@@ -459,7 +512,7 @@ class TransactionServiceTest {
                 TransactionResponse expectedResponse = createTransactionResponse();
                 expectedResponse.setStatus(Transaction.TransactionStatus.CANCELLED);
 
-                when(transactionRepository.findByIdAndTenantIdAndDeletedAtIsNull(TRANSACTION_ID, TENANT_ID))
+                when(transactionRepository.findActiveById(TRANSACTION_ID, TENANT_ID))
                                 .thenReturn(Optional.of(transaction));
                 when(transactionRepository.save(any(Transaction.class))).thenReturn(transaction);
                 when(transactionMapper.toTransactionResponse(transaction)).thenReturn(expectedResponse);
@@ -472,6 +525,36 @@ class TransactionServiceTest {
                 verify(transactionRepository).save(transactionCaptor.capture());
                 Transaction cancelled = transactionCaptor.getValue();
                 assertThat(cancelled.getStatus()).isEqualTo(Transaction.TransactionStatus.CANCELLED);
+                verify(salesRollupService).reverse(transaction);
+
+                ArgumentCaptor<TransactionCancelledEvent> eventCaptor = ArgumentCaptor
+                                .forClass(TransactionCancelledEvent.class);
+                verify(outboxEventPublisher).publish(eq(EventTopics.TRANSACTION_CREATED), eq("Transaction"),
+                                eq(transaction.getTransactionNumber()), eventCaptor.capture());
+                TransactionCancelledEvent event = eventCaptor.getValue();
+                assertThat(event.getEventType()).isEqualTo(TransactionCancelledEvent.EVENT_TYPE);
+                assertThat(event.getOriginalEventId())
+                                .isEqualTo(TransactionCreatedEvent.eventIdFor(TRANSACTION_ID));
+                assertThat(event.getTransactionId()).isEqualTo(TRANSACTION_ID);
+        }
+
+        @Test
+        void cancelPendingTransactionDoesNotReverseRollup() {
+                // Arrange
+                Transaction transaction = createTransaction();
+                transaction.setStatus(Transaction.TransactionStatus.PENDING);
+
+                when(transactionRepository.findActiveById(TRANSACTION_ID, TENANT_ID))
+                                .thenReturn(Optional.of(transaction));
+                when(transactionRepository.save(any(Transaction.class))).thenReturn(transaction);
+                when(transactionMapper.toTransactionResponse(transaction)).thenReturn(createTransactionResponse());
+
+                // Act
+                transactionService.cancelTransaction(TRANSACTION_ID);
+
+                // Assert
+                verify(salesRollupService, never()).reverse(any(Transaction.class));
+                verify(outboxEventPublisher, never()).publish(any(), any(), any(), any());
         }
 
         @Test
@@ -480,7 +563,7 @@ class TransactionServiceTest {
                 Transaction transaction = createTransaction();
                 transaction.setStatus(Transaction.TransactionStatus.CANCELLED);
 
-                when(transactionRepository.findByIdAndTenantIdAndDeletedAtIsNull(TRANSACTION_ID, TENANT_ID))
+                when(transactionRepository.findActiveById(TRANSACTION_ID, TENANT_ID))
                                 .thenReturn(Optional.of(transaction));
 
                 // Act & Assert
@@ -492,7 +575,7 @@ class TransactionServiceTest {
         @Test
         void cancelTransactionNotFoundThrowsException() {
                 // Arrange
-                when(transactionRepository.findByIdAndTenantIdAndDeletedAtIsNull(TRANSACTION_ID, TENANT_ID))
+                when(transactionRepository.findActiveById(TRANSACTION_ID, TENANT_ID))
                                 .thenReturn(Optional.empty());
 
                 // Act & Assert
@@ -591,4 +674,18 @@ class TransactionServiceTest {
                 response.setChangeAmount(AMOUNT_20);
                 return response;
         }
+
+        private static TransactionRepository.TransactionKey transactionKey(UUID id, LocalDateTime transactionDate) {
+                return new TransactionRepository.TransactionKey() {
+                        @Override
+                        public UUID getId() {
+                                return id;
+                        }
+
+                        @Override
+                        public LocalDateTime getTransactionDate() {
+                                return transactionDate;
+                        }
+                };
+        }
 }